@@ -72,6 +72,9 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 이메일입니다."), // Existing
     OAUTH2_EMAIL_ALREADY_REGISTERED(HttpStatus.CONFLICT, "이미 다른 방식으로 가입된 이메일입니다."),
 
+    // 412 Precondition Failed
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "리소스가 변경되어 요청을 처리할 수 없습니다."),
+
     // 405 Method Not Allowed
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "허용되지 않는 HTTP 메서드입니다."),
 
@@ -95,6 +95,21 @@ public class GlobalExceptionHandler {
                 .body(CommonResponse.fail(errorResponse));
     }
 
+    // 동시 수정 충돌 (낙관적 잠금 실패)
+    @ExceptionHandler(org.springframework.orm.ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<CommonResponse<ErrorResponse>> handleOptimisticLockingFailureException(
+            org.springframework.orm.ObjectOptimisticLockingFailureException e,
+            HttpServletRequest request) {
+
+        ErrorCode errorCode = ErrorCode.STATE_CONFLICT;
+
+        log.info("[OptimisticLockingFailure] url: {} | message: {}", request.getRequestURI(), e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(errorCode, "다른 요청에 의해 먼저 수정되었습니다. 다시 조회 후 시도해주세요.", request.getRequestURI());
+
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(CommonResponse.fail(errorResponse));
+    }
+
     // 405 에러
     @ExceptionHandler(org.springframework.web.HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<CommonResponse<ErrorResponse>> handleMethodNotSupportedException(
@@ -5,6 +5,7 @@ import jakarta.validation.Valid;
 import jbnu.jbnupms.common.response.CommonResponse;
 import jbnu.jbnupms.domain.comment.dto.CommentCreateRequest;
 import jbnu.jbnupms.domain.comment.dto.CommentResponse;
+import jbnu.jbnupms.domain.comment.dto.CommentSliceResponse;
 import jbnu.jbnupms.domain.comment.dto.CommentUpdateRequest;
 import jbnu.jbnupms.domain.comment.service.CommentService;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +43,20 @@ public class CommentController {
         return ResponseEntity.ok(CommonResponse.success(responses));
     }
 
+    @Operation(summary = "Task의 댓글 스레드 페이지 조회",
+            description = "cursor로 이전 댓글 페이지를, since로 해당 커서 이후 생성/수정/삭제된 댓글만 조회합니다.")
+    @GetMapping("/tasks/{taskId}/slice")
+    public ResponseEntity<CommonResponse<CommentSliceResponse>> getCommentSlice(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        CommentSliceResponse response = commentService.getCommentSlice(taskId, userId, cursor, since, size);
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
     @Operation(summary = "댓글 수정")
     @PutMapping("/{commentId}")
     public ResponseEntity<CommonResponse<CommentResponse>> updateComment(
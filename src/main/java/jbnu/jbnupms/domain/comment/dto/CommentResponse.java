@@ -41,20 +41,26 @@ public class CommentResponse {
     @Schema(description = "수정일시", example = "2024-02-13T10:30:00")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "삭제 여부 (변경분 조회에서만 true가 될 수 있음)", example = "false")
+    private boolean deleted;
+
     @Schema(description = "대댓글 목록")
     private List<CommentResponse> replies;
 
+    // 삭제된 댓글은 ID와 위치만 알려주고 내용과 작성자는 내보내지 않음
     public static CommentResponse from(Comment comment) {
+        boolean deleted = Boolean.TRUE.equals(comment.getIsDeleted());
         return CommentResponse.builder()
                 .id(comment.getId())
                 .taskId(comment.getTask().getId())
-                .userId(comment.getUser().getId())
-                .userName(comment.getUser().getName())
-                .userEmail(comment.getUser().getEmail())
+                .userId(deleted ? null : comment.getUser().getId())
+                .userName(deleted ? null : comment.getUser().getName())
+                .userEmail(deleted ? null : comment.getUser().getEmail())
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                .content(comment.getContent())
+                .content(deleted ? null : comment.getContent())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
+                .deleted(deleted)
                 .replies(new ArrayList<>())
                 .build();
     }
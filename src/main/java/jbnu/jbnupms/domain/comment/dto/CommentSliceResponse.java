@@ -0,0 +1,25 @@
+package jbnu.jbnupms.domain.comment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "댓글 스레드 페이지 / 변경분 응답")
+public class CommentSliceResponse {
+
+    @Schema(description = "페이지 조회: 부모 댓글(대댓글 포함) 최신순, 변경분 조회: 변경된 댓글 변경 순(대댓글도 평탄하게 포함)")
+    private List<CommentResponse> items;
+
+    @Schema(description = "다음(이전 댓글) 페이지 커서, 변경분 조회에서는 null", nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 또는 아직 가져오지 않은 변경분이 있는지")
+    private boolean hasNext;
+
+    @Schema(description = "새 댓글/수정/삭제를 가져올 때 since로 보낼 커서")
+    private String syncCursor;
+}
@@ -11,7 +11,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 스레드 키셋 페이지네이션용 (부모 댓글 최신순, 부모별 대댓글)
+        @Index(name = "idx_comment_task_parent_deleted_created", columnList = "task_id, parent_id, is_deleted, created_at"),
+        // 변경분 조회용 ((updated_at, id) 커서)
+        @Index(name = "idx_comment_task_updated", columnList = "task_id, updated_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
@@ -0,0 +1,19 @@
+package jbnu.jbnupms.domain.comment.event;
+
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 변경 알림 (생성/수정/삭제)
+ * 검색 색인 갱신, 실시간 알림 등 커밋 이후 처리를 위해 CommentService에서 발행한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    private final Long projectId;
+    private final Long taskId;
+    private final Long commentId;
+    private final TaskChangeType type;
+}
@@ -1,10 +1,16 @@
 package jbnu.jbnupms.domain.comment.repository;
 
 import jbnu.jbnupms.domain.comment.entity.Comment;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +24,38 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId AND c.isDeleted = false ORDER BY c.createdAt ASC")
     List<Comment> findRepliesByParentId(@Param("parentId") Long parentId);
 
+    // Task의 댓글 스레드 전체 (부모 댓글 + 대댓글, 작성자 포함, 삭제되지 않은 것, 작성 순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.id = :taskId AND c.isDeleted = false ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findThreadByTaskId(@Param("taskId") Long taskId);
+
+    // 부모 댓글 최신순 첫 페이지 (작성자 포함)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.id = :taskId AND c.parent IS NULL AND c.isDeleted = false " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findParentPage(@Param("taskId") Long taskId, Pageable pageable);
+
+    // 부모 댓글 최신순 키셋 페이지 (작성자 포함, (created_at, id) 기준 커서 이전)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.id = :taskId AND c.parent IS NULL AND c.isDeleted = false " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findParentPageBefore(@Param("taskId") Long taskId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Pageable pageable);
+
+    // 여러 부모 댓글의 대댓글 (작성자 포함, 작성 순)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.id = :taskId AND c.parent.id IN :parentIds AND c.isDeleted = false " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesByParentIds(@Param("taskId") Long taskId, @Param("parentIds") Collection<Long> parentIds);
+
+    // 커서 이후 horizon까지 생성/수정/삭제된 댓글 ((updated_at, id) 오름차순, 삭제된 댓글 포함)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.id = :taskId " +
+            "AND (c.updatedAt > :updatedAt OR (c.updatedAt = :updatedAt AND c.id > :id)) AND c.updatedAt <= :horizon " +
+            "ORDER BY c.updatedAt ASC, c.id ASC")
+    List<Comment> findChangedAfter(@Param("taskId") Long taskId, @Param("updatedAt") LocalDateTime updatedAt,
+                                   @Param("id") Long id, @Param("horizon") LocalDateTime horizon, Pageable pageable);
+
+    // horizon까지의 마지막 변경 {updatedAt, id} (변경분 조회 시작 커서)
+    @Query("SELECT c.updatedAt, c.id FROM Comment c WHERE c.task.id = :taskId AND c.updatedAt <= :horizon " +
+            "ORDER BY c.updatedAt DESC, c.id DESC")
+    List<Object[]> findLatestChange(@Param("taskId") Long taskId, @Param("horizon") LocalDateTime horizon, Pageable pageable);
+
     // Task의 모든 댓글 수 (대댓글 포함, 삭제되지 않은 것)
     long countByTaskIdAndIsDeletedFalse(Long taskId);
 
@@ -31,4 +69,30 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // 사용자가 작성한 댓글 조회 (삭제되지 않은 것)
     List<Comment> findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(Long userId);
-}
\ No newline at end of file
+
+    // 전문 검색 (PostgreSQL 전용, tsvector 일치 또는 내용 trigram 유사도, 점수/ID 키셋)
+    // 결과: {id, projectId, taskId, taskTitle, snippet, score}
+    @Query(value = "WITH q AS (SELECT plainto_tsquery('simple', :query) AS tsq) " +
+            "SELECT s.id, s.project_id, s.task_id, s.task_title, " +
+            "ts_headline('simple', translate(s.content, " + TaskRepository.HEADLINE_MARKERS + ", ''), q.tsq, " +
+            TaskRepository.HEADLINE_OPTIONS + ") AS snippet, s.score " +
+            "FROM (SELECT c.id, t.project_id, c.task_id, t.title AS task_title, c.content, " +
+            "round(CAST(ts_rank_cd(c.search_vector, q.tsq) + word_similarity(:query, c.content) AS numeric), 6) AS score " +
+            "FROM comments c JOIN tasks t ON t.id = c.task_id CROSS JOIN q " +
+            "WHERE t.project_id IN (:projectIds) AND t.deleted_at IS NULL AND c.is_deleted = false " +
+            "AND (c.search_vector @@ q.tsq OR :query <% c.content)) s CROSS JOIN q " +
+            "WHERE (s.score, s.id) < (:cursorScore, :cursorId) " +
+            "ORDER BY s.score DESC, s.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> searchFullText(@Param("query") String query, @Param("projectIds") Collection<Long> projectIds,
+                                  @Param("cursorScore") BigDecimal cursorScore, @Param("cursorId") Long cursorId,
+                                  @Param("limit") int limit);
+
+    // 태스크 서브트리 삭제: 서브트리 태스크의 댓글 일괄 soft delete
+    @Modifying
+    @Query(value = TaskRepository.SUBTREE_CTE +
+            "UPDATE comments SET is_deleted = true, updated_at = :deletedAt " +
+            "WHERE is_deleted = false AND task_id IN (SELECT id FROM subtree)",
+            nativeQuery = true)
+    int softDeleteByTaskSubtree(@Param("taskId") Long taskId, @Param("deletedAt") LocalDateTime deletedAt);
+}
@@ -4,21 +4,34 @@ import jbnu.jbnupms.common.exception.CustomException;
 import jbnu.jbnupms.common.exception.ErrorCode;
 import jbnu.jbnupms.domain.comment.dto.CommentCreateRequest;
 import jbnu.jbnupms.domain.comment.dto.CommentResponse;
+import jbnu.jbnupms.domain.comment.dto.CommentSliceResponse;
 import jbnu.jbnupms.domain.comment.dto.CommentUpdateRequest;
 import jbnu.jbnupms.domain.comment.entity.Comment;
+import jbnu.jbnupms.domain.comment.event.CommentChangedEvent;
 import jbnu.jbnupms.domain.comment.repository.CommentRepository;
 import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.task.dto.TaskCursor;
 import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskActivityType;
+import jbnu.jbnupms.domain.task.event.TaskActivityEvent;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
 import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,11 +42,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // 댓글이 하나도 없을 때의 변경 커서 시작점
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // 변경 조회는 이 시간보다 오래된 변경만 돌려줌
+    // updated_at은 커밋 전에 정해지므로, 먼저 시작해 늦게 커밋된 변경이 이미 지나간 커서 뒤에 끼어드는 것을 막는다.
+    private static final long CHANGE_SAFETY_WINDOW_SECONDS = 5;
+
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final TaskAssigneeRepository taskAssigneeRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 생성
@@ -75,6 +97,13 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        taskRepository.addCommentCount(task.getId(), 1);
+        // 댓글 수도 태스크 응답에 포함되므로 태스크 변경으로 알림 (프로젝트 태스크 버전 증가)
+        eventPublisher.publishEvent(new TaskChangedEvent(task.getProject().getId(), task.getId(), TaskChangeType.UPDATED));
+        eventPublisher.publishEvent(new CommentChangedEvent(task.getProject().getId(), task.getId(), savedComment.getId(),
+                TaskChangeType.CREATED));
+        eventPublisher.publishEvent(TaskActivityEvent.comment(task.getProject().getId(), task.getId(), userId,
+                TaskActivityType.COMMENT_CREATED, savedComment.getId(), null, savedComment.getContent()));
         log.info("댓글 생성 완료: commentId={}, taskId={}, userId={}", savedComment.getId(), task.getId(), userId);
 
         return CommentResponse.from(savedComment);
@@ -91,30 +120,117 @@ public class CommentService {
         // Task 접근 권한 확인
         validateTaskAccess(task, userId);
 
-        // 부모 댓글 조회
-        List<Comment> parentComments = commentRepository.findParentCommentsByTaskId(taskId);
-
-        // 각 부모 댓글의 대댓글 조회
-        Map<Long, List<CommentResponse>> repliesMap = new HashMap<>();
-        for (Comment parent : parentComments) {
-            List<Comment> replies = commentRepository.findRepliesByParentId(parent.getId());
-            List<CommentResponse> replyResponses = replies.stream()
-                    .map(CommentResponse::from)
-                    .collect(Collectors.toList());
-            repliesMap.put(parent.getId(), replyResponses);
+        // 부모 댓글과 대댓글을 작성자와 함께 한 번에 조회 (작성 순)
+        List<Comment> comments = commentRepository.findThreadByTaskId(taskId);
+
+        // 부모 댓글은 최신순, 대댓글은 작성 순으로 묶음
+        Map<Long, CommentResponse> parentsById = new HashMap<>();
+        List<CommentResponse> parents = new ArrayList<>();
+        for (Comment comment : comments) {
+            if (!comment.isReply()) {
+                CommentResponse response = CommentResponse.from(comment);
+                parentsById.put(comment.getId(), response);
+                parents.add(response);
+            }
+        }
+        for (Comment comment : comments) {
+            // 프록시에서 ID만 읽으므로 부모 댓글을 추가로 조회하지 않음
+            if (comment.isReply()) {
+                CommentResponse parent = parentsById.get(comment.getParent().getId());
+                if (parent != null) {
+                    parent.addReply(CommentResponse.from(comment));
+                }
+            }
         }
+        Collections.reverse(parents);
+        return parents;
+    }
+
+    /**
+     * Task의 댓글 스레드 페이지 조회 (부모 댓글 최신순 키셋, 대댓글 포함)
+     * since가 있으면 그 커서 이후 생성/수정/삭제된 댓글만 변경 순으로 반환한다(폴링용).
+     * 변경분은 커밋 순서가 뒤바뀐 변경을 놓치지 않도록 몇 초 늦게 반영되며, 삭제된 댓글은 내용과 작성자 없이 반환한다.
+     * 어느 경우든 쿼리 수는 스레드 크기와 관계없이 일정하다.
+     */
+    public CommentSliceResponse getCommentSlice(Long taskId, Long userId, String cursor, String since, Integer size) {
+        if (cursor != null && since != null) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "cursor와 since는 함께 사용할 수 없습니다.");
+        }
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TASK_NOT_FOUND));
+        validateTaskAccess(task, userId);
+
+        return since != null
+                ? this.getChangesSince(taskId, TaskCursor.decode(since), pageSize)
+                : this.getThreadPage(taskId, cursor != null ? TaskCursor.decode(cursor) : null, pageSize);
+    }
+
+    private CommentSliceResponse getThreadPage(Long taskId, TaskCursor cursor, int pageSize) {
+        // 페이지를 읽기 전에 변경 커서를 잡아 두면 그 사이 변경은 다음 폴링에서 (중복되더라도) 빠지지 않음
+        // 아직 커밋되지 않았을 수 있는 최근 변경은 커서에 포함하지 않고 다음 폴링에서 다시 받음
+        List<Object[]> latest = commentRepository.findLatestChange(taskId, this.changeHorizon(), PageRequest.of(0, 1));
+        TaskCursor syncCursor = latest.isEmpty()
+                ? new TaskCursor(EPOCH, 0L)
+                : new TaskCursor((LocalDateTime) latest.get(0)[0], (Long) latest.get(0)[1]);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Comment> parents = cursor != null
+                ? commentRepository.findParentPageBefore(taskId, cursor.getKey(), cursor.getId(), PageRequest.of(0, pageSize + 1))
+                : commentRepository.findParentPage(taskId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = parents.size() > pageSize;
+        if (hasNext) {
+            parents = parents.subList(0, pageSize);
+        }
+
+        Map<Long, CommentResponse> parentsById = new LinkedHashMap<>();
+        for (Comment parent : parents) {
+            parentsById.put(parent.getId(), CommentResponse.from(parent));
+        }
+        if (!parentsById.isEmpty()) {
+            for (Comment reply : commentRepository.findRepliesByParentIds(taskId, parentsById.keySet())) {
+                parentsById.get(reply.getParent().getId()).addReply(CommentResponse.from(reply));
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = parents.get(parents.size() - 1);
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CommentSliceResponse.builder()
+                .items(new ArrayList<>(parentsById.values()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .syncCursor(syncCursor.encode())
+                .build();
+    }
+
+    private CommentSliceResponse getChangesSince(Long taskId, TaskCursor since, int pageSize) {
+        List<Comment> changes = commentRepository.findChangedAfter(taskId, since.getKey(), since.getId(), this.changeHorizon(),
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = changes.size() > pageSize;
+        if (hasNext) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        // 변경이 없으면 받은 커서를 그대로 돌려줌
+        String syncCursor = changes.isEmpty()
+                ? since.encode()
+                : new TaskCursor(changes.get(changes.size() - 1).getUpdatedAt(), changes.get(changes.size() - 1).getId()).encode();
+        return CommentSliceResponse.builder()
+                .items(changes.stream().map(CommentResponse::from).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .syncCursor(syncCursor)
+                .build();
+    }
 
-        // 부모 댓글에 대댓글 추가
-        return parentComments.stream()
-                .map(parent -> {
-                    CommentResponse response = CommentResponse.from(parent);
-                    List<CommentResponse> replies = repliesMap.get(parent.getId());
-                    if (replies != null) {
-                        replies.forEach(response::addReply);
-                    }
-                    return response;
-                })
-                .collect(Collectors.toList());
+    private LocalDateTime changeHorizon() {
+        return LocalDateTime.now().minusSeconds(CHANGE_SAFETY_WINDOW_SECONDS);
     }
 
     /**
@@ -130,7 +246,12 @@ public class CommentService {
             throw new CustomException(ErrorCode.COMMENT_UNAUTHORIZED);
         }
 
+        String previousContent = comment.getContent();
         comment.updateContent(request.getContent());
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getTask().getProject().getId(), comment.getTask().getId(),
+                commentId, TaskChangeType.UPDATED));
+        eventPublisher.publishEvent(TaskActivityEvent.comment(comment.getTask().getProject().getId(), comment.getTask().getId(),
+                userId, TaskActivityType.COMMENT_UPDATED, commentId, previousContent, comment.getContent()));
         log.info("댓글 수정 완료: commentId={}, userId={}", commentId, userId);
 
         return CommentResponse.from(comment);
@@ -160,6 +281,13 @@ public class CommentService {
         // Soft Delete
         comment.softDelete();
         commentRepository.save(comment);
+        taskRepository.addCommentCount(comment.getTask().getId(), -1);
+        eventPublisher.publishEvent(new TaskChangedEvent(comment.getTask().getProject().getId(), comment.getTask().getId(),
+                TaskChangeType.UPDATED));
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getTask().getProject().getId(), comment.getTask().getId(),
+                commentId, TaskChangeType.DELETED));
+        eventPublisher.publishEvent(TaskActivityEvent.comment(comment.getTask().getProject().getId(), comment.getTask().getId(),
+                userId, TaskActivityType.COMMENT_DELETED, commentId, comment.getContent(), null));
 
         log.info("댓글 삭제 완료: commentId={}, userId={}", commentId, userId);
     }
@@ -1,7 +1,9 @@
 package jbnu.jbnupms.domain.file.repository;
 
 import jbnu.jbnupms.domain.file.entity.ProjectFile;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,4 +30,13 @@ public interface ProjectFileRepository extends JpaRepository<ProjectFile, Long>
     // taskFileId로 파일 조회 (태스크 파일 삭제 시 사용)
     @Query("SELECT pf FROM ProjectFile pf WHERE pf.taskFileId = :taskFileId AND pf.isDeleted = false")
     Optional<ProjectFile> findByTaskFileId(@Param("taskFileId") Long taskFileId);
-}
\ No newline at end of file
+
+    // 태스크 서브트리 삭제: 서브트리 태스크 파일에서 생성된 프로젝트 파일 일괄 soft delete
+    @Modifying
+    @Query(value = TaskRepository.SUBTREE_CTE +
+            "UPDATE project_files SET is_deleted = true " +
+            "WHERE is_deleted = false AND task_file_id IN " +
+            "(SELECT tf.id FROM task_files tf WHERE tf.task_id IN (SELECT id FROM subtree))",
+            nativeQuery = true)
+    int softDeleteByTaskSubtree(@Param("taskId") Long taskId);
+}
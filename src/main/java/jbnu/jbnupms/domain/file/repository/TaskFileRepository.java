@@ -1,7 +1,9 @@
 package jbnu.jbnupms.domain.file.repository;
 
 import jbnu.jbnupms.domain.file.entity.TaskFile;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,4 +30,12 @@ public interface TaskFileRepository extends JpaRepository<TaskFile, Long> {
 
     // 사용자가 업로드한 파일 조회 (삭제되지 않은 것)
     List<TaskFile> findByUploaderIdAndIsDeletedFalseOrderByCreatedAtDesc(Long uploaderId);
-}
\ No newline at end of file
+
+    // 태스크 서브트리 삭제: 서브트리 태스크의 파일 일괄 soft delete
+    @Modifying
+    @Query(value = TaskRepository.SUBTREE_CTE +
+            "UPDATE task_files SET is_deleted = true " +
+            "WHERE is_deleted = false AND task_id IN (SELECT id FROM subtree)",
+            nativeQuery = true)
+    int softDeleteByTaskSubtree(@Param("taskId") Long taskId);
+}
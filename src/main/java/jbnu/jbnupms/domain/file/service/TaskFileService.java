@@ -10,12 +10,15 @@ import jbnu.jbnupms.domain.file.repository.TaskFileRepository;
 import jbnu.jbnupms.domain.project.entity.Project;
 import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
 import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,6 +39,7 @@ public class TaskFileService {
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
     private final S3FileService s3FileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 태스크 파일 업로드
@@ -82,6 +86,9 @@ public class TaskFileService {
                 .build();
 
         projectFileRepository.save(projectFile);
+        taskRepository.addFileCount(taskId, 1);
+        // 첨부 파일 수도 태스크 응답에 포함되므로 태스크 변경으로 알림 (프로젝트 태스크 버전 증가)
+        eventPublisher.publishEvent(new TaskChangedEvent(project.getId(), taskId, TaskChangeType.UPDATED));
 
         log.info("태스크 파일 업로드 완료 (task_files + project_files 동시 저장): taskFileId={}, taskId={}, projectId={}, userId={}",
                 savedTaskFile.getId(), taskId, project.getId(), userId);
@@ -132,6 +139,8 @@ public class TaskFileService {
         // 1. task_files에서 soft delete
         taskFile.softDelete();
         taskFileRepository.save(taskFile);
+        taskRepository.addFileCount(taskId, -1);
+        eventPublisher.publishEvent(new TaskChangedEvent(taskFile.getProject().getId(), taskId, TaskChangeType.UPDATED));
 
         // 2. project_files에서 taskFileId로 빠르게 찾아서 soft delete
         projectFileRepository.findByTaskFileId(fileId).ifPresent(projectFile -> {
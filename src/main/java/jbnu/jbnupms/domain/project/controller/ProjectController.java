@@ -1,19 +1,36 @@
 package jbnu.jbnupms.domain.project.controller;
 
 import jakarta.validation.Valid;
+import jbnu.jbnupms.common.config.AsyncTimeoutInterceptor;
 import jbnu.jbnupms.common.response.CommonResponse;
 import jbnu.jbnupms.domain.project.dto.ProjectCreateRequest;
 import jbnu.jbnupms.domain.project.dto.ProjectInviteRequest;
 import jbnu.jbnupms.domain.project.dto.ProjectResponse;
 import jbnu.jbnupms.domain.project.dto.ProjectRoleUpdateRequest;
 import jbnu.jbnupms.domain.project.dto.ProjectUpdateRequest;
+import jbnu.jbnupms.domain.project.service.ProjectEventBroker;
 import jbnu.jbnupms.domain.project.service.ProjectService;
+import jbnu.jbnupms.domain.task.controller.CaseInsensitiveEnumEditor;
+import jbnu.jbnupms.domain.task.dto.ProjectTaskStatsResponse;
+import jbnu.jbnupms.domain.task.dto.TaskExportFormat;
+import jbnu.jbnupms.domain.task.dto.TaskImportResponse;
+import jbnu.jbnupms.domain.task.service.TaskExportService;
+import jbnu.jbnupms.domain.task.service.TaskImportService;
+import jbnu.jbnupms.domain.task.service.TaskStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -22,6 +39,16 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskStatsService taskStatsService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final ProjectEventBroker projectEventBroker;
+
+    // 내보내기/가져오기 format 파라미터는 대소문자 구분 없이 받음 (format=csv)
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        CaseInsensitiveEnumEditor.register(binder, TaskExportFormat.class);
+    }
 
     // 프로젝트 생성
     @PostMapping
@@ -54,6 +81,74 @@ public class ProjectController {
         return ResponseEntity.ok(CommonResponse.success(projectService.getProject(userId, projectId)));
     }
 
+    // 프로젝트 태스크 집계 조회 (상태/우선순위별 태스크 수)
+    @GetMapping("/{projectId}/stats")
+    public ResponseEntity<CommonResponse<ProjectTaskStatsResponse>> getProjectStats(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long projectId
+    ) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskStatsService.getStats(userId, projectId)));
+    }
+
+    // 프로젝트 실시간 변경 알림 구독 (SSE, 재연결 시 Last-Event-ID 이후 이벤트를 이어서 받음)
+    @GetMapping(value = "/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeEvents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long projectId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                // 프록시(nginx)가 이벤트를 모아 보내지 않도록
+                .header("X-Accel-Buffering", "no")
+                .body(projectEventBroker.subscribe(userId, projectId, lastEventId));
+    }
+
+    // 프로젝트 태스크 내보내기 (csv / ndjson 스트리밍)
+    @GetMapping("/{projectId}/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "csv") TaskExportFormat format,
+            NativeWebRequest webRequest
+    ) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        StreamingResponseBody body = taskExportService.export(userId, projectId, format);
+        // 전역 비동기 제한 시간 대신 내보내기 응답에만 긴 제한 시간 적용
+        AsyncTimeoutInterceptor.setTimeout(webRequest, taskExportService.getTimeoutMillis());
+        String filename = "project-" + projectId + "-tasks." + format.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
+    // 프로젝트 태스크 가져오기 (요청 본문을 csv / ndjson 스트림으로 읽음, jobId가 있으면 이어서 가져오기)
+    @PostMapping("/{projectId}/tasks/import")
+    public ResponseEntity<CommonResponse<TaskImportResponse>> importTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "csv") TaskExportFormat format,
+            @RequestParam(required = false) Long jobId,
+            InputStream body
+    ) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskImportService.importTasks(userId, projectId, format, jobId, body)));
+    }
+
+    // 프로젝트 태스크 가져오기 진행 상황 조회
+    @GetMapping("/{projectId}/tasks/import/{jobId}")
+    public ResponseEntity<CommonResponse<TaskImportResponse>> getImportJob(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long projectId,
+            @PathVariable Long jobId
+    ) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskImportService.getJob(userId, projectId, jobId)));
+    }
+
     // 프로젝트 수정
     @PatchMapping("/{projectId}")
     public ResponseEntity<CommonResponse<Void>> updateProject(
@@ -0,0 +1,37 @@
+package jbnu.jbnupms.domain.project.dto;
+
+import jbnu.jbnupms.domain.task.entity.TaskReminderType;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 프로젝트 실시간 변경 알림 (SSE data)
+ * 변경된 대상의 ID만 담으며, 클라이언트는 필요한 경우 해당 리소스를 다시 조회한다.
+ * 마감 알림(REMINDER)은 구독 중인 프로젝트 멤버에게 보내는 알림이다.
+ */
+@Getter
+@Builder
+public class ProjectEventResponse {
+
+    private Target target;
+    private TaskChangeType type;
+    private Long taskId;
+    // 여러 태스크가 한 번에 바뀐 경우(롤업, 서브트리 삭제, 가져오기 등)에만 채우고 taskId는 비움
+    private List<Long> taskIds;
+    // target이 COMMENT일 때만 채움
+    private Long commentId;
+    // target이 REMINDER일 때만 채움 (마감 임박/초과, 알림 기준 마감일)
+    private TaskReminderType reminderType;
+    private LocalDateTime dueDate;
+    private LocalDateTime occurredAt;
+
+    public enum Target {
+        TASK,
+        COMMENT,
+        REMINDER
+    }
+}
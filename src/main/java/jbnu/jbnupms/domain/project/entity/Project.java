@@ -43,12 +43,18 @@ public class Project {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 프로젝트 내 태스크 변경 카운터 (태스크 ETag 계산용)
+    // 엔티티 수정 시 덮어쓰지 않도록 갱신은 ProjectRepository.incrementTaskRevision으로만 수행
+    @Column(name = "task_revision", nullable = false, updatable = false)
+    private Long taskRevision;
+
     @Builder
     public Project(Space space, String name, String description) {
         this.space = space;
         this.name = name;
         this.description = description;
         this.progress = 0.0;
+        this.taskRevision = 0L;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -0,0 +1,18 @@
+package jbnu.jbnupms.domain.project.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로젝트 멤버 참여/탈퇴 알림
+ * 멤버 구성에 따라 달라지는 캐시(내 태스크 등)와 실시간 연결 정리를 위해 ProjectService에서 발행한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProjectMemberChangedEvent {
+
+    private final Long projectId;
+    private final Long userId;
+    // true면 탈퇴/추방, false면 참여
+    private final boolean removed;
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,16 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     @Query("SELECT pm FROM ProjectMember pm JOIN FETCH pm.project p WHERE pm.user.id = :userId AND p.space.id = :spaceId")
     List<ProjectMember> findByUserIdAndSpaceId(@Param("userId") Long userId, @Param("spaceId") Long spaceId);
 
+    // 주어진 사용자 중 프로젝트 멤버인 사용자 ID 조회 (탈퇴한 사용자 제외)
+    @Query("SELECT pm.user.id FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.user.id IN :userIds AND pm.user.isDeleted = false")
+    List<Long> findMemberUserIds(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds);
+
+    // 주어진 이메일 중 프로젝트 멤버인 사용자의 {email, userId} 조회 (탈퇴한 사용자 제외)
+    @Query("SELECT u.email, u.id FROM ProjectMember pm JOIN pm.user u WHERE pm.project.id = :projectId AND u.email IN :emails AND u.isDeleted = false")
+    List<Object[]> findMemberIdsByEmails(@Param("projectId") Long projectId, @Param("emails") Collection<String> emails);
+
+    // 사용자가 속한 프로젝트 ID 조회 (삭제된 프로젝트 제외)
+    @Query("SELECT p.id FROM ProjectMember pm JOIN pm.project p WHERE pm.user.id = :userId")
+    List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
+
 }
@@ -1,11 +1,16 @@
 package jbnu.jbnupms.domain.project.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jbnu.jbnupms.domain.project.entity.Project;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
@@ -13,4 +18,18 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // 스페이스 내 프로젝트 목록 조회
     @Query("SELECT p FROM Project p WHERE p.space.id = :spaceId")
     List<Project> findBySpaceId(Long spaceId);
+
+    // 전체 프로젝트 ID 조회 (배치 작업용)
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    // 프로젝트 단위 직렬화가 필요한 변경용 행 잠금 조회 (상위 태스크 변경, 선후행 관계 추가 시 순환 검사 등)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :projectId")
+    Optional<Project> findByIdForUpdate(@Param("projectId") Long projectId);
+
+    // 태스크 변경 카운터 증가
+    @Modifying
+    @Query("UPDATE Project p SET p.taskRevision = p.taskRevision + 1 WHERE p.id = :projectId")
+    void incrementTaskRevision(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,49 @@
+package jbnu.jbnupms.domain.project.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM 내 이벤트 전달 (단일 노드 배포, 테스트용)
+ * 발행한 스레드에서 바로 처리기를 호출하며, 다른 노드의 구독자에게는 전달되지 않는다.
+ * 이벤트를 따로 보관하지 않으므로 재연결 시 브로커의 링 버퍼를 벗어난 이벤트는 다시 읽을 수 없다.
+ */
+@Component
+@ConditionalOnProperty(name = "project.events.bus", havingValue = "local", matchIfMissing = true)
+public class LocalProjectEventBus implements ProjectEventBus {
+
+    // 재시작 후에도 이전 ID보다 커지도록 시작 시각 기준으로 시작
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private volatile Handler handler;
+
+    // ID 순서와 전달 순서가 같도록 발행을 직렬화 (전달은 구독자 큐에 넣기만 하므로 짧음)
+    @Override
+    public synchronized boolean publish(Long projectId, String data) {
+        Handler current = handler;
+        if (current != null) {
+            current.accept(projectId, sequence.incrementAndGet() + "-0", data);
+        }
+        return true;
+    }
+
+    @Override
+    public void join(Long projectId) {
+    }
+
+    @Override
+    public void leave(Long projectId) {
+    }
+
+    @Override
+    public void setHandler(Handler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public List<Event> replay(Long projectId, String afterId, int limit) {
+        return null;
+    }
+}
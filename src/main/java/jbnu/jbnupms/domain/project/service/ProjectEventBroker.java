@@ -0,0 +1,651 @@
+package jbnu.jbnupms.domain.project.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.comment.event.CommentChangedEvent;
+import jbnu.jbnupms.domain.project.dto.ProjectEventResponse;
+import jbnu.jbnupms.domain.project.event.ProjectMemberChangedEvent;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskDueReminder;
+import jbnu.jbnupms.domain.task.event.TaskDueRemindersEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로젝트 단위 실시간 변경 알림 (SSE)
+ * 커밋된 태스크/댓글 변경과 마감 알림을 프로젝트 채널의 구독자에게 보낸다.
+ * - 연결은 비동기 요청(SseEmitter)이라 대기 중에는 스레드를 잡지 않고, 전송은 작은 전용 스레드 풀이 나눠 맡는다.
+ * - 구독자마다 buffer-size 크기의 큐를 두어 느린 클라이언트가 발행 스레드를 막지 않게 하고, 넘치면 연결을 끊는다.
+ * - 한 프레임 쓰기가 write-timeout-ms를 넘기면 그 구독자를 채널에서 떼어 내고, 막힌 쓰기가 풀릴 때까지
+ *   전송 풀을 그만큼(max-sender-threads까지) 늘려 다른 구독자 전송이 밀리지 않게 한다.
+ * - 멤버에서 빠진 사용자의 연결은 탈퇴/추방 커밋 직후 이 노드에서 끊고, 다른 노드에서 빠진 경우에 대비해
+ *   membership-check-interval-ms마다 채널별로 한 번씩 구독자의 멤버 여부를 다시 확인한다.
+ * - 채널마다 최근 replay-size개 이벤트를 링 버퍼에 보관해 Last-Event-ID로 재연결하면 놓친 이벤트를 다시 보낸다.
+ *   링 버퍼에 없으면(다른 노드에서 받던 연결 등) 버스에서 다시 읽고, 거기서도 벗어났거나 buffer-size보다 많이 밀렸으면
+ *   reset 이벤트를 보내 클라이언트가 전체를 다시 조회하게 한다.
+ * 이벤트 ID는 버스가 정한 프로젝트별 증가 ID(redis에서는 스트림 레코드 ID)라 모든 노드에서 같으므로, 어느 노드로 재연결해도 이어 받는다.
+ * 채널은 구독자가 없어진 뒤 retention-ms 동안 유지된다.
+ * 커밋된 변경은 ProjectEventBus로 발행하고 버스가 넘겨준 이벤트만 채널에 전달하므로, 다중 노드에서는 어느 노드에서 바뀌어도
+ * 채널을 가진 모든 노드가 받는다. 채널을 만들고 정리할 때 버스에 알려 이 노드가 구독 중인 프로젝트만 수신하게 한다.
+ * 한 노드에서 유휴 연결 수천~수만 개를 유지할 수 있도록 server.tomcat.max-connections도 함께 늘려 둔다.
+ */
+@Slf4j
+@Component
+public class ProjectEventBroker {
+
+    private static final String EVENT_NAME = "change";
+    private static final String RESET_EVENT_NAME = "reset";
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ObjectMapper objectMapper;
+    private final ProjectEventBus eventBus;
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    // 쓰기가 막혀 채널에서 떼어 낸 구독자 (checkWrites 스레드에서만 사용)
+    private final Set<Subscriber> stalled = new HashSet<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+    private final int bufferSize;
+    private final int replaySize;
+    private final long timeoutMs;
+    private final long retentionMs;
+    private final int maxConnections;
+    private final int senderThreads;
+    private final int maxSenderThreads;
+    private final long writeTimeoutMs;
+    private final long membershipCheckMs;
+
+    public ProjectEventBroker(ProjectMemberRepository projectMemberRepository,
+                              ObjectMapper objectMapper,
+                              ProjectEventBus eventBus,
+                              @Value("${project.events.buffer-size:64}") int bufferSize,
+                              @Value("${project.events.replay-size:256}") int replaySize,
+                              @Value("${project.events.timeout-ms:1800000}") long timeoutMs,
+                              @Value("${project.events.retention-ms:120000}") long retentionMs,
+                              @Value("${project.events.max-connections:10000}") int maxConnections,
+                              @Value("${project.events.sender-threads:4}") int senderThreads,
+                              @Value("${project.events.max-sender-threads:32}") int maxSenderThreads,
+                              @Value("${project.events.write-timeout-ms:5000}") long writeTimeoutMs,
+                              @Value("${project.events.membership-check-interval-ms:60000}") long membershipCheckMs) {
+        this.projectMemberRepository = projectMemberRepository;
+        this.objectMapper = objectMapper;
+        this.eventBus = eventBus;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeoutMs = timeoutMs;
+        this.retentionMs = retentionMs;
+        this.maxConnections = maxConnections;
+        this.senderThreads = senderThreads;
+        this.maxSenderThreads = Math.max(senderThreads, maxSenderThreads);
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.membershipCheckMs = membershipCheckMs;
+        AtomicInteger threads = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "project-event-sender-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PostConstruct
+    public void start() {
+        eventBus.setHandler(this::deliver);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::close));
+        sender.shutdown();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 프로젝트 채널 구독
+     * lastEventId가 있으면 그 이후 이벤트를 먼저 보낸다. 링 버퍼에서 고를 때는 구독 등록과 같은 잠금 안에서 고르고,
+     * 버스에서 다시 읽을 때는 그동안 들어온 이벤트를 따로 모았다가 ID로 중복을 걸러 이어 붙이므로 누락/중복이 없다.
+     */
+    public SseEmitter subscribe(Long userId, Long projectId, String lastEventId) {
+        if (!projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다.");
+        }
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS, "실시간 연결 수가 허용치를 초과했습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        EventId lastId = EventId.parse(lastEventId);
+
+        Channel channel;
+        boolean replay = false;
+        while (true) {
+            channel = this.openChannel(projectId);
+            synchronized (channel) {
+                if (channel.closed) {
+                    continue;
+                }
+                if (lastId != null) {
+                    // 클라이언트가 이미 받은 이벤트는 다시 보내지 않음
+                    subscriber.lastQueued = lastId;
+                    List<Frame> missed = channel.since(lastId);
+                    if (missed == null) {
+                        // 링 버퍼에 없으면 버스에서 다시 읽는 동안 새 이벤트는 따로 모아 둠
+                        subscriber.startReplay();
+                        replay = true;
+                    } else if (missed.size() > bufferSize) {
+                        subscriber.offer(Frame.RESET);
+                    } else {
+                        missed.forEach(subscriber::offer);
+                    }
+                } else if (lastEventId != null) {
+                    // 알 수 없는 형식의 ID면 전체 재조회 요청
+                    subscriber.offer(Frame.RESET);
+                } else {
+                    // 헤더를 바로 내려보내 연결 성립을 알림
+                    subscriber.offer(Frame.HEARTBEAT);
+                }
+                channel.subscribers.add(subscriber);
+                Channel subscribed = channel;
+                emitter.onCompletion(() -> this.unsubscribe(subscribed, subscriber));
+                break;
+            }
+        }
+        if (replay) {
+            // 버스 조회(Redis I/O)는 채널 잠금 밖에서
+            List<ProjectEventBus.Event> events = eventBus.replay(projectId, lastId.toString(), bufferSize);
+            synchronized (channel) {
+                if (!subscriber.finishReplay(events)) {
+                    subscriber.disconnect();
+                }
+            }
+        }
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitter.complete());
+        subscriber.signal();
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        this.publish(event.getProjectId(), ProjectEventResponse.builder()
+                .target(ProjectEventResponse.Target.TASK)
+                .type(event.getType())
+                .taskId(event.isBatch() ? null : event.getTaskId())
+                .taskIds(event.isBatch() ? event.getTaskIds() : null)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        this.publish(event.getProjectId(), ProjectEventResponse.builder()
+                .target(ProjectEventResponse.Target.COMMENT)
+                .type(event.getType())
+                .taskId(event.getTaskId())
+                .commentId(event.getCommentId())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 탈퇴/추방된 사용자의 이 노드 연결을 바로 끊음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberChanged(ProjectMemberChangedEvent event) {
+        Channel channel = channels.get(event.getProjectId());
+        if (!event.isRemoved() || channel == null) {
+            return;
+        }
+        for (Subscriber subscriber : channel.subscribers) {
+            if (subscriber.userId.equals(event.getUserId())) {
+                subscriber.disconnect();
+            }
+        }
+    }
+
+    /**
+     * 마감 알림 전달 (스케줄러 스레드에서 바로 호출됨)
+     * 버스에 넣지 못하면 예외를 던져 스케줄러가 발송 기록을 되돌리고 다시 시도하게 한다.
+     */
+    @EventListener
+    public void onDueReminders(TaskDueRemindersEvent event) {
+        for (TaskDueReminder reminder : event.getReminders()) {
+            boolean published = this.publish(reminder.getProjectId(), ProjectEventResponse.builder()
+                    .target(ProjectEventResponse.Target.REMINDER)
+                    .taskId(reminder.getTaskId())
+                    .reminderType(reminder.getType())
+                    .dueDate(reminder.getDueDate())
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+            if (!published) {
+                throw new IllegalStateException("마감 알림을 실시간 이벤트로 발행하지 못했습니다: taskId=" + reminder.getTaskId());
+            }
+        }
+    }
+
+    /**
+     * 이벤트 버스로 발행 (JSON 직렬화는 노드/구독자 수와 관계없이 한 번만 한다)
+     */
+    public boolean publish(Long projectId, ProjectEventResponse event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("실시간 이벤트 직렬화 실패: projectId={}", projectId, e);
+            return false;
+        }
+        return eventBus.publish(projectId, data);
+    }
+
+    /**
+     * 버스에서 받은 이벤트를 채널의 링 버퍼에 기록하고 구독자 큐에 넣음 (이 노드에 채널이 없으면 버림)
+     */
+    private void deliver(Long projectId, String eventId, String data) {
+        Channel channel = channels.get(projectId);
+        EventId id = EventId.parse(eventId);
+        if (channel == null || id == null) {
+            return;
+        }
+
+        List<Subscriber> targets;
+        synchronized (channel) {
+            if (channel.closed) {
+                return;
+            }
+            Frame frame = new Frame(id, EVENT_NAME, data);
+            channel.append(frame, replaySize);
+            targets = new ArrayList<>(channel.subscribers);
+            for (Subscriber subscriber : targets) {
+                if (!subscriber.offer(frame)) {
+                    // 버퍼가 넘친 느린 클라이언트는 끊고, 재연결 시 Last-Event-ID로 따라잡게 함
+                    log.debug("실시간 이벤트 버퍼 초과로 연결 종료: projectId={}", projectId);
+                    subscriber.disconnect();
+                }
+            }
+        }
+        targets.forEach(Subscriber::signal);
+    }
+
+    /**
+     * 하트비트 (프록시/로드밸런서의 유휴 연결 종료 방지, 끊긴 연결 감지), 멤버 여부 재확인 및 빈 채널 정리
+     */
+    @Scheduled(fixedDelayString = "${project.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        channels.forEach((projectId, channel) -> {
+            List<Subscriber> targets;
+            boolean checkMembers;
+            synchronized (channel) {
+                if (channel.subscribers.isEmpty()) {
+                    if (now - channel.idleSince >= retentionMs) {
+                        channel.closed = true;
+                        channels.remove(projectId, channel);
+                        eventBus.leave(projectId);
+                    }
+                    return;
+                }
+                targets = new ArrayList<>(channel.subscribers);
+                checkMembers = now - channel.membersCheckedAt >= membershipCheckMs;
+                if (checkMembers) {
+                    channel.membersCheckedAt = now;
+                }
+            }
+            if (checkMembers) {
+                this.closeNonMembers(projectId, targets);
+            }
+            for (Subscriber subscriber : targets) {
+                // 보낼 이벤트가 쌓여 있으면 그 자체가 하트비트 역할을 하므로 건너뜀
+                if (subscriber.offer(Frame.HEARTBEAT)) {
+                    subscriber.signal();
+                }
+            }
+        });
+    }
+
+    /**
+     * 쓰기 제한 시간 초과 감시
+     * 막힌 쓰기는 컨테이너의 쓰기 제한 시간이 지나야 풀리므로, 그 구독자는 채널에서 떼어 내고
+     * 막힌 스레드 수만큼 전송 풀을 늘려 둔다(쓰기가 풀리면 다시 줄임).
+     */
+    @Scheduled(fixedDelayString = "${project.events.write-timeout-ms:5000}")
+    public void checkWrites() {
+        long now = System.currentTimeMillis();
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                long sendingSince = subscriber.sendingSince;
+                if (sendingSince > 0 && now - sendingSince > writeTimeoutMs) {
+                    log.debug("실시간 이벤트 쓰기 제한 시간 초과로 연결 분리: userId={}", subscriber.userId);
+                    subscriber.abandon();
+                    stalled.add(subscriber);
+                    this.unsubscribe(channel, subscriber);
+                }
+            }
+        }
+        // 쓰기가 풀린 구독자는 제외하고 아직 막혀 있는 스레드 수만큼만 풀을 늘림
+        stalled.removeIf(subscriber -> subscriber.sendingSince == 0);
+        int size = Math.min(senderThreads + stalled.size(), maxSenderThreads);
+        if (size > sender.getMaximumPoolSize()) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else if (size < sender.getCorePoolSize()) {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    // 채널 구독자 중 더 이상 프로젝트 멤버가 아닌 사용자의 연결 종료 (채널당 쿼리 한 번)
+    private void closeNonMembers(Long projectId, List<Subscriber> targets) {
+        Set<Long> userIds = new HashSet<>();
+        targets.forEach(subscriber -> userIds.add(subscriber.userId));
+        Set<Long> members;
+        try {
+            members = new HashSet<>(projectMemberRepository.findMemberUserIds(projectId, userIds));
+        } catch (RuntimeException e) {
+            log.warn("실시간 구독자 멤버 확인 실패: projectId={}", projectId, e);
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            if (!members.contains(subscriber.userId)) {
+                log.debug("프로젝트 멤버가 아니어서 실시간 연결 종료: projectId={}, userId={}", projectId, subscriber.userId);
+                subscriber.disconnect();
+            }
+        }
+    }
+
+    // 채널을 새로 만들었으면 버스에 참여 (구독자 등록 전에 참여해야 이후 이벤트를 놓치지 않음)
+    // 다른 요청이 만든 채널이면 그 참여가 끝날 때까지 기다림
+    private Channel openChannel(Long projectId) {
+        Channel channel = channels.get(projectId);
+        if (channel == null) {
+            Channel created = new Channel();
+            channel = channels.putIfAbsent(projectId, created);
+            if (channel == null) {
+                try {
+                    eventBus.join(projectId);
+                } finally {
+                    created.joined.countDown();
+                }
+                return created;
+            }
+        }
+        channel.awaitJoined();
+        return channel;
+    }
+
+    private void unsubscribe(Channel channel, Subscriber subscriber) {
+        synchronized (channel) {
+            if (channel.subscribers.remove(subscriber)) {
+                connections.decrementAndGet();
+                if (channel.subscribers.isEmpty()) {
+                    channel.idleSince = System.currentTimeMillis();
+                }
+            }
+        }
+    }
+
+    /**
+     * 프로젝트 채널 (필드는 채널 자신을 잠금으로 보호)
+     */
+    private static class Channel {
+        private final ArrayDeque<Frame> recent = new ArrayDeque<>();
+        private final Set<Subscriber> subscribers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        // 버스 참여가 끝나면 열림
+        private final CountDownLatch joined = new CountDownLatch(1);
+        private long idleSince = System.currentTimeMillis();
+        private long membersCheckedAt = System.currentTimeMillis();
+        private boolean closed;
+
+        void awaitJoined() {
+            try {
+                joined.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void append(Frame frame, int capacity) {
+            if (recent.size() == capacity) {
+                recent.removeFirst();
+            }
+            recent.addLast(frame);
+        }
+
+        // lastId 이후 이벤트, 링 버퍼만으로 알 수 없으면(비었거나 lastId가 가장 오래된 이벤트보다 앞) null
+        List<Frame> since(EventId lastId) {
+            if (recent.isEmpty() || lastId.compareTo(recent.getFirst().id) < 0) {
+                return null;
+            }
+            List<Frame> missed = new ArrayList<>();
+            for (Frame frame : recent) {
+                if (frame.id.compareTo(lastId) > 0) {
+                    missed.add(frame);
+                }
+            }
+            return missed;
+        }
+    }
+
+    /**
+     * 이벤트 ID ("{ms}-{seq}", 프로젝트 안에서 증가)
+     */
+    private static class EventId implements Comparable<EventId> {
+        private final long millis;
+        private final long sequence;
+
+        EventId(long millis, long sequence) {
+            this.millis = millis;
+            this.sequence = sequence;
+        }
+
+        // 형식이 맞지 않으면 null
+        static EventId parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            String text = value.trim();
+            int dash = text.indexOf('-');
+            try {
+                return dash < 0
+                        ? new EventId(Long.parseLong(text), 0)
+                        : new EventId(Long.parseLong(text.substring(0, dash)), Long.parseLong(text.substring(dash + 1)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public int compareTo(EventId other) {
+            int compared = Long.compare(millis, other.millis);
+            return compared != 0 ? compared : Long.compare(sequence, other.sequence);
+        }
+
+        @Override
+        public String toString() {
+            return millis + "-" + sequence;
+        }
+    }
+
+    private static class Frame {
+        static final Frame HEARTBEAT = new Frame(null, null, null);
+        static final Frame RESET = new Frame(null, RESET_EVENT_NAME, "{}");
+
+        // 하트비트/reset은 null
+        private final EventId id;
+        private final String name;
+        private final String data;
+
+        Frame(EventId id, String name, String data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id != null ? event.id(id.toString()) : event;
+        }
+    }
+
+    /**
+     * 연결 하나 (큐에 쌓인 프레임은 한 번에 한 스레드만 보냄)
+     */
+    private class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // 쓰기 중이면 시작 시각, 아니면 0
+        private volatile long sendingSince;
+        // 버스에서 다시 읽는 중이면 그동안 들어온 이벤트를 pending에 모음 (pending과 lastQueued는 채널 잠금으로 보호)
+        private volatile boolean replaying;
+        private List<Frame> pending;
+        // 마지막으로 큐에 넣은 이벤트 ID (이 ID 이하는 중복이므로 버림)
+        private EventId lastQueued;
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        boolean offer(Frame frame) {
+            if (closed) {
+                return false;
+            }
+            if (frame.id == null) {
+                // 다시 읽는 중에는 하트비트를 보내지 않아도 곧 이벤트가 나감
+                return replaying || queue.offer(frame);
+            }
+            if (replaying) {
+                if (pending.size() >= bufferSize) {
+                    return false;
+                }
+                pending.add(frame);
+                return true;
+            }
+            if (lastQueued != null && frame.id.compareTo(lastQueued) <= 0) {
+                return true;
+            }
+            if (!queue.offer(frame)) {
+                return false;
+            }
+            lastQueued = frame.id;
+            return true;
+        }
+
+        void startReplay() {
+            pending = new ArrayList<>();
+            replaying = true;
+        }
+
+        // 다시 읽은 이벤트(null이면 reset) 뒤에 그동안 모은 이벤트를 이어 붙임, 버퍼가 넘치면 false
+        boolean finishReplay(List<ProjectEventBus.Event> events) {
+            List<Frame> buffered = pending;
+            pending = null;
+            replaying = false;
+            if (events == null && !this.offer(Frame.RESET)) {
+                return false;
+            }
+            if (events != null) {
+                for (ProjectEventBus.Event event : events) {
+                    EventId id = EventId.parse(event.getId());
+                    if (id != null && !this.offer(new Frame(id, EVENT_NAME, event.getData()))) {
+                        return false;
+                    }
+                }
+            }
+            for (Frame frame : buffered) {
+                if (!this.offer(frame)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void signal() {
+            if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                queue.clear();
+                emitter.complete();
+            }
+        }
+
+        // 쓰기가 막힌 구독자: emitter는 쓰기 중인 스레드가 잡고 있으므로 쓰기가 끝난 뒤 drain에서 종료
+        void abandon() {
+            closed = true;
+            queue.clear();
+        }
+
+        // 다른 스레드에서 끊을 때 진행 중인 쓰기를 기다리지 않음
+        void disconnect() {
+            if (sendingSince > 0) {
+                this.abandon();
+            } else {
+                this.close();
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    sendingSince = System.currentTimeMillis();
+                    try {
+                        emitter.send(frame.toEvent());
+                    } finally {
+                        sendingSince = 0;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊음
+                this.close();
+            } finally {
+                draining.set(false);
+            }
+            if (closed) {
+                emitter.complete();
+                return;
+            }
+            // 마지막 poll 이후 들어온 프레임 처리
+            this.signal();
+        }
+    }
+}
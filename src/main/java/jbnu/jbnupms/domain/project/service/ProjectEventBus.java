@@ -0,0 +1,57 @@
+package jbnu.jbnupms.domain.project.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로젝트 실시간 이벤트 전달 경로
+ * 발행한 이벤트를 이 노드를 포함해 해당 프로젝트 채널을 가진 모든 노드의 ProjectEventBroker로 보낸다.
+ * 이벤트 ID는 버스가 정하며 프로젝트 안에서 증가하는 "{ms}-{seq}" 형식이다(모든 노드에서 같은 이벤트는 같은 ID).
+ * - local: 같은 JVM 안에서 바로 전달 (단일 노드, 테스트)
+ * - redis: 프로젝트별 Redis Stream을 거쳐 노드 간 전달, 스트림 레코드 ID가 이벤트 ID (RedisProjectEventBus)
+ */
+public interface ProjectEventBus {
+
+    /**
+     * 이벤트 발행 (data는 직렬화된 ProjectEventResponse JSON)
+     *
+     * @return 발행 대기열에 들어갔는지 (가득 차 버렸으면 false)
+     */
+    boolean publish(Long projectId, String data);
+
+    /**
+     * 이 노드가 프로젝트 이벤트 수신을 시작 (채널 생성 시 한 번, 반환 이후 발행된 이벤트는 모두 전달됨)
+     */
+    void join(Long projectId);
+
+    /**
+     * 이 노드가 프로젝트 이벤트 수신을 중단 (채널 정리 시 한 번)
+     */
+    void leave(Long projectId);
+
+    /**
+     * 수신한 이벤트를 넘길 처리기 등록
+     */
+    void setHandler(Handler handler);
+
+    /**
+     * afterId 다음 이벤트부터 최대 limit개 다시 읽기 (재연결한 구독자가 다른 노드에서 받던 경우 등)
+     *
+     * @return afterId가 보관 범위를 벗어났거나 limit개보다 많이 밀렸으면 null
+     */
+    List<Event> replay(Long projectId, String afterId, int limit);
+
+    @FunctionalInterface
+    interface Handler {
+        void accept(Long projectId, String eventId, String data);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    class Event {
+        private final String id;
+        private final String data;
+    }
+}
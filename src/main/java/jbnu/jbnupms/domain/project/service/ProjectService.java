@@ -10,6 +10,7 @@ import jbnu.jbnupms.domain.project.dto.ProjectUpdateRequest;
 import jbnu.jbnupms.domain.project.entity.Project;
 import jbnu.jbnupms.domain.project.entity.ProjectMember;
 import jbnu.jbnupms.domain.project.entity.ProjectRole;
+import jbnu.jbnupms.domain.project.event.ProjectMemberChangedEvent;
 import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.project.repository.ProjectRepository;
 import jbnu.jbnupms.domain.space.entity.Space;
@@ -18,6 +19,7 @@ import jbnu.jbnupms.domain.space.repository.SpaceRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +36,7 @@ public class ProjectService {
         private final SpaceRepository spaceRepository;
         private final SpaceMemberRepository spaceMemberRepository;
         private final UserRepository userRepository;
+        private final ApplicationEventPublisher eventPublisher;
 
         // 프로젝트 생성
         @Transactional
@@ -67,6 +70,7 @@ public class ProjectService {
                                 .build();
 
                 projectMemberRepository.save(member);
+                eventPublisher.publishEvent(new ProjectMemberChangedEvent(project.getId(), user.getId(), false));
 
                 return project.getId();
         }
@@ -143,6 +147,7 @@ public class ProjectService {
                                 .build();
 
                 projectMemberRepository.save(member);
+                eventPublisher.publishEvent(new ProjectMemberChangedEvent(projectId, targetUser.getId(), false));
         }
 
         // 프로젝트 멤버 역할 변경
@@ -174,6 +179,7 @@ public class ProjectService {
                                 .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
 
                         projectMemberRepository.delete(member);
+                        eventPublisher.publishEvent(new ProjectMemberChangedEvent(projectId, userId, true));
                         return;
                 }
 
@@ -184,6 +190,7 @@ public class ProjectService {
                         .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
                 projectMemberRepository.delete(targetMember);
+                eventPublisher.publishEvent(new ProjectMemberChangedEvent(projectId, targetUserId, true));
         }
 
         private void validateLeaderPermission(Long userId, Long projectId) {
@@ -0,0 +1,349 @@
+package jbnu.jbnupms.domain.project.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Redis Streams 기반 노드 간 이벤트 전달
+ * 프로젝트마다 스트림 하나(project-events:{projectId})를 두고, 노드마다 읽은 위치를 메모리에 두고 XREAD로 읽어 모든 노드가 같은 이벤트를 받는다.
+ * 소비자 그룹을 쓰지 않으므로 노드 식별자나 그룹 정리가 필요 없고, 스트림 레코드 ID를 그대로 이벤트 ID로 쓴다.
+ * - 발행: 요청 스레드는 메모리 큐에 넣기만 하고, 전용 스레드가 쌓인 이벤트를 batch-size씩 파이프라인 XADD로 보낸 뒤 max-len으로 잘라 둔다.
+ * - 수신: 로컬 채널이 있는 프로젝트 스트림만 XREAD 한 번으로 묶어 block-ms 동안 기다리며 batch-size씩 읽는다.
+ *   읽은 위치는 전달한 마지막 레코드 ID이므로 일시적인 연결 오류 뒤에도 놓친 이벤트부터 이어 읽는다.
+ * - 참여: 스트림의 마지막 ID를 읽기 시작 위치로 잡은 뒤 반환하므로 그 이후 발행된 이벤트는 빠지지 않는다.
+ * - 재연결: 링 버퍼에 없는 Last-Event-ID는 XRANGE로 스트림에서 다시 읽는다(잘려 나간 ID면 null).
+ * Redis 호출은 모두 모니터 밖에서 하고, 모니터는 참여 목록만 보호한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "project.events.bus", havingValue = "redis")
+public class RedisProjectEventBus implements ProjectEventBus {
+
+    private static final String STREAM_KEY_PREFIX = "project-events:";
+    private static final String DATA_FIELD = "data";
+    private static final byte[] DATA_FIELD_BYTES = DATA_FIELD.getBytes(StandardCharsets.UTF_8);
+    private static final Pattern RECORD_ID = Pattern.compile("\\d+-\\d+");
+
+    private final StringRedisTemplate redisTemplate;
+    private final BlockingQueue<Message> queue;
+    // 참여한 프로젝트별 읽기 위치 (채널 재생성과 정리가 겹쳐도 마지막 leave에서만 지움), this로 보호
+    private final Map<Long, Cursor> cursors = new HashMap<>();
+    private final int batchSize;
+    private final long maxLen;
+    private final long blockMs;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread publisher;
+    private final Thread consumer;
+    private volatile Handler handler;
+    private volatile boolean running = true;
+
+    public RedisProjectEventBus(StringRedisTemplate redisTemplate,
+                                @Value("${project.events.redis.batch-size:100}") int batchSize,
+                                @Value("${project.events.redis.max-len:1000}") long maxLen,
+                                @Value("${project.events.redis.block-ms:1000}") long blockMs,
+                                @Value("${project.events.redis.queue-capacity:10000}") int queueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxLen = maxLen;
+        this.blockMs = blockMs;
+        this.publisher = new Thread(this::runPublisher, "project-event-bus-publisher");
+        this.publisher.setDaemon(true);
+        this.consumer = new Thread(this::runConsumer, "project-event-bus-consumer");
+        this.consumer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        publisher.start();
+        consumer.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 이벤트를 보낸 뒤 멈춤
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        synchronized (this) {
+            this.notifyAll();
+        }
+        publisher.join(blockMs + 5_000);
+        consumer.join(blockMs + 5_000);
+    }
+
+    @Override
+    public boolean publish(Long projectId, String data) {
+        if (!queue.offer(new Message(projectId, data))) {
+            long count = dropped.incrementAndGet();
+            if (count % 1000 == 1) {
+                log.warn("실시간 이벤트 발행 큐가 가득 차 이벤트를 버렸습니다: dropped={}", count);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void join(Long projectId) {
+        synchronized (this) {
+            Cursor cursor = cursors.get(projectId);
+            if (cursor != null) {
+                cursor.joins++;
+                return;
+            }
+        }
+        // 시작 위치 조회는 모니터 밖에서
+        String offset = this.lastRecordId(projectId);
+        synchronized (this) {
+            Cursor cursor = cursors.get(projectId);
+            if (cursor != null) {
+                // 그 사이 다른 스레드가 먼저 참여함
+                cursor.joins++;
+            } else {
+                cursors.put(projectId, new Cursor(offset));
+            }
+            this.notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized void leave(Long projectId) {
+        Cursor cursor = cursors.get(projectId);
+        if (cursor != null && --cursor.joins == 0) {
+            cursors.remove(projectId);
+        }
+    }
+
+    @Override
+    public void setHandler(Handler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public List<Event> replay(Long projectId, String afterId, int limit) {
+        if (afterId == null || !RECORD_ID.matcher(afterId).matches()) {
+            return null;
+        }
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            // afterId부터 포함해 읽어 afterId가 아직 스트림에 있는지(잘려 나가지 않았는지) 함께 확인
+            records = redisTemplate.opsForStream().range(STREAM_KEY_PREFIX + projectId,
+                    Range.rightUnbounded(Range.Bound.inclusive(afterId)), Limit.limit().count(limit + 2));
+        } catch (DataAccessException e) {
+            log.warn("실시간 이벤트 다시 읽기 실패: projectId={}, afterId={}", projectId, afterId, e);
+            return null;
+        }
+        if (records == null || records.isEmpty() || !records.get(0).getId().getValue().equals(afterId)
+                || records.size() - 1 > limit) {
+            return null;
+        }
+        List<Event> events = new ArrayList<>(records.size() - 1);
+        for (MapRecord<String, Object, Object> record : records.subList(1, records.size())) {
+            Object data = record.getValue().get(DATA_FIELD);
+            if (data != null) {
+                events.add(new Event(record.getId().getValue(), data.toString()));
+            }
+        }
+        return events;
+    }
+
+    private void runPublisher() {
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Message first = queue.poll(blockMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 실시간 전달이라 더 기다리지 않고 이미 쌓인 것만 함께 보냄
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+
+            this.send(batch);
+            batch.clear();
+        }
+    }
+
+    private void send(List<Message> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                Set<Long> projectIds = new LinkedHashSet<>();
+                for (Message message : batch) {
+                    connection.streamCommands().xAdd(StreamRecords
+                            .rawBytes(Map.of(DATA_FIELD_BYTES, message.data.getBytes(StandardCharsets.UTF_8)))
+                            .withStreamKey(streamKey(message.projectId)));
+                    projectIds.add(message.projectId);
+                }
+                // 근사 trim이라 노드 단위로 정확히 자르지 않아 저렴함
+                for (Long projectId : projectIds) {
+                    connection.streamCommands().xTrim(streamKey(projectId), maxLen, true);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("실시간 이벤트 발행 실패: events={}", batch.size(), e);
+        }
+    }
+
+    private void runConsumer() {
+        RedisConnection connection = null;
+        while (running) {
+            Map<Long, Cursor> targets = this.awaitJoined();
+            if (targets.isEmpty()) {
+                continue;
+            }
+            try {
+                if (connection == null || connection.isClosed()) {
+                    // 대기(BLOCK) 읽기는 연결을 점유하므로 소비 스레드 전용 연결을 유지
+                    connection = redisTemplate.getRequiredConnectionFactory().getConnection();
+                }
+                this.consume(connection, targets);
+            } catch (RuntimeException e) {
+                log.warn("실시간 이벤트 수신 실패, {}ms 후 재시도", blockMs, e);
+                this.closeQuietly(connection);
+                connection = null;
+                this.pause();
+            }
+        }
+        this.closeQuietly(connection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void consume(RedisConnection connection, Map<Long, Cursor> targets) {
+        List<Long> projectIds = new ArrayList<>(targets.keySet());
+        StreamOffset<byte[]>[] offsets = new StreamOffset[projectIds.size()];
+        for (int i = 0; i < projectIds.size(); i++) {
+            Long projectId = projectIds.get(i);
+            offsets[i] = StreamOffset.create(streamKey(projectId), ReadOffset.from(targets.get(projectId).offset));
+        }
+
+        List<ByteRecord> records = connection.streamCommands().xRead(
+                StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(blockMs)),
+                offsets);
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        Handler current = handler;
+        for (ByteRecord record : records) {
+            MapRecord<String, String, String> message = record.deserialize(RedisSerializer.string());
+            Long projectId = Long.parseLong(message.getStream().substring(STREAM_KEY_PREFIX.length()));
+            String data = message.getValue().get(DATA_FIELD);
+            if (current != null && data != null) {
+                current.accept(projectId, message.getId().getValue(), data);
+            }
+            // 참여가 끝나 목록에서 빠진 커서라면 갱신해도 쓰이지 않음
+            targets.get(projectId).offset = message.getId().getValue();
+        }
+    }
+
+    // 참여한 프로젝트와 읽기 위치, 없으면 join 또는 block-ms까지 대기
+    private synchronized Map<Long, Cursor> awaitJoined() {
+        if (cursors.isEmpty() && running) {
+            try {
+                this.wait(blockMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+        return new HashMap<>(cursors);
+    }
+
+    // 스트림의 마지막 레코드 ID (비어 있으면 처음부터)
+    private String lastRecordId(Long projectId) {
+        try {
+            List<MapRecord<String, Object, Object>> last = redisTemplate.opsForStream()
+                    .reverseRange(STREAM_KEY_PREFIX + projectId, Range.unbounded(), Limit.limit().count(1));
+            return last == null || last.isEmpty() ? "0-0" : last.get(0).getId().getValue();
+        } catch (DataAccessException e) {
+            // 조회하지 못하면 현재 시각 기준 ID부터 읽음 (시계 차이만큼 이벤트가 빠지거나 겹칠 수 있음)
+            log.warn("실시간 이벤트 스트림 위치 조회 실패: projectId={}", projectId, e);
+            return System.currentTimeMillis() + "-0";
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(blockMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void closeQuietly(RedisConnection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (RuntimeException e) {
+            log.debug("Redis 연결 종료 실패", e);
+        }
+    }
+
+    private static byte[] streamKey(Long projectId) {
+        return (STREAM_KEY_PREFIX + projectId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 프로젝트 하나의 참여 횟수(this로 보호)와 읽기 위치(소비 스레드만 갱신)
+    private static class Cursor {
+        private int joins = 1;
+        private volatile String offset;
+
+        Cursor(String offset) {
+            this.offset = offset;
+        }
+    }
+
+    private static class Message {
+        private final Long projectId;
+        private final String data;
+
+        Message(Long projectId, String data) {
+            this.projectId = projectId;
+            this.data = data;
+        }
+    }
+}
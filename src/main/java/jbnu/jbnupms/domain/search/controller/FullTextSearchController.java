@@ -0,0 +1,37 @@
+package jbnu.jbnupms.domain.search.controller;
+
+import jbnu.jbnupms.common.response.CommonResponse;
+import jbnu.jbnupms.domain.search.dto.SearchDocumentType;
+import jbnu.jbnupms.domain.search.dto.SearchSliceResponse;
+import jbnu.jbnupms.domain.search.service.FullTextSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "postgres")
+public class FullTextSearchController {
+
+    private final FullTextSearchService fullTextSearchService;
+
+    // 태스크/댓글 전문 검색 (하이라이트 스니펫, 키셋 페이지네이션)
+    @GetMapping("/fulltext")
+    public ResponseEntity<CommonResponse<SearchSliceResponse>> search(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "TASK") SearchDocumentType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(fullTextSearchService.search(userId, q, type, cursor, size)));
+    }
+}
@@ -0,0 +1,35 @@
+package jbnu.jbnupms.domain.search.controller;
+
+import jbnu.jbnupms.common.response.CommonResponse;
+import jbnu.jbnupms.domain.search.dto.SearchResponse;
+import jbnu.jbnupms.domain.search.service.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "memory", matchIfMissing = true)
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    // 태스크/댓글 통합 검색 (내가 속한 프로젝트 범위)
+    @GetMapping
+    public ResponseEntity<CommonResponse<SearchResponse>> search(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(searchIndexService.search(userId, q, page, size)));
+    }
+}
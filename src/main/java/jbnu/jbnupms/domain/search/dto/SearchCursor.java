@@ -0,0 +1,46 @@
+package jbnu.jbnupms.domain.search.dto;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 전문 검색 키셋 커서
+ * 마지막으로 반환한 행의 (점수, id)를 "점수|id" 형태로 묶어 URL-safe Base64로 인코딩한다.
+ * 점수는 DB에서 소수 6자리로 반올림된 값이므로 문자열로 그대로 왕복해도 비교 결과가 같다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SearchCursor {
+
+    private static final String DELIMITER = "|";
+
+    // 첫 페이지: 어떤 점수/ID보다도 큰 값
+    public static final SearchCursor FIRST = new SearchCursor(new BigDecimal("1000000"), Long.MAX_VALUE);
+
+    private final BigDecimal score;
+    private final Long id;
+
+    public String encode() {
+        String raw = score.toPlainString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new SearchCursor(new BigDecimal(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package jbnu.jbnupms.domain.search.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SearchDocumentType {
+    TASK("태스크 제목/설명"),
+    COMMENT("댓글 내용");
+
+    private final String description;
+}
@@ -0,0 +1,15 @@
+package jbnu.jbnupms.domain.search.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SearchResponse {
+    private List<SearchResultResponse> items;
+    private int total;
+    private int page;
+    private int size;
+}
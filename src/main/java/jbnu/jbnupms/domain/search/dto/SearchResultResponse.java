@@ -0,0 +1,16 @@
+package jbnu.jbnupms.domain.search.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SearchResultResponse {
+    private SearchDocumentType type;
+    private Long projectId;
+    private Long taskId;
+    private Long commentId;
+    private String title;
+    private String snippet;
+    private Float score;
+}
@@ -0,0 +1,18 @@
+package jbnu.jbnupms.domain.search.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 전문 검색 키셋 페이지네이션 응답
+ */
+@Getter
+@Builder
+public class SearchSliceResponse {
+
+    private List<SearchResultResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,50 @@
+package jbnu.jbnupms.domain.search.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 전문 검색 스키마 준비
+ * 엔티티로 표현할 수 없는 생성 컬럼(tsvector)과 GIN 인덱스를 Hibernate 스키마 생성 이후에 추가한다.
+ * 모든 문장은 IF NOT EXISTS로 작성되어 재시작 시 다시 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "postgres")
+public class FullTextSchemaInitializer {
+
+    private static final String[] STATEMENTS = {
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+
+            // 제목(A) > 설명(B) 가중치, 한국어 형태소 분석기가 없으므로 'simple' 사전 사용 (부분 일치는 trigram이 보완)
+            "ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('simple', COALESCE(title, '')), 'A') || " +
+                    "setweight(to_tsvector('simple', COALESCE(description, '')), 'B')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_task_search_vector ON tasks USING GIN (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_task_title_trgm ON tasks USING GIN (title gin_trgm_ops)",
+
+            "ALTER TABLE comments ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "to_tsvector('simple', content)) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_comment_search_vector ON comments USING GIN (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_comment_content_trgm ON comments USING GIN (content gin_trgm_ops)"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (String statement : STATEMENTS) {
+            jdbcTemplate.execute(statement);
+        }
+        log.info("전문 검색 스키마 준비 완료");
+    }
+}
@@ -0,0 +1,62 @@
+package jbnu.jbnupms.domain.search.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색 색인용 문서 조회
+ * 색인에 필요한 컬럼만 스칼라로 조회한다. (삭제된 태스크/댓글 제외)
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchDocumentRepository {
+
+    private static final String TASK_SELECT = "SELECT t.id, t.project.id, t.title, t.description FROM Task t ";
+    private static final String COMMENT_SELECT =
+            "SELECT c.id, t.project.id, c.content, t.id, t.title FROM Comment c JOIN c.task t WHERE c.isDeleted = false ";
+
+    private final EntityManager em;
+
+    // {id, projectId, title, description}
+    public List<Object[]> findTasksAfter(long afterId, int limit) {
+        return em.createQuery(TASK_SELECT + "WHERE t.id > :afterId ORDER BY t.id ASC", Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public List<Object[]> findTasks(Collection<Long> taskIds) {
+        return em.createQuery(TASK_SELECT + "WHERE t.id IN :taskIds", Object[].class)
+                .setParameter("taskIds", taskIds)
+                .getResultList();
+    }
+
+    // {id, projectId, content, taskId, taskTitle}
+    public List<Object[]> findCommentsAfter(long afterId, int limit) {
+        return em.createQuery(COMMENT_SELECT + "AND c.id > :afterId ORDER BY c.id ASC", Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 태스크에 달린 댓글 ID (삭제 여부 무관, 삭제된 태스크의 댓글을 색인에서 빼기 위함)
+     */
+    public List<Long> findCommentIdsByTaskIds(Collection<Long> taskIds) {
+        return em.createQuery("SELECT c.id FROM Comment c WHERE c.task.id IN :taskIds", Long.class)
+                .setParameter("taskIds", taskIds)
+                .getResultList();
+    }
+
+    public List<Object[]> findComments(Collection<Long> commentIds) {
+        return em.createQuery(COMMENT_SELECT + "AND c.id IN :commentIds", Object[].class)
+                .setParameter("commentIds", commentIds)
+                .getResultList();
+    }
+}
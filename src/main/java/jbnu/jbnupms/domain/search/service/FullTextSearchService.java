@@ -0,0 +1,125 @@
+package jbnu.jbnupms.domain.search.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.comment.repository.CommentRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.search.dto.SearchCursor;
+import jbnu.jbnupms.domain.search.dto.SearchDocumentType;
+import jbnu.jbnupms.domain.search.dto.SearchResultResponse;
+import jbnu.jbnupms.domain.search.dto.SearchSliceResponse;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PostgreSQL 전문 검색 (다중 노드 배포용 검색 백엔드)
+ * tsvector 생성 컬럼(GIN)으로 단어 일치를, pg_trgm 유사도로 오타/부분 일치를 찾고
+ * 두 점수의 합으로 정렬한 뒤 (점수, id) 키셋으로 페이지를 나눈다.
+ * 색인이 DB에 있으므로 노드 간 동기화가 필요 없고, 커밋 즉시 검색에 반영된다.
+ * 발췌문은 본문을 HTML 이스케이프한 뒤 일치 구간만 <mark> 태그로 감싸 반환한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "postgres")
+public class FullTextSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+    // TaskRepository.HEADLINE_OPTIONS의 일치 구간 표시 문자
+    private static final String MARK_START = "\uE000";
+    private static final String MARK_END = "\uE001";
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    public SearchSliceResponse search(Long userId, String query, SearchDocumentType type, String cursor, Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        String normalized = query != null ? query.strip() : "";
+        if (normalized.isEmpty() || normalized.length() > MAX_QUERY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "검색어는 1자 이상 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        SearchCursor after = cursor != null ? SearchCursor.decode(cursor) : SearchCursor.FIRST;
+
+        List<Long> projectIds = projectMemberRepository.findProjectIdsByUserId(userId);
+        if (projectIds.isEmpty()) {
+            return SearchSliceResponse.builder().items(Collections.emptyList()).hasNext(false).build();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Object[]> rows = type == SearchDocumentType.COMMENT
+                ? commentRepository.searchFullText(normalized, projectIds, after.getScore(), after.getId(), pageSize + 1)
+                : taskRepository.searchFullText(normalized, projectIds, after.getScore(), after.getId(), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<SearchResultResponse> items = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            items.add(type == SearchDocumentType.COMMENT ? toCommentResult(row) : toTaskResult(row));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = rows.get(rows.size() - 1);
+            nextCursor = new SearchCursor((BigDecimal) last[last.length - 1], ((Number) last[0]).longValue()).encode();
+        }
+
+        return SearchSliceResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // {id, projectId, title, snippet, score}
+    private SearchResultResponse toTaskResult(Object[] row) {
+        return SearchResultResponse.builder()
+                .type(SearchDocumentType.TASK)
+                .projectId(((Number) row[1]).longValue())
+                .taskId(((Number) row[0]).longValue())
+                .title((String) row[2])
+                .snippet(highlight((String) row[3]))
+                .score(((BigDecimal) row[4]).floatValue())
+                .build();
+    }
+
+    // {id, projectId, taskId, taskTitle, snippet, score}
+    private SearchResultResponse toCommentResult(Object[] row) {
+        return SearchResultResponse.builder()
+                .type(SearchDocumentType.COMMENT)
+                .projectId(((Number) row[1]).longValue())
+                .taskId(((Number) row[2]).longValue())
+                .commentId(((Number) row[0]).longValue())
+                .title((String) row[3])
+                .snippet(highlight((String) row[4]))
+                .score(((BigDecimal) row[5]).floatValue())
+                .build();
+    }
+
+    // 사용자 입력은 이스케이프하고 일치 구간 표시 문자만 <mark> 태그로 변환
+    private String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet)
+                .replace(MARK_START, "<mark>")
+                .replace(MARK_END, "</mark>");
+    }
+}
@@ -0,0 +1,394 @@
+package jbnu.jbnupms.domain.search.service;
+
+import jbnu.jbnupms.domain.search.dto.SearchDocumentType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * JVM 내 역색인 (BM25 랭킹)
+ * 문서마다 내부 번호를 순서대로 부여하고, 포스팅은 (번호 차이, 빈도)를 가변 길이 정수로 이어 붙인 byte 배열에 저장한다.
+ * 수정은 기존 번호를 삭제 표시한 뒤 새 번호로 다시 추가하므로 포스팅은 항상 추가만 일어난다.
+ * 삭제 표시된 문서가 많아지면 needsCompaction()이 true가 되며, 호출 측에서 DB로부터 다시 구성한다.
+ */
+public class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int COMPACTION_MIN_DEAD = 50_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final LongIntMap docByKey = new LongIntMap();
+
+    // 내부 문서 번호 -> 문서 키 / 프로젝트 ID / 길이
+    private long[] docKeys = new long[1024];
+    private long[] docProjects = new long[1024];
+    private int[] docLengths = new int[1024];
+    private final BitSet live = new BitSet();
+
+    private int docCount;
+    private int liveCount;
+    private long liveLength;
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void upsert(SearchDocumentType type, long id, long projectId, Map<String, Integer> frequencies, int length) {
+        lock.writeLock().lock();
+        try {
+            long key = key(type, id);
+            removeLocked(key);
+            if (frequencies.isEmpty()) {
+                return;
+            }
+
+            int doc = docCount++;
+            ensureDocCapacity(docCount);
+            docKeys[doc] = key;
+            docProjects[doc] = projectId;
+            docLengths[doc] = length;
+            live.set(doc);
+            liveCount++;
+            liveLength += length;
+            docByKey.put(key, doc);
+
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(doc, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchDocumentType type, long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 상위 limit개 검색
+     *
+     * @param projectIds 검색 가능한 프로젝트 ID (오름차순 정렬)
+     */
+    public SearchResult search(List<String> terms, long[] projectIds, int limit) {
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0 || projectIds.length == 0) {
+                return new SearchResult(Collections.emptyList(), 0);
+            }
+
+            float averageLength = (float) liveLength / liveCount;
+            ScoreAccumulator scores = new ScoreAccumulator();
+            for (String term : terms) {
+                PostingList posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                // 삭제 표시된 문서가 df에 남아 있어 음수가 될 수 있으므로 하한을 둠
+                float idf = Math.max(0.01f, (float) Math.log(1 + (liveCount - posting.count + 0.5) / (posting.count + 0.5)));
+                posting.forEach((doc, tf) -> {
+                    if (!live.get(doc) || Arrays.binarySearch(projectIds, docProjects[doc]) < 0) {
+                        return;
+                    }
+                    float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    scores.add(doc, idf * tf * (K1 + 1) / (tf + norm));
+                });
+            }
+
+            // 점수 상위 limit개 (최소 힙)
+            PriorityQueue<Hit> top = new PriorityQueue<>((a, b) -> Float.compare(a.getScore(), b.getScore()));
+            scores.forEach((doc, score) -> {
+                if (top.size() < limit) {
+                    top.add(toHit(doc, score));
+                } else if (top.peek().getScore() < score) {
+                    top.poll();
+                    top.add(toHit(doc, score));
+                }
+            });
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort((a, b) -> Float.compare(b.getScore(), a.getScore()));
+            return new SearchResult(hits, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getLiveCount() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서 비율이 높아 다시 구성할 필요가 있는지
+     */
+    public boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            int dead = docCount - liveCount;
+            return dead >= COMPACTION_MIN_DEAD && dead > liveCount / 3;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 포스팅 저장에 사용 중인 바이트 수 (모니터링용)
+     */
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList posting : postings.values()) {
+                bytes += posting.data.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long key) {
+        int doc = docByKey.get(key);
+        if (doc < 0 || !live.get(doc)) {
+            return;
+        }
+        live.clear(doc);
+        liveCount--;
+        liveLength -= docLengths[doc];
+        docByKey.put(key, -1);
+    }
+
+    private Hit toHit(int doc, float score) {
+        long key = docKeys[doc];
+        return new Hit(SearchDocumentType.values()[(int) (key & 1)], key >>> 1, docProjects[doc], score);
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity <= docKeys.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, docKeys.length + (docKeys.length >> 1));
+        docKeys = Arrays.copyOf(docKeys, newLength);
+        docProjects = Arrays.copyOf(docProjects, newLength);
+        docLengths = Arrays.copyOf(docLengths, newLength);
+    }
+
+    private static long key(SearchDocumentType type, long id) {
+        return (id << 1) | type.ordinal();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hit {
+        private final SearchDocumentType type;
+        private final long id;
+        private final long projectId;
+        private final float score;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchResult {
+        private final List<Hit> hits;
+        // 조건에 맞는 전체 문서 수
+        private final int total;
+    }
+
+    private interface PostingConsumer {
+        void accept(int doc, int tf);
+    }
+
+    private interface ScoreConsumer {
+        void accept(int doc, float score);
+    }
+
+    /**
+     * 단어 하나의 포스팅 목록: varint(문서 번호 차이), varint(빈도)의 연속
+     */
+    private static final class PostingList {
+        private byte[] data = new byte[8];
+        private int length;
+        private int count;
+        private int lastDoc;
+
+        void add(int doc, int tf) {
+            if (data.length - length < 10) {
+                data = Arrays.copyOf(data, data.length + (data.length >> 1) + 10);
+            }
+            writeVarint(doc - lastDoc);
+            writeVarint(tf);
+            lastDoc = doc;
+            count++;
+        }
+
+        void forEach(PostingConsumer consumer) {
+            int position = 0;
+            int doc = 0;
+            while (position < length) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                doc += value;
+
+                int tf = 0;
+                shift = 0;
+                do {
+                    b = data[position++];
+                    tf |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                consumer.accept(doc, tf);
+            }
+        }
+
+        private void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+
+    /**
+     * long -> int 오픈 어드레싱 해시맵 (키 0은 빈 칸, 값이 없으면 -1)
+     */
+    private static final class LongIntMap {
+        private long[] keys = new long[1024];
+        private int[] values = new int[1024];
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+                if (keys[i] == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                if (keys[i] == 0) {
+                    keys[i] = key;
+                    values[i] = value;
+                    size++;
+                    return;
+                }
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * 검색 한 번 동안 쓰는 문서 번호 -> 점수 누적 맵 (키 -1은 빈 칸)
+     */
+    private static final class ScoreAccumulator {
+        private int[] docs = new int[256];
+        private float[] scores = new float[256];
+        private int size;
+
+        ScoreAccumulator() {
+            Arrays.fill(docs, -1);
+        }
+
+        void add(int doc, float score) {
+            if ((size + 1) * 2 > docs.length) {
+                resize();
+            }
+            int mask = docs.length - 1;
+            for (int i = (doc * 0x9E3779B9) >>> 1 & mask; ; i = (i + 1) & mask) {
+                if (docs[i] == doc) {
+                    scores[i] += score;
+                    return;
+                }
+                if (docs[i] == -1) {
+                    docs[i] = doc;
+                    scores[i] = score;
+                    size++;
+                    return;
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void forEach(ScoreConsumer consumer) {
+            for (int i = 0; i < docs.length; i++) {
+                if (docs[i] != -1) {
+                    consumer.accept(docs[i], scores[i]);
+                }
+            }
+        }
+
+        private void resize() {
+            int[] oldDocs = docs;
+            float[] oldScores = scores;
+            docs = new int[oldDocs.length * 2];
+            scores = new float[oldDocs.length * 2];
+            Arrays.fill(docs, -1);
+            size = 0;
+            for (int i = 0; i < oldDocs.length; i++) {
+                if (oldDocs[i] != -1) {
+                    add(oldDocs[i], oldScores[i]);
+                }
+            }
+        }
+    }
+}
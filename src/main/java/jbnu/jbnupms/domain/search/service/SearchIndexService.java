@@ -0,0 +1,326 @@
+package jbnu.jbnupms.domain.search.service;
+
+import jakarta.annotation.PreDestroy;
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.comment.event.CommentChangedEvent;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.search.dto.SearchDocumentType;
+import jbnu.jbnupms.domain.search.dto.SearchResponse;
+import jbnu.jbnupms.domain.search.dto.SearchResultResponse;
+import jbnu.jbnupms.domain.search.repository.SearchDocumentRepository;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 태스크/댓글 검색
+ * 커밋된 변경을 모아 두었다가 주기적으로 DB에서 다시 읽어 색인에 반영하고, 시작 시 전체를 다시 구성한다.
+ * 전체 재구성은 공용 스케줄러 스레드를 오래 잡지 않도록 전용 스레드에서 수행하며, 그동안에도 변경 반영은 기존 색인에 계속된다.
+ * 검색 결과는 호출자가 멤버로 속한 프로젝트의 문서로 제한되며, 표시 직전 DB에서 다시 확인해 삭제된 문서를 걸러낸다.
+ * 노드마다 별도 색인을 가지므로 단일 노드 배포용이며, 다중 노드에서는 search.backend=postgres(FullTextSearchService)를 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "memory", matchIfMissing = true)
+public class SearchIndexService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_RESULT_WINDOW = 1000;
+    private static final int SNIPPET_LENGTH = 120;
+    private static final int TITLE_WEIGHT = 2;
+
+    private final SearchDocumentRepository searchDocumentRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    private final Set<Long> pendingTaskIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingCommentIds = ConcurrentHashMap.newKeySet();
+
+    // 색인 쓰기(반영/교체)는 한 번에 하나만 수행
+    private final Object writeMonitor = new Object();
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    // 재구성 중에 기존 색인에 반영한 ID (교체 후 새 색인에 다시 반영)
+    private final Set<Long> replayTaskIds = new HashSet<>();
+    private final Set<Long> replayCommentIds = new HashSet<>();
+    private boolean rebuilding;
+
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        pendingTaskIds.addAll(event.getTaskIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        pendingCommentIds.add(event.getCommentId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        this.requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 전용 스레드에 재구성 요청 (이미 요청되어 있으면 무시)
+     */
+    public void requestRebuild() {
+        if (rebuildRequested.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    this.rebuild();
+                } catch (RuntimeException e) {
+                    log.error("검색 색인 구성 실패", e);
+                } finally {
+                    rebuildRequested.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * DB에서 전체 색인을 새로 구성한 뒤 교체
+     * 구성 중에 기존 색인에 반영된 변경은 교체 직후 대기 목록에 다시 넣어 새 색인에도 적용되게 한다.
+     */
+    public void rebuild() {
+        synchronized (writeMonitor) {
+            rebuilding = true;
+        }
+        InvertedIndex rebuilt = new InvertedIndex();
+        try {
+            long startedAt = System.currentTimeMillis();
+
+            long afterId = 0;
+            List<Object[]> rows;
+            while (!(rows = searchDocumentRepository.findTasksAfter(afterId, BATCH_SIZE)).isEmpty()) {
+                rows.forEach(row -> indexTask(rebuilt, row));
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+
+            afterId = 0;
+            while (!(rows = searchDocumentRepository.findCommentsAfter(afterId, BATCH_SIZE)).isEmpty()) {
+                rows.forEach(row -> indexComment(rebuilt, row));
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+
+            synchronized (writeMonitor) {
+                index = rebuilt;
+            }
+            log.info("검색 색인 구성 완료: documents={}, postingBytes={}, elapsedMs={}",
+                    rebuilt.getLiveCount(), rebuilt.postingBytes(), System.currentTimeMillis() - startedAt);
+        } finally {
+            synchronized (writeMonitor) {
+                rebuilding = false;
+                pendingTaskIds.addAll(replayTaskIds);
+                pendingCommentIds.addAll(replayCommentIds);
+                replayTaskIds.clear();
+                replayCommentIds.clear();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.flush-interval-ms:1000}")
+    public void flush() {
+        if (index.needsCompaction()) {
+            this.requestRebuild();
+        }
+
+        synchronized (writeMonitor) {
+            List<Long> taskIds = drain(pendingTaskIds);
+            for (int from = 0; from < taskIds.size(); from += BATCH_SIZE) {
+                List<Long> batch = taskIds.subList(from, Math.min(from + BATCH_SIZE, taskIds.size()));
+                Set<Long> missing = new HashSet<>(batch);
+                for (Object[] row : searchDocumentRepository.findTasks(batch)) {
+                    indexTask(index, row);
+                    missing.remove((Long) row[0]);
+                }
+                missing.forEach(id -> index.remove(SearchDocumentType.TASK, id));
+                // 삭제된 태스크(서브트리 삭제 포함)의 댓글도 함께 제외
+                if (!missing.isEmpty()) {
+                    searchDocumentRepository.findCommentIdsByTaskIds(missing)
+                            .forEach(id -> index.remove(SearchDocumentType.COMMENT, id));
+                }
+            }
+
+            List<Long> commentIds = drain(pendingCommentIds);
+            for (int from = 0; from < commentIds.size(); from += BATCH_SIZE) {
+                List<Long> batch = commentIds.subList(from, Math.min(from + BATCH_SIZE, commentIds.size()));
+                Set<Long> missing = new HashSet<>(batch);
+                for (Object[] row : searchDocumentRepository.findComments(batch)) {
+                    indexComment(index, row);
+                    missing.remove((Long) row[0]);
+                }
+                missing.forEach(id -> index.remove(SearchDocumentType.COMMENT, id));
+            }
+
+            if (rebuilding) {
+                replayTaskIds.addAll(taskIds);
+                replayCommentIds.addAll(commentIds);
+            }
+        }
+    }
+
+    public SearchResponse search(Long userId, String query, Integer page, Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        int pageNumber = page != null ? page : 0;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE || pageNumber < 0) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if ((pageNumber + 1) * pageSize > MAX_RESULT_WINDOW) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "검색 결과는 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        List<String> terms = SearchTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "검색어를 입력해주세요.");
+        }
+
+        long[] projectIds = projectMemberRepository.findProjectIdsByUserId(userId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+
+        InvertedIndex.SearchResult result = index.search(terms, projectIds, (pageNumber + 1) * pageSize);
+        List<InvertedIndex.Hit> hits = result.getHits();
+        List<InvertedIndex.Hit> pageHits = hits.subList(Math.min(pageNumber * pageSize, hits.size()), hits.size());
+
+        return SearchResponse.builder()
+                .items(render(pageHits, terms))
+                .total(result.getTotal())
+                .page(pageNumber)
+                .size(pageSize)
+                .build();
+    }
+
+    /**
+     * 검색 결과를 DB의 최신 내용으로 채움 (그 사이 삭제된 문서는 제외)
+     */
+    private List<SearchResultResponse> render(List<InvertedIndex.Hit> hits, List<String> terms) {
+        List<Long> taskIds = new ArrayList<>();
+        List<Long> commentIds = new ArrayList<>();
+        for (InvertedIndex.Hit hit : hits) {
+            (hit.getType() == SearchDocumentType.TASK ? taskIds : commentIds).add(hit.getId());
+        }
+
+        Map<Long, Object[]> tasks = new HashMap<>();
+        if (!taskIds.isEmpty()) {
+            searchDocumentRepository.findTasks(taskIds).forEach(row -> tasks.put((Long) row[0], row));
+        }
+        Map<Long, Object[]> comments = new HashMap<>();
+        if (!commentIds.isEmpty()) {
+            searchDocumentRepository.findComments(commentIds).forEach(row -> comments.put((Long) row[0], row));
+        }
+
+        List<SearchResultResponse> items = new ArrayList<>();
+        for (InvertedIndex.Hit hit : hits) {
+            if (hit.getType() == SearchDocumentType.TASK) {
+                Object[] row = tasks.get(hit.getId());
+                if (row == null) {
+                    continue;
+                }
+                items.add(SearchResultResponse.builder()
+                        .type(SearchDocumentType.TASK)
+                        .projectId((Long) row[1])
+                        .taskId((Long) row[0])
+                        .title((String) row[2])
+                        .snippet(snippet((String) row[3], terms))
+                        .score(hit.getScore())
+                        .build());
+            } else {
+                Object[] row = comments.get(hit.getId());
+                if (row == null) {
+                    continue;
+                }
+                items.add(SearchResultResponse.builder()
+                        .type(SearchDocumentType.COMMENT)
+                        .projectId((Long) row[1])
+                        .taskId((Long) row[3])
+                        .commentId((Long) row[0])
+                        .title((String) row[4])
+                        .snippet(snippet((String) row[2], terms))
+                        .score(hit.getScore())
+                        .build());
+            }
+        }
+        return items;
+    }
+
+    // {id, projectId, title, description}
+    private void indexTask(InvertedIndex target, Object[] row) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = SearchTokenizer.addTermFrequencies((String) row[2], TITLE_WEIGHT, frequencies)
+                + SearchTokenizer.addTermFrequencies((String) row[3], 1, frequencies);
+        target.upsert(SearchDocumentType.TASK, (Long) row[0], (Long) row[1], frequencies, length);
+    }
+
+    // {id, projectId, content, taskId, taskTitle}
+    private void indexComment(InvertedIndex target, Object[] row) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = SearchTokenizer.addTermFrequencies((String) row[2], 1, frequencies);
+        target.upsert(SearchDocumentType.COMMENT, (Long) row[0], (Long) row[1], frequencies, length);
+    }
+
+    private List<Long> drain(Set<Long> pending) {
+        List<Long> ids = new ArrayList<>();
+        for (Long id : pending) {
+            if (pending.remove(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 검색어가 처음 나오는 위치 주변을 잘라 표시
+     */
+    private String snippet(String text, List<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int position = -1;
+        for (String term : terms) {
+            int found = lower.indexOf(term);
+            if (found >= 0 && (position < 0 || found < position)) {
+                position = found;
+            }
+        }
+
+        int start = Math.max(0, position - SNIPPET_LENGTH / 3);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        return (start > 0 ? "..." : "") + text.substring(start, end) + (end < text.length() ? "..." : "");
+    }
+}
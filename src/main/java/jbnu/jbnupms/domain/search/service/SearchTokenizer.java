@@ -0,0 +1,117 @@
+package jbnu.jbnupms.domain.search.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색용 토크나이저
+ * 한글 음절 구간은 2-gram으로 (한 글자 구간은 그대로), 영문/숫자 구간은 소문자 단어로 나눈다.
+ * 형태소 분석 없이도 "회의록" 검색으로 "주간회의록 정리"를 찾을 수 있도록 조사/복합어를 n-gram으로 흡수한다.
+ * 한 글자 검색어("회")도 "회의"를 찾을 수 있도록 문서 색인 시에는 한글 음절마다 1-gram을 함께 넣는다. (문서 길이에는 포함하지 않음)
+ */
+public final class SearchTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 문서 색인용: 토큰별 빈도를 weight만큼 누적하고 누적한 토큰 수를 반환
+     */
+    public static int addTermFrequencies(String text, int weight, Map<String, Integer> frequencies) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        for (String syllable : hangulUnigrams(text)) {
+            frequencies.merge(syllable, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    /**
+     * 검색어용: 중복을 제거한 토큰 목록
+     */
+    public static List<String> queryTerms(String query) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            boolean hangul = isHangul(codePoint);
+            boolean word = !hangul && Character.isLetterOrDigit(codePoint);
+            if (!hangul && !word) {
+                flush(run, hangulRun, tokens);
+                continue;
+            }
+            if (run.length() > 0 && hangul != hangulRun) {
+                flush(run, hangulRun, tokens);
+            }
+            hangulRun = hangul;
+            run.appendCodePoint(word ? Character.toLowerCase(codePoint) : codePoint);
+        }
+        flush(run, hangulRun, tokens);
+        return tokens;
+    }
+
+    /**
+     * 두 글자 이상 한글 구간의 음절별 1-gram (한 글자 구간은 tokenize에 이미 포함)
+     */
+    private static List<String> hangulUnigrams(String text) {
+        List<String> syllables = new ArrayList<>();
+        if (text == null) {
+            return syllables;
+        }
+        int runStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean hangul = i < text.length() && isHangul(text.charAt(i));
+            if (hangul && runStart < 0) {
+                runStart = i;
+            } else if (!hangul && runStart >= 0) {
+                if (i - runStart > 1) {
+                    for (int j = runStart; j < i; j++) {
+                        syllables.add(String.valueOf(text.charAt(j)));
+                    }
+                }
+                runStart = -1;
+            }
+        }
+        return syllables;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+        if (hangul) {
+            if (run.length() == 1) {
+                tokens.add(run.toString());
+            } else {
+                for (int i = 0; i + 1 < run.length(); i++) {
+                    tokens.add(run.substring(i, i + 2));
+                }
+            }
+        } else if (run.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(run.toString().toLowerCase(Locale.ROOT));
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return (codePoint >= 0xAC00 && codePoint <= 0xD7A3) || (codePoint >= 0x3131 && codePoint <= 0x318E);
+    }
+}
@@ -0,0 +1,37 @@
+package jbnu.jbnupms.domain.task.controller;
+
+import org.springframework.web.bind.WebDataBinder;
+
+import java.beans.PropertyEditorSupport;
+import java.util.Locale;
+
+/**
+ * 태스크 조회 파라미터의 enum 값을 대소문자 구분 없이 변환 (예: view=summary, format=csv)
+ * 전역 변환기로 등록하면 모든 엔드포인트의 enum 바인딩이 바뀌므로, 태스크 조회 파라미터를 받는 컨트롤러의 @InitBinder에서 타입별로만 등록한다.
+ */
+public class CaseInsensitiveEnumEditor<T extends Enum<T>> extends PropertyEditorSupport {
+
+    private final Class<T> type;
+
+    private CaseInsensitiveEnumEditor(Class<T> type) {
+        this.type = type;
+    }
+
+    @SafeVarargs
+    public static void register(WebDataBinder binder, Class<? extends Enum<?>>... types) {
+        for (Class<? extends Enum<?>> type : types) {
+            binder.registerCustomEditor(type, create(type));
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static CaseInsensitiveEnumEditor<?> create(Class<? extends Enum<?>> type) {
+        return new CaseInsensitiveEnumEditor(type);
+    }
+
+    @Override
+    public void setAsText(String text) {
+        String value = text != null ? text.trim() : "";
+        setValue(value.isEmpty() ? null : Enum.valueOf(type, value.toUpperCase(Locale.ROOT)));
+    }
+}
@@ -2,14 +2,39 @@ package jbnu.jbnupms.domain.task.controller;
 
 import jakarta.validation.Valid;
 import jbnu.jbnupms.common.response.CommonResponse;
+import jbnu.jbnupms.domain.task.dto.TaskActivityResponse;
+import jbnu.jbnupms.domain.task.dto.TaskAssigneesRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBreadcrumbResponse;
+import jbnu.jbnupms.domain.task.dto.TaskBulkCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkUpdateRequest;
 import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskDependencyRequest;
+import jbnu.jbnupms.domain.task.dto.TaskDependencyResponse;
+import jbnu.jbnupms.domain.task.dto.TaskETag;
+import jbnu.jbnupms.domain.task.dto.TaskInboxCondition;
+import jbnu.jbnupms.domain.task.dto.TaskMoveRequest;
+import jbnu.jbnupms.domain.task.dto.TaskParentUpdateRequest;
 import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskScheduleResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSearchCondition;
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSortKey;
 import jbnu.jbnupms.domain.task.dto.TaskUpdateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskView;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.service.TaskActivityService;
+import jbnu.jbnupms.domain.task.service.TaskBulkService;
+import jbnu.jbnupms.domain.task.service.TaskDependencyService;
+import jbnu.jbnupms.domain.task.service.TaskInboxService;
 import jbnu.jbnupms.domain.task.service.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -20,6 +45,16 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskInboxService taskInboxService;
+    private final TaskActivityService taskActivityService;
+    private final TaskDependencyService taskDependencyService;
+
+    // 조회 파라미터(view, sort, status, priority)는 대소문자 구분 없이 받음
+    @InitBinder
+    public void initBinder(WebDataBinder binder) {
+        CaseInsensitiveEnumEditor.register(binder, TaskView.class, TaskSortKey.class, TaskStatus.class, TaskPriority.class);
+    }
 
     // 태스크 생성
     @PostMapping
@@ -31,22 +66,70 @@ public class TaskController {
         return ResponseEntity.ok(CommonResponse.success(taskId));
     }
 
+    // 태스크 일괄 생성
+    @PostMapping("/bulk")
+    public ResponseEntity<CommonResponse<List<Long>>> createTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody TaskBulkCreateRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskBulkService.createTasks(userId, request)));
+    }
+
+    // 태스크 일괄 수정
+    @PatchMapping("/bulk")
+    public ResponseEntity<CommonResponse<Void>> updateTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @RequestBody TaskBulkUpdateRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskBulkService.updateTasks(userId, request);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
     // 프로젝트별 태스크 목록 조회
     @GetMapping
-    public ResponseEntity<CommonResponse<List<TaskResponse>>> getTasks(
+    public ResponseEntity<CommonResponse<List<?>>> getTasks(
             @AuthenticationPrincipal UserDetails userDetails,
-            @RequestParam Long projectId) {
+            @RequestParam Long projectId,
+            @RequestParam(defaultValue = "FULL") TaskView view,
+            @RequestParam(required = false) Integer depth) {
         Long userId = Long.parseLong(userDetails.getUsername());
-        return ResponseEntity.ok(CommonResponse.success(taskService.getTasks(userId, projectId)));
+        return ResponseEntity.ok(CommonResponse.success(taskService.getTaskTree(userId, projectId, view, depth)));
+    }
+
+    // 프로젝트별 태스크 목록 조회 (필터 + 커서 페이지네이션)
+    @GetMapping("/list")
+    public ResponseEntity<CommonResponse<TaskSliceResponse<?>>> searchTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Valid @ModelAttribute TaskSearchCondition condition) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskService.searchTasks(userId, condition)));
+    }
+
+    // 내 태스크 조회 (전체 프로젝트의 담당 태스크)
+    @GetMapping("/me")
+    public ResponseEntity<CommonResponse<TaskSliceResponse<?>>> getMyTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @ModelAttribute TaskInboxCondition condition) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskInboxService.getMyTasks(userId, condition)));
     }
 
     // 태스크 단건 조회
     @GetMapping("/{taskId}")
     public ResponseEntity<CommonResponse<TaskResponse>> getTask(
             @AuthenticationPrincipal UserDetails userDetails,
-            @PathVariable Long taskId) {
+            @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Long userId = Long.parseLong(userDetails.getUsername());
-        return ResponseEntity.ok(CommonResponse.success(taskService.getTask(userId, taskId)));
+
+        // 변경이 없으면 응답을 조립하지 않고 304 반환
+        TaskETag eTag = taskService.getTaskETag(userId, taskId);
+        if (eTag.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.toHeader()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag.toHeader())
+                .body(CommonResponse.success(taskService.getTask(userId, taskId)));
     }
 
     // 태스크 수정
@@ -54,12 +137,107 @@ public class TaskController {
     public ResponseEntity<CommonResponse<Void>> updateTask(
             @AuthenticationPrincipal UserDetails userDetails,
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody TaskUpdateRequest request) {
         Long userId = Long.parseLong(userDetails.getUsername());
-        taskService.updateTask(userId, taskId, request);
+        taskService.updateTask(userId, taskId, request, TaskETag.parseVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(taskService.getTaskETag(userId, taskId).toHeader())
+                .body(CommonResponse.success(null));
+    }
+
+    // 직계 하위 태스크 조회 (트리 펼치기)
+    @GetMapping("/{taskId}/children")
+    public ResponseEntity<CommonResponse<List<?>>> getChildren(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam(defaultValue = "FULL") TaskView view) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskService.getChildren(userId, taskId, view)));
+    }
+
+    // 태스크 변경 이력 조회 (최신순, 커서 페이지네이션)
+    @GetMapping("/{taskId}/activity")
+    public ResponseEntity<CommonResponse<TaskSliceResponse<TaskActivityResponse>>> getActivities(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskActivityService.getActivities(userId, taskId, cursor, size)));
+    }
+
+    // 상위 태스크 변경
+    @PatchMapping("/{taskId}/parent")
+    public ResponseEntity<CommonResponse<Void>> changeParent(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestBody TaskParentUpdateRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskService.changeParent(userId, taskId, request);
         return ResponseEntity.ok(CommonResponse.success(null));
     }
 
+    // 순서 변경/상위 태스크 변경 (드래그 앤 드롭)
+    @PostMapping("/{taskId}/move")
+    public ResponseEntity<CommonResponse<Void>> moveTask(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestBody TaskMoveRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskService.moveTask(userId, taskId, request);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
+    // 프로젝트 주경로 일정 (선후행 관계 기준)
+    @GetMapping("/schedule")
+    public ResponseEntity<CommonResponse<TaskScheduleResponse>> getSchedule(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam Long projectId) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskDependencyService.getSchedule(userId, projectId)));
+    }
+
+    // 선행/후행 태스크 조회
+    @GetMapping("/{taskId}/dependencies")
+    public ResponseEntity<CommonResponse<TaskDependencyResponse>> getDependencies(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskDependencyService.getDependencies(userId, taskId)));
+    }
+
+    // 선행 태스크 추가 (순환이 생기면 거부)
+    @PostMapping("/{taskId}/dependencies")
+    public ResponseEntity<CommonResponse<Void>> addDependency(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @Valid @RequestBody TaskDependencyRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskDependencyService.addDependency(userId, taskId, request);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
+    // 선행 태스크 해제
+    @DeleteMapping("/{taskId}/dependencies/{blockerId}")
+    public ResponseEntity<CommonResponse<Void>> removeDependency(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @PathVariable Long blockerId) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskDependencyService.removeDependency(userId, taskId, blockerId);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
+    // 상위 태스크 경로 조회 (브레드크럼)
+    @GetMapping("/{taskId}/ancestors")
+    public ResponseEntity<CommonResponse<List<TaskBreadcrumbResponse>>> getAncestors(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.success(taskService.getAncestors(userId, taskId)));
+    }
+
     // 태스크 삭제
     @DeleteMapping("/{taskId}")
     public ResponseEntity<CommonResponse<Void>> deleteTask(
@@ -81,6 +259,39 @@ public class TaskController {
         return ResponseEntity.ok(CommonResponse.success(null));
     }
 
+    // 담당자 일괄 추가
+    @PostMapping("/{taskId}/assignees/batch")
+    public ResponseEntity<CommonResponse<Void>> addAssignees(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @Valid @RequestBody TaskAssigneesRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskService.addAssignees(userId, taskId, request);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
+    // 담당자 집합 교체
+    @PutMapping("/{taskId}/assignees")
+    public ResponseEntity<CommonResponse<Void>> replaceAssignees(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @Valid @RequestBody TaskAssigneesRequest request) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskService.replaceAssignees(userId, taskId, request);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
+    // 담당자 일괄 삭제
+    @DeleteMapping("/{taskId}/assignees")
+    public ResponseEntity<CommonResponse<Void>> removeAssignees(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long taskId,
+            @RequestParam List<Long> assigneeIds) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        taskService.removeAssignees(userId, taskId, assigneeIds);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
     // 담당자 삭제
     @DeleteMapping("/{taskId}/assignees/{assigneeId}")
     public ResponseEntity<CommonResponse<Void>> removeAssignee(
@@ -0,0 +1,17 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class ProjectTaskStatsResponse {
+    private Long projectId;
+    private Long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPriority;
+}
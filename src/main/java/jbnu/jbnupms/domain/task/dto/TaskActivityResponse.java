@@ -0,0 +1,37 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.domain.task.entity.TaskActivity;
+import jbnu.jbnupms.domain.task.entity.TaskActivityField;
+import jbnu.jbnupms.domain.task.entity.TaskActivityType;
+import jbnu.jbnupms.domain.user.dto.UserResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TaskActivityResponse {
+
+    private Long id;
+    private TaskActivityType type;
+    private TaskActivityField field;
+    private String oldValue;
+    private String newValue;
+    private Long commentId;
+    private UserResponse actor;
+    private LocalDateTime createdAt;
+
+    public static TaskActivityResponse from(TaskActivity activity) {
+        return TaskActivityResponse.builder()
+                .id(activity.getId())
+                .type(activity.getType())
+                .field(activity.getField())
+                .oldValue(activity.getOldValue())
+                .newValue(activity.getNewValue())
+                .commentId(activity.getCommentId())
+                .actor(UserResponse.from(activity.getActor()))
+                .createdAt(activity.getCreatedAt())
+                .build();
+    }
+}
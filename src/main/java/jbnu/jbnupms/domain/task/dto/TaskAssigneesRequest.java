@@ -0,0 +1,19 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskAssigneesRequest {
+
+    @NotNull(message = "담당자 목록은 필수입니다.")
+    @Size(max = 500, message = "담당자는 최대 500명까지 지정할 수 있습니다.")
+    private List<Long> assigneeIds;
+}
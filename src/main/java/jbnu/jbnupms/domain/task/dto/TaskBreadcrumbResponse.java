@@ -0,0 +1,20 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.domain.task.entity.Task;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TaskBreadcrumbResponse {
+
+    private Long id;
+    private String title;
+
+    public static TaskBreadcrumbResponse from(Task task) {
+        return TaskBreadcrumbResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .build();
+    }
+}
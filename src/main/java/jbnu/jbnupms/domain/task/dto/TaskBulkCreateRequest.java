@@ -0,0 +1,55 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBulkCreateRequest {
+
+    @NotNull(message = "프로젝트 ID는 필수입니다.")
+    private Long projectId;
+
+    @Valid
+    @NotEmpty(message = "생성할 태스크가 없습니다.")
+    @Size(max = 5000, message = "한 번에 최대 5000개까지 생성할 수 있습니다.")
+    private List<Item> tasks;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Item {
+
+        // 같은 요청 안에서 상위 태스크로 참조하기 위한 임시 키
+        private String key;
+
+        // 같은 요청 안에서 생성되는 상위 태스크의 key (parentId와 함께 사용할 수 없음)
+        private String parentKey;
+
+        // 이미 존재하는 상위 태스크 ID
+        private Long parentId;
+
+        @NotBlank(message = "제목은 필수입니다.")
+        @Size(max = 200, message = "제목은 최대 200자까지 입력 가능합니다.")
+        private String title;
+
+        private String description;
+
+        private TaskPriority priority;
+
+        private LocalDateTime dueDate;
+
+        private List<Long> assigneeIds;
+    }
+}
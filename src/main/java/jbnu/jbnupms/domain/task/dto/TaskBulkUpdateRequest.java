@@ -0,0 +1,51 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBulkUpdateRequest {
+
+    @NotNull(message = "프로젝트 ID는 필수입니다.")
+    private Long projectId;
+
+    @Valid
+    @NotEmpty(message = "수정할 태스크가 없습니다.")
+    @Size(max = 5000, message = "한 번에 최대 5000개까지 수정할 수 있습니다.")
+    private List<Item> tasks;
+
+    // null인 필드는 기존 값 유지
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "태스크 ID는 필수입니다.")
+        private Long id;
+
+        @Size(max = 200, message = "제목은 최대 200자까지 입력 가능합니다.")
+        private String title;
+
+        private String description;
+
+        private TaskStatus status;
+
+        private TaskPriority priority;
+
+        private LocalDateTime dueDate;
+
+        private Double progress;
+    }
+}
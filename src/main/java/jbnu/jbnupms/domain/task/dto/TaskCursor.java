@@ -0,0 +1,43 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서
+ * 마지막으로 반환한 행의 (정렬 키, id)를 "정렬키|id" 형태로 묶어 URL-safe Base64로 인코딩한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime key;
+    private final Long id;
+
+    public String encode() {
+        String raw = key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new TaskCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskDependencyRequest {
+
+    // 먼저 끝나야 하는 태스크 (선행 태스크)
+    @NotNull
+    private Long blockerId;
+}
@@ -0,0 +1,34 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TaskDependencyResponse {
+
+    // 이 태스크보다 먼저 끝나야 하는 태스크 (blocked by)
+    private List<Item> blockers;
+    // 이 태스크가 끝나야 시작할 수 있는 태스크 (blocks)
+    private List<Item> blocked;
+
+    @Getter
+    @Builder
+    public static class Item {
+        private Long id;
+        private String title;
+        private TaskStatus status;
+
+        // {id, title, status}
+        public static Item from(Object[] row) {
+            return Item.builder()
+                    .id((Long) row[0])
+                    .title((String) row[1])
+                    .status((TaskStatus) row[2])
+                    .build();
+        }
+    }
+}
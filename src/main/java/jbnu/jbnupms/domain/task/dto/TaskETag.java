@@ -0,0 +1,67 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 태스크 단건 조회 ETag
+ * "{태스크 버전}-{프로젝트 태스크 변경 카운터}" 형식이다.
+ * 단건 응답에 하위 태스크와 담당자가 포함되므로, 태스크 자신이 바뀌지 않아도 프로젝트 내 변경이 있으면 달라진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskETag {
+
+    private final Long projectId;
+    private final long version;
+    private final long revision;
+
+    public String toHeader() {
+        return "\"" + version + "-" + revision + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더와 일치하는지 확인 (약한 비교, 목록/와일드카드 허용)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String current = toHeader();
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = stripWeak(tag.trim());
+            if (value.equals("*") || value.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 헤더에서 태스크 버전 추출
+     * 프로젝트 변경 카운터는 다른 태스크의 변경에도 증가하므로 수정 조건에는 버전만 비교한다.
+     * 헤더가 없거나 "*"이면 null을 반환한다.
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String value = stripWeak(ifMatch.split(",")[0].trim());
+        if (value.equals("*")) {
+            return null;
+        }
+        value = value.replace("\"", "");
+        int separator = value.indexOf('-');
+        try {
+            return Long.parseLong(separator >= 0 ? value.substring(0, separator) : value);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 If-Match 헤더입니다.");
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
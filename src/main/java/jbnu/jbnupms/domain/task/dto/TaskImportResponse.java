@@ -0,0 +1,34 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.domain.task.entity.TaskImportJob;
+import jbnu.jbnupms.domain.task.entity.TaskImportStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TaskImportResponse {
+
+    // 실패 시 이 ID로 같은 파일을 다시 올리면 커밋된 행 다음부터 이어서 가져옴
+    private Long jobId;
+    private Long projectId;
+    private TaskImportStatus status;
+    private long processedRows;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TaskImportResponse from(TaskImportJob job) {
+        return TaskImportResponse.builder()
+                .jobId(job.getId())
+                .projectId(job.getProjectId())
+                .status(job.getStatus())
+                .processedRows(job.getProcessedRows())
+                .error(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
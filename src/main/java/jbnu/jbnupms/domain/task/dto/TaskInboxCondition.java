@@ -0,0 +1,42 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskInboxCondition {
+
+    private TaskStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    private TaskSortKey sort = TaskSortKey.UPDATED_AT;
+
+    // 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+    private String cursor;
+
+    private Integer size;
+
+    private TaskView view = TaskView.FULL;
+
+    /**
+     * 캐시 키 (조회 조건이 같으면 같은 키)
+     */
+    public String cacheKey(int resolvedSize) {
+        return String.join("|", Objects.toString(status, ""), Objects.toString(dueFrom, ""),
+                Objects.toString(dueTo, ""), Objects.toString(sort, ""), Objects.toString(cursor, ""),
+                String.valueOf(resolvedSize), Objects.toString(view, ""));
+    }
+}
@@ -0,0 +1,17 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskMoveRequest {
+
+    // 이동할 상위 태스크 (null이면 최상위), 순서만 바꿀 때는 현재 상위 태스크를 그대로 보냄
+    private Long parentId;
+
+    // 이 형제 태스크 바로 뒤에 배치 (null이면 맨 앞)
+    private Long afterId;
+}
@@ -0,0 +1,14 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskParentUpdateRequest {
+
+    // null이면 최상위 태스크로 이동
+    private Long parentId;
+}
@@ -10,6 +10,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,11 +29,19 @@ public class TaskResponse {
     private TaskPriority priority;
     private Double progress;
     private LocalDateTime dueDate;
+    // 형제 간 정렬 순위 (문자열 오름차순)
+    private String rank;
     private UserResponse creator;
     private List<UserResponse> assignees;
     private List<TaskResponse> children;
+    // 직계 하위 태스크 수 (깊이 제한 조회/하위 태스크 조회에서만 채움)
+    private Integer childCount;
+    // 삭제되지 않은 댓글/첨부 파일 수 (태스크 행의 비정규화 컬럼)
+    private Integer commentCount;
+    private Integer fileCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     //담당자 정보가 포함된 완전한 응답 객체를 생성할 때 사용
     public static TaskResponse from(Task task, List<TaskAssignee> taskAssignees) {
@@ -46,6 +55,9 @@ public class TaskResponse {
                 .priority(task.getPriority())
                 .progress(task.getProgress())
                 .dueDate(task.getDueDate())
+                .rank(task.getRank())
+                .commentCount(task.getCommentCount())
+                .fileCount(task.getFileCount())
                 .creator(UserResponse.from(task.getCreator()))
                 .assignees(taskAssignees != null ? 
                         taskAssignees.stream()
@@ -78,6 +90,9 @@ public class TaskResponse {
                 .priority(task.getPriority())
                 .progress(task.getProgress())
                 .dueDate(task.getDueDate())
+                .rank(task.getRank())
+                .commentCount(task.getCommentCount())
+                .fileCount(task.getFileCount())
                 .creator(UserResponse.from(task.getCreator()))
                 .assignees(taskAssignees.stream()
                         .map(ta -> UserResponse.from(ta.getUser()))
@@ -90,4 +105,47 @@ public class TaskResponse {
                 .updatedAt(task.getUpdatedAt())
                 .build();
     }
+
+    // 하위 태스크 없이 단일 노드만 변환 (트리는 TaskTreeLoader에서 조립)
+    public static TaskResponse node(Task task, List<TaskAssignee> taskAssignees) {
+        return base(task, taskAssignees)
+                .children(new ArrayList<>())
+                .build();
+    }
+
+    // 평면 목록용 변환 (하위 태스크 미포함)
+    public static TaskResponse flat(Task task, List<TaskAssignee> taskAssignees) {
+        return base(task, taskAssignees).build();
+    }
+
+    private static TaskResponseBuilder base(Task task, List<TaskAssignee> taskAssignees) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .projectId(task.getProject().getId())
+                .parentId(task.getParent() != null ? task.getParent().getId() : null)
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .progress(task.getProgress())
+                .dueDate(task.getDueDate())
+                .rank(task.getRank())
+                .commentCount(task.getCommentCount())
+                .fileCount(task.getFileCount())
+                .creator(UserResponse.from(task.getCreator()))
+                .assignees(taskAssignees.stream()
+                        .map(ta -> UserResponse.from(ta.getUser()))
+                        .collect(Collectors.toList()))
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion());
+    }
+
+    public void addChild(TaskResponse child) {
+        this.children.add(child);
+    }
+
+    public void updateChildCount(int childCount) {
+        this.childCount = childCount;
+    }
 }
@@ -0,0 +1,40 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 프로젝트 주경로 일정
+ * 오늘을 시작일로, 태스크마다 하루씩 걸린다고 보고 계산한다. 날짜는 모두 해당 일을 포함한다.
+ * 완료된 태스크는 기간 0으로 보고(후행 태스크를 막지 않음) 마감일과 주경로에서 제외한다.
+ */
+@Getter
+@Builder
+public class TaskScheduleResponse {
+
+    private Long projectId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    // 주경로 길이 (일)
+    private int durationDays;
+    // 주경로 태스크 ID (진행 순서)
+    private List<Long> criticalPath;
+    private List<Item> tasks;
+
+    @Getter
+    @Builder
+    public static class Item {
+        private Long taskId;
+        private LocalDate earliestStart;
+        private LocalDate earliestFinish;
+        private LocalDate latestStart;
+        private LocalDate latestFinish;
+        // 전체 일정을 늦추지 않고 미룰 수 있는 일수 (마감일을 넘기면 음수)
+        private int slackDays;
+        private boolean critical;
+        private boolean completed;
+    }
+}
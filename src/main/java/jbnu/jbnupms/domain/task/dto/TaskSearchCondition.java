@@ -0,0 +1,43 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskSearchCondition {
+
+    @NotNull(message = "프로젝트 ID는 필수입니다.")
+    private Long projectId;
+
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    private Long assigneeId;
+
+    private Long parentId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    private TaskSortKey sort = TaskSortKey.UPDATED_AT;
+
+    // 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+    private String cursor;
+
+    private Integer size;
+
+    private TaskView view = TaskView.FULL;
+}
@@ -0,0 +1,19 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 목록 응답
+ * items는 view에 따라 TaskResponse 또는 TaskSummaryResponse
+ */
+@Getter
+@Builder
+public class TaskSliceResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
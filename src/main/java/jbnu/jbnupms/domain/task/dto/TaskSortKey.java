@@ -0,0 +1,13 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskSortKey {
+    UPDATED_AT("최근 수정순 (updated_at DESC, id DESC)"),
+    DUE_DATE("마감일순 (due_date ASC, id ASC, 마감일 없는 태스크 제외)");
+
+    private final String description;
+}
@@ -0,0 +1,64 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 태스크 요약 응답 (view=summary)
+ * JPQL 생성자 표현식으로 필요한 컬럼만 바로 조회하며, 엔티티나 지연 로딩 프록시를 거치지 않는다.
+ */
+@Getter
+public class TaskSummaryResponse {
+
+    private final Long id;
+    private final Long projectId;
+    private final Long parentId;
+    private final String title;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final Double progress;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime updatedAt;
+    private final Integer commentCount;
+    private final Integer fileCount;
+    private List<Long> assigneeIds = new ArrayList<>();
+    private List<TaskSummaryResponse> children;
+    // 직계 하위 태스크 수 (깊이 제한 조회/하위 태스크 조회에서만 채움)
+    private Integer childCount;
+
+    public TaskSummaryResponse(Long id, Long projectId, Long parentId, String title, TaskStatus status,
+                               TaskPriority priority, Double progress, LocalDateTime dueDate, LocalDateTime updatedAt,
+                               Integer commentCount, Integer fileCount) {
+        this.id = id;
+        this.projectId = projectId;
+        this.parentId = parentId;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.progress = progress;
+        this.dueDate = dueDate;
+        this.updatedAt = updatedAt;
+        this.commentCount = commentCount;
+        this.fileCount = fileCount;
+    }
+
+    public void addAssigneeId(Long assigneeId) {
+        this.assigneeIds.add(assigneeId);
+    }
+
+    public void updateChildCount(int childCount) {
+        this.childCount = childCount;
+    }
+
+    public void addChild(TaskSummaryResponse child) {
+        if (this.children == null) {
+            this.children = new ArrayList<>();
+        }
+        this.children.add(child);
+    }
+}
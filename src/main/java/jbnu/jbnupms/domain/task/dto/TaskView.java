@@ -0,0 +1,13 @@
+package jbnu.jbnupms.domain.task.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskView {
+    SUMMARY("목록 표시용 컬럼만 조회 (설명, 작성자 제외, 담당자는 ID만)"),
+    FULL("설명, 작성자, 담당자 정보 포함");
+
+    private final String description;
+}
@@ -0,0 +1,24 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 태스크 집계
+ * (프로젝트, 상태, 우선순위) 조합마다 삭제되지 않은 태스크 수를 저장한다. 프로젝트당 최대 9행.
+ * 쓰기는 ProjectTaskStatRepository의 네이티브 쿼리로만 수행하고, 이 엔티티는 조회에만 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "project_task_stats")
+public class ProjectTaskStat {
+
+    @EmbeddedId
+    private ProjectTaskStatId id;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount;
+}
@@ -0,0 +1,32 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProjectTaskStatId implements Serializable {
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private TaskPriority priority;
+}
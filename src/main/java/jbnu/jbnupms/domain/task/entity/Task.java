@@ -7,6 +7,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -18,10 +20,23 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "tasks", indexes = {
-        @Index(name = "idx_task_project_status", columnList = "project_id, status")
+        @Index(name = "idx_task_project_status", columnList = "project_id, status"),
+        // 목록 키셋 페이지네이션용 (updated_at, id) / (due_date, id)
+        @Index(name = "idx_task_project_status_updated", columnList = "project_id, status, updated_at, id"),
+        @Index(name = "idx_task_project_status_due", columnList = "project_id, status, due_date, id"),
+        @Index(name = "idx_task_project_updated", columnList = "project_id, updated_at, id"),
+        @Index(name = "idx_task_project_due", columnList = "project_id, due_date, id"),
+        @Index(name = "idx_task_parent", columnList = "parent_id"),
+        // 형제 태스크 순서 조회용
+        @Index(name = "idx_task_project_parent_rank", columnList = "project_id, parent_id, lex_rank"),
+        // 마감 알림 시간 창 로딩용
+        @Index(name = "idx_task_due", columnList = "due_date, id")
 })
-@SQLDelete(sql = "UPDATE tasks SET deleted_at = NOW() WHERE id = ?")
+// 버전 관리 엔티티이므로 삭제 시에도 버전 조건을 함께 검사
+@SQLDelete(sql = "UPDATE tasks SET deleted_at = NOW() WHERE id = ? AND version = ?")
 @SQLRestriction("deleted_at IS NULL")
+// 바뀐 컬럼만 UPDATE (재배치처럼 버전을 올리지 않는 일괄 쓰기를 다른 필드 수정이 오래된 값으로 덮어쓰지 않게 함)
+@DynamicUpdate
 public class Task {
 
     @Id
@@ -59,6 +74,19 @@ public class Task {
 
     private LocalDateTime dueDate;
 
+    // 같은 상위 태스크 아래 형제 간 정렬 순위 (TaskRank 참고)
+    @Column(name = "lex_rank")
+    private String rank;
+
+    // 삭제되지 않은 댓글/첨부 파일 수 (TaskRepository의 원자적 증감 쿼리로만 변경, 엔티티 저장 시에는 쓰지 않음)
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private Integer commentCount;
+
+    @ColumnDefault("0")
+    @Column(name = "file_count", nullable = false, insertable = false, updatable = false)
+    private Integer fileCount;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -68,8 +96,14 @@ public class Task {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 낙관적 잠금 버전 (엔티티 수정 시 Hibernate가 증가시킴)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
-    public Task(Project project, User creator, Task parent, String title, String description, LocalDateTime dueDate, TaskPriority priority) {
+    public Task(Project project, User creator, Task parent, String title, String description, LocalDateTime dueDate, TaskPriority priority,
+                String rank) {
         this.project = project;
         this.creator = creator;
         this.parent = parent;
@@ -79,6 +113,9 @@ public class Task {
         this.progress = 0.0;
         this.priority = priority != null ? priority : TaskPriority.MEDIUM;
         this.dueDate = dueDate;
+        this.rank = rank;
+        this.commentCount = 0;
+        this.fileCount = 0;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -93,6 +130,19 @@ public class Task {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 상위 태스크 변경 (기존 부모의 children 컬렉션은 건드리지 않음: orphanRemoval로 삭제되는 것을 방지)
+    public void changeParent(Task parent) {
+        this.parent = parent;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 순서/위치 이동 (상위 태스크가 바뀌지 않으면 parent에 현재 상위 태스크를 넘김)
+    public void moveTo(Task parent, String rank) {
+        this.parent = parent;
+        this.rank = rank;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void addChild(Task child) {
         this.children.add(child);
     }
@@ -0,0 +1,57 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.*;
+import jbnu.jbnupms.domain.user.entity.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태스크 변경 이력 (추가만 일어나는 로그)
+ * 행은 TaskActivityWriter가 JDBC 다중 행 INSERT로만 기록하며, 엔티티는 조회 전용이다.
+ * 수정(UPDATED)은 필드 하나당 한 행으로, 변경 전/후 값을 문자열로 남긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "task_activity", indexes = {
+        @Index(name = "idx_task_activity_task", columnList = "task_id, id")
+})
+public class TaskActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 삭제된 태스크의 이력도 남기므로 연관관계 대신 ID만 보관
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "actor_id", nullable = false)
+    private User actor;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private TaskActivityType type;
+
+    @Enumerated(EnumType.ORDINAL)
+    private TaskActivityField field;
+
+    @Column(name = "old_value", length = 500)
+    private String oldValue;
+
+    @Column(name = "new_value", length = 500)
+    private String newValue;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
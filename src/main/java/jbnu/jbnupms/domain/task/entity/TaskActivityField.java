@@ -0,0 +1,17 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskActivityField {
+    TITLE("제목"),
+    STATUS("상태"),
+    PRIORITY("우선순위"),
+    DUE_DATE("마감일"),
+    ASSIGNEES("담당자"),
+    PARENT("상위 태스크");
+
+    private final String description;
+}
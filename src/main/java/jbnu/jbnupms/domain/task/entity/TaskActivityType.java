@@ -0,0 +1,18 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskActivityType {
+    CREATED("태스크 생성"),
+    UPDATED("태스크 수정"),
+    DELETED("태스크 삭제"),
+    COMMENT_CREATED("댓글 작성"),
+    COMMENT_UPDATED("댓글 수정"),
+    COMMENT_DELETED("댓글 삭제"),
+    MOVED("태스크 이동");
+
+    private final String description;
+}
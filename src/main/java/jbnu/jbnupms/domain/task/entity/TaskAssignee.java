@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_task_assignee_task_user", columnList = "task_id, user_id", unique = true),
         @Index(name = "idx_task_assignee_user", columnList = "user_id")
 })
+@SQLRestriction("deleted_at IS NULL")
 public class TaskAssignee {
 
     @Id
@@ -33,6 +35,10 @@ public class TaskAssignee {
     @Column(name = "assigned_at")
     private LocalDateTime assignedAt;
 
+    // 태스크 서브트리 삭제 시 함께 표시됨
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @Builder
     public TaskAssignee(Task task, User user) {
         this.task = task;
@@ -0,0 +1,26 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태스크 계층 클로저 테이블
+ * (조상, 자손, 거리) 쌍을 모두 저장한다. 자기 자신도 depth 0으로 포함된다.
+ * 쓰기는 TaskClosureRepository의 네이티브 쿼리로만 수행하고, 이 엔티티는 조회에만 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "task_closure", indexes = {
+        @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, depth")
+})
+public class TaskClosure {
+
+    @EmbeddedId
+    private TaskClosureId id;
+
+    @Column(nullable = false)
+    private Integer depth;
+}
@@ -0,0 +1,51 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태스크 선후행 관계 (blocker가 끝나야 blocked를 시작할 수 있음)
+ * 같은 프로젝트 안에서만 연결되며, 프로젝트 그래프를 한 번에 읽기 위해 project_id를 함께 저장한다.
+ * 삭제된 태스크의 관계는 남겨 두고 조회 시 태스크 조인으로 제외한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "task_dependencies", indexes = {
+        @Index(name = "idx_task_dependency_pair", columnList = "blocker_id, blocked_id", unique = true),
+        @Index(name = "idx_task_dependency_blocked", columnList = "blocked_id"),
+        @Index(name = "idx_task_dependency_project", columnList = "project_id")
+})
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blocker_id", nullable = false)
+    private Task blocker;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blocked_id", nullable = false)
+    private Task blocked;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public TaskDependency(Long projectId, Task blocker, Task blocked) {
+        this.projectId = projectId;
+        this.blocker = blocker;
+        this.blocked = blocked;
+        this.createdAt = LocalDateTime.now();
+    }
+}
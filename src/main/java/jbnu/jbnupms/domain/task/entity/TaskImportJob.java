@@ -0,0 +1,94 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.*;
+import jbnu.jbnupms.domain.task.dto.TaskExportFormat;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태스크 가져오기 작업
+ * 배치 하나가 커밋될 때마다 같은 트랜잭션에서 processedRows를 올리므로,
+ * 실패 후 같은 파일을 다시 올리면 마지막으로 커밋된 배치 다음 행부터 이어서 가져온다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "task_import_jobs", indexes = {
+        @Index(name = "idx_task_import_job_project", columnList = "project_id, id")
+})
+public class TaskImportJob {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private TaskExportFormat format;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private TaskImportStatus status;
+
+    // 커밋된 데이터 행 수 (이어서 가져올 때 건너뛸 행 수)
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public TaskImportJob(Long projectId, Long userId, TaskExportFormat format) {
+        this.projectId = projectId;
+        this.userId = userId;
+        this.format = format;
+        this.status = TaskImportStatus.IN_PROGRESS;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void resume() {
+        this.status = TaskImportStatus.IN_PROGRESS;
+        this.lastError = null;
+    }
+
+    public void addProcessedRows(int rows) {
+        this.processedRows += rows;
+    }
+
+    public void complete() {
+        this.status = TaskImportStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.status = TaskImportStatus.FAILED;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
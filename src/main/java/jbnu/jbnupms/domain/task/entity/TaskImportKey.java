@@ -0,0 +1,24 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가져오기 파일의 외부 key -> 생성된 태스크 ID
+ * 다른 배치에서 만든 상위 태스크를 parentKey로 찾을 때 사용하며, 파일 크기와 관계없이 메모리에 올리지 않도록 DB에 둔다.
+ * 쓰기는 TaskJdbcRepository로만 수행하고 작업이 완료되면 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "task_import_keys")
+public class TaskImportKey {
+
+    @EmbeddedId
+    private TaskImportKeyId id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+}
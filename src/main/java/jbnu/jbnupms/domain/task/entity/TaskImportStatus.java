@@ -0,0 +1,14 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskImportStatus {
+    IN_PROGRESS("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+}
@@ -0,0 +1,37 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대기 중인 진행률 롤업
+ * 진행률에 영향을 주는 변경과 같은 트랜잭션에서 기록되므로, 롤업 전에 서버가 재시작되어도 다음 주기에 이어서 처리된다.
+ * parentId는 재계산을 시작할 상위 태스크 ID이며, 최상위 태스크의 변경이면 null이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "task_progress_pending", indexes = {
+        @Index(name = "idx_task_progress_pending_project", columnList = "project_id, id")
+})
+public class TaskProgressPending {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Builder
+    public TaskProgressPending(Long projectId, Long parentId) {
+        this.projectId = projectId;
+        this.parentId = parentId;
+    }
+}
@@ -0,0 +1,40 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송된 마감 알림 기록
+ * (태스크, 알림 종류, 마감일) 유니크 제약으로 노드 재시작이나 다중 노드에서도 같은 알림이 한 번만 발송되게 한다.
+ * 마감일이 바뀌면 키가 달라지므로 새 마감일 기준으로 다시 알림이 나간다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "task_reminders", indexes = {
+        @Index(name = "idx_task_reminder_task_type_due", columnList = "task_id, type, due_date", unique = true),
+        @Index(name = "idx_task_reminder_sent_at", columnList = "sent_at")
+})
+public class TaskReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private TaskReminderType type;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+}
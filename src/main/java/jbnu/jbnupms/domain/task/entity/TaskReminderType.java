@@ -0,0 +1,13 @@
+package jbnu.jbnupms.domain.task.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskReminderType {
+    DUE_SOON("마감 임박"),
+    OVERDUE("마감 초과");
+
+    private final String description;
+}
@@ -0,0 +1,80 @@
+package jbnu.jbnupms.domain.task.event;
+
+import jbnu.jbnupms.domain.task.entity.TaskActivityField;
+import jbnu.jbnupms.domain.task.entity.TaskActivityType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태스크 변경 이력 한 건
+ * TaskService/CommentService에서 발행하며, 커밋 이후 TaskActivityWriter의 큐에 쌓였다가 일괄 기록된다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskActivityEvent {
+
+    private static final int MAX_VALUE_LENGTH = 500;
+    private static final String LIST_SEPARATOR = ",";
+    private static final String LIST_ELLIPSIS = ",...";
+
+    private final Long projectId;
+    private final Long taskId;
+    private final Long actorId;
+    private final TaskActivityType type;
+    private final TaskActivityField field;
+    private final String oldValue;
+    private final String newValue;
+    private final Long commentId;
+    private final LocalDateTime occurredAt;
+
+    public static TaskActivityEvent of(Long projectId, Long taskId, Long actorId, TaskActivityType type) {
+        return new TaskActivityEvent(projectId, taskId, actorId, type, null, null, null, null, LocalDateTime.now());
+    }
+
+    public static TaskActivityEvent changed(Long projectId, Long taskId, Long actorId,
+                                            TaskActivityField field, Object oldValue, Object newValue) {
+        // 담당자 목록은 ID 중간에서 잘리지 않도록 구분자 위치에서 자름
+        if (field == TaskActivityField.ASSIGNEES) {
+            return new TaskActivityEvent(projectId, taskId, actorId, TaskActivityType.UPDATED, field,
+                    truncateList(oldValue), truncateList(newValue), null, LocalDateTime.now());
+        }
+        return new TaskActivityEvent(projectId, taskId, actorId, TaskActivityType.UPDATED, field,
+                truncate(oldValue), truncate(newValue), null, LocalDateTime.now());
+    }
+
+    // 순서/위치 이동 (상위 태스크가 바뀌지 않았으면 두 값이 같음)
+    public static TaskActivityEvent moved(Long projectId, Long taskId, Long actorId, Long oldParentId, Long newParentId) {
+        return new TaskActivityEvent(projectId, taskId, actorId, TaskActivityType.MOVED, TaskActivityField.PARENT,
+                truncate(oldParentId), truncate(newParentId), null, LocalDateTime.now());
+    }
+
+    public static TaskActivityEvent comment(Long projectId, Long taskId, Long actorId, TaskActivityType type,
+                                            Long commentId, String oldContent, String newContent) {
+        return new TaskActivityEvent(projectId, taskId, actorId, type, null,
+                truncate(oldContent), truncate(newContent), commentId, LocalDateTime.now());
+    }
+
+    private static String truncate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) : text;
+    }
+
+    // 쉼표로 구분된 목록을 마지막으로 온전히 들어가는 항목까지만 남기고 ",..."로 표시
+    private static String truncateList(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        if (text.length() <= MAX_VALUE_LENGTH) {
+            return text;
+        }
+        int cut = text.lastIndexOf(LIST_SEPARATOR, MAX_VALUE_LENGTH - LIST_ELLIPSIS.length());
+        return cut > 0 ? text.substring(0, cut) + LIST_ELLIPSIS : text.substring(0, MAX_VALUE_LENGTH);
+    }
+}
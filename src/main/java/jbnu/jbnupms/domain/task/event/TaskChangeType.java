@@ -0,0 +1,7 @@
+package jbnu.jbnupms.domain.task.event;
+
+public enum TaskChangeType {
+    CREATED,    // 생성
+    UPDATED,    // 필드/상위 태스크/담당자 변경
+    DELETED     // 삭제
+}
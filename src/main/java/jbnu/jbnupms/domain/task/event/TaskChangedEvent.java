@@ -0,0 +1,40 @@
+package jbnu.jbnupms.domain.task.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 태스크 변경 알림
+ * 캐시 무효화 등 커밋 이후 처리를 위해 TaskService/TaskBulkService에서 발행한다.
+ * 한 번에 여러 태스크가 바뀌는 작업(롤업, 서브트리 삭제, 가져오기 등)은 태스크마다 발행하지 않고 taskIds에 모아 한 번만 발행한다.
+ */
+@Getter
+public class TaskChangedEvent {
+
+    private final Long projectId;
+    private final List<Long> taskIds;
+    private final TaskChangeType type;
+
+    public TaskChangedEvent(Long projectId, Long taskId, TaskChangeType type) {
+        this(projectId, List.of(taskId), type);
+    }
+
+    public TaskChangedEvent(Long projectId, Collection<Long> taskIds, TaskChangeType type) {
+        this.projectId = projectId;
+        this.taskIds = List.copyOf(taskIds);
+        this.type = type;
+    }
+
+    /**
+     * 단건 변경의 태스크 ID (여러 태스크가 바뀐 경우 첫 번째)
+     */
+    public Long getTaskId() {
+        return taskIds.get(0);
+    }
+
+    public boolean isBatch() {
+        return taskIds.size() > 1;
+    }
+}
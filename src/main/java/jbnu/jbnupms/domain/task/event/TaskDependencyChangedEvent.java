@@ -0,0 +1,14 @@
+package jbnu.jbnupms.domain.task.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 태스크 선후행 관계 추가/삭제 (프로젝트 일정 캐시 무효화용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskDependencyChangedEvent {
+
+    private final Long projectId;
+}
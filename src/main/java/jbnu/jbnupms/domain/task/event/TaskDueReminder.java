@@ -0,0 +1,17 @@
+package jbnu.jbnupms.domain.task.event;
+
+import jbnu.jbnupms.domain.task.entity.TaskReminderType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class TaskDueReminder {
+
+    private final Long projectId;
+    private final Long taskId;
+    private final TaskReminderType type;
+    private final LocalDateTime dueDate;
+}
@@ -0,0 +1,18 @@
+package jbnu.jbnupms.domain.task.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 마감 알림 발송 (배치 단위)
+ * 같은 (태스크, 종류, 마감일) 알림은 클러스터 전체에서 한 번만 발행된다.
+ * 스케줄러 스레드에서 동기로 처리되며(ProjectEventBroker가 프로젝트 구독자에게 전달), 처리 중 예외가 나면 스케줄러가 다시 발송한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskDueRemindersEvent {
+
+    private final List<TaskDueReminder> reminders;
+}
@@ -0,0 +1,16 @@
+package jbnu.jbnupms.domain.task.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 태스크 진행률에 영향을 주는 변경 (생성/삭제/상태·진행률 수정/상위 태스크 변경)
+ * parentId는 재계산을 시작할 상위 태스크 ID이며, 최상위 태스크의 변경이면 null이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskProgressChangedEvent {
+
+    private final Long projectId;
+    private final Long parentId;
+}
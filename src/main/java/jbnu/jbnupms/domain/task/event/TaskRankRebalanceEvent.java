@@ -0,0 +1,16 @@
+package jbnu.jbnupms.domain.task.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 형제 태스크 순위 재배치 요청 (순위가 너무 길어졌을 때)
+ * parentId가 null이면 프로젝트 최상위 태스크들이 대상이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskRankRebalanceEvent {
+
+    private final Long projectId;
+    private final Long parentId;
+}
@@ -0,0 +1,27 @@
+package jbnu.jbnupms.domain.task.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 마감 알림 일정에 영향을 주는 변경 (마감일/상태 변경, 마감일이 있는 태스크 생성, 삭제)
+ * 알림 스케줄러가 커밋 이후 해당 태스크를 다시 읽어 휠의 항목을 갱신한다.
+ * 서브트리 삭제처럼 여러 태스크가 함께 바뀌면 taskIds에 모아 한 번만 발행한다.
+ */
+@Getter
+public class TaskScheduleChangedEvent {
+
+    private final Long projectId;
+    private final List<Long> taskIds;
+
+    public TaskScheduleChangedEvent(Long projectId, Long taskId) {
+        this(projectId, List.of(taskId));
+    }
+
+    public TaskScheduleChangedEvent(Long projectId, Collection<Long> taskIds) {
+        this.projectId = projectId;
+        this.taskIds = List.copyOf(taskIds);
+    }
+}
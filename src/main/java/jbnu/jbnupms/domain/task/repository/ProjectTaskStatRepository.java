@@ -0,0 +1,44 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jakarta.persistence.LockModeType;
+import jbnu.jbnupms.domain.task.entity.ProjectTaskStat;
+import jbnu.jbnupms.domain.task.entity.ProjectTaskStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProjectTaskStatRepository extends JpaRepository<ProjectTaskStat, ProjectTaskStatId> {
+
+    // 프로젝트 집계 조회 (최대 9행)
+    @Query("SELECT s FROM ProjectTaskStat s WHERE s.id.projectId = :projectId")
+    List<ProjectTaskStat> findAllByProjectId(@Param("projectId") Long projectId);
+
+    // 보정 중 동시 증감을 막기 위한 행 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProjectTaskStat s WHERE s.id.projectId = :projectId")
+    List<ProjectTaskStat> findAllByProjectIdForUpdate(@Param("projectId") Long projectId);
+
+    // 집계 증감 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, status, priority, task_count) " +
+            "VALUES (:projectId, :status, :priority, :delta) " +
+            "ON CONFLICT (project_id, status, priority) " +
+            "DO UPDATE SET task_count = project_task_stats.task_count + EXCLUDED.task_count",
+            nativeQuery = true)
+    void addCount(@Param("projectId") Long projectId, @Param("status") int status,
+                  @Param("priority") int priority, @Param("delta") long delta);
+
+    // 집계 값 덮어쓰기 (보정용)
+    @Modifying
+    @Query(value = "INSERT INTO project_task_stats (project_id, status, priority, task_count) " +
+            "VALUES (:projectId, :status, :priority, :count) " +
+            "ON CONFLICT (project_id, status, priority) " +
+            "DO UPDATE SET task_count = EXCLUDED.task_count",
+            nativeQuery = true)
+    void setCount(@Param("projectId") Long projectId, @Param("status") int status,
+                  @Param("priority") int priority, @Param("count") long count);
+}
@@ -0,0 +1,16 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jbnu.jbnupms.domain.task.entity.TaskActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskActivityRepository extends JpaRepository<TaskActivity, Long> {
+
+    // 태스크 이력 최신순 (id 키셋, 작성자 포함)
+    @Query("SELECT a FROM TaskActivity a JOIN FETCH a.actor WHERE a.taskId = :taskId AND a.id < :beforeId ORDER BY a.id DESC")
+    List<TaskActivity> findWithActorByTaskIdBefore(@Param("taskId") Long taskId, @Param("beforeId") Long beforeId, Pageable pageable);
+}
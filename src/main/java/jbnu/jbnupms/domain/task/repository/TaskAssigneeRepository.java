@@ -4,7 +4,12 @@ import jbnu.jbnupms.domain.task.entity.Task;
 import jbnu.jbnupms.domain.task.entity.TaskAssignee;
 import jbnu.jbnupms.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +18,72 @@ public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, Long
     List<TaskAssignee> findByTaskId(Long taskId);
 
     List<TaskAssignee> findAllByTask_ProjectId(Long projectId);
+
+    // 프로젝트 내 모든 담당자를 사용자 정보와 함께 조회
+    @Query("SELECT ta FROM TaskAssignee ta JOIN FETCH ta.user WHERE ta.task.project.id = :projectId")
+    List<TaskAssignee> findAllWithUserByProjectId(@Param("projectId") Long projectId);
+
+    // 지정한 깊이까지의 태스크 담당자를 사용자 정보와 함께 조회
+    @Query("SELECT ta FROM TaskAssignee ta JOIN FETCH ta.user WHERE ta.task.project.id = :projectId " +
+            "AND NOT EXISTS (SELECT c FROM TaskClosure c WHERE c.id.descendantId = ta.task.id AND c.depth > :depth)")
+    List<TaskAssignee> findAllWithUserByProjectIdToDepth(@Param("projectId") Long projectId, @Param("depth") int depth);
+
+    // 서브트리(자기 자신 포함) 태스크의 담당자를 사용자 정보와 함께 조회
+    @Query("SELECT ta FROM TaskAssignee ta JOIN FETCH ta.user WHERE ta.task.id IN " +
+            "(SELECT c.id.descendantId FROM TaskClosure c WHERE c.id.ancestorId = :taskId)")
+    List<TaskAssignee> findAllWithUserInSubtree(@Param("taskId") Long taskId);
+
+    // 직계 하위 태스크의 담당자를 사용자 정보와 함께 조회
+    @Query("SELECT ta FROM TaskAssignee ta JOIN FETCH ta.user WHERE ta.task.parent.id = :parentId")
+    List<TaskAssignee> findAllWithUserByTaskParentId(@Param("parentId") Long parentId);
+
+    // 여러 태스크의 담당자를 사용자 정보와 함께 조회
+    @Query("SELECT ta FROM TaskAssignee ta JOIN FETCH ta.user WHERE ta.task.id IN :taskIds")
+    List<TaskAssignee> findAllWithUserByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
     
+    // 태스크의 담당자 ID (변경 이력 비교용)
+    @Query("SELECT ta.user.id FROM TaskAssignee ta WHERE ta.task.id = :taskId")
+    List<Long> findUserIdsByTaskId(@Param("taskId") Long taskId);
+
     Optional<TaskAssignee> findByTaskAndUser(Task task, User user);
     
     boolean existsByTaskAndUser(Task task, User user);
     
     void deleteByTaskAndUser(Task task, User user);
+
+    // 프로젝트 멤버인 사용자만 한 번에 할당 (이미 할당된 사용자는 무시)
+    @Modifying
+    @Query(value = "INSERT INTO task_assignees (task_id, user_id, assigned_at) " +
+            "SELECT :taskId, pm.user_id, :assignedAt FROM project_members pm " +
+            "JOIN users u ON u.id = pm.user_id AND u.is_deleted = false " +
+            "WHERE pm.project_id = :projectId AND pm.user_id IN (:userIds) " +
+            "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIgnoringDuplicates(@Param("taskId") Long taskId,
+                                 @Param("projectId") Long projectId,
+                                 @Param("userIds") Collection<Long> userIds,
+                                 @Param("assignedAt") LocalDateTime assignedAt);
+
+    // 담당자 일괄 해제
+    @Modifying
+    @Query("DELETE FROM TaskAssignee ta WHERE ta.task.id = :taskId AND ta.user.id IN :userIds")
+    int deleteByTaskIdAndUserIdIn(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
+
+    // 주어진 사용자 외의 담당자 해제 (담당자 집합 교체용)
+    @Modifying
+    @Query("DELETE FROM TaskAssignee ta WHERE ta.task.id = :taskId AND ta.user.id NOT IN :userIds")
+    int deleteByTaskIdAndUserIdNotIn(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
+
+    // 태스크의 모든 담당자 해제
+    @Modifying
+    @Query("DELETE FROM TaskAssignee ta WHERE ta.task.id = :taskId")
+    int deleteAllByTaskId(@Param("taskId") Long taskId);
+
+    // 서브트리 삭제: 서브트리 태스크의 담당자 일괄 soft delete
+    @Modifying
+    @Query(value = TaskRepository.SUBTREE_CTE +
+            "UPDATE task_assignees SET deleted_at = :deletedAt " +
+            "WHERE deleted_at IS NULL AND task_id IN (SELECT id FROM subtree)",
+            nativeQuery = true)
+    int softDeleteBySubtree(@Param("taskId") Long taskId, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -0,0 +1,71 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskClosure;
+import jbnu.jbnupms.domain.task.entity.TaskClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosureId> {
+
+    // 하위 태스크 ID 전체 조회 (자기 자신 제외)
+    @Query("SELECT c.id.descendantId FROM TaskClosure c WHERE c.id.ancestorId = :taskId AND c.depth > 0")
+    List<Long> findDescendantIds(@Param("taskId") Long taskId);
+
+    // 상위 태스크 체인 조회 (루트부터, 자기 자신 제외)
+    @Query("SELECT c.id.ancestorId FROM TaskClosure c WHERE c.id.descendantId = :taskId AND c.depth > 0 ORDER BY c.depth DESC")
+    List<Long> findAncestorIds(@Param("taskId") Long taskId);
+
+    // 상위 태스크 체인을 태스크와 함께 조회 (브레드크럼용, 루트부터)
+    @Query("SELECT t FROM TaskClosure c, Task t WHERE c.id.descendantId = :taskId AND c.depth > 0 AND t.id = c.id.ancestorId ORDER BY c.depth DESC")
+    List<Task> findAncestors(@Param("taskId") Long taskId);
+
+    // 태스크 깊이 (루트 = 0)
+    @Query("SELECT MAX(c.depth) FROM TaskClosure c WHERE c.id.descendantId = :taskId")
+    Integer findDepth(@Param("taskId") Long taskId);
+
+    // descendantId가 ancestorId의 서브트리(자기 자신 포함)에 속하는지 확인
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM TaskClosure c WHERE c.id.ancestorId = :ancestorId AND c.id.descendantId = :descendantId")
+    boolean isInSubtree(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    // 서브트리(자기 자신 포함) 태스크 수를 (상태, 우선순위)별로 집계
+    @Query("SELECT t.status, t.priority, COUNT(t) FROM TaskClosure c, Task t WHERE c.id.ancestorId = :taskId AND t.id = c.id.descendantId GROUP BY t.status, t.priority")
+    List<Object[]> countSubtreeByStatusAndPriority(@Param("taskId") Long taskId);
+
+    // 새 태스크 등록: 자기 자신 + 상위 태스크의 모든 조상
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT :taskId, :taskId, 0 " +
+            "UNION ALL " +
+            "SELECT c.ancestor_id, :taskId, c.depth + 1 FROM task_closure c WHERE c.descendant_id = :parentId",
+            nativeQuery = true)
+    void insertNode(@Param("taskId") Long taskId, @Param("parentId") Long parentId);
+
+    // 서브트리를 기존 조상들로부터 분리 (서브트리 내부 경로는 유지)
+    @Modifying
+    @Query(value = "DELETE FROM task_closure " +
+            "WHERE descendant_id IN (SELECT s.descendant_id FROM task_closure s WHERE s.ancestor_id = :taskId) " +
+            "AND ancestor_id NOT IN (SELECT s.descendant_id FROM task_closure s WHERE s.ancestor_id = :taskId)",
+            nativeQuery = true)
+    void detachSubtree(@Param("taskId") Long taskId);
+
+    // 서브트리를 새 상위 태스크의 모든 조상 아래로 연결
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 " +
+            "FROM task_closure a CROSS JOIN task_closure d " +
+            "WHERE a.descendant_id = :parentId AND d.ancestor_id = :taskId",
+            nativeQuery = true)
+    void attachSubtree(@Param("taskId") Long taskId, @Param("parentId") Long parentId);
+
+    // 서브트리 전체 경로 삭제
+    @Modifying
+    @Query(value = "DELETE FROM task_closure " +
+            "WHERE descendant_id IN (SELECT s.descendant_id FROM task_closure s WHERE s.ancestor_id = :taskId)",
+            nativeQuery = true)
+    void deleteSubtree(@Param("taskId") Long taskId);
+}
@@ -0,0 +1,30 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jbnu.jbnupms.domain.task.entity.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    // 프로젝트의 모든 선후행 간선 {blockerId, blockedId} (삭제된 태스크의 간선 제외)
+    @Query("SELECT b.id, k.id FROM TaskDependency d JOIN d.blocker b JOIN d.blocked k WHERE d.projectId = :projectId")
+    List<Object[]> findEdgesByProjectId(@Param("projectId") Long projectId);
+
+    // 태스크의 선행 태스크 {id, title, status}
+    @Query("SELECT b.id, b.title, b.status FROM TaskDependency d JOIN d.blocker b WHERE d.blocked.id = :taskId ORDER BY b.id")
+    List<Object[]> findBlockersByTaskId(@Param("taskId") Long taskId);
+
+    // 태스크의 후행 태스크 {id, title, status}
+    @Query("SELECT k.id, k.title, k.status FROM TaskDependency d JOIN d.blocked k WHERE d.blocker.id = :taskId ORDER BY k.id")
+    List<Object[]> findBlockedByTaskId(@Param("taskId") Long taskId);
+
+    boolean existsByBlockerIdAndBlockedId(Long blockerId, Long blockedId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blocker.id = :blockerId AND d.blocked.id = :blockedId")
+    int deleteByBlockerIdAndBlockedId(@Param("blockerId") Long blockerId, @Param("blockedId") Long blockedId);
+}
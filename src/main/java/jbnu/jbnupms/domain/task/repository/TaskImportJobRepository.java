@@ -0,0 +1,20 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jakarta.persistence.LockModeType;
+import jbnu.jbnupms.domain.task.entity.TaskImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskImportJobRepository extends JpaRepository<TaskImportJob, Long> {
+
+    // 같은 작업을 동시에 이어서 가져오지 못하도록 배치마다 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM TaskImportJob j WHERE j.id = :jobId")
+    Optional<TaskImportJob> findByIdForUpdate(@Param("jobId") Long jobId);
+}
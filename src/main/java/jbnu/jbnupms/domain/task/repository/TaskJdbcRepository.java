@@ -0,0 +1,396 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskActivityEvent;
+import jbnu.jbnupms.domain.task.event.TaskDueReminder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 태스크 일괄 처리용 JDBC 리포지토리
+ * 영속성 컨텍스트를 거치지 않고 PreparedStatement 배치로 쓰기를 수행한다.
+ * JPA 트랜잭션과 같은 커넥션을 사용하므로 호출하는 서비스의 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskJdbcRepository {
+
+    private static final String INSERT_TASK_SQL =
+            "INSERT INTO tasks (project_id, creator_id, parent_id, title, description, status, priority, progress, " +
+                    "due_date, lex_rank, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_CLOSURE_SQL =
+            "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+                    "SELECT ?, ?, 0 " +
+                    "UNION ALL " +
+                    "SELECT c.ancestor_id, ?, c.depth + 1 FROM task_closure c WHERE c.descendant_id = ?";
+
+    private static final String INSERT_ASSIGNEE_SQL =
+            "INSERT INTO task_assignees (task_id, user_id, assigned_at) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_TASK_SQL =
+            "UPDATE tasks SET title = COALESCE(?, title), description = COALESCE(?, description), " +
+                    "status = COALESCE(?, status), priority = COALESCE(?, priority), due_date = COALESCE(?, due_date), " +
+                    "progress = COALESCE(?, progress), updated_at = ?, version = version + 1 " +
+                    "WHERE id = ? AND project_id = ? AND deleted_at IS NULL";
+
+    // 순위 재배치 (순서 표현만 바뀌므로 버전은 그대로, Task는 바뀐 컬럼만 쓰므로 동시 수정이 순위를 덮어쓰지 않음)
+    private static final String UPDATE_RANK_SQL =
+            "UPDATE tasks SET lex_rank = ? WHERE id = ?";
+
+    // 이미 발송된 알림이면 무시 (영향 행 수 0)
+    private static final String INSERT_REMINDER_SQL =
+            "INSERT INTO task_reminders (task_id, type, due_date, sent_at) VALUES (?, ?, ?, ?) " +
+                    "ON CONFLICT (task_id, type, due_date) DO NOTHING";
+    private static final String DELETE_REMINDER_SQL =
+            "DELETE FROM task_reminders WHERE task_id = ? AND type = ? AND due_date = ?";
+
+    private static final String INSERT_ACTIVITY_SQL_PREFIX =
+            "INSERT INTO task_activity (task_id, project_id, actor_id, type, field, old_value, new_value, comment_id, created_at) VALUES ";
+    private static final String INSERT_ACTIVITY_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int ACTIVITY_COLUMNS = 9;
+    private static final int[] ACTIVITY_TYPES = {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.SMALLINT, Types.SMALLINT,
+            Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP};
+
+    // 내보내기: 상위 태스크가 하위 태스크보다 먼저 나오도록 (깊이, 상위 태스크, 순위, ID) 순으로 한 번에 조회
+    // 깊이는 행마다 클로저 인덱스(descendant_id, depth)에서 최댓값 하나만 읽는다.
+    private static final String EXPORT_SQL =
+            "SELECT t.id, t.parent_id, t.title, t.description, t.status, t.priority, t.progress, t.due_date, t.lex_rank, " +
+                    "t.created_at, t.updated_at, u.id AS creator_id, u.name AS creator_name, u.email AS creator_email, " +
+                    "(SELECT string_agg(au.email, ';' ORDER BY au.email) FROM task_assignees ta " +
+                    " JOIN users au ON au.id = ta.user_id WHERE ta.task_id = t.id AND ta.deleted_at IS NULL) AS assignee_emails " +
+                    "FROM tasks t JOIN users u ON u.id = t.creator_id " +
+                    "WHERE t.project_id = ? AND t.deleted_at IS NULL " +
+                    "ORDER BY (SELECT max(c.depth) FROM task_closure c WHERE c.descendant_id = t.id), " +
+                    "COALESCE(t.parent_id, 0), t.lex_rank, t.id";
+
+    // 가져오기 외부 key 매핑
+    private static final String INSERT_IMPORT_KEY_SQL =
+            "INSERT INTO task_import_keys (job_id, external_key, task_id) VALUES (?, ?, ?)";
+    private static final String SELECT_IMPORT_KEYS_SQL_PREFIX =
+            "SELECT external_key, task_id FROM task_import_keys WHERE job_id = ? AND external_key IN ";
+    private static final String DELETE_IMPORT_KEYS_SQL =
+            "DELETE FROM task_import_keys WHERE job_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 태스크 일괄 삽입 후 생성된 ID를 입력 순서대로 반환
+     */
+    public List<Long> insertTasks(List<TaskInsertRow> rows, int batchSize) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            List<Long> ids = new ArrayList<>(rows.size());
+            try (PreparedStatement ps = con.prepareStatement(INSERT_TASK_SQL, new String[]{"id"})) {
+                for (int i = 0; i < rows.size(); i++) {
+                    bindInsert(ps, rows.get(i));
+                    ps.addBatch();
+                    if ((i + 1) % batchSize == 0 || i == rows.size() - 1) {
+                        ps.executeBatch();
+                        collectKeys(ps, ids);
+                    }
+                }
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * 계층 인덱스 일괄 등록 (상위 태스크의 경로가 먼저 등록되어 있어야 함)
+     */
+    public void insertClosureNodes(List<Long> taskIds, List<Long> parentIds, int batchSize) {
+        List<Integer> indexes = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            indexes.add(i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_CLOSURE_SQL, indexes, batchSize, (ps, i) -> {
+            Long taskId = taskIds.get(i);
+            ps.setLong(1, taskId);
+            ps.setLong(2, taskId);
+            ps.setLong(3, taskId);
+            ps.setObject(4, parentIds.get(i), Types.BIGINT);
+        });
+    }
+
+    /**
+     * 담당자 일괄 등록 ({taskId, userId} 쌍)
+     */
+    public void insertAssignees(List<Long[]> taskUserPairs, LocalDateTime assignedAt, int batchSize) {
+        Timestamp timestamp = Timestamp.valueOf(assignedAt);
+        jdbcTemplate.batchUpdate(INSERT_ASSIGNEE_SQL, taskUserPairs, batchSize, (ps, pair) -> {
+            ps.setLong(1, pair[0]);
+            ps.setLong(2, pair[1]);
+            ps.setTimestamp(3, timestamp);
+        });
+    }
+
+    /**
+     * 태스크 일괄 수정 (null인 필드는 기존 값 유지)
+     */
+    public void updateTasks(Long projectId, List<TaskUpdateRow> rows, LocalDateTime updatedAt, int batchSize) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        jdbcTemplate.batchUpdate(UPDATE_TASK_SQL, rows, batchSize, (ps, row) -> {
+            ps.setObject(1, row.getTitle(), Types.VARCHAR);
+            ps.setObject(2, row.getDescription(), Types.VARCHAR);
+            ps.setObject(3, row.getStatus() != null ? row.getStatus().ordinal() : null, Types.SMALLINT);
+            ps.setObject(4, row.getPriority() != null ? row.getPriority().ordinal() : null, Types.SMALLINT);
+            ps.setObject(5, row.getDueDate() != null ? Timestamp.valueOf(row.getDueDate()) : null, Types.TIMESTAMP);
+            ps.setObject(6, row.getProgress(), Types.DOUBLE);
+            ps.setTimestamp(7, timestamp);
+            ps.setLong(8, row.getId());
+            ps.setLong(9, projectId);
+        });
+    }
+
+    /**
+     * 순위 일괄 갱신 (ids와 ranks는 같은 순서)
+     */
+    public void updateRanks(List<Long> ids, String[] ranks, int batchSize) {
+        List<Integer> indexes = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            indexes.add(i);
+        }
+        jdbcTemplate.batchUpdate(UPDATE_RANK_SQL, indexes, batchSize, (ps, i) -> {
+            ps.setString(1, ranks[i]);
+            ps.setLong(2, ids.get(i));
+        });
+    }
+
+    /**
+     * 알림 발송 기록 일괄 등록
+     * 입력 순서대로 이번에 새로 기록되었는지(= 이 호출이 발송 권한을 얻었는지) 반환한다.
+     */
+    public boolean[] insertReminders(List<TaskDueReminder> reminders, LocalDateTime sentAt) {
+        Timestamp timestamp = Timestamp.valueOf(sentAt);
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_REMINDER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TaskDueReminder reminder = reminders.get(i);
+                ps.setLong(1, reminder.getTaskId());
+                ps.setShort(2, (short) reminder.getType().ordinal());
+                ps.setTimestamp(3, Timestamp.valueOf(reminder.getDueDate()));
+                ps.setTimestamp(4, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return reminders.size();
+            }
+        });
+
+        boolean[] inserted = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            inserted[i] = counts[i] != 0;
+        }
+        return inserted;
+    }
+
+    /**
+     * 발송 기록 되돌리기 (전달에 실패한 알림을 다시 발송할 수 있게 함)
+     */
+    public void deleteReminders(List<TaskDueReminder> reminders) {
+        jdbcTemplate.batchUpdate(DELETE_REMINDER_SQL, reminders, reminders.size(), (ps, reminder) -> {
+            ps.setLong(1, reminder.getTaskId());
+            ps.setShort(2, (short) reminder.getType().ordinal());
+            ps.setTimestamp(3, Timestamp.valueOf(reminder.getDueDate()));
+        });
+    }
+
+    /**
+     * 태스크 이력 다중 행 INSERT (한 문장으로 기록)
+     */
+    public void insertActivities(List<TaskActivityEvent> events) {
+        StringBuilder sql = new StringBuilder(INSERT_ACTIVITY_SQL_PREFIX.length() + events.size() * (INSERT_ACTIVITY_ROW.length() + 2));
+        sql.append(INSERT_ACTIVITY_SQL_PREFIX);
+        Object[] args = new Object[events.size() * ACTIVITY_COLUMNS];
+        int[] types = new int[args.length];
+        for (int i = 0; i < events.size(); i++) {
+            TaskActivityEvent event = events.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ACTIVITY_ROW);
+
+            int base = i * ACTIVITY_COLUMNS;
+            args[base] = event.getTaskId();
+            args[base + 1] = event.getProjectId();
+            args[base + 2] = event.getActorId();
+            args[base + 3] = (short) event.getType().ordinal();
+            args[base + 4] = event.getField() != null ? (short) event.getField().ordinal() : null;
+            args[base + 5] = event.getOldValue();
+            args[base + 6] = event.getNewValue();
+            args[base + 7] = event.getCommentId();
+            args[base + 8] = Timestamp.valueOf(event.getOccurredAt());
+            System.arraycopy(ACTIVITY_TYPES, 0, types, base, ACTIVITY_COLUMNS);
+        }
+        jdbcTemplate.update(sql.toString(), args, types);
+    }
+
+    /**
+     * 프로젝트 태스크를 계층 순서로 하나의 forward-only 커서에서 fetchSize 행씩 읽어 전달
+     * 드라이버가 커서를 유지하려면 호출 측 트랜잭션 안에서 실행해야 한다.
+     */
+    public void streamExportRows(Long projectId, int fetchSize, Consumer<TaskExportRow> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, projectId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(toExportRow(rs)));
+    }
+
+    /**
+     * 가져오기 외부 key 일괄 등록 (keys와 taskIds는 같은 순서)
+     */
+    public void insertImportKeys(Long jobId, List<String> keys, List<Long> taskIds, int batchSize) {
+        List<Integer> indexes = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            indexes.add(i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_IMPORT_KEY_SQL, indexes, batchSize, (ps, i) -> {
+            ps.setLong(1, jobId);
+            ps.setString(2, keys.get(i));
+            ps.setLong(3, taskIds.get(i));
+        });
+    }
+
+    /**
+     * 이미 등록된 외부 key -> 태스크 ID (없는 key는 결과에 포함되지 않음)
+     */
+    public Map<String, Long> findImportKeys(Long jobId, Collection<String> keys) {
+        Map<String, Long> taskIdByKey = new HashMap<>();
+        if (keys.isEmpty()) {
+            return taskIdByKey;
+        }
+        StringBuilder sql = new StringBuilder(SELECT_IMPORT_KEYS_SQL_PREFIX).append('(');
+        Object[] args = new Object[keys.size() + 1];
+        args[0] = jobId;
+        int i = 1;
+        for (String key : keys) {
+            sql.append(i > 1 ? ", ?" : "?");
+            args[i++] = key;
+        }
+        sql.append(')');
+        jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> taskIdByKey.put(rs.getString(1), rs.getLong(2)), args);
+        return taskIdByKey;
+    }
+
+    public void deleteImportKeys(Long jobId) {
+        jdbcTemplate.update(DELETE_IMPORT_KEYS_SQL, jobId);
+    }
+
+    private TaskExportRow toExportRow(ResultSet rs) throws SQLException {
+        Timestamp dueDate = rs.getTimestamp("due_date");
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return TaskExportRow.builder()
+                .id(rs.getLong("id"))
+                .parentId(rs.getObject("parent_id", Long.class))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .status(TaskStatus.values()[rs.getInt("status")])
+                .priority(TaskPriority.values()[rs.getInt("priority")])
+                .progress(rs.getObject("progress", Double.class))
+                .dueDate(dueDate != null ? dueDate.toLocalDateTime() : null)
+                .rank(rs.getString("lex_rank"))
+                .creatorId(rs.getLong("creator_id"))
+                .creatorName(rs.getString("creator_name"))
+                .creatorEmail(rs.getString("creator_email"))
+                .assigneeEmails(rs.getString("assignee_emails"))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                .build();
+    }
+
+    private void bindInsert(PreparedStatement ps, TaskInsertRow row) throws SQLException {
+        Timestamp now = Timestamp.valueOf(row.getCreatedAt());
+        ps.setLong(1, row.getProjectId());
+        ps.setLong(2, row.getCreatorId());
+        ps.setObject(3, row.getParentId(), Types.BIGINT);
+        ps.setString(4, row.getTitle());
+        ps.setObject(5, row.getDescription(), Types.VARCHAR);
+        ps.setShort(6, (short) (row.getStatus() != null ? row.getStatus() : TaskStatus.NOT_STARTED).ordinal());
+        ps.setShort(7, (short) (row.getPriority() != null ? row.getPriority() : TaskPriority.MEDIUM).ordinal());
+        ps.setDouble(8, 0.0);
+        ps.setObject(9, row.getDueDate() != null ? Timestamp.valueOf(row.getDueDate()) : null, Types.TIMESTAMP);
+        ps.setString(10, row.getRank());
+        ps.setTimestamp(11, now);
+        ps.setTimestamp(12, now);
+    }
+
+    private void collectKeys(PreparedStatement ps, List<Long> ids) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class TaskInsertRow {
+        private final Long projectId;
+        private final Long creatorId;
+        private final Long parentId;
+        private final String title;
+        private final String description;
+        // null이면 NOT_STARTED
+        private final TaskStatus status;
+        private final TaskPriority priority;
+        private final LocalDateTime dueDate;
+        private final String rank;
+        private final LocalDateTime createdAt;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskExportRow {
+        private final Long id;
+        private final Long parentId;
+        private final String title;
+        private final String description;
+        private final TaskStatus status;
+        private final TaskPriority priority;
+        private final Double progress;
+        private final LocalDateTime dueDate;
+        private final String rank;
+        private final Long creatorId;
+        private final String creatorName;
+        private final String creatorEmail;
+        // 세미콜론으로 구분한 담당자 이메일 (없으면 null)
+        private final String assigneeEmails;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+    }
+
+    @Getter
+    @Builder
+    public static class TaskUpdateRow {
+        private final Long id;
+        private final String title;
+        private final String description;
+        private final TaskStatus status;
+        private final TaskPriority priority;
+        private final LocalDateTime dueDate;
+        private final Double progress;
+    }
+}
@@ -0,0 +1,29 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jbnu.jbnupms.domain.task.entity.TaskProgressPending;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskProgressPendingRepository extends JpaRepository<TaskProgressPending, Long> {
+
+    // 롤업이 대기 중인 프로젝트 ID
+    @Query("SELECT DISTINCT p.projectId FROM TaskProgressPending p")
+    List<Long> findProjectIds(Pageable pageable);
+
+    // 프로젝트의 대기 중인 롤업 (오래된 것부터)
+    @Query("SELECT p FROM TaskProgressPending p WHERE p.projectId = :projectId ORDER BY p.id")
+    List<TaskProgressPending> findByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // 처리한 롤업 삭제 (처리 중에 새로 기록된 행은 남김)
+    @Modifying
+    @Query("DELETE FROM TaskProgressPending p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,19 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jbnu.jbnupms.domain.task.entity.TaskReminder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface TaskReminderRepository extends JpaRepository<TaskReminder, Long> {
+
+    // 오래된 발송 기록 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TaskReminder r WHERE r.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
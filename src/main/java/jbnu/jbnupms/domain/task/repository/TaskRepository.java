@@ -2,21 +2,207 @@ package jbnu.jbnupms.domain.task.repository;
 
 import jbnu.jbnupms.domain.task.entity.Task;
 import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    // 삭제되지 않은 서브트리(자기 자신 포함) 태스크 ID를 parent_id로 재귀 탐색하는 CTE (서브트리 일괄 삭제 쿼리 공용, :taskId 필요)
+    String SUBTREE_CTE = "WITH RECURSIVE subtree (id) AS ( " +
+            "  SELECT id FROM tasks WHERE id = :taskId AND deleted_at IS NULL " +
+            "  UNION ALL " +
+            "  SELECT t.id FROM tasks t JOIN subtree s ON t.parent_id = s.id WHERE t.deleted_at IS NULL " +
+            ") ";
+
+    // 전문 검색 발췌문 옵션 (전문 검색 쿼리 공용)
+    // 일치 구간을 HTML 태그 대신 사용자 입력에서 미리 제거한 사설 영역 문자(U+E000, U+E001)로 감싸고,
+    // 서비스에서 본문을 HTML 이스케이프한 뒤 <mark> 태그로 바꾼다.
+    String HEADLINE_OPTIONS = "concat('StartSel=', chr(57344), ', StopSel=', chr(57345), " +
+            "', MaxFragments=1, MaxWords=30, MinWords=10')";
+    String HEADLINE_MARKERS = "chr(57344) || chr(57345)";
+
     // 프로젝트 내 최상위 태스크 조회 (부모가 없는)
     @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.parent IS NULL AND t.deletedAt IS NULL")
     List<Task> findRootTasksByProjectId(@Param("projectId") Long projectId);
 
     // 프로젝트 내 모든 태스크 조회
     List<Task> findByProjectId(Long projectId);
+
+    // 프로젝트 내 모든 태스크를 작성자와 함께 한 번에 조회 (트리 조립용)
+    @Query("SELECT t FROM Task t JOIN FETCH t.creator WHERE t.project.id = :projectId ORDER BY t.rank ASC, t.id ASC")
+    List<Task> findAllWithCreatorByProjectId(@Param("projectId") Long projectId);
     
+    // 태스크 ETag 계산용 (버전, 프로젝트 ID, 프로젝트 태스크 변경 카운터), 엔티티를 로딩하지 않음
+    @Query("SELECT t.version, p.id, p.taskRevision FROM Task t JOIN t.project p WHERE t.id = :taskId")
+    List<Object[]> findVersionAndRevisionById(@Param("taskId") Long taskId);
+
+    // 지정한 깊이(루트 = 0)까지의 태스크를 작성자와 함께 조회
+    @Query("SELECT t FROM Task t JOIN FETCH t.creator WHERE t.project.id = :projectId " +
+            "AND NOT EXISTS (SELECT c FROM TaskClosure c WHERE c.id.descendantId = t.id AND c.depth > :depth) " +
+            "ORDER BY t.rank ASC, t.id ASC")
+    List<Task> findAllWithCreatorByProjectIdToDepth(@Param("projectId") Long projectId, @Param("depth") int depth);
+
+    // 서브트리(자기 자신 포함) 태스크를 작성자와 함께 조회 (단건 조회용)
+    @Query("SELECT t FROM Task t JOIN FETCH t.creator WHERE t.id IN " +
+            "(SELECT c.id.descendantId FROM TaskClosure c WHERE c.id.ancestorId = :taskId) ORDER BY t.rank ASC, t.id ASC")
+    List<Task> findAllWithCreatorInSubtree(@Param("taskId") Long taskId);
+
+    // 직계 하위 태스크를 작성자와 함께 조회
+    @Query("SELECT t FROM Task t JOIN FETCH t.creator WHERE t.parent.id = :parentId ORDER BY t.rank ASC, t.id ASC")
+    List<Task> findAllWithCreatorByParentId(@Param("parentId") Long parentId);
+
+    // 깊이가 정확히 depth인 태스크 수를 상위 태스크별로 집계 ({parentId, count})
+    @Query("SELECT t.parent.id, COUNT(t) FROM Task t WHERE t.project.id = :projectId " +
+            "AND (SELECT MAX(c.depth) FROM TaskClosure c WHERE c.id.descendantId = t.id) = :depth " +
+            "GROUP BY t.parent.id")
+    List<Object[]> countChildrenAtDepth(@Param("projectId") Long projectId, @Param("depth") int depth);
+
+    // parentId의 손자 태스크 수를 자식 태스크별로 집계 ({childId, count})
+    @Query("SELECT p.id, COUNT(t) FROM Task t JOIN t.parent p WHERE p.parent.id = :parentId GROUP BY p.id")
+    List<Object[]> countGrandchildrenByParentId(@Param("parentId") Long parentId);
+
+    // 형제 순위 조회: 최상위 태스크와 하위 태스크는 parent_id IS NULL 조건이 달라 쿼리를 나눔
+    @Query("SELECT t.rank FROM Task t WHERE t.id = :taskId")
+    String findRankById(@Param("taskId") Long taskId);
+
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.project.id = :projectId AND t.parent IS NULL")
+    String findLastRootRank(@Param("projectId") Long projectId);
+
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.parent.id = :parentId")
+    String findLastChildRank(@Param("parentId") Long parentId);
+
+    // 상위 태스크별 마지막 순위 ({parentId, rank}, 일괄 생성용)
+    @Query("SELECT t.parent.id, MAX(t.rank) FROM Task t WHERE t.parent.id IN :parentIds GROUP BY t.parent.id")
+    List<Object[]> findLastChildRanks(@Param("parentIds") Collection<Long> parentIds);
+
+    // rank보다 뒤의 첫 형제 순위 (rank가 null이면 맨 앞 형제), 이동 중인 태스크는 제외
+    @Query("SELECT MIN(t.rank) FROM Task t WHERE t.project.id = :projectId AND t.parent IS NULL " +
+            "AND t.id <> :excludeId AND (:rank IS NULL OR t.rank > :rank)")
+    String findNextRootRank(@Param("projectId") Long projectId, @Param("rank") String rank, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MIN(t.rank) FROM Task t WHERE t.parent.id = :parentId " +
+            "AND t.id <> :excludeId AND (:rank IS NULL OR t.rank > :rank)")
+    String findNextChildRank(@Param("parentId") Long parentId, @Param("rank") String rank, @Param("excludeId") Long excludeId);
+
+    // 재배치용 형제 ID (현재 순서대로, 순위가 없는 태스크는 뒤로)
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.parent IS NULL ORDER BY t.rank ASC NULLS LAST, t.id ASC")
+    List<Long> findRootIdsOrderByRank(@Param("projectId") Long projectId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.parent.id = :parentId ORDER BY t.rank ASC NULLS LAST, t.id ASC")
+    List<Long> findChildIdsOrderByRank(@Param("parentId") Long parentId);
+
     // 상태별 조회
     List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
+
+    // 프로젝트에 속한 태스크 ID만 조회 (일괄 처리 검증용)
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.id IN :taskIds")
+    List<Long> findIdsByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("taskIds") Collection<Long> taskIds);
+
+    // 프로젝트에 속한 태스크의 (ID, 상위 태스크 ID, 상태, 우선순위, 제목, 마감일) 조회 (일괄 처리 검증/집계/이력용)
+    @Query("SELECT t.id, p.id, t.status, t.priority, t.title, t.dueDate FROM Task t LEFT JOIN t.parent p WHERE t.project.id = :projectId AND t.id IN :taskIds")
+    List<Object[]> findStateByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("taskIds") Collection<Long> taskIds);
+
+    // 프로젝트 태스크 수를 (상태, 우선순위)별로 집계 (집계 보정용)
+    @Query("SELECT t.status, t.priority, COUNT(t) FROM Task t WHERE t.project.id = :projectId GROUP BY t.status, t.priority")
+    List<Object[]> countByStatusAndPriority(@Param("projectId") Long projectId);
+
+    // 진행률 가중 평균: 태스크마다 (진행률, 서브트리 태스크 수)를 구해 서브트리 크기로 가중 (완료 상태는 100으로 계산, :done은 상태 ordinal)
+    String WEIGHTED_PROGRESS_SELECT = "SELECT CAST(SUM(w.progress * w.size) / SUM(w.size) AS double precision) FROM ( " +
+            "  SELECT CASE WHEN t.status = :done THEN 100.0 ELSE COALESCE(t.progress, 0) END AS progress, COUNT(*) AS size " +
+            "  FROM tasks t JOIN task_closure c ON c.ancestor_id = t.id ";
+    String WEIGHTED_PROGRESS_GROUP = " GROUP BY t.id, t.status, t.progress) w";
+
+    // 하위 태스크 진행률 (하위 태스크마다 자신의 서브트리 크기로 가중)
+    @Query(value = WEIGHTED_PROGRESS_SELECT + "WHERE t.parent_id = :parentId AND t.deleted_at IS NULL" + WEIGHTED_PROGRESS_GROUP,
+            nativeQuery = true)
+    Double calculateChildrenProgress(@Param("parentId") Long parentId, @Param("done") int done);
+
+    // 프로젝트 진행률 (최상위 태스크마다 자신의 서브트리 크기로 가중)
+    @Query(value = WEIGHTED_PROGRESS_SELECT + "WHERE t.project_id = :projectId AND t.parent_id IS NULL AND t.deleted_at IS NULL" +
+            WEIGHTED_PROGRESS_GROUP, nativeQuery = true)
+    Double calculateRootProgress(@Param("projectId") Long projectId, @Param("done") int done);
+
+    // 댓글/첨부 파일 수 원자적 증감 (버전과 updated_at은 변경하지 않음)
+    @Modifying
+    @Query(value = "UPDATE tasks SET comment_count = comment_count + :delta WHERE id = :taskId", nativeQuery = true)
+    int addCommentCount(@Param("taskId") Long taskId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE tasks SET file_count = file_count + :delta WHERE id = :taskId", nativeQuery = true)
+    int addFileCount(@Param("taskId") Long taskId, @Param("delta") int delta);
+
+    // 프로젝트 태스크 중 댓글 수가 실제와 다른 행만 다시 계산
+    @Modifying
+    @Query(value = "UPDATE tasks SET comment_count = " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.task_id = tasks.id AND c.is_deleted = false) " +
+            "WHERE project_id = :projectId AND deleted_at IS NULL AND comment_count <> " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.task_id = tasks.id AND c.is_deleted = false)",
+            nativeQuery = true)
+    int repairCommentCounts(@Param("projectId") Long projectId);
+
+    // 프로젝트 태스크 중 첨부 파일 수가 실제와 다른 행만 다시 계산
+    @Modifying
+    @Query(value = "UPDATE tasks SET file_count = " +
+            "(SELECT COUNT(*) FROM task_files f WHERE f.task_id = tasks.id AND f.is_deleted = false) " +
+            "WHERE project_id = :projectId AND deleted_at IS NULL AND file_count <> " +
+            "(SELECT COUNT(*) FROM task_files f WHERE f.task_id = tasks.id AND f.is_deleted = false)",
+            nativeQuery = true)
+    int repairFileCounts(@Param("projectId") Long projectId);
+
+    // 진행률 갱신 (값이 바뀐 경우에만), 버전을 올려 먼저 로딩된 엔티티의 flush가 롤업 값을 덮어쓰지 않고 충돌로 감지되게 함
+    @Modifying
+    @Query("UPDATE Task t SET t.progress = :progress, t.version = t.version + 1, t.updatedAt = :updatedAt " +
+            "WHERE t.id = :taskId AND (t.progress IS NULL OR t.progress <> :progress)")
+    int updateProgress(@Param("taskId") Long taskId, @Param("progress") Double progress,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 마감일 구간의 미완료 태스크 (알림 시간 창 로딩용, 마감일 순) {id, projectId, dueDate}
+    @Query("SELECT t.id, t.project.id, t.dueDate FROM Task t WHERE t.dueDate >= :from AND t.dueDate < :to " +
+            "AND t.status <> :done AND t.project.deletedAt IS NULL ORDER BY t.dueDate, t.id")
+    List<Object[]> findUndoneDueBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                        @Param("done") TaskStatus done, Pageable pageable);
+
+    // 프로젝트 일정 계산용 {id, dueDate, status}
+    @Query("SELECT t.id, t.dueDate, t.status FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<Object[]> findDueDatesByProjectId(@Param("projectId") Long projectId);
+
+    // 알림 일정 확인용 {id, projectId, dueDate, status}
+    @Query("SELECT t.id, t.project.id, t.dueDate, t.status FROM Task t WHERE t.id IN :taskIds AND t.project.deletedAt IS NULL")
+    List<Object[]> findScheduleByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // 전문 검색 (PostgreSQL 전용, tsvector 일치 또는 제목 trigram 유사도, 점수/ID 키셋)
+    // 결과: {id, projectId, title, snippet, score}
+    @Query(value = "WITH q AS (SELECT plainto_tsquery('simple', :query) AS tsq) " +
+            "SELECT s.id, s.project_id, s.title, " +
+            // 설명이 일치할 때만 설명에서, 제목만 일치했다면 제목에서 발췌
+            "ts_headline('simple', translate(CASE WHEN to_tsvector('simple', COALESCE(s.description, '')) @@ q.tsq " +
+            "THEN s.description ELSE s.title END, " + HEADLINE_MARKERS + ", ''), q.tsq, " +
+            HEADLINE_OPTIONS + ") AS snippet, s.score " +
+            "FROM (SELECT t.id, t.project_id, t.title, t.description, " +
+            "round(CAST(ts_rank_cd(t.search_vector, q.tsq) + word_similarity(:query, t.title) AS numeric), 6) AS score " +
+            "FROM tasks t CROSS JOIN q " +
+            "WHERE t.project_id IN (:projectIds) AND t.deleted_at IS NULL " +
+            "AND (t.search_vector @@ q.tsq OR :query <% t.title)) s CROSS JOIN q " +
+            "WHERE (s.score, s.id) < (:cursorScore, :cursorId) " +
+            "ORDER BY s.score DESC, s.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> searchFullText(@Param("query") String query, @Param("projectIds") Collection<Long> projectIds,
+                                  @Param("cursorScore") BigDecimal cursorScore, @Param("cursorId") Long cursorId,
+                                  @Param("limit") int limit);
+
+    // 서브트리 전체를 UPDATE 한 번으로 soft delete (엔티티를 로딩하지 않음, 버전 증가로 동시 수정 감지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = SUBTREE_CTE +
+            "UPDATE tasks SET deleted_at = :deletedAt, version = version + 1 WHERE id IN (SELECT id FROM subtree)",
+            nativeQuery = true)
+    int softDeleteSubtree(@Param("taskId") Long taskId, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -0,0 +1,138 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jbnu.jbnupms.domain.project.entity.ProjectMember;
+import jbnu.jbnupms.domain.task.dto.TaskCursor;
+import jbnu.jbnupms.domain.task.dto.TaskInboxCondition;
+import jbnu.jbnupms.domain.task.dto.TaskSearchCondition;
+import jbnu.jbnupms.domain.task.dto.TaskSortKey;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * 태스크 목록 검색 조건
+     * 값이 있는 필터만 WHERE 절에 추가하고, 커서가 있으면 (정렬 키, id) 기준 키셋 조건을 붙인다.
+     */
+    public static Specification<Task> search(TaskSearchCondition condition, TaskCursor cursor) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            // 엔티티 목록 조회 시 작성자를 함께 로딩 (count/요약 조회에는 적용하지 않음)
+            if (query.getResultType() == Task.class) {
+                root.fetch("creator");
+            }
+
+            predicates.add(cb.equal(root.get("project").get("id"), condition.getProjectId()));
+
+            if (condition.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), condition.getStatus()));
+            }
+            if (condition.getPriority() != null) {
+                predicates.add(cb.equal(root.get("priority"), condition.getPriority()));
+            }
+            if (condition.getParentId() != null) {
+                predicates.add(cb.equal(root.get("parent").get("id"), condition.getParentId()));
+            }
+            if (condition.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("dueDate"), condition.getDueFrom()));
+            }
+            if (condition.getDueTo() != null) {
+                predicates.add(cb.lessThan(root.<LocalDateTime>get("dueDate"), condition.getDueTo()));
+            }
+            if (condition.getAssigneeId() != null) {
+                Subquery<Long> assigned = query.subquery(Long.class);
+                Root<TaskAssignee> assignee = assigned.from(TaskAssignee.class);
+                assigned.select(assignee.get("id"))
+                        .where(cb.equal(assignee.get("task"), root),
+                                cb.equal(assignee.get("user").get("id"), condition.getAssigneeId()));
+                predicates.add(cb.exists(assigned));
+            }
+
+            addKeyset(predicates, root, cb, condition.getSort(), cursor);
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 내 태스크(인박스) 조회 조건
+     * task_assignees(user_id) 인덱스로 담당 태스크를 찾고, 현재 멤버로 남아 있는 프로젝트의 태스크만 포함한다.
+     */
+    public static Specification<Task> inbox(Long userId, TaskInboxCondition condition, TaskCursor cursor) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (query.getResultType() == Task.class) {
+                root.fetch("creator");
+            }
+
+            Subquery<Long> assigned = query.subquery(Long.class);
+            Root<TaskAssignee> assignee = assigned.from(TaskAssignee.class);
+            assigned.select(assignee.get("id"))
+                    .where(cb.equal(assignee.get("task"), root),
+                            cb.equal(assignee.get("user").get("id"), userId));
+            predicates.add(cb.exists(assigned));
+
+            Subquery<Long> member = query.subquery(Long.class);
+            Root<ProjectMember> projectMember = member.from(ProjectMember.class);
+            member.select(projectMember.get("id"))
+                    .where(cb.equal(projectMember.get("project"), root.get("project")),
+                            cb.equal(projectMember.get("user").get("id"), userId));
+            predicates.add(cb.exists(member));
+
+            // 삭제된 프로젝트의 태스크 제외
+            predicates.add(cb.isNull(root.get("project").get("deletedAt")));
+
+            if (condition.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), condition.getStatus()));
+            }
+            if (condition.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("dueDate"), condition.getDueFrom()));
+            }
+            if (condition.getDueTo() != null) {
+                predicates.add(cb.lessThan(root.<LocalDateTime>get("dueDate"), condition.getDueTo()));
+            }
+
+            addKeyset(predicates, root, cb, condition.getSort(), cursor);
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 정렬 키별 키셋 조건
+     * 정렬 방향은 TaskSortKey와 일치해야 한다. (UPDATED_AT: DESC, DUE_DATE: ASC)
+     */
+    private static void addKeyset(List<Predicate> predicates, Root<Task> root, CriteriaBuilder cb,
+                                  TaskSortKey sort, TaskCursor cursor) {
+        if (sort == TaskSortKey.DUE_DATE) {
+            predicates.add(cb.isNotNull(root.get("dueDate")));
+            if (cursor != null) {
+                // due_date > :key OR (due_date = :key AND id > :id)
+                predicates.add(cb.or(
+                        cb.greaterThan(root.<LocalDateTime>get("dueDate"), cursor.getKey()),
+                        cb.and(cb.equal(root.get("dueDate"), cursor.getKey()),
+                                cb.greaterThan(root.<Long>get("id"), cursor.getId()))));
+            }
+        } else if (cursor != null) {
+            // updated_at < :key OR (updated_at = :key AND id < :id)
+            predicates.add(cb.or(
+                    cb.lessThan(root.<LocalDateTime>get("updatedAt"), cursor.getKey()),
+                    cb.and(cb.equal(root.get("updatedAt"), cursor.getKey()),
+                            cb.lessThan(root.<Long>get("id"), cursor.getId()))));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package jbnu.jbnupms.domain.task.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jbnu.jbnupms.domain.task.dto.TaskSortKey;
+import jbnu.jbnupms.domain.task.dto.TaskSummaryResponse;
+import jbnu.jbnupms.domain.task.entity.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 태스크 요약 조회
+ * 목록 화면에 필요한 컬럼만 DTO로 바로 조회한다. (설명 TEXT, 작성자, 담당자 엔티티를 로딩하지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskSummaryRepository {
+
+    private static final String SUMMARY_SELECT =
+            "SELECT new jbnu.jbnupms.domain.task.dto.TaskSummaryResponse(" +
+                    "t.id, t.project.id, p.id, t.title, t.status, t.priority, t.progress, t.dueDate, t.updatedAt, " +
+                    "t.commentCount, t.fileCount) " +
+                    "FROM Task t LEFT JOIN t.parent p ";
+
+    private static final String TO_DEPTH =
+            "NOT EXISTS (SELECT c FROM TaskClosure c WHERE c.id.descendantId = t.id AND c.depth > :depth) ";
+
+    private final EntityManager em;
+
+    /**
+     * 프로젝트 전체 태스크 요약 (트리 조립용)
+     */
+    public List<TaskSummaryResponse> findAllByProjectId(Long projectId) {
+        return em.createQuery(SUMMARY_SELECT + "WHERE t.project.id = :projectId ORDER BY t.rank ASC, t.id ASC", TaskSummaryResponse.class)
+                .setParameter("projectId", projectId)
+                .getResultList();
+    }
+
+    /**
+     * 지정한 깊이(루트 = 0)까지의 태스크 요약
+     */
+    public List<TaskSummaryResponse> findAllByProjectIdToDepth(Long projectId, int depth) {
+        return em.createQuery(SUMMARY_SELECT + "WHERE t.project.id = :projectId AND " + TO_DEPTH + "ORDER BY t.rank ASC, t.id ASC",
+                        TaskSummaryResponse.class)
+                .setParameter("projectId", projectId)
+                .setParameter("depth", depth)
+                .getResultList();
+    }
+
+    /**
+     * 직계 하위 태스크 요약
+     */
+    public List<TaskSummaryResponse> findAllByParentId(Long parentId) {
+        return em.createQuery(SUMMARY_SELECT + "WHERE p.id = :parentId ORDER BY t.rank ASC, t.id ASC", TaskSummaryResponse.class)
+                .setParameter("parentId", parentId)
+                .getResultList();
+    }
+
+    /**
+     * 검색 조건(Specification)으로 요약 조회
+     * 정렬은 TaskSpecifications의 키셋 조건과 같은 방향이어야 한다.
+     */
+    public List<TaskSummaryResponse> findAll(Specification<Task> spec, TaskSortKey sortKey, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<TaskSummaryResponse> query = cb.createQuery(TaskSummaryResponse.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, Task> parent = root.join("parent", JoinType.LEFT);
+
+        query.select(cb.construct(TaskSummaryResponse.class,
+                root.get("id"), root.get("project").get("id"), parent.get("id"), root.get("title"),
+                root.get("status"), root.get("priority"), root.get("progress"), root.get("dueDate"),
+                root.get("updatedAt"), root.get("commentCount"), root.get("fileCount")));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(sortKey == TaskSortKey.DUE_DATE
+                ? List.of(cb.asc(root.get("dueDate")), cb.asc(root.get("id")))
+                : List.of(cb.desc(root.get("updatedAt")), cb.desc(root.get("id"))));
+
+        return em.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * 태스크별 담당자 ID ({taskId, userId} 쌍)
+     */
+    public List<Object[]> findAssigneeIdsByTaskIdIn(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return em.createQuery("SELECT ta.task.id, ta.user.id FROM TaskAssignee ta WHERE ta.task.id IN :taskIds", Object[].class)
+                .setParameter("taskIds", taskIds)
+                .getResultList();
+    }
+
+    /**
+     * 지정한 깊이까지의 태스크 담당자 ID ({taskId, userId} 쌍)
+     */
+    public List<Object[]> findAssigneeIdsByProjectIdToDepth(Long projectId, int depth) {
+        return em.createQuery("SELECT ta.task.id, ta.user.id FROM TaskAssignee ta JOIN ta.task t " +
+                        "WHERE t.project.id = :projectId AND " + TO_DEPTH, Object[].class)
+                .setParameter("projectId", projectId)
+                .setParameter("depth", depth)
+                .getResultList();
+    }
+
+    /**
+     * 직계 하위 태스크 담당자 ID ({taskId, userId} 쌍)
+     */
+    public List<Object[]> findAssigneeIdsByParentId(Long parentId) {
+        return em.createQuery("SELECT ta.task.id, ta.user.id FROM TaskAssignee ta WHERE ta.task.parent.id = :parentId", Object[].class)
+                .setParameter("parentId", parentId)
+                .getResultList();
+    }
+
+    /**
+     * 프로젝트 전체 담당자 ID ({taskId, userId} 쌍)
+     */
+    public List<Object[]> findAssigneeIdsByProjectId(Long projectId) {
+        return em.createQuery("SELECT ta.task.id, ta.user.id FROM TaskAssignee ta WHERE ta.task.project.id = :projectId", Object[].class)
+                .setParameter("projectId", projectId)
+                .getResultList();
+    }
+}
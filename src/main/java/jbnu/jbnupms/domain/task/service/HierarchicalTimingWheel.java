@@ -0,0 +1,170 @@
+package jbnu.jbnupms.domain.task.service;
+
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (스레드 안전하지 않음, 호출 측에서 동기화)
+ * 단계마다 고정 크기 슬롯 배열을 두고, 상위 단계의 한 칸 크기는 바로 아래 단계 전체 범위와 같다.
+ * 등록/취소는 O(1)이며, 상위 단계 슬롯은 시간이 도달하면 아래 단계로 다시 내려 보낸다(cascade).
+ * 최상위 단계 범위를 넘는 항목은 받지 않는다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long[] tickMs;
+    private final int[] wheelSizes;
+    private final long[] currentTime;
+    private final Bucket<T>[][] buckets;
+    private int size;
+
+    /**
+     * @param baseTickMs 최하위 단계 한 칸 크기
+     * @param wheelSizes 단계별 칸 수 (하위 단계부터)
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long baseTickMs, int[] wheelSizes, long startMs) {
+        int levels = wheelSizes.length;
+        this.tickMs = new long[levels];
+        this.wheelSizes = wheelSizes.clone();
+        this.currentTime = new long[levels];
+        this.buckets = new Bucket[levels][];
+
+        long tick = baseTickMs;
+        for (int level = 0; level < levels; level++) {
+            tickMs[level] = tick;
+            currentTime[level] = startMs - (startMs % tick);
+            buckets[level] = new Bucket[wheelSizes[level]];
+            for (int i = 0; i < wheelSizes[level]; i++) {
+                buckets[level][i] = new Bucket<>();
+            }
+            tick *= wheelSizes[level];
+        }
+    }
+
+    /**
+     * 항목 등록
+     * 이미 만료된 항목은 expired에 담기고, 최상위 범위를 넘으면 등록하지 않고 false를 반환한다.
+     */
+    public boolean add(Entry<T> entry, List<T> expired) {
+        if (entry.bucket != null) {
+            remove(entry);
+        }
+        long fireAt = entry.fireAt;
+        if (fireAt < currentTime[0] + tickMs[0]) {
+            expired.add(entry.value);
+            return true;
+        }
+        for (int level = 0; level < tickMs.length; level++) {
+            if (fireAt < currentTime[level] + tickMs[level] * wheelSizes[level]) {
+                int index = (int) ((fireAt / tickMs[level]) % wheelSizes[level]);
+                buckets[level][index].link(entry);
+                size++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void remove(Entry<T> entry) {
+        if (entry.bucket == null) {
+            return;
+        }
+        entry.bucket.unlink(entry);
+        size--;
+    }
+
+    /**
+     * 시간을 now까지 진행하며 만료된 항목을 expired에 담음
+     * 하위 단계부터 진행해야 상위 단계에서 내려온 항목이 올바른 칸에 들어간다.
+     */
+    public void advance(long now, List<T> expired) {
+        for (int level = 0; level < tickMs.length; level++) {
+            while (currentTime[level] + tickMs[level] <= now) {
+                currentTime[level] += tickMs[level];
+                Bucket<T> bucket = buckets[level][(int) ((currentTime[level] / tickMs[level]) % wheelSizes[level])];
+                Entry<T> entry = bucket.head;
+                while (entry != null) {
+                    Entry<T> next = entry.next;
+                    bucket.unlink(entry);
+                    size--;
+                    add(entry, expired);
+                    entry = next;
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 휠에 넣을 수 있는 가장 먼 시각 (exclusive)
+     */
+    public long horizon() {
+        int top = tickMs.length - 1;
+        return currentTime[top] + tickMs[top] * wheelSizes[top];
+    }
+
+    /**
+     * 휠 항목 (슬롯 내 이중 연결 리스트 노드)
+     */
+    public static class Entry<T> {
+        private final T value;
+        private long fireAt;
+        private Bucket<T> bucket;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        public Entry(T value, long fireAt) {
+            this.value = value;
+            this.fireAt = fireAt;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getFireAt() {
+            return fireAt;
+        }
+
+        /**
+         * 실행 시각 변경 (휠에 등록된 상태면 먼저 remove 후 다시 add해야 함)
+         */
+        public void setFireAt(long fireAt) {
+            this.fireAt = fireAt;
+        }
+
+        public boolean isScheduled() {
+            return bucket != null;
+        }
+    }
+
+    private static final class Bucket<T> {
+        private Entry<T> head;
+
+        void link(Entry<T> entry) {
+            entry.bucket = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        void unlink(Entry<T> entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            }
+            entry.bucket = null;
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.task.dto.TaskActivityResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskActivity;
+import jbnu.jbnupms.domain.task.repository.TaskActivityRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 태스크 변경 이력 조회
+ * 기록은 비동기로 이루어지므로 방금 커밋된 변경은 flush 주기만큼 늦게 보일 수 있다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TaskActivityService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskActivityRepository taskActivityRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    // 최신순, cursor는 이전 페이지 응답의 nextCursor (마지막 이력 ID)
+    public TaskSliceResponse<TaskActivityResponse> getActivities(Long userId, Long taskId, Long cursor, Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "태스크를 찾을 수 없습니다."));
+        if (!projectMemberRepository.existsByProjectIdAndUserId(task.getProject().getId(), userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<TaskActivity> activities = taskActivityRepository.findWithActorByTaskIdBefore(
+                taskId, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = activities.size() > pageSize;
+        if (hasNext) {
+            activities = activities.subList(0, pageSize);
+        }
+
+        return TaskSliceResponse.<TaskActivityResponse>builder()
+                .items(activities.stream().map(TaskActivityResponse::from).collect(Collectors.toList()))
+                .nextCursor(hasNext ? String.valueOf(activities.get(activities.size() - 1).getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
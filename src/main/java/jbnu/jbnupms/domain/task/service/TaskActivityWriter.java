@@ -0,0 +1,129 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jbnu.jbnupms.domain.task.event.TaskActivityEvent;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 태스크 변경 이력 일괄 기록기
+ * 커밋된 이력을 메모리 큐에 넣기만 하고, 전용 스레드가 첫 항목 이후 flush-interval-ms가 지나거나
+ * batch-size만큼 모이면 다중 행 INSERT 한 번으로 기록한다. 요청 스레드는 DB 쓰기를 기다리지 않는다.
+ * 큐가 가득 차면 쓰기 지연을 막기 위해 이력을 버리고 경고를 남긴다.
+ * 일괄 INSERT가 실패하면 행마다 다시 기록해 문제가 된 행만 버린다.
+ */
+@Slf4j
+@Component
+public class TaskActivityWriter {
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final BlockingQueue<TaskActivityEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public TaskActivityWriter(TaskJdbcRepository taskJdbcRepository,
+                              @Value("${task.activity.batch-size:500}") int batchSize,
+                              @Value("${task.activity.flush-interval-ms:200}") long flushIntervalMs,
+                              @Value("${task.activity.queue-capacity:100000}") int queueCapacity) {
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.writer = new Thread(this::run, "task-activity-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 이력을 모두 기록한 뒤 멈춤
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 10_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onActivity(TaskActivityEvent event) {
+        if (!queue.offer(event)) {
+            long count = dropped.incrementAndGet();
+            if (count % 1000 == 1) {
+                log.warn("태스크 이력 큐가 가득 차 이력을 버렸습니다: dropped={}", count);
+            }
+        }
+    }
+
+    private void run() {
+        List<TaskActivityEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TaskActivityEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 항목 이후 flush-interval 동안 batch-size까지 모음
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    TaskActivityEvent next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 중단되면 남은 항목은 기다리지 않고 바로 꺼내 기록
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+
+            this.write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<TaskActivityEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            taskJdbcRepository.insertActivities(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("태스크 이력 기록 실패: taskId={}, type={}", batch.get(0).getTaskId(), batch.get(0).getType(), e);
+                return;
+            }
+            // 한 행 때문에 배치 전체를 잃지 않도록 행마다 다시 기록
+            log.warn("태스크 이력 일괄 기록 실패, 행 단위로 다시 기록: count={}", batch.size(), e);
+            for (TaskActivityEvent event : batch) {
+                try {
+                    taskJdbcRepository.insertActivities(List.of(event));
+                } catch (RuntimeException rowError) {
+                    log.error("태스크 이력 기록 실패: taskId={}, type={}", event.getTaskId(), event.getType(), rowError);
+                }
+            }
+        }
+    }
+}
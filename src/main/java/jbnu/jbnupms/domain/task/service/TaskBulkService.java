@@ -0,0 +1,335 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.dto.TaskBulkCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkUpdateRequest;
+import jbnu.jbnupms.domain.task.entity.TaskActivityField;
+import jbnu.jbnupms.domain.task.entity.TaskActivityType;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskActivityEvent;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskProgressChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskScheduleChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository.TaskInsertRow;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository.TaskUpdateRow;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 태스크 일괄 생성/수정
+ * 권한/상위 태스크/담당자 검증을 요청당 한 번의 쿼리로 끝내고, 쓰기는 JDBC 배치로 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskBulkService {
+
+    private final TaskRepository taskRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+    private final TaskStatsService taskStatsService;
+    private final TaskRankService taskRankService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${task.bulk.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 태스크 일괄 생성
+     * 같은 요청 안의 상위 태스크는 key/parentKey로 참조하며, 깊이 순으로 나눠 삽입한다.
+     * 생성된 태스크 ID를 요청 순서대로 반환한다.
+     */
+    @Transactional
+    public List<Long> createTasks(Long userId, TaskBulkCreateRequest request) {
+        Long projectId = request.getProjectId();
+        List<TaskBulkCreateRequest.Item> items = request.getTasks();
+
+        userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        projectRepository.findById(projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "프로젝트를 찾을 수 없습니다."));
+        this.validateProjectMember(projectId, userId);
+
+        Map<String, Integer> indexByKey = this.indexByKey(items);
+        this.validateExistingParents(projectId, items);
+        this.validateAssignees(projectId, items);
+
+        int[] depths = this.resolveDepths(items, indexByKey);
+        int maxDepth = Arrays.stream(depths).max().orElse(0);
+
+        LocalDateTime now = LocalDateTime.now();
+        Long[] ids = new Long[items.size()];
+        Long[] parentIds = new Long[items.size()];
+
+        // 상위 태스크부터 깊이별로 삽입 (하위 태스크가 상위 태스크의 생성 ID를 참조)
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            List<Integer> level = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                if (depths[i] == depth) {
+                    level.add(i);
+                }
+            }
+
+            List<Long> levelParents = new ArrayList<>(level.size());
+            for (int i : level) {
+                TaskBulkCreateRequest.Item item = items.get(i);
+                parentIds[i] = item.getParentKey() != null ? ids[indexByKey.get(item.getParentKey())] : item.getParentId();
+                levelParents.add(parentIds[i]);
+            }
+            // 상위 태스크별로 요청 순서대로 맨 뒤에 배치
+            List<String> ranks = taskRankService.ranksForAppend(projectId, levelParents);
+
+            List<TaskInsertRow> rows = new ArrayList<>(level.size());
+            for (int j = 0; j < level.size(); j++) {
+                int i = level.get(j);
+                TaskBulkCreateRequest.Item item = items.get(i);
+                rows.add(TaskInsertRow.builder()
+                        .projectId(projectId)
+                        .creatorId(userId)
+                        .parentId(parentIds[i])
+                        .title(item.getTitle())
+                        .description(item.getDescription())
+                        .priority(item.getPriority())
+                        .dueDate(item.getDueDate())
+                        .rank(ranks.get(j))
+                        .createdAt(now)
+                        .build());
+            }
+
+            List<Long> generated = taskJdbcRepository.insertTasks(rows, batchSize);
+            List<Long> levelIds = new ArrayList<>(level.size());
+            List<Long> levelParentIds = new ArrayList<>(level.size());
+            for (int j = 0; j < level.size(); j++) {
+                int i = level.get(j);
+                ids[i] = generated.get(j);
+                levelIds.add(ids[i]);
+                levelParentIds.add(parentIds[i]);
+            }
+            taskJdbcRepository.insertClosureNodes(levelIds, levelParentIds, batchSize);
+        }
+
+        // 담당자 일괄 등록
+        List<Long[]> assignees = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            List<Long> assigneeIds = items.get(i).getAssigneeIds();
+            if (assigneeIds != null) {
+                for (Long assigneeId : new HashSet<>(assigneeIds)) {
+                    assignees.add(new Long[]{ids[i], assigneeId});
+                }
+            }
+        }
+        if (!assignees.isEmpty()) {
+            taskJdbcRepository.insertAssignees(assignees, now, batchSize);
+        }
+
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        for (TaskBulkCreateRequest.Item item : items) {
+            statsDelta.add(TaskStatus.NOT_STARTED, item.getPriority() != null ? item.getPriority() : TaskPriority.MEDIUM, 1);
+        }
+        taskStatsService.apply(projectId, statsDelta);
+
+        // 진행률 롤업 (같은 상위 태스크는 한 번만)
+        new HashSet<>(Arrays.asList(parentIds))
+                .forEach(parentId -> eventPublisher.publishEvent(new TaskProgressChangedEvent(projectId, parentId)));
+        for (int i = 0; i < ids.length; i++) {
+            eventPublisher.publishEvent(new TaskChangedEvent(projectId, ids[i], TaskChangeType.CREATED));
+            if (items.get(i).getDueDate() != null) {
+                eventPublisher.publishEvent(new TaskScheduleChangedEvent(projectId, ids[i]));
+            }
+            eventPublisher.publishEvent(TaskActivityEvent.of(projectId, ids[i], userId, TaskActivityType.CREATED));
+        }
+
+        log.info("태스크 일괄 생성 완료: projectId={}, count={}, userId={}", projectId, items.size(), userId);
+
+        return Arrays.asList(ids);
+    }
+
+    /**
+     * 태스크 일괄 수정 (null인 필드는 기존 값 유지)
+     */
+    @Transactional
+    public void updateTasks(Long userId, TaskBulkUpdateRequest request) {
+        Long projectId = request.getProjectId();
+        List<TaskBulkUpdateRequest.Item> items = request.getTasks();
+
+        this.validateProjectMember(projectId, userId);
+
+        Set<Long> taskIds = items.stream().map(TaskBulkUpdateRequest.Item::getId).collect(Collectors.toSet());
+        if (taskIds.size() != items.size()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "같은 태스크가 중복되어 있습니다.");
+        }
+
+        // 태스크 ID -> 상위 태스크 ID, 수정 전 (상태, 우선순위, 제목, 마감일)
+        Map<Long, Long> parentById = new HashMap<>();
+        Map<Long, Object[]> stateById = new HashMap<>();
+        for (Object[] row : taskRepository.findStateByProjectIdAndIdIn(projectId, taskIds)) {
+            parentById.put((Long) row[0], (Long) row[1]);
+            stateById.put((Long) row[0], row);
+        }
+        if (parentById.size() != taskIds.size()) {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "프로젝트에 속하지 않은 태스크가 포함되어 있습니다.");
+        }
+
+        List<TaskUpdateRow> rows = items.stream()
+                .map(item -> TaskUpdateRow.builder()
+                        .id(item.getId())
+                        .title(item.getTitle())
+                        .description(item.getDescription())
+                        .status(item.getStatus())
+                        .priority(item.getPriority())
+                        .dueDate(item.getDueDate())
+                        .progress(item.getProgress())
+                        .build())
+                .collect(Collectors.toList());
+
+        taskJdbcRepository.updateTasks(projectId, rows, LocalDateTime.now(), batchSize);
+
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        for (TaskBulkUpdateRequest.Item item : items) {
+            Object[] state = stateById.get(item.getId());
+            TaskStatus status = (TaskStatus) state[2];
+            TaskPriority priority = (TaskPriority) state[3];
+            statsDelta.change(status, priority,
+                    item.getStatus() != null ? item.getStatus() : status,
+                    item.getPriority() != null ? item.getPriority() : priority);
+        }
+        taskStatsService.apply(projectId, statsDelta);
+
+        // 상태/진행률이 바뀐 태스크의 상위 태스크만 롤업
+        items.stream()
+                .filter(item -> item.getStatus() != null || item.getProgress() != null)
+                .map(item -> parentById.get(item.getId()))
+                .collect(Collectors.toCollection(HashSet::new))
+                .forEach(parentId -> eventPublisher.publishEvent(new TaskProgressChangedEvent(projectId, parentId)));
+        taskIds.forEach(taskId -> eventPublisher.publishEvent(new TaskChangedEvent(projectId, taskId, TaskChangeType.UPDATED)));
+        items.stream()
+                .filter(item -> item.getStatus() != null || item.getDueDate() != null)
+                .forEach(item -> eventPublisher.publishEvent(new TaskScheduleChangedEvent(projectId, item.getId())));
+        for (TaskBulkUpdateRequest.Item item : items) {
+            Object[] state = stateById.get(item.getId());
+            this.publishFieldChange(projectId, userId, item.getId(), TaskActivityField.TITLE, state[4], item.getTitle());
+            this.publishFieldChange(projectId, userId, item.getId(), TaskActivityField.STATUS, state[2], item.getStatus());
+            this.publishFieldChange(projectId, userId, item.getId(), TaskActivityField.PRIORITY, state[3], item.getPriority());
+            this.publishFieldChange(projectId, userId, item.getId(), TaskActivityField.DUE_DATE, state[5], item.getDueDate());
+        }
+
+        log.info("태스크 일괄 수정 완료: projectId={}, count={}, userId={}", projectId, items.size(), userId);
+    }
+
+    // 요청에 값이 있고 기존 값과 다른 필드만 이력으로 남김 (TaskService와 같은 기준)
+    private void publishFieldChange(Long projectId, Long userId, Long taskId, TaskActivityField field, Object before, Object after) {
+        if (after != null && !Objects.equals(before, after)) {
+            eventPublisher.publishEvent(TaskActivityEvent.changed(projectId, taskId, userId, field, before, after));
+        }
+    }
+
+    private Map<String, Integer> indexByKey(List<TaskBulkCreateRequest.Item> items) {
+        Map<String, Integer> indexByKey = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            TaskBulkCreateRequest.Item item = items.get(i);
+            if (item.getParentKey() != null && item.getParentId() != null) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "parentKey와 parentId는 함께 사용할 수 없습니다.");
+            }
+            if (item.getKey() != null && indexByKey.put(item.getKey(), i) != null) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "중복된 key입니다: " + item.getKey());
+            }
+        }
+        return indexByKey;
+    }
+
+    // 요청 안의 각 태스크 깊이 계산 (같은 요청 안의 상위 태스크 기준, 순환 참조 검사)
+    private int[] resolveDepths(List<TaskBulkCreateRequest.Item> items, Map<String, Integer> indexByKey) {
+        int[] depths = new int[items.size()];
+        Arrays.fill(depths, -1);
+
+        for (int start = 0; start < items.size(); start++) {
+            Deque<Integer> path = new ArrayDeque<>();
+            Set<Integer> visiting = new HashSet<>();
+            int current = start;
+
+            // 깊이를 아는 노드나 요청 밖의 상위 태스크를 만날 때까지 거슬러 올라감
+            while (depths[current] < 0) {
+                if (!visiting.add(current)) {
+                    throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "상위 태스크 참조에 순환이 있습니다.");
+                }
+                path.push(current);
+                String parentKey = items.get(current).getParentKey();
+                if (parentKey == null) {
+                    break;
+                }
+                Integer parentIndex = indexByKey.get(parentKey);
+                if (parentIndex == null) {
+                    throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "존재하지 않는 parentKey입니다: " + parentKey);
+                }
+                current = parentIndex;
+            }
+
+            int depth = depths[current] >= 0 ? depths[current] : -1;
+            while (!path.isEmpty()) {
+                depths[path.pop()] = ++depth;
+            }
+        }
+        return depths;
+    }
+
+    private void validateExistingParents(Long projectId, List<TaskBulkCreateRequest.Item> items) {
+        Set<Long> parentIds = items.stream()
+                .map(TaskBulkCreateRequest.Item::getParentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (parentIds.isEmpty()) {
+            return;
+        }
+        if (taskRepository.findIdsByProjectIdAndIdIn(projectId, parentIds).size() != parentIds.size()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "상위 태스크를 찾을 수 없거나 다른 프로젝트에 속해 있습니다.");
+        }
+    }
+
+    private void validateAssignees(Long projectId, List<TaskBulkCreateRequest.Item> items) {
+        Set<Long> assigneeIds = items.stream()
+                .map(TaskBulkCreateRequest.Item::getAssigneeIds)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        if (assigneeIds.isEmpty()) {
+            return;
+        }
+        if (projectMemberRepository.findMemberUserIds(projectId, assigneeIds).size() != assigneeIds.size()) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닌 담당자가 포함되어 있습니다.");
+        }
+    }
+
+    private void validateProjectMember(Long projectId, Long userId) {
+        if (!projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다.");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 태스크 댓글/첨부 파일 수 주기 보정
+ * 증감 쿼리 누락(직접 수정된 데이터, 서브트리 일괄 삭제 등)으로 어긋난 행만 프로젝트 단위 트랜잭션으로 다시 센다.
+ * 고친 행이 있으면 같은 트랜잭션에서 프로젝트 태스크 버전을 올려 목록 캐시/ETag가 새 값을 반영하게 한다.
+ */
+@Slf4j
+@Component
+public class TaskCounterRepairer {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskCounterRepairer(ProjectRepository projectRepository,
+                               TaskRepository taskRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${task.counter.repair-cron:0 45 3 * * *}")
+    public void repairAll() {
+        int projects = 0;
+        int fixed = 0;
+        for (Long projectId : projectRepository.findAllIds()) {
+            try {
+                Integer rows = transactionTemplate.execute(status -> {
+                    int repaired = taskRepository.repairCommentCounts(projectId) + taskRepository.repairFileCounts(projectId);
+                    if (repaired > 0) {
+                        projectRepository.incrementTaskRevision(projectId);
+                    }
+                    return repaired;
+                });
+                fixed += rows != null ? rows : 0;
+                projects++;
+            } catch (Exception e) {
+                log.error("태스크 댓글/파일 수 보정 실패: projectId={}", projectId, e);
+            }
+        }
+        log.info("태스크 댓글/파일 수 보정 완료: projects={}, fixedRows={}", projects, fixed);
+    }
+}
@@ -0,0 +1,300 @@
+package jbnu.jbnupms.domain.task.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 태스크 선후행 그래프 (불변, 스레드 안전)
+ * 태스크를 0..n-1 정수 인덱스로 바꾸고 간선은 CSR 형태의 int 배열(시작 위치 + 대상 목록)로 보관해
+ * 태스크 수천 개 규모에서도 객체 할당 없이 순회한다.
+ * 간선 from -> to 는 "from이 끝나야 to를 시작할 수 있음"(from blocks to)을 뜻한다.
+ */
+public class TaskDependencyGraph {
+
+    public static final int NO_DEADLINE = Integer.MAX_VALUE;
+
+    private final long[] taskIds;
+    private final Map<Long, Integer> indexById;
+    private final int[] outStart;
+    private final int[] outEdges;
+    private final int[] inStart;
+    private final int[] inEdges;
+
+    private TaskDependencyGraph(long[] taskIds, Map<Long, Integer> indexById,
+                                int[] outStart, int[] outEdges, int[] inStart, int[] inEdges) {
+        this.taskIds = taskIds;
+        this.indexById = indexById;
+        this.outStart = outStart;
+        this.outEdges = outEdges;
+        this.inStart = inStart;
+        this.inEdges = inEdges;
+    }
+
+    /**
+     * 그래프 생성 (taskIds에 없는 태스크를 가리키는 간선은 무시)
+     */
+    public static TaskDependencyGraph build(long[] taskIds, long[] fromIds, long[] toIds) {
+        int n = taskIds.length;
+        Map<Long, Integer> indexById = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexById.put(taskIds[i], i);
+        }
+
+        int[] from = new int[fromIds.length];
+        int[] to = new int[toIds.length];
+        int edges = 0;
+        for (int e = 0; e < fromIds.length; e++) {
+            Integer f = indexById.get(fromIds[e]);
+            Integer t = indexById.get(toIds[e]);
+            if (f != null && t != null) {
+                from[edges] = f;
+                to[edges] = t;
+                edges++;
+            }
+        }
+
+        int[] outStart = new int[n + 1];
+        int[] inStart = new int[n + 1];
+        for (int e = 0; e < edges; e++) {
+            outStart[from[e] + 1]++;
+            inStart[to[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            outStart[i + 1] += outStart[i];
+            inStart[i + 1] += inStart[i];
+        }
+
+        int[] outEdges = new int[edges];
+        int[] inEdges = new int[edges];
+        int[] outFill = Arrays.copyOf(outStart, n);
+        int[] inFill = Arrays.copyOf(inStart, n);
+        for (int e = 0; e < edges; e++) {
+            outEdges[outFill[from[e]]++] = to[e];
+            inEdges[inFill[to[e]]++] = from[e];
+        }
+        return new TaskDependencyGraph(taskIds, indexById, outStart, outEdges, inStart, inEdges);
+    }
+
+    public int size() {
+        return taskIds.length;
+    }
+
+    public long taskId(int index) {
+        return taskIds[index];
+    }
+
+    public int indexOf(long taskId) {
+        Integer index = indexById.get(taskId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * fromId에서 간선을 따라 toId에 도달할 수 있는지 (fromId == toId이면 true)
+     * 새 간선 a -> b 는 b에서 a에 도달할 수 있으면 순환을 만든다.
+     */
+    public boolean reaches(long fromId, long toId) {
+        int source = indexOf(fromId);
+        int target = indexOf(toId);
+        if (source < 0 || target < 0) {
+            return fromId == toId;
+        }
+
+        boolean[] visited = new boolean[taskIds.length];
+        int[] stack = new int[taskIds.length];
+        int top = 0;
+        stack[top++] = source;
+        visited[source] = true;
+        while (top > 0) {
+            int node = stack[--top];
+            if (node == target) {
+                return true;
+            }
+            for (int e = outStart[node]; e < outStart[node + 1]; e++) {
+                int next = outEdges[e];
+                if (!visited[next]) {
+                    visited[next] = true;
+                    stack[top++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 위상 정렬 (Kahn), 순환이 있으면 null
+     */
+    public int[] topologicalOrder() {
+        int n = taskIds.length;
+        int[] inDegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = inStart[i + 1] - inStart[i];
+        }
+
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int node = order[head++];
+            for (int e = outStart[node]; e < outStart[node + 1]; e++) {
+                if (--inDegree[outEdges[e]] == 0) {
+                    order[tail++] = outEdges[e];
+                }
+            }
+        }
+        return tail == n ? order : null;
+    }
+
+    /**
+     * 주경로(CPM) 계산
+     * 정방향 한 번으로 가장 이른 시작/종료를, 역방향 한 번으로 가장 늦은 시작/종료를 구한다.
+     * 가장 늦은 종료는 후행 태스크의 가장 늦은 시작, 프로젝트 종료 시점, 마감일 중 가장 이른 값이며
+     * 마감일이 빠듯하면 여유(slack)가 음수가 될 수 있다.
+     *
+     * @param durations 태스크별 소요 기간 (인덱스 순)
+     * @param deadlines 태스크별 마감 시점 (없으면 NO_DEADLINE)
+     */
+    public Schedule schedule(int[] durations, int[] deadlines) {
+        int[] order = topologicalOrder();
+        if (order == null) {
+            throw new IllegalStateException("dependency graph has a cycle");
+        }
+
+        int n = taskIds.length;
+        int[] earliestStart = new int[n];
+        int[] earliestFinish = new int[n];
+        int length = 0;
+        for (int node : order) {
+            int start = 0;
+            for (int e = inStart[node]; e < inStart[node + 1]; e++) {
+                start = Math.max(start, earliestFinish[inEdges[e]]);
+            }
+            earliestStart[node] = start;
+            earliestFinish[node] = start + durations[node];
+            length = Math.max(length, earliestFinish[node]);
+        }
+
+        int[] latestStart = new int[n];
+        int[] latestFinish = new int[n];
+        int[] slack = new int[n];
+        int minSlack = Integer.MAX_VALUE;
+        for (int i = n - 1; i >= 0; i--) {
+            int node = order[i];
+            int finish = Math.min(length, deadlines[node]);
+            for (int e = outStart[node]; e < outStart[node + 1]; e++) {
+                finish = Math.min(finish, latestStart[outEdges[e]]);
+            }
+            latestFinish[node] = finish;
+            latestStart[node] = finish - durations[node];
+            slack[node] = latestStart[node] - earliestStart[node];
+            minSlack = Math.min(minSlack, slack[node]);
+        }
+
+        return new Schedule(earliestStart, earliestFinish, latestStart, latestFinish, slack,
+                n > 0 ? minSlack : 0, length, criticalPath(order, earliestStart, earliestFinish, slack, minSlack));
+    }
+
+    // 여유가 최소인 태스크 중 앞뒤가 빈틈없이 이어지는 사슬 하나 (가장 이른 것부터)
+    private int[] criticalPath(int[] order, int[] earliestStart, int[] earliestFinish, int[] slack, int minSlack) {
+        int start = -1;
+        for (int node : order) {
+            if (slack[node] == minSlack && !hasTightPredecessor(node, earliestStart, earliestFinish, slack, minSlack)) {
+                start = node;
+                break;
+            }
+        }
+        if (start < 0) {
+            return new int[0];
+        }
+
+        int[] path = new int[taskIds.length];
+        int length = 0;
+        int node = start;
+        while (node >= 0) {
+            path[length++] = node;
+            int next = -1;
+            for (int e = outStart[node]; e < outStart[node + 1]; e++) {
+                int candidate = outEdges[e];
+                if (slack[candidate] == minSlack && earliestStart[candidate] == earliestFinish[node]) {
+                    next = candidate;
+                    break;
+                }
+            }
+            node = next;
+        }
+        return Arrays.copyOf(path, length);
+    }
+
+    private boolean hasTightPredecessor(int node, int[] earliestStart, int[] earliestFinish, int[] slack, int minSlack) {
+        for (int e = inStart[node]; e < inStart[node + 1]; e++) {
+            int prev = inEdges[e];
+            if (slack[prev] == minSlack && earliestFinish[prev] == earliestStart[node]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 주경로 계산 결과 (배열은 그래프 인덱스 순)
+     */
+    public static class Schedule {
+        private final int[] earliestStart;
+        private final int[] earliestFinish;
+        private final int[] latestStart;
+        private final int[] latestFinish;
+        private final int[] slack;
+        private final int minSlack;
+        private final int length;
+        private final int[] criticalPath;
+
+        Schedule(int[] earliestStart, int[] earliestFinish, int[] latestStart, int[] latestFinish, int[] slack,
+                 int minSlack, int length, int[] criticalPath) {
+            this.earliestStart = earliestStart;
+            this.earliestFinish = earliestFinish;
+            this.latestStart = latestStart;
+            this.latestFinish = latestFinish;
+            this.slack = slack;
+            this.minSlack = minSlack;
+            this.length = length;
+            this.criticalPath = criticalPath;
+        }
+
+        public int earliestStart(int index) {
+            return earliestStart[index];
+        }
+
+        public int earliestFinish(int index) {
+            return earliestFinish[index];
+        }
+
+        public int latestStart(int index) {
+            return latestStart[index];
+        }
+
+        public int latestFinish(int index) {
+            return latestFinish[index];
+        }
+
+        public int slack(int index) {
+            return slack[index];
+        }
+
+        public boolean isCritical(int index) {
+            return slack[index] == minSlack;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public int[] criticalPath() {
+            return criticalPath;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.dto.TaskDependencyRequest;
+import jbnu.jbnupms.domain.task.dto.TaskDependencyResponse;
+import jbnu.jbnupms.domain.task.dto.TaskScheduleResponse;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskDependency;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskDependencyChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskScheduleChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskDependencyRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 태스크 선후행 관계와 프로젝트 주경로 일정
+ * 관계 추가는 프로젝트 행 잠금으로 직렬화한 뒤 DB의 간선으로 그래프를 만들어 순환 여부를 검사한다.
+ * 일정은 프로젝트 태스크와 간선을 한 번씩 읽어 TaskDependencyGraph로 계산하고,
+ * 관계/마감일/태스크 구성이 바뀔 때까지 TaskScheduleCache에 보관한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TaskDependencyService {
+
+    // 태스크 추정 기간이 없으므로 남은 태스크는 하루, 완료된 태스크는 0일로 계산
+    private static final int TASK_DURATION_DAYS = 1;
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskScheduleCache taskScheduleCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 선행 태스크 추가 (blockerId가 끝나야 taskId를 시작할 수 있음)
+    @Transactional
+    public void addDependency(Long userId, Long taskId, TaskDependencyRequest request) {
+        Task blocked = this.getTaskById(taskId);
+        Long projectId = blocked.getProject().getId();
+        this.validateProjectMember(projectId, userId);
+
+        Long blockerId = request.getBlockerId();
+        if (blockerId.equals(taskId)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "자기 자신을 선행 태스크로 지정할 수 없습니다.");
+        }
+        Task blocker = this.getTaskById(blockerId);
+        if (!blocker.getProject().getId().equals(projectId)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "선행 태스크가 다른 프로젝트에 속해 있습니다.");
+        }
+
+        // 같은 프로젝트의 관계 추가를 직렬화해야 동시에 추가된 두 간선이 순환을 만들지 않음
+        projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PROJECT_NOT_FOUND));
+        if (taskDependencyRepository.existsByBlockerIdAndBlockedId(blockerId, taskId)) {
+            throw new CustomException(ErrorCode.DUPLICATE_RESOURCE, "이미 등록된 선행 관계입니다.");
+        }
+        // 새 간선 blocker -> blocked 는 blocked에서 blocker에 도달할 수 있으면 순환을 만든다
+        if (this.loadEdgeGraph(projectId).reaches(taskId, blockerId)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "선행 관계에 순환이 생겨 추가할 수 없습니다.");
+        }
+
+        taskDependencyRepository.save(TaskDependency.builder()
+                .projectId(projectId)
+                .blocker(blocker)
+                .blocked(blocked)
+                .build());
+        eventPublisher.publishEvent(new TaskDependencyChangedEvent(projectId));
+    }
+
+    // 선행 태스크 해제
+    @Transactional
+    public void removeDependency(Long userId, Long taskId, Long blockerId) {
+        Task blocked = this.getTaskById(taskId);
+        Long projectId = blocked.getProject().getId();
+        this.validateProjectMember(projectId, userId);
+
+        if (taskDependencyRepository.deleteByBlockerIdAndBlockedId(blockerId, taskId) == 0) {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "선행 관계를 찾을 수 없습니다.");
+        }
+        eventPublisher.publishEvent(new TaskDependencyChangedEvent(projectId));
+    }
+
+    // 태스크의 선행/후행 태스크
+    public TaskDependencyResponse getDependencies(Long userId, Long taskId) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectMember(task.getProject().getId(), userId);
+
+        return TaskDependencyResponse.builder()
+                .blockers(taskDependencyRepository.findBlockersByTaskId(taskId).stream()
+                        .map(TaskDependencyResponse.Item::from)
+                        .collect(Collectors.toList()))
+                .blocked(taskDependencyRepository.findBlockedByTaskId(taskId).stream()
+                        .map(TaskDependencyResponse.Item::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    // 프로젝트 주경로 일정 (오늘 시작 기준)
+    public TaskScheduleResponse getSchedule(Long userId, Long projectId) {
+        this.validateProjectMember(projectId, userId);
+
+        LocalDate today = LocalDate.now();
+        TaskScheduleResponse cached = taskScheduleCache.get(projectId, today);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = taskScheduleCache.generation(projectId);
+        TaskScheduleResponse schedule = this.computeSchedule(projectId, today);
+        taskScheduleCache.put(projectId, today, schedule, generation);
+        return schedule;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onDependencyChanged(TaskDependencyChangedEvent event) {
+        taskScheduleCache.evict(event.getProjectId());
+    }
+
+    // 마감일 변경 (생성/삭제 포함)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onScheduleChanged(TaskScheduleChangedEvent event) {
+        taskScheduleCache.evict(event.getProjectId());
+    }
+
+    // 태스크 구성 변경 (마감일 없는 태스크의 생성/삭제, 서브트리 삭제)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() != TaskChangeType.UPDATED) {
+            taskScheduleCache.evict(event.getProjectId());
+        }
+    }
+
+    private TaskScheduleResponse computeSchedule(Long projectId, LocalDate today) {
+        List<Object[]> tasks = taskRepository.findDueDatesByProjectId(projectId);
+        List<Object[]> edges = taskDependencyRepository.findEdgesByProjectId(projectId);
+
+        int n = tasks.size();
+        long[] taskIds = new long[n];
+        boolean[] completed = new boolean[n];
+        int[] durations = new int[n];
+        int[] deadlines = new int[n];
+        long startDay = today.toEpochDay();
+        for (int i = 0; i < n; i++) {
+            Object[] row = tasks.get(i);
+            taskIds[i] = (Long) row[0];
+            completed[i] = row[2] == TaskStatus.DONE;
+            durations[i] = completed[i] ? 0 : TASK_DURATION_DAYS;
+            LocalDateTime dueDate = (LocalDateTime) row[1];
+            // 마감일 당일까지 끝내면 되므로 다음 날 0시가 가장 늦은 종료 시점 (완료된 태스크는 마감일과 무관)
+            deadlines[i] = dueDate != null && !completed[i]
+                    ? (int) (dueDate.toLocalDate().toEpochDay() - startDay + 1)
+                    : TaskDependencyGraph.NO_DEADLINE;
+        }
+
+        long[] fromIds = new long[edges.size()];
+        long[] toIds = new long[edges.size()];
+        for (int e = 0; e < edges.size(); e++) {
+            fromIds[e] = (Long) edges.get(e)[0];
+            toIds[e] = (Long) edges.get(e)[1];
+        }
+
+        TaskDependencyGraph graph = TaskDependencyGraph.build(taskIds, fromIds, toIds);
+        TaskDependencyGraph.Schedule schedule = graph.schedule(durations, deadlines);
+
+        List<TaskScheduleResponse.Item> items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            items.add(TaskScheduleResponse.Item.builder()
+                    .taskId(taskIds[i])
+                    .earliestStart(today.plusDays(schedule.earliestStart(i)))
+                    .earliestFinish(finishDate(today, schedule.earliestStart(i), schedule.earliestFinish(i)))
+                    .latestStart(today.plusDays(schedule.latestStart(i)))
+                    .latestFinish(finishDate(today, schedule.latestStart(i), schedule.latestFinish(i)))
+                    .slackDays(schedule.slack(i))
+                    .critical(!completed[i] && schedule.isCritical(i))
+                    .completed(completed[i])
+                    .build());
+        }
+
+        // 완료된 태스크는 남은 일정에 영향을 주지 않으므로 주경로에서 제외
+        List<Long> criticalPath = new ArrayList<>();
+        for (int index : schedule.criticalPath()) {
+            if (!completed[index]) {
+                criticalPath.add(graph.taskId(index));
+            }
+        }
+
+        return TaskScheduleResponse.builder()
+                .projectId(projectId)
+                .startDate(today)
+                .endDate(schedule.length() > 0 ? today.plusDays(schedule.length() - 1L) : today)
+                .durationDays(schedule.length())
+                .criticalPath(criticalPath)
+                .tasks(items)
+                .build();
+    }
+
+    // 종료일(해당 일 포함), 기간이 0이면 시작일과 같은 날
+    private static LocalDate finishDate(LocalDate today, int start, int finish) {
+        return today.plusDays(Math.max(finish - 1L, start));
+    }
+
+    // 간선에 등장하는 태스크만으로 만든 그래프 (순환 검사용)
+    private TaskDependencyGraph loadEdgeGraph(Long projectId) {
+        List<Object[]> edges = taskDependencyRepository.findEdgesByProjectId(projectId);
+        Set<Long> nodes = new LinkedHashSet<>();
+        long[] fromIds = new long[edges.size()];
+        long[] toIds = new long[edges.size()];
+        for (int e = 0; e < edges.size(); e++) {
+            fromIds[e] = (Long) edges.get(e)[0];
+            toIds[e] = (Long) edges.get(e)[1];
+            nodes.add(fromIds[e]);
+            nodes.add(toIds[e]);
+        }
+        return TaskDependencyGraph.build(nodes.stream().mapToLong(Long::longValue).toArray(), fromIds, toIds);
+    }
+
+    private Task getTaskById(Long taskId) {
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "태스크를 찾을 수 없습니다."));
+    }
+
+    private void validateProjectMember(Long projectId, Long userId) {
+        if (!projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다.");
+        }
+    }
+}
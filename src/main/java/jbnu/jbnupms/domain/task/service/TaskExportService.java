@@ -0,0 +1,227 @@
+package jbnu.jbnupms.domain.task.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.task.dto.TaskExportFormat;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository.TaskExportRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 프로젝트 태스크 스트리밍 내보내기 (CSV / NDJSON)
+ * 상위 태스크가 하위 태스크보다 먼저 나오는 계층 순서(깊이, 상위 태스크, 순위)로 내보내므로 파일을 그대로 다시 가져올 수 있다.
+ * 읽기 전용 트랜잭션의 forward-only 커서 하나에서 fetch-size 행씩 받아 바로 응답 스트림에 쓰므로
+ * 태스크 수와 관계없이 메모리 사용량이 일정하고 쿼리는 한 번만 실행된다. (시작 시점 스냅샷 기준)
+ * 커서가 커넥션을 잡고 있으므로 동시 내보내기 수는 max-concurrent로 제한하고, timeout-ms가 지나면 남은 행을 쓰지 않고 끊는다.
+ * 스트리밍은 요청 스레드가 아닌 비동기 스레드에서 실행되므로 권한 검사와 동시 실행 제한은 응답 본문을 만들기 전에 끝낸다.
+ */
+@Slf4j
+@Service
+public class TaskExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String[] CSV_HEADER = {"id", "parentId", "title", "description", "status", "priority", "progress",
+            "dueDate", "rank", "creatorId", "creatorName", "creatorEmail", "assigneeEmails", "createdAt", "updatedAt"};
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+    private final long timeoutMillis;
+    private final Semaphore permits;
+
+    public TaskExportService(TaskJdbcRepository taskJdbcRepository,
+                             ProjectMemberRepository projectMemberRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${task.export.fetch-size:1000}") int fetchSize,
+                             @Value("${task.export.timeout-ms:600000}") long timeoutMillis,
+                             @Value("${task.export.max-concurrent:4}") int maxConcurrent) {
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 응답의 비동기 처리 제한 시간 (컨트롤러에서 요청별로 적용)
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public StreamingResponseBody export(Long userId, Long projectId, TaskExportFormat format) {
+        if (!projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다.");
+        }
+        if (!permits.tryAcquire()) {
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        return outputStream -> {
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+                long startedAt = System.currentTimeMillis();
+                long[] count = new long[1];
+                try {
+                    if (format == TaskExportFormat.NDJSON) {
+                        this.writeNdjson(projectId, writer, count, startedAt + timeoutMillis);
+                    } else {
+                        this.writeCsv(projectId, writer, count, startedAt + timeoutMillis);
+                    }
+                } catch (UncheckedIOException e) {
+                    // 클라이언트가 다운로드를 중단했거나 제한 시간이 지난 경우
+                    log.warn("태스크 내보내기 중단: projectId={}, format={}, rows={}, reason={}",
+                            projectId, format, count[0], e.getCause().getMessage());
+                    throw e.getCause();
+                }
+                writer.flush();
+                log.info("태스크 내보내기 완료: projectId={}, format={}, rows={}, elapsedMs={}",
+                        projectId, format, count[0], System.currentTimeMillis() - startedAt);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private void writeCsv(Long projectId, Writer writer, long[] count, long deadline) throws IOException {
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write('\uFEFF');
+        this.writeCsvLine(writer, (Object[]) CSV_HEADER);
+        this.stream(projectId, deadline, row -> {
+            try {
+                this.writeCsvLine(writer, row.getId(), row.getParentId(), row.getTitle(), row.getDescription(),
+                        row.getStatus(), row.getPriority(), row.getProgress(), row.getDueDate(), row.getRank(),
+                        row.getCreatorId(), row.getCreatorName(), row.getCreatorEmail(), row.getAssigneeEmails(),
+                        row.getCreatedAt(), row.getUpdatedAt());
+                count[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Long projectId, Writer writer, long[] count, long deadline) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.stream(projectId, deadline, row -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", row.getId());
+                    this.writeNumber(generator, "parentId", row.getParentId());
+                    generator.writeStringField("title", row.getTitle());
+                    generator.writeStringField("description", row.getDescription());
+                    generator.writeStringField("status", row.getStatus().name());
+                    generator.writeStringField("priority", row.getPriority().name());
+                    this.writeNumber(generator, "progress", row.getProgress());
+                    generator.writeStringField("dueDate", this.format(row.getDueDate()));
+                    generator.writeStringField("rank", row.getRank());
+                    generator.writeObjectFieldStart("creator");
+                    generator.writeNumberField("id", row.getCreatorId());
+                    generator.writeStringField("name", row.getCreatorName());
+                    generator.writeStringField("email", row.getCreatorEmail());
+                    generator.writeEndObject();
+                    generator.writeArrayFieldStart("assigneeEmails");
+                    if (row.getAssigneeEmails() != null) {
+                        for (String email : row.getAssigneeEmails().split(";")) {
+                            generator.writeString(email);
+                        }
+                    }
+                    generator.writeEndArray();
+                    generator.writeStringField("createdAt", this.format(row.getCreatedAt()));
+                    generator.writeStringField("updatedAt", this.format(row.getUpdatedAt()));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void stream(Long projectId, long deadline, Consumer<TaskExportRow> consumer) {
+        readOnlyTransaction.executeWithoutResult(status -> taskJdbcRepository.streamExportRows(projectId, fetchSize, row -> {
+            if (System.currentTimeMillis() > deadline) {
+                throw new UncheckedIOException(new IOException("내보내기 제한 시간을 초과했습니다."));
+            }
+            consumer.accept(row);
+        }));
+    }
+
+    private void writeNumber(JsonGenerator generator, String field, Number value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else if (value instanceof Long) {
+            generator.writeNumberField(field, value.longValue());
+        } else {
+            generator.writeNumberField(field, value.doubleValue());
+        }
+    }
+
+    private void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                this.writeCsvValue(writer, value instanceof LocalDateTime ? this.format((LocalDateTime) value) : value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180 인용 처리, 스프레드시트 수식으로 해석되는 값은 앞에 작은따옴표를 붙임
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !this.isNumber(value)) {
+            value = "'" + value;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private boolean isNumber(String value) {
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && c != '.') {
+                return false;
+            }
+        }
+        return value.length() > 1;
+    }
+
+    private String format(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,86 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.repository.TaskClosureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 태스크 계층 인덱스 (클로저 테이블) 관리
+ * TaskService의 생성/이동/삭제 트랜잭션 안에서 함께 갱신되며,
+ * 서브트리/조상 체인/깊이 조회를 각각 인덱스를 타는 단일 SELECT로 제공한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskHierarchyService {
+
+    private final TaskClosureRepository taskClosureRepository;
+
+    /**
+     * 태스크 생성 시 등록
+     */
+    @Transactional
+    public void onCreated(Long taskId, Long parentId) {
+        taskClosureRepository.insertNode(taskId, parentId);
+    }
+
+    /**
+     * 상위 태스크 변경 시 서브트리 전체를 새 위치로 이동
+     */
+    @Transactional
+    public void onMoved(Long taskId, Long newParentId) {
+        taskClosureRepository.detachSubtree(taskId);
+        if (newParentId != null) {
+            taskClosureRepository.attachSubtree(taskId, newParentId);
+        }
+    }
+
+    /**
+     * 태스크 삭제 시 서브트리 전체 제거
+     */
+    @Transactional
+    public void onDeleted(Long taskId) {
+        taskClosureRepository.deleteSubtree(taskId);
+    }
+
+    /**
+     * 하위 태스크 ID 전체 (자기 자신 제외)
+     */
+    public List<Long> getDescendantIds(Long taskId) {
+        return taskClosureRepository.findDescendantIds(taskId);
+    }
+
+    /**
+     * 상위 태스크 ID 체인 (루트부터, 자기 자신 제외)
+     */
+    public List<Long> getAncestorIds(Long taskId) {
+        return taskClosureRepository.findAncestorIds(taskId);
+    }
+
+    /**
+     * 상위 태스크 체인 (루트부터, 자기 자신 제외)
+     */
+    public List<Task> getAncestors(Long taskId) {
+        return taskClosureRepository.findAncestors(taskId);
+    }
+
+    /**
+     * 태스크 깊이 (루트 = 0)
+     */
+    public int getDepth(Long taskId) {
+        Integer depth = taskClosureRepository.findDepth(taskId);
+        return depth != null ? depth : 0;
+    }
+
+    /**
+     * taskId를 newParentId 아래로 옮기면 순환이 생기는지 확인
+     * (newParentId가 taskId 자신이거나 그 하위 태스크인 경우)
+     */
+    public boolean wouldCreateCycle(Long taskId, Long newParentId) {
+        return newParentId != null && taskClosureRepository.isInSubtree(taskId, newParentId);
+    }
+}
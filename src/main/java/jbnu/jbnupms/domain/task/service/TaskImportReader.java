@@ -0,0 +1,199 @@
+package jbnu.jbnupms.domain.task.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.task.dto.TaskExportFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가져오기 파일을 한 행씩 읽는 리더 (CSV / NDJSON)
+ * 행을 읽을 때마다 {컬럼명 -> 값} 맵으로 돌려주며 한 번에 한 행만 메모리에 둔다.
+ * 내보내기 파일을 그대로 다시 올릴 수 있도록 id/parentId 컬럼은 key/parentKey로 취급한다.
+ */
+class TaskImportReader {
+
+    // 한 행(따옴표 안 줄바꿈 포함)의 최대 길이
+    private static final int MAX_RECORD_LENGTH = 1024 * 1024;
+    private static final Map<String, String> ALIASES = Map.of("id", "key", "parentId", "parentKey");
+
+    private final BufferedReader reader;
+    private final TaskExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder field = new StringBuilder();
+    private String[] header;
+    private long lineNumber;
+
+    TaskImportReader(InputStream input, TaskExportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 데이터 행 (빈 줄은 건너뜀), 파일 끝이면 null
+     */
+    Map<String, String> next() throws IOException {
+        return format == TaskExportFormat.NDJSON ? this.nextJson() : this.nextCsv();
+    }
+
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    private Map<String, String> nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names = this.readCsvRecord();
+            if (names == null) {
+                return null;
+            }
+            header = new String[names.size()];
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i).trim();
+                // 첫 컬럼 앞의 UTF-8 BOM 제거
+                if (i == 0 && !name.isEmpty() && name.charAt(0) == '\uFEFF') {
+                    name = name.substring(1);
+                }
+                header[i] = ALIASES.getOrDefault(name, name);
+            }
+        }
+
+        List<String> values;
+        do {
+            values = this.readCsvRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+
+        if (values.size() > header.length) {
+            throw this.invalid("컬럼 수가 헤더보다 많습니다.");
+        }
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            row.put(header[i], this.unguard(values.get(i)));
+        }
+        return row;
+    }
+
+    // RFC 4180 레코드 하나 (따옴표 안의 쉼표/줄바꿈 허용), 파일 끝이면 null
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> values = new ArrayList<>();
+        field.setLength(0);
+        int length = 0;
+        boolean quoted = false;
+        boolean afterQuote = false;
+        while (true) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw this.invalid("행이 너무 깁니다.");
+            }
+            if (quoted) {
+                if (c < 0) {
+                    throw this.invalid("따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                        afterQuote = true;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c < 0 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                values.add(field.toString());
+                return values;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '"' && field.length() == 0 && !afterQuote) {
+                quoted = true;
+            } else if (afterQuote) {
+                throw this.invalid("닫는 따옴표 뒤에 쉼표가 와야 합니다.");
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    // 내보내기에서 수식 방지를 위해 붙인 작은따옴표 제거
+    private String unguard(String value) {
+        if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    private Map<String, String> nextJson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw this.invalid("JSON 형식이 올바르지 않습니다.");
+        }
+        if (!node.isObject()) {
+            throw this.invalid("각 줄은 JSON 객체여야 합니다.");
+        }
+
+        Map<String, String> row = new HashMap<>();
+        for (Map.Entry<String, JsonNode> entry : node.properties()) {
+            JsonNode value = entry.getValue();
+            String name = ALIASES.getOrDefault(entry.getKey(), entry.getKey());
+            if (value.isNull() || value.isObject()) {
+                continue;
+            }
+            if (value.isArray()) {
+                List<String> items = new ArrayList<>(value.size());
+                value.forEach(item -> items.add(item.asText()));
+                row.put(name, String.join(";", items));
+            } else {
+                row.put(name, value.asText());
+            }
+        }
+        return row;
+    }
+
+    private CustomException invalid(String message) {
+        return new CustomException(ErrorCode.INVALID_INPUT_VALUE, lineNumber + "번째 줄: " + message);
+    }
+}
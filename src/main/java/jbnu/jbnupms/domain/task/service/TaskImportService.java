@@ -0,0 +1,467 @@
+package jbnu.jbnupms.domain.task.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.dto.TaskExportFormat;
+import jbnu.jbnupms.domain.task.dto.TaskImportResponse;
+import jbnu.jbnupms.domain.task.entity.TaskActivityType;
+import jbnu.jbnupms.domain.task.entity.TaskImportJob;
+import jbnu.jbnupms.domain.task.entity.TaskImportStatus;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskActivityEvent;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskProgressChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskScheduleChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskImportJobRepository;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository.TaskInsertRow;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝트 태스크 스트리밍 가져오기 (CSV / NDJSON)
+ * 업로드 스트림을 batch-size 행씩 읽어 검증한 뒤 배치마다 별도 트랜잭션으로 JDBC 배치 삽입하므로
+ * 파일 크기와 관계없이 한 배치만 메모리에 둔다.
+ * 상위 태스크는 parentKey로 참조하며 하위 태스크보다 먼저 나와야 한다(내보내기 파일은 계층 순서로 쓰인다). 이전 배치의 key는 task_import_keys에서 찾는다.
+ * 실시간/캐시 이벤트는 배치마다 한 번 모아 발행하고, 변경 이력은 행마다 CREATED로 남긴다.
+ * 배치가 커밋될 때 작업의 processedRows도 함께 올라가므로, 실패하면 같은 파일을 jobId와 함께 다시 올려 이어서 가져온다.
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskImportJobRepository taskImportJobRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskStatsService taskStatsService;
+    private final TaskRankService taskRankService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TaskImportService(TaskJdbcRepository taskJdbcRepository,
+                             TaskImportJobRepository taskImportJobRepository,
+                             ProjectRepository projectRepository,
+                             ProjectMemberRepository projectMemberRepository,
+                             TaskStatsService taskStatsService,
+                             TaskRankService taskRankService,
+                             ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${task.import.batch-size:1000}") int batchSize) {
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.taskImportJobRepository = taskImportJobRepository;
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.taskStatsService = taskStatsService;
+        this.taskRankService = taskRankService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 태스크 가져오기
+     * jobId가 있으면 해당 작업에서 이미 커밋된 행을 건너뛰고 이어서 가져온다.
+     * 행 검증이나 쓰기에 실패하면 작업을 FAILED로 남기고 결과를 반환한다(그 전 배치는 커밋된 상태).
+     */
+    public TaskImportResponse importTasks(Long userId, Long projectId, TaskExportFormat format, Long jobId, InputStream input) {
+        projectRepository.findById(projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "프로젝트를 찾을 수 없습니다."));
+        this.validateProjectMember(projectId, userId);
+
+        TaskImportJob job = transactionTemplate.execute(status -> this.startJob(userId, projectId, format, jobId));
+        long offset = job.getProcessedRows();
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            TaskImportReader reader = new TaskImportReader(input, format, objectMapper);
+            for (long skipped = 0; skipped < offset; skipped++) {
+                if (reader.next() == null) {
+                    throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                            "파일의 행 수가 이미 가져온 행 수(" + offset + ")보다 적습니다. 같은 파일을 올려야 합니다.");
+                }
+            }
+
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            Map<String, String> record;
+            while ((record = reader.next()) != null) {
+                batch.add(this.parse(record, offset + batch.size() + 1));
+                if (batch.size() == batchSize) {
+                    this.commitBatch(job.getId(), projectId, userId, offset, batch);
+                    offset += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                this.commitBatch(job.getId(), projectId, userId, offset, batch);
+                offset += batch.size();
+            }
+        } catch (CustomException e) {
+            // 다른 요청이 같은 작업을 진행 중이면 그 요청의 상태를 덮어쓰지 않음
+            if (e.getErrorCode() == ErrorCode.STATE_CONFLICT) {
+                throw e;
+            }
+            return this.fail(job.getId(), e.getMessage());
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("태스크 가져오기 스트림 읽기 실패: jobId={}, processedRows={}", job.getId(), offset, e);
+            return this.fail(job.getId(), "업로드 파일을 끝까지 읽지 못했습니다.");
+        } catch (RuntimeException e) {
+            log.error("태스크 가져오기 실패: jobId={}, processedRows={}", job.getId(), offset, e);
+            return this.fail(job.getId(), "태스크를 저장하지 못했습니다.");
+        }
+
+        TaskImportResponse response = transactionTemplate.execute(status -> {
+            TaskImportJob completed = this.getJobForUpdate(job.getId());
+            completed.complete();
+            // 이어서 가져올 일이 없으므로 key 매핑 삭제
+            taskJdbcRepository.deleteImportKeys(completed.getId());
+            return TaskImportResponse.from(completed);
+        });
+        log.info("태스크 가져오기 완료: projectId={}, jobId={}, rows={}, elapsedMs={}, userId={}",
+                projectId, job.getId(), offset, System.currentTimeMillis() - startedAt, userId);
+        return response;
+    }
+
+    // 가져오기 진행 상황 조회
+    @Transactional(readOnly = true)
+    public TaskImportResponse getJob(Long userId, Long projectId, Long jobId) {
+        this.validateProjectMember(projectId, userId);
+        TaskImportJob job = taskImportJobRepository.findById(jobId)
+                .filter(found -> found.getProjectId().equals(projectId))
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가져오기 작업을 찾을 수 없습니다."));
+        return TaskImportResponse.from(job);
+    }
+
+    private TaskImportJob startJob(Long userId, Long projectId, TaskExportFormat format, Long jobId) {
+        if (jobId == null) {
+            return taskImportJobRepository.save(TaskImportJob.builder()
+                    .projectId(projectId)
+                    .userId(userId)
+                    .format(format)
+                    .build());
+        }
+
+        TaskImportJob job = this.getJobForUpdate(jobId);
+        if (!job.getProjectId().equals(projectId) || !job.getUserId().equals(userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "가져오기 작업에 대한 권한이 없습니다.");
+        }
+        if (job.getStatus() == TaskImportStatus.COMPLETED) {
+            throw new CustomException(ErrorCode.STATE_CONFLICT, "이미 완료된 가져오기 작업입니다.");
+        }
+        if (job.getFormat() != format) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "처음 가져올 때와 같은 형식의 파일을 올려야 합니다.");
+        }
+        job.resume();
+        return job;
+    }
+
+    // 배치 하나를 한 트랜잭션으로 기록 (작업 행 잠금으로 같은 작업의 동시 진행을 막음)
+    private void commitBatch(Long jobId, Long projectId, Long userId, long offset, List<ImportRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            TaskImportJob job = this.getJobForUpdate(jobId);
+            if (job.getProcessedRows() != offset) {
+                throw new CustomException(ErrorCode.STATE_CONFLICT, "같은 가져오기 작업이 다른 요청에서 진행 중입니다.");
+            }
+            this.writeBatch(jobId, projectId, userId, rows);
+            job.addProcessedRows(rows.size());
+        });
+        log.debug("태스크 가져오기 배치 커밋: jobId={}, processedRows={}", jobId, offset + rows.size());
+    }
+
+    private void writeBatch(Long jobId, Long projectId, Long userId, List<ImportRow> rows) {
+        int n = rows.size();
+
+        // 이전 배치에서 등록된 key (중복 검사 + 상위 태스크 참조)
+        Set<String> lookup = new HashSet<>();
+        for (ImportRow row : rows) {
+            if (row.getKey() != null) {
+                lookup.add(row.getKey());
+            }
+            if (row.getParentKey() != null) {
+                lookup.add(row.getParentKey());
+            }
+        }
+        Map<String, Long> committedKeys = taskJdbcRepository.findImportKeys(jobId, lookup);
+
+        // 상위 태스크: 같은 배치의 앞선 행(parentIndexes) 또는 이전 배치에서 만든 태스크(parentIds)
+        Map<String, Integer> indexByKey = new HashMap<>();
+        Integer[] parentIndexes = new Integer[n];
+        Long[] parentIds = new Long[n];
+        int[] depths = new int[n];
+        for (int i = 0; i < n; i++) {
+            ImportRow row = rows.get(i);
+            String parentKey = row.getParentKey();
+            if (parentKey != null) {
+                Integer parentIndex = indexByKey.get(parentKey);
+                if (parentIndex != null) {
+                    parentIndexes[i] = parentIndex;
+                    depths[i] = depths[parentIndex] + 1;
+                } else if (committedKeys.containsKey(parentKey)) {
+                    parentIds[i] = committedKeys.get(parentKey);
+                } else {
+                    throw this.invalid(row.getRowNumber(), "상위 태스크 key를 찾을 수 없습니다(상위 태스크가 먼저 나와야 합니다): " + parentKey);
+                }
+            }
+            if (row.getKey() != null
+                    && (committedKeys.containsKey(row.getKey()) || indexByKey.put(row.getKey(), i) != null)) {
+                throw this.invalid(row.getRowNumber(), "중복된 key입니다: " + row.getKey());
+            }
+        }
+
+        Map<String, Long> userIdByEmail = this.resolveAssignees(projectId, rows);
+
+        LocalDateTime now = LocalDateTime.now();
+        Long[] ids = new Long[n];
+        int maxDepth = Arrays.stream(depths).max().orElse(0);
+
+        // 상위 태스크부터 깊이별로 삽입 (하위 태스크가 같은 배치 상위 태스크의 생성 ID를 참조)
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            List<Integer> level = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (depths[i] == depth) {
+                    level.add(i);
+                }
+            }
+
+            List<Long> levelParents = new ArrayList<>(level.size());
+            for (int i : level) {
+                if (parentIndexes[i] != null) {
+                    parentIds[i] = ids[parentIndexes[i]];
+                }
+                levelParents.add(parentIds[i]);
+            }
+            List<String> ranks = taskRankService.ranksForAppend(projectId, levelParents);
+
+            List<TaskInsertRow> inserts = new ArrayList<>(level.size());
+            for (int j = 0; j < level.size(); j++) {
+                ImportRow row = rows.get(level.get(j));
+                inserts.add(TaskInsertRow.builder()
+                        .projectId(projectId)
+                        .creatorId(userId)
+                        .parentId(levelParents.get(j))
+                        .title(row.getTitle())
+                        .description(row.getDescription())
+                        .status(row.getStatus())
+                        .priority(row.getPriority())
+                        .dueDate(row.getDueDate())
+                        .rank(ranks.get(j))
+                        .createdAt(now)
+                        .build());
+            }
+
+            List<Long> generated = taskJdbcRepository.insertTasks(inserts, batchSize);
+            List<Long> levelIds = new ArrayList<>(level.size());
+            for (int j = 0; j < level.size(); j++) {
+                ids[level.get(j)] = generated.get(j);
+                levelIds.add(generated.get(j));
+            }
+            taskJdbcRepository.insertClosureNodes(levelIds, levelParents, batchSize);
+        }
+
+        List<Long[]> assignees = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<Long> keyTaskIds = new ArrayList<>();
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        for (int i = 0; i < n; i++) {
+            ImportRow row = rows.get(i);
+            for (String email : row.getAssigneeEmails()) {
+                assignees.add(new Long[]{ids[i], userIdByEmail.get(email)});
+            }
+            if (row.getKey() != null) {
+                keys.add(row.getKey());
+                keyTaskIds.add(ids[i]);
+            }
+            statsDelta.add(row.getStatus() != null ? row.getStatus() : TaskStatus.NOT_STARTED,
+                    row.getPriority() != null ? row.getPriority() : TaskPriority.MEDIUM, 1);
+        }
+        if (!assignees.isEmpty()) {
+            taskJdbcRepository.insertAssignees(assignees, now, batchSize);
+        }
+        if (!keys.isEmpty()) {
+            taskJdbcRepository.insertImportKeys(jobId, keys, keyTaskIds, batchSize);
+        }
+        taskStatsService.apply(projectId, statsDelta);
+
+        // 진행률 롤업 (같은 상위 태스크는 한 번만)
+        new HashSet<>(Arrays.asList(parentIds))
+                .forEach(parentId -> eventPublisher.publishEvent(new TaskProgressChangedEvent(projectId, parentId)));
+        List<Long> scheduled = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (rows.get(i).getDueDate() != null) {
+                scheduled.add(ids[i]);
+            }
+            eventPublisher.publishEvent(TaskActivityEvent.of(projectId, ids[i], userId, TaskActivityType.CREATED));
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(projectId, Arrays.asList(ids), TaskChangeType.CREATED));
+        if (!scheduled.isEmpty()) {
+            eventPublisher.publishEvent(new TaskScheduleChangedEvent(projectId, scheduled));
+        }
+    }
+
+    // 담당자 이메일 -> 사용자 ID (배치당 한 번 조회, 프로젝트 멤버만 허용)
+    private Map<String, Long> resolveAssignees(Long projectId, List<ImportRow> rows) {
+        Set<String> emails = new HashSet<>();
+        rows.forEach(row -> emails.addAll(row.getAssigneeEmails()));
+        Map<String, Long> userIdByEmail = new HashMap<>();
+        if (emails.isEmpty()) {
+            return userIdByEmail;
+        }
+        for (Object[] row : projectMemberRepository.findMemberIdsByEmails(projectId, emails)) {
+            userIdByEmail.put((String) row[0], (Long) row[1]);
+        }
+        for (ImportRow row : rows) {
+            for (String email : row.getAssigneeEmails()) {
+                if (!userIdByEmail.containsKey(email)) {
+                    throw this.invalid(row.getRowNumber(), "프로젝트 멤버가 아닌 담당자입니다: " + email);
+                }
+            }
+        }
+        return userIdByEmail;
+    }
+
+    private ImportRow parse(Map<String, String> record, long rowNumber) {
+        String title = this.trimToNull(record.get("title"));
+        if (title == null) {
+            throw this.invalid(rowNumber, "제목은 필수입니다.");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw this.invalid(rowNumber, "제목은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Set<String> assigneeEmails = new LinkedHashSet<>();
+        String emails = record.get("assigneeEmails");
+        if (emails != null) {
+            for (String email : emails.split(";")) {
+                if (!email.isBlank()) {
+                    assigneeEmails.add(email.trim());
+                }
+            }
+        }
+
+        return ImportRow.builder()
+                .rowNumber(rowNumber)
+                .key(this.parseKey(record.get("key"), rowNumber))
+                .parentKey(this.parseKey(record.get("parentKey"), rowNumber))
+                .title(title)
+                .description(this.trimToNull(record.get("description")))
+                .status(this.parseEnum(TaskStatus.class, record.get("status"), rowNumber))
+                .priority(this.parseEnum(TaskPriority.class, record.get("priority"), rowNumber))
+                .dueDate(this.parseDueDate(record.get("dueDate"), rowNumber))
+                .assigneeEmails(assigneeEmails)
+                .build();
+    }
+
+    private String parseKey(String value, long rowNumber) {
+        String key = this.trimToNull(value);
+        if (key != null && key.length() > MAX_KEY_LENGTH) {
+            throw this.invalid(rowNumber, "key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        return key;
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, long rowNumber) {
+        String name = this.trimToNull(value);
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw this.invalid(rowNumber, "알 수 없는 값입니다: " + name);
+        }
+    }
+
+    // yyyy-MM-ddTHH:mm[:ss] 또는 yyyy-MM-dd (자정)
+    private LocalDateTime parseDueDate(String value, long rowNumber) {
+        String text = this.trimToNull(value);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return text.length() == 10 ? LocalDate.parse(text).atStartOfDay() : LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            throw this.invalid(rowNumber, "마감일 형식이 올바르지 않습니다: " + text);
+        }
+    }
+
+    private String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private TaskImportResponse fail(Long jobId, String error) {
+        return transactionTemplate.execute(status -> {
+            TaskImportJob job = this.getJobForUpdate(jobId);
+            job.fail(error);
+            log.info("태스크 가져오기 중단: jobId={}, processedRows={}, error={}", jobId, job.getProcessedRows(), error);
+            return TaskImportResponse.from(job);
+        });
+    }
+
+    private TaskImportJob getJobForUpdate(Long jobId) {
+        return taskImportJobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "가져오기 작업을 찾을 수 없습니다."));
+    }
+
+    private CustomException invalid(long rowNumber, String message) {
+        return new CustomException(ErrorCode.INVALID_INPUT_VALUE, rowNumber + "번째 행: " + message);
+    }
+
+    private void validateProjectMember(Long projectId, Long userId) {
+        if (!projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다.");
+        }
+    }
+
+    @Getter
+    @Builder
+    private static class ImportRow {
+        // 파일의 데이터 행 번호 (1부터, 헤더 제외)
+        private final long rowNumber;
+        private final String key;
+        private final String parentKey;
+        private final String title;
+        private final String description;
+        private final TaskStatus status;
+        private final TaskPriority priority;
+        private final LocalDateTime dueDate;
+        private final Set<String> assigneeEmails;
+    }
+}
@@ -0,0 +1,158 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 인박스 캐시
+ * 사용자마다 최근 조회 조건 몇 개의 결과만 보관하고, 프로젝트 ID -> 사용자 ID 역인덱스로
+ * 프로젝트의 태스크/담당자가 바뀌면 그 프로젝트 멤버의 캐시만 비운다.
+ * 무효화와 동시에 진행 중이던 조회 결과가 다시 저장되지 않도록, 조회 시작 시점의 세대 번호와 사용자의 마지막 무효화 세대를 비교한다.
+ * 무효화 기록은 TTL이 지나면(그보다 오래 걸리는 조회는 없다고 보고) 정리하고, 사용자 수가 가득 차면 만료된 사용자부터 비운다.
+ */
+@Component
+public class TaskInboxCache {
+
+    private static final int MAX_ENTRIES_PER_USER = 16;
+    // 가득 찬 상태에서 만료 항목 정리는 이 간격에 한 번만
+    private static final long PRUNE_INTERVAL_MILLIS = 1000;
+
+    private final Map<Long, UserEntries> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> usersByProject = new ConcurrentHashMap<>();
+    // 사용자 ID -> 마지막 무효화 (세대, 시각)
+    private final Map<Long, Invalidation> invalidations = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastPrunedAt;
+
+    private final long ttlMillis;
+    private final int maxUsers;
+
+    public TaskInboxCache(@Value("${task.inbox.cache-ttl-ms:60000}") long ttlMillis,
+                          @Value("${task.inbox.cache-max-users:10000}") int maxUsers) {
+        this.ttlMillis = ttlMillis;
+        this.maxUsers = maxUsers;
+    }
+
+    /**
+     * 조회 시작 전 세대 번호 (put 시 그대로 전달)
+     */
+    public long generation(Long userId) {
+        return generation.get();
+    }
+
+    public TaskSliceResponse<?> get(Long userId, String key) {
+        UserEntries userEntries = entries.get(userId);
+        if (userEntries == null) {
+            return null;
+        }
+        synchronized (userEntries) {
+            CachedSlice cached = userEntries.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt < System.currentTimeMillis()) {
+                userEntries.remove(key);
+                return null;
+            }
+            return cached.slice;
+        }
+    }
+
+    public void put(Long userId, Collection<Long> projectIds, String key, TaskSliceResponse<?> slice, long generation) {
+        if (entries.size() >= maxUsers && !entries.containsKey(userId)) {
+            this.pruneExpired();
+            if (entries.size() >= maxUsers) {
+                return;
+            }
+        }
+        for (Long projectId : projectIds) {
+            usersByProject.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+        }
+        UserEntries userEntries = entries.computeIfAbsent(userId, id -> new UserEntries());
+        synchronized (userEntries) {
+            // 조회하는 동안 무효화되었다면 오래된 결과이므로 저장하지 않음
+            Invalidation invalidation = invalidations.get(userId);
+            if (invalidation != null && invalidation.generation > generation) {
+                return;
+            }
+            userEntries.put(key, new CachedSlice(slice, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public void evictUser(Long userId) {
+        invalidations.put(userId, new Invalidation(generation.incrementAndGet(), System.currentTimeMillis()));
+        UserEntries userEntries = entries.remove(userId);
+        if (userEntries != null) {
+            synchronized (userEntries) {
+                userEntries.clear();
+            }
+        }
+        if (invalidations.size() > maxUsers) {
+            this.pruneExpired();
+        }
+    }
+
+    public void evictProject(Long projectId) {
+        Set<Long> userIds = usersByProject.remove(projectId);
+        if (userIds != null) {
+            userIds.forEach(this::evictUser);
+        }
+    }
+
+    // 만료된 결과만 남은 사용자와 TTL이 지난 무효화 기록 정리
+    private void pruneExpired() {
+        long now = System.currentTimeMillis();
+        if (now - lastPrunedAt < PRUNE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPrunedAt = now;
+
+        entries.values().removeIf(userEntries -> {
+            synchronized (userEntries) {
+                userEntries.values().removeIf(cached -> cached.expiresAt < now);
+                return userEntries.isEmpty();
+            }
+        });
+        invalidations.values().removeIf(invalidation -> now - invalidation.at > ttlMillis);
+    }
+
+    private static class CachedSlice {
+        private final TaskSliceResponse<?> slice;
+        private final long expiresAt;
+
+        CachedSlice(TaskSliceResponse<?> slice, long expiresAt) {
+            this.slice = slice;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Invalidation {
+        private final long generation;
+        private final long at;
+
+        Invalidation(long generation, long at) {
+            this.generation = generation;
+            this.at = at;
+        }
+    }
+
+    private static class UserEntries extends LinkedHashMap<String, CachedSlice> {
+
+        UserEntries() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedSlice> eldest) {
+            return size() > MAX_ENTRIES_PER_USER;
+        }
+    }
+}
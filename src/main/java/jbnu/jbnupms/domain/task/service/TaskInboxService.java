@@ -0,0 +1,85 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.event.ProjectMemberChangedEvent;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.task.dto.TaskCursor;
+import jbnu.jbnupms.domain.task.dto.TaskInboxCondition;
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
+import jbnu.jbnupms.domain.task.dto.TaskView;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.task.repository.TaskSpecifications;
+import jbnu.jbnupms.domain.task.repository.TaskSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 내 태스크 (프로젝트 전체의 담당 태스크) 조회
+ * 프로젝트별 트리를 모두 불러오지 않고 담당자 인덱스에서 바로 키셋 페이지를 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskInboxService {
+
+    private final TaskRepository taskRepository;
+    private final TaskSummaryRepository taskSummaryRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskSliceAssembler taskSliceAssembler;
+    private final TaskInboxCache taskInboxCache;
+
+    public TaskSliceResponse<?> getMyTasks(Long userId, TaskInboxCondition condition) {
+        int size = taskSliceAssembler.resolvePageSize(condition.getSize());
+        TaskCursor cursor = condition.getCursor() != null ? TaskCursor.decode(condition.getCursor()) : null;
+
+        String key = condition.cacheKey(size);
+        TaskSliceResponse<?> cached = taskInboxCache.get(userId, key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = taskInboxCache.generation(userId);
+        List<Long> projectIds = projectMemberRepository.findProjectIdsByUserId(userId);
+        Specification<Task> spec = TaskSpecifications.inbox(userId, condition, cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        TaskSliceResponse<?> slice;
+        if (condition.getView() == TaskView.SUMMARY) {
+            slice = taskSliceAssembler.assembleSummaries(
+                    taskSummaryRepository.findAll(spec, condition.getSort(), size + 1), size, condition.getSort());
+        } else {
+            Sort sort = taskSliceAssembler.sortOf(condition.getSort());
+            List<Task> tasks = taskRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+            slice = taskSliceAssembler.assemble(tasks, size, condition.getSort());
+        }
+        taskInboxCache.put(userId, projectIds, key, slice, generation);
+        return slice;
+    }
+
+    /**
+     * 태스크/담당자 변경이 커밋되면 해당 프로젝트 멤버의 인박스 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onTaskChanged(TaskChangedEvent event) {
+        taskInboxCache.evictProject(event.getProjectId());
+    }
+
+    /**
+     * 프로젝트에 참여하거나 탈퇴하면 조회 대상 프로젝트가 달라지므로 해당 사용자의 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onMemberChanged(ProjectMemberChangedEvent event) {
+        taskInboxCache.evictUser(event.getUserId());
+    }
+}
@@ -0,0 +1,109 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.entity.TaskProgressPending;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskClosureRepository;
+import jbnu.jbnupms.domain.task.repository.TaskProgressPendingRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 진행률 재계산
+ * 상위 태스크 진행률 = 하위 태스크 진행률을 각 하위 태스크의 서브트리 크기(자기 자신 포함 태스크 수)로 가중한 평균 (완료 상태는 100)
+ * 프로젝트 진행률 = 최상위 태스크 진행률을 같은 방식으로 가중한 평균
+ * 하위 태스크가 하나뿐인 태스크와 200개인 태스크가 같은 비중으로 섞이지 않도록 가중한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskProgressCalculator {
+
+    // 프로젝트당 한 번에 처리할 최대 대기 행 수 (나머지는 다음 주기)
+    private static final int MAX_PENDING_PER_PROJECT = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskClosureRepository taskClosureRepository;
+    private final TaskProgressPendingRepository taskProgressPendingRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 프로젝트의 대기 중인 롤업을 한 번에 처리하고, 처리한 대기 행을 같은 트랜잭션에서 지움
+     */
+    @Transactional
+    public void recalculatePending(Long projectId) {
+        List<TaskProgressPending> pending = taskProgressPendingRepository.findByProjectId(projectId,
+                PageRequest.of(0, MAX_PENDING_PER_PROJECT));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Set<Long> startIds = new HashSet<>();
+        List<Long> pendingIds = new ArrayList<>(pending.size());
+        for (TaskProgressPending row : pending) {
+            if (row.getParentId() != null) {
+                startIds.add(row.getParentId());
+            }
+            pendingIds.add(row.getId());
+        }
+
+        this.recalculate(projectId, startIds);
+        taskProgressPendingRepository.deleteByIdIn(pendingIds);
+    }
+
+    /**
+     * startIds와 그 조상들을 깊은 것부터 한 번씩만 재계산한 뒤 프로젝트 진행률을 갱신
+     * 바뀐 태스크는 모아서 변경 이벤트 한 번으로 알린다.
+     */
+    private void recalculate(Long projectId, Collection<Long> startIds) {
+        // 재계산 대상 (태스크 ID -> 깊이), 여러 시작점이 공유하는 조상은 한 번만 포함
+        Map<Long, Integer> targets = new HashMap<>();
+        for (Long startId : startIds) {
+            List<Long> ancestorIds = taskClosureRepository.findAncestorIds(startId);
+            for (int depth = 0; depth < ancestorIds.size(); depth++) {
+                targets.put(ancestorIds.get(depth), depth);
+            }
+            targets.put(startId, ancestorIds.size());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> updatedIds = new ArrayList<>();
+        targets.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> {
+                    Double progress = taskRepository.calculateChildrenProgress(entry.getKey(), TaskStatus.DONE.ordinal());
+                    // 하위 태스크가 모두 사라진 경우 기존 값 유지
+                    if (progress != null && taskRepository.updateProgress(entry.getKey(), round(progress), now) > 0) {
+                        updatedIds.add(entry.getKey());
+                    }
+                });
+        if (!updatedIds.isEmpty()) {
+            eventPublisher.publishEvent(new TaskChangedEvent(projectId, updatedIds, TaskChangeType.UPDATED));
+        }
+
+        projectRepository.findById(projectId).ifPresent(project -> {
+            Double progress = taskRepository.calculateRootProgress(projectId, TaskStatus.DONE.ordinal());
+            project.updateProgress(progress != null ? round(progress) : 0.0);
+        });
+    }
+
+    private double round(double progress) {
+        return Math.round(progress * 10) / 10.0;
+    }
+}
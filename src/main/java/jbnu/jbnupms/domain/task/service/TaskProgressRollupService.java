@@ -0,0 +1,49 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.entity.TaskProgressPending;
+import jbnu.jbnupms.domain.task.event.TaskProgressChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskProgressPendingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 진행률 롤업
+ * 진행률에 영향을 주는 변경은 같은 트랜잭션에서 대기 테이블에 기록해 두고(재시작해도 유실되지 않음),
+ * 일정 주기마다 프로젝트별로 모아 한 번에 재계산한다.
+ * 같은 구간 안에서 같은 프로젝트의 태스크가 여러 번 바뀌어도 조상별 재계산은 한 번만 일어난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskProgressRollupService {
+
+    // 한 주기에 처리할 최대 프로젝트 수 (나머지는 다음 주기)
+    private static final int MAX_PROJECTS_PER_FLUSH = 100;
+
+    private final TaskProgressPendingRepository taskProgressPendingRepository;
+    private final TaskProgressCalculator taskProgressCalculator;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProgressChanged(TaskProgressChangedEvent event) {
+        taskProgressPendingRepository.save(TaskProgressPending.builder()
+                .projectId(event.getProjectId())
+                .parentId(event.getParentId())
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${task.progress.rollup-interval-ms:500}")
+    public void flush() {
+        for (Long projectId : taskProgressPendingRepository.findProjectIds(PageRequest.of(0, MAX_PROJECTS_PER_FLUSH))) {
+            try {
+                taskProgressCalculator.recalculatePending(projectId);
+            } catch (Exception e) {
+                log.error("진행률 롤업 실패: projectId={}", projectId, e);
+            }
+        }
+    }
+}
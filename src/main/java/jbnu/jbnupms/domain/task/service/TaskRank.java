@@ -0,0 +1,95 @@
+package jbnu.jbnupms.domain.task.service;
+
+import java.math.BigInteger;
+
+/**
+ * 태스크 정렬 순위 (LexoRank 방식의 사전순 분수 순위)
+ * 순위는 [0-9a-z] 36진수 소수 0.xxx의 소수부 자릿수이며, 끝자리 0을 두지 않으므로 문자열 비교 순서와 수 크기 순서가 같다.
+ * 두 순위 사이에는 항상 새 순위를 만들 수 있으므로 한 건을 옮길 때 그 행 하나만 바꾸면 된다.
+ * 같은 자리에 반복해서 끼워 넣으면 길이가 늘어나므로 일정 길이를 넘으면 형제 전체를 다시 배치한다.
+ */
+public final class TaskRank {
+
+    private static final int RADIX = 36;
+    // 기본 자릿수와 끝에 추가할 때의 간격 (36^6 공간에서 36^3씩, 재배치 없이 약 4.6만 번 추가 가능)
+    static final int DEFAULT_WIDTH = 6;
+    private static final BigInteger STEP = BigInteger.valueOf(RADIX).pow(3);
+    private static final BigInteger TWO = BigInteger.valueOf(2);
+
+    private TaskRank() {
+    }
+
+    /**
+     * prev와 next 사이의 순위 (null은 각각 맨 앞/맨 뒤)
+     * 맨 앞/뒤에 붙일 때는 중간값 대신 고정 간격만큼 떨어뜨려 길이가 늘어나는 것을 늦춘다.
+     */
+    public static String between(String prev, String next) {
+        if (prev != null && next != null && prev.compareTo(next) >= 0) {
+            throw new IllegalArgumentException("prev must be less than next: " + prev + ", " + next);
+        }
+
+        int width = Math.max(DEFAULT_WIDTH, Math.max(length(prev), length(next)));
+        while (true) {
+            BigInteger space = BigInteger.valueOf(RADIX).pow(width);
+            BigInteger low = prev != null ? toValue(prev, width) : BigInteger.ZERO;
+            BigInteger high = next != null ? toValue(next, width) : space;
+
+            if (high.subtract(low).compareTo(TWO) >= 0) {
+                BigInteger value;
+                if (prev != null && next == null && low.add(STEP).compareTo(high) < 0) {
+                    value = low.add(STEP);
+                } else if (prev == null && next != null && high.subtract(STEP).compareTo(low) > 0) {
+                    value = high.subtract(STEP);
+                } else {
+                    value = low.add(high).shiftRight(1);
+                }
+                return format(value, width);
+            }
+            // 인접한 두 순위 사이는 한 자리 늘려서 나눔
+            width++;
+        }
+    }
+
+    /**
+     * count개를 전체 공간에 고르게 배치한 순위 (재배치용, 오름차순)
+     */
+    public static String[] spread(int count) {
+        int width = DEFAULT_WIDTH;
+        BigInteger slots = BigInteger.valueOf(count + 1L);
+        while (BigInteger.valueOf(RADIX).pow(width).divide(slots).compareTo(STEP) < 0 && width < DEFAULT_WIDTH * 2) {
+            width++;
+        }
+
+        BigInteger space = BigInteger.valueOf(RADIX).pow(width);
+        String[] ranks = new String[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = format(space.multiply(BigInteger.valueOf(i + 1L)).divide(slots), width);
+        }
+        return ranks;
+    }
+
+    private static int length(String rank) {
+        return rank != null ? rank.length() : 0;
+    }
+
+    private static BigInteger toValue(String rank, int width) {
+        StringBuilder padded = new StringBuilder(width).append(rank);
+        while (padded.length() < width) {
+            padded.append('0');
+        }
+        return new BigInteger(padded.toString(), RADIX);
+    }
+
+    // width 자리로 채운 뒤 끝자리 0 제거
+    private static String format(BigInteger value, int width) {
+        StringBuilder digits = new StringBuilder(value.toString(RADIX));
+        while (digits.length() < width) {
+            digits.insert(0, '0');
+        }
+        int end = digits.length();
+        while (end > 1 && digits.charAt(end - 1) == '0') {
+            end--;
+        }
+        return digits.substring(0, end);
+    }
+}
@@ -0,0 +1,59 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.event.TaskRankRebalanceEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 형제 태스크 순위 백그라운드 재배치
+ * 순위가 너무 길어진 형제 묶음을 커밋 후 모아 두었다가 주기마다 묶음 단위 트랜잭션으로 다시 배치한다.
+ * 같은 구간에 여러 번 요청된 묶음도 한 번만 재배치된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskRankRebalancer {
+
+    private final TaskRankService taskRankService;
+
+    // 프로젝트 ID -> 재배치할 상위 태스크 ID (최상위 태스크 묶음은 null)
+    private final Map<Long, Set<Long>> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRebalanceRequested(TaskRankRebalanceEvent event) {
+        pending.compute(event.getProjectId(), (projectId, parentIds) -> {
+            Set<Long> ids = parentIds != null ? parentIds : new HashSet<>();
+            ids.add(event.getParentId());
+            return ids;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${task.rank.rebalance-interval-ms:60000}")
+    public void flush() {
+        List<Long> projectIds = new ArrayList<>(pending.keySet());
+        for (Long projectId : projectIds) {
+            Set<Long> parentIds = pending.remove(projectId);
+            if (parentIds == null) {
+                continue;
+            }
+            for (Long parentId : parentIds) {
+                try {
+                    taskRankService.rebalance(projectId, parentId);
+                } catch (Exception e) {
+                    log.error("태스크 순위 재배치 실패: projectId={}, parentId={}", projectId, parentId, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskRankRebalanceEvent;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 형제 태스크 정렬 순위 관리
+ * 새 순위는 이웃한 두 형제의 순위 사이 값으로 만들어 이동한 태스크 한 행만 갱신하고,
+ * 순위가 max-length를 넘으면 커밋 후 재배치를 요청한다(TaskRankRebalancer).
+ * 순위 계산과 재배치는 프로젝트 행 잠금으로 직렬화해, 같은 자리로 동시에 이동한 두 요청이 같은 순위를 받거나
+ * 재배치 도중의 순위를 기준으로 계산하지 않게 한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TaskRankService {
+
+    private final TaskRepository taskRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxLength;
+    private final int batchSize;
+
+    public TaskRankService(TaskRepository taskRepository,
+                           TaskJdbcRepository taskJdbcRepository,
+                           ProjectRepository projectRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${task.rank.max-length:24}") int maxLength,
+                           @Value("${task.bulk.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxLength = maxLength;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 형제 중 맨 뒤 순위 (생성용)
+     */
+    @Transactional
+    public String rankForAppend(Long projectId, Long parentId) {
+        this.lockProject(projectId);
+        String last = parentId != null
+                ? taskRepository.findLastChildRank(parentId)
+                : taskRepository.findLastRootRank(projectId);
+        return this.checkLength(projectId, parentId, TaskRank.between(last, null));
+    }
+
+    /**
+     * 형제마다 맨 뒤에 차례로 붙일 순위 (일괄 생성용, parentIds와 같은 순서)
+     * 상위 태스크별 마지막 순위는 한 번에 조회한다.
+     */
+    @Transactional
+    public List<String> ranksForAppend(Long projectId, List<Long> parentIds) {
+        this.lockProject(projectId);
+        Set<Long> childParents = new HashSet<>(parentIds);
+        boolean hasRoot = childParents.remove(null);
+
+        Map<Long, String> last = new HashMap<>();
+        if (!childParents.isEmpty()) {
+            for (Object[] row : taskRepository.findLastChildRanks(childParents)) {
+                last.put((Long) row[0], (String) row[1]);
+            }
+        }
+        if (hasRoot) {
+            last.put(null, taskRepository.findLastRootRank(projectId));
+        }
+
+        List<String> ranks = new ArrayList<>(parentIds.size());
+        for (Long parentId : parentIds) {
+            String rank = TaskRank.between(last.get(parentId), null);
+            last.put(parentId, rank);
+            ranks.add(rank);
+        }
+        last.forEach((parentId, rank) -> this.checkLength(projectId, parentId, rank));
+        return ranks;
+    }
+
+    /**
+     * afterId 바로 뒤(null이면 맨 앞)에 들어갈 순위
+     * 기준 형제에 순위가 없으면 형제 전체를 먼저 재배치한다(이동 중인 태스크는 새 순위를 받으므로 제외).
+     */
+    @Transactional
+    public String rankAfter(Long projectId, Long parentId, Long taskId, Long afterId) {
+        this.lockProject(projectId);
+        String prev = afterId != null ? taskRepository.findRankById(afterId) : null;
+        if (afterId != null && prev == null) {
+            this.rebalance(projectId, parentId, taskId);
+            prev = taskRepository.findRankById(afterId);
+        }
+        String next = parentId != null
+                ? taskRepository.findNextChildRank(parentId, prev, taskId)
+                : taskRepository.findNextRootRank(projectId, prev, taskId);
+        return this.checkLength(projectId, parentId, TaskRank.between(prev, next));
+    }
+
+    /**
+     * 형제 순위를 전체 공간에 고르게 다시 배치하고 갱신한 행 수 반환
+     * 현재 순서만 다시 표현할 뿐 내용은 그대로이므로 태스크 버전은 올리지 않고(수정 중인 요청이 412를 받지 않음),
+     * 변경 이벤트 한 번으로 프로젝트 목록 리비전을 올리고 구독자에게 알린다. 엔티티는 바뀐 컬럼만 쓰므로 오래된 순위로 덮어쓰지 않는다.
+     */
+    @Transactional
+    public int rebalance(Long projectId, Long parentId) {
+        this.lockProject(projectId);
+        return this.rebalance(projectId, parentId, null);
+    }
+
+    private int rebalance(Long projectId, Long parentId, Long excludeId) {
+        List<Long> ids = new ArrayList<>(parentId != null
+                ? taskRepository.findChildIdsOrderByRank(parentId)
+                : taskRepository.findRootIdsOrderByRank(projectId));
+        ids.removeIf(id -> Objects.equals(id, excludeId));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String[] ranks = TaskRank.spread(ids.size());
+        taskJdbcRepository.updateRanks(ids, ranks, batchSize);
+        eventPublisher.publishEvent(new TaskChangedEvent(projectId, ids, TaskChangeType.UPDATED));
+        log.info("태스크 순위 재배치: projectId={}, parentId={}, count={}", projectId, parentId, ids.size());
+        return ids.size();
+    }
+
+    private void lockProject(Long projectId) {
+        projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "프로젝트를 찾을 수 없습니다."));
+    }
+
+    private String checkLength(Long projectId, Long parentId, String rank) {
+        if (rank.length() > maxLength) {
+            eventPublisher.publishEvent(new TaskRankRebalanceEvent(projectId, parentId));
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,355 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.entity.TaskReminderType;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskDueReminder;
+import jbnu.jbnupms.domain.task.event.TaskDueRemindersEvent;
+import jbnu.jbnupms.domain.task.event.TaskScheduleChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository;
+import jbnu.jbnupms.domain.task.repository.TaskReminderRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 마감 알림 스케줄러
+ * 앞으로 window 동안 울릴 알림만 타이밍 휠에 올려 두고(due_date 인덱스로 구간 로딩), 창이 절반 남으면 다음 구간을 이어서 읽는다.
+ * 태스크마다 다음 단계 알림(마감 임박 -> 마감 초과) 하나만 휠에 두며, 마감일/상태 변경 시 해당 항목만 옮기거나 취소한다.
+ * 발송 직전 DB에서 상태/마감일을 다시 확인하고 발송 기록 유니크 제약으로 중복을 막으므로,
+ * 재시작 시에는 catch-up 구간부터 다시 읽기만 하면 놓친 알림이 복구된다.
+ * 발송 이벤트 처리(실시간 알림 전달)가 실패하면 발송 기록을 되돌리고 retry-delay-ms 뒤에 다시 시도한다.
+ * 휠 상태는 recover/tick만 다루며 둘은 잠금으로 한 번에 하나만 실행된다. tick은 잠금을 기다리지 않고 건너뛰므로
+ * DB 조회 중에 다른 스레드가 막히는 일은 없다. (변경 알림은 동시성 집합에 쌓기만 함)
+ */
+@Slf4j
+@Component
+public class TaskReminderScheduler {
+
+    private static final long TICK_MS = 1000;
+    // 1초 x 60, 1분 x 60, 1시간 x 24 (약 24시간 범위)
+    private static final int[] WHEEL_SIZES = {60, 60, 24};
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskReminderRepository taskReminderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final long leadMs;
+    private final long windowMs;
+    private final long catchUpMs;
+    private final int maxEntries;
+    private final int batchSize;
+    private final long retentionMs;
+    private final long retryDelayMs;
+
+    private final Set<Long> pendingTaskIds = ConcurrentHashMap.newKeySet();
+
+    // 아래 상태는 모두 lock을 잡은 recover/tick에서만 접근
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, HierarchicalTimingWheel.Entry<TaskDueReminder>> scheduled = new HashMap<>();
+    private HierarchicalTimingWheel<TaskDueReminder> wheel;
+    // 이 시각 이전에 울릴 알림은 모두 휠에 올라가 있음
+    private long loadedUntil;
+
+    public TaskReminderScheduler(TaskRepository taskRepository,
+                                 TaskJdbcRepository taskJdbcRepository,
+                                 TaskReminderRepository taskReminderRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${task.reminder.lead-minutes:60}") long leadMinutes,
+                                 @Value("${task.reminder.window-hours:6}") long windowHours,
+                                 @Value("${task.reminder.catch-up-hours:24}") long catchUpHours,
+                                 @Value("${task.reminder.max-entries:200000}") int maxEntries,
+                                 @Value("${task.reminder.batch-size:500}") int batchSize,
+                                 @Value("${task.reminder.retention-days:30}") long retentionDays,
+                                 @Value("${task.reminder.retry-delay-ms:60000}") long retryDelayMs) {
+        this.taskRepository = taskRepository;
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.taskReminderRepository = taskReminderRepository;
+        this.eventPublisher = eventPublisher;
+        this.leadMs = leadMinutes * 60_000;
+        // 휠 범위(약 24시간)를 넘지 않도록 제한
+        this.windowMs = Math.min(windowHours, 12) * 3_600_000;
+        this.catchUpMs = catchUpHours * 3_600_000;
+        this.maxEntries = maxEntries;
+        this.batchSize = batchSize;
+        this.retentionMs = retentionDays * 86_400_000;
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(TaskScheduleChangedEvent event) {
+        pendingTaskIds.addAll(event.getTaskIds());
+    }
+
+    /**
+     * 시작 시 DB에서 복구 (catch-up 구간에 발송되지 않은 알림은 다음 틱에 발송)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZES, now);
+            scheduled.clear();
+            loadedUntil = now - catchUpMs;
+
+            List<TaskDueReminder> expired = new ArrayList<>();
+            this.loadWindow(now, now + windowMs, expired);
+            this.fire(expired);
+            log.info("마감 알림 스케줄러 복구 완료: scheduled={}, loadedUntil={}", scheduled.size(), toDateTime(loadedUntil));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelay = TICK_MS)
+    public void tick() {
+        // 복구 중이면 이번 틱은 건너뜀 (놓친 항목은 다음 틱의 advance에서 만료됨)
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (wheel == null) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            List<TaskDueReminder> expired = new ArrayList<>();
+
+            this.applyPendingChanges(now, expired);
+            wheel.advance(now, expired);
+            // 창이 절반 이하로 남으면 다음 구간 로딩
+            if (loadedUntil - now < windowMs / 2) {
+                this.loadWindow(now, now + windowMs, expired);
+            }
+            this.fire(expired);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${task.reminder.cleanup-cron:0 0 4 * * *}")
+    public void cleanup() {
+        int deleted = taskReminderRepository.deleteSentBefore(toDateTime(System.currentTimeMillis() - retentionMs));
+        log.info("마감 알림 발송 기록 정리: deleted={}", deleted);
+    }
+
+    /**
+     * [loadedUntil, until) 구간에 울릴 알림을 휠에 추가
+     * 항목 수가 maxEntries에 닿으면 읽은 곳까지만 창을 넓힌다.
+     */
+    private void loadWindow(long now, long until, List<TaskDueReminder> expired) {
+        long from = loadedUntil;
+        int capacity = maxEntries - scheduled.size();
+        if (capacity <= 0) {
+            log.warn("마감 알림 휠이 가득 차 다음 구간을 읽지 못했습니다: scheduled={}", scheduled.size());
+            return;
+        }
+
+        // 마감 임박 알림은 마감 lead 전에 울리므로 마감일 기준으로는 lead만큼 더 읽음
+        List<Object[]> rows = taskRepository.findUndoneDueBetween(toDateTime(from), toDateTime(until + leadMs),
+                TaskStatus.DONE, PageRequest.of(0, capacity));
+        long end = until;
+        if (rows.size() == capacity) {
+            long lastDue = toEpochMilli((LocalDateTime) rows.get(rows.size() - 1)[2]);
+            end = Math.min(until, lastDue - leadMs);
+            if (end <= from) {
+                log.warn("마감 알림 구간이 너무 조밀해 창을 넓히지 못했습니다: from={}", toDateTime(from));
+                return;
+            }
+        }
+
+        for (Object[] row : rows) {
+            Long taskId = (Long) row[0];
+            if (scheduled.containsKey(taskId)) {
+                continue;
+            }
+            LocalDateTime dueDate = (LocalDateTime) row[2];
+            TaskDueReminder reminder = nextReminder((Long) row[1], taskId, dueDate, from, now);
+            long fireAt = fireAt(reminder);
+            if (fireAt < end) {
+                this.schedule(reminder, fireAt, expired);
+            }
+        }
+        loadedUntil = end;
+    }
+
+    /**
+     * 커밋된 마감일/상태 변경 반영 (휠 항목 이동 또는 취소)
+     */
+    private void applyPendingChanges(long now, List<TaskDueReminder> expired) {
+        if (pendingTaskIds.isEmpty()) {
+            return;
+        }
+        List<Long> taskIds = new ArrayList<>();
+        for (Long taskId : pendingTaskIds) {
+            if (pendingTaskIds.remove(taskId)) {
+                taskIds.add(taskId);
+            }
+        }
+
+        for (int start = 0; start < taskIds.size(); start += LOOKUP_BATCH_SIZE) {
+            List<Long> chunk = taskIds.subList(start, Math.min(start + LOOKUP_BATCH_SIZE, taskIds.size()));
+            Map<Long, Object[]> rowById = new HashMap<>();
+            for (Object[] row : taskRepository.findScheduleByIdIn(chunk)) {
+                rowById.put((Long) row[0], row);
+            }
+
+            for (Long taskId : chunk) {
+                this.cancel(taskId);
+                Object[] row = rowById.get(taskId);
+                if (row == null || row[2] == null || row[3] == TaskStatus.DONE) {
+                    continue;
+                }
+                TaskDueReminder reminder = nextReminder((Long) row[1], taskId, (LocalDateTime) row[2], Long.MIN_VALUE, now);
+                long fireAt = fireAt(reminder);
+                // 창 밖이면 해당 구간을 읽을 때 올라옴
+                if (fireAt < loadedUntil) {
+                    this.schedule(reminder, fireAt, expired);
+                }
+            }
+        }
+    }
+
+    /**
+     * 만료된 알림을 배치로 발송
+     * DB의 현재 상태와 다르면 버리고, 발송 기록 등록에 성공한 알림만 이벤트로 발행한다.
+     * 이벤트 처리가 실패하면 발송 기록을 지우고 retry-delay-ms 뒤에 다시 울리도록 휠에 넣는다.
+     */
+    private void fire(List<TaskDueReminder> expired) {
+        if (expired.isEmpty()) {
+            return;
+        }
+        List<TaskDueReminder> followUps = new ArrayList<>();
+        List<TaskDueReminder> retries = new ArrayList<>();
+
+        for (int start = 0; start < expired.size(); start += batchSize) {
+            List<TaskDueReminder> batch = expired.subList(start, Math.min(start + batchSize, expired.size()));
+            List<Long> taskIds = new ArrayList<>(batch.size());
+            for (TaskDueReminder reminder : batch) {
+                // 휠에서 빠져나온 항목만 정리 (같은 태스크의 새 항목이 이미 예약되어 있을 수 있음)
+                HierarchicalTimingWheel.Entry<TaskDueReminder> entry = scheduled.get(reminder.getTaskId());
+                if (entry != null && !entry.isScheduled()) {
+                    scheduled.remove(reminder.getTaskId());
+                }
+                taskIds.add(reminder.getTaskId());
+            }
+
+            Map<Long, Object[]> rowById = new HashMap<>();
+            for (Object[] row : taskRepository.findScheduleByIdIn(taskIds)) {
+                rowById.put((Long) row[0], row);
+            }
+            List<TaskDueReminder> valid = new ArrayList<>(batch.size());
+            for (TaskDueReminder reminder : batch) {
+                Object[] row = rowById.get(reminder.getTaskId());
+                if (row != null && row[3] != TaskStatus.DONE && reminder.getDueDate().equals(row[2])) {
+                    valid.add(reminder);
+                }
+            }
+            if (valid.isEmpty()) {
+                continue;
+            }
+
+            boolean[] claimed = taskJdbcRepository.insertReminders(valid, LocalDateTime.now());
+            List<TaskDueReminder> reminders = new ArrayList<>(valid.size());
+            for (int i = 0; i < valid.size(); i++) {
+                if (claimed[i]) {
+                    reminders.add(valid.get(i));
+                }
+            }
+            boolean delivered = true;
+            if (!reminders.isEmpty()) {
+                try {
+                    eventPublisher.publishEvent(new TaskDueRemindersEvent(reminders));
+                    log.info("마감 알림 발송: count={}", reminders.size());
+                } catch (RuntimeException e) {
+                    log.warn("마감 알림 전달 실패, 재시도 예약: count={}", reminders.size(), e);
+                    taskJdbcRepository.deleteReminders(reminders);
+                    retries.addAll(reminders);
+                    delivered = false;
+                }
+            }
+            for (TaskDueReminder reminder : valid) {
+                // 재시도할 마감 임박 알림은 다시 울린 뒤에 다음 단계를 예약
+                if (reminder.getType() == TaskReminderType.DUE_SOON && (delivered || !reminders.contains(reminder))) {
+                    followUps.add(new TaskDueReminder(reminder.getProjectId(), reminder.getTaskId(),
+                            TaskReminderType.OVERDUE, reminder.getDueDate()));
+                }
+            }
+        }
+
+        // 전달에 실패한 알림은 잠시 뒤 다시 발송 (그 사이 마감일/상태가 바뀌면 발송 전 확인에서 걸러짐)
+        long retryAt = System.currentTimeMillis() + retryDelayMs;
+        for (TaskDueReminder retry : retries) {
+            if (!scheduled.containsKey(retry.getTaskId())) {
+                this.schedule(retry, retryAt, new ArrayList<>());
+            }
+        }
+
+        // 마감 임박 다음 단계(마감 초과) 예약, 창 밖이면 다음 구간 로딩 때 올라옴
+        List<TaskDueReminder> expiredFollowUps = new ArrayList<>();
+        for (TaskDueReminder followUp : followUps) {
+            long fireAt = fireAt(followUp);
+            if (fireAt < loadedUntil && !scheduled.containsKey(followUp.getTaskId())) {
+                this.schedule(followUp, fireAt, expiredFollowUps);
+            }
+        }
+        this.fire(expiredFollowUps);
+    }
+
+    private void schedule(TaskDueReminder reminder, long fireAt, List<TaskDueReminder> expired) {
+        HierarchicalTimingWheel.Entry<TaskDueReminder> entry = new HierarchicalTimingWheel.Entry<>(reminder, fireAt);
+        if (wheel.add(entry, expired) && entry.isScheduled()) {
+            scheduled.put(reminder.getTaskId(), entry);
+        }
+    }
+
+    private void cancel(Long taskId) {
+        HierarchicalTimingWheel.Entry<TaskDueReminder> entry = scheduled.remove(taskId);
+        if (entry != null) {
+            wheel.remove(entry);
+        }
+    }
+
+    /**
+     * 다음에 울릴 알림 단계
+     * 마감 임박 알림 시각이 from 이후이고 아직 마감 전이면 마감 임박, 아니면 마감 초과
+     */
+    private TaskDueReminder nextReminder(Long projectId, Long taskId, LocalDateTime dueDate, long from, long now) {
+        long dueAt = toEpochMilli(dueDate);
+        TaskReminderType type = dueAt - leadMs >= from && dueAt > now ? TaskReminderType.DUE_SOON : TaskReminderType.OVERDUE;
+        return new TaskDueReminder(projectId, taskId, type, dueDate);
+    }
+
+    private long fireAt(TaskDueReminder reminder) {
+        long dueAt = toEpochMilli(reminder.getDueDate());
+        return reminder.getType() == TaskReminderType.DUE_SOON ? dueAt - leadMs : dueAt;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,50 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 프로젝트 태스크 변경 카운터 갱신
+ * 태스크 변경 트랜잭션의 커밋 직전에 같은 트랜잭션 안에서 카운터를 증가시킨다.
+ * 한 트랜잭션에서 여러 태스크가 바뀌어도 (일괄 처리 등) 프로젝트당 한 번만 증가한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskRevisionListener {
+
+    private static final Object RESOURCE_KEY = TaskRevisionListener.class.getName() + ".touched";
+
+    private final ProjectRepository projectRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (touchedProjects().add(event.getProjectId())) {
+            projectRepository.incrementTaskRevision(event.getProjectId());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> touchedProjects() {
+        Set<Long> touched = (Set<Long>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (touched == null) {
+            touched = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(RESOURCE_KEY, touched);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+                }
+            });
+        }
+        return touched;
+    }
+}
@@ -0,0 +1,97 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.dto.TaskScheduleResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로젝트별 주경로 일정 캐시
+ * 선후행 관계나 마감일이 바뀌면 비우고, 오늘 날짜 기준으로 계산하므로 날짜가 바뀌면 전체를 비운다.
+ * 최대 프로젝트 수를 넘으면 가장 오래 조회되지 않은 프로젝트부터 내보낸다(LRU).
+ * 무효화와 동시에 진행 중이던 계산 결과가 다시 저장되지 않도록, 계산 시작 시점의 세대 번호와 프로젝트의 마지막 무효화 세대를 비교한다.
+ * 무효화 기록은 TTL이 지나면(그보다 오래 걸리는 계산은 없다고 보고) 정리한다.
+ */
+@Component
+public class TaskScheduleCache {
+
+    private static final long INVALIDATION_TTL_MILLIS = 60_000;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final int maxProjects;
+
+    // 아래 상태는 모두 this 모니터로 보호
+    private final LinkedHashMap<Long, TaskScheduleResponse> entries;
+    // 프로젝트 ID -> 마지막 무효화 (세대, 시각)
+    private final Map<Long, Invalidation> invalidations = new HashMap<>();
+    private LocalDate day;
+
+    public TaskScheduleCache(@Value("${task.dependency.cache-max-projects:1000}") int maxProjects) {
+        this.maxProjects = maxProjects;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TaskScheduleResponse> eldest) {
+                return size() > TaskScheduleCache.this.maxProjects;
+            }
+        };
+    }
+
+    /**
+     * 계산 시작 전 세대 번호 (put 시 그대로 전달)
+     */
+    public long generation(Long projectId) {
+        return generation.get();
+    }
+
+    public synchronized TaskScheduleResponse get(Long projectId, LocalDate today) {
+        this.rollOver(today);
+        return today.equals(day) ? entries.get(projectId) : null;
+    }
+
+    public synchronized void put(Long projectId, LocalDate today, TaskScheduleResponse schedule, long generation) {
+        this.rollOver(today);
+        // 자정 전에 시작한 계산이거나, 계산하는 동안 무효화되었다면 저장하지 않음
+        if (!today.equals(day)) {
+            return;
+        }
+        Invalidation invalidation = invalidations.get(projectId);
+        if (invalidation != null && invalidation.generation > generation) {
+            return;
+        }
+        entries.put(projectId, schedule);
+    }
+
+    public synchronized void evict(Long projectId) {
+        long now = System.currentTimeMillis();
+        invalidations.put(projectId, new Invalidation(generation.incrementAndGet(), now));
+        entries.remove(projectId);
+        if (invalidations.size() > maxProjects) {
+            invalidations.values().removeIf(invalidation -> now - invalidation.at > INVALIDATION_TTL_MILLIS);
+        }
+    }
+
+    // 날짜가 바뀌면 전날 기준 일정은 모두 쓸모없으므로 비움
+    private void rollOver(LocalDate today) {
+        if (day == null || today.isAfter(day)) {
+            day = today;
+            entries.clear();
+            long now = System.currentTimeMillis();
+            invalidations.values().removeIf(invalidation -> now - invalidation.at > INVALIDATION_TTL_MILLIS);
+        }
+    }
+
+    private static class Invalidation {
+        private final long generation;
+        private final long at;
+
+        Invalidation(long generation, long at) {
+            this.generation = generation;
+            this.at = at;
+        }
+    }
+}
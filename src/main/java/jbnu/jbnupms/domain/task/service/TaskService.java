@@ -5,21 +5,48 @@ import jbnu.jbnupms.common.exception.ErrorCode;
 import jbnu.jbnupms.domain.project.entity.Project;
 import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
 import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.dto.TaskAssigneesRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBreadcrumbResponse;
 import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskCursor;
+import jbnu.jbnupms.domain.task.dto.TaskETag;
+import jbnu.jbnupms.domain.task.dto.TaskMoveRequest;
+import jbnu.jbnupms.domain.task.dto.TaskParentUpdateRequest;
 import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSearchCondition;
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
 import jbnu.jbnupms.domain.task.dto.TaskUpdateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskView;
 import jbnu.jbnupms.domain.task.entity.Task;
-import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.entity.TaskActivityField;
+import jbnu.jbnupms.domain.task.entity.TaskActivityType;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskActivityEvent;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskProgressChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskScheduleChangedEvent;
 import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
 import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.task.repository.TaskSpecifications;
+import jbnu.jbnupms.domain.task.repository.TaskSummaryRepository;
 import jbnu.jbnupms.domain.user.entity.User;
 import jbnu.jbnupms.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,6 +59,14 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final TaskSummaryRepository taskSummaryRepository;
+    private final TaskTreeLoader taskTreeLoader;
+    private final TaskSliceAssembler taskSliceAssembler;
+    private final TaskHierarchyService taskHierarchyService;
+    private final TaskStatsService taskStatsService;
+    private final TaskSubtreeDeleter taskSubtreeDeleter;
+    private final TaskRankService taskRankService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 태스크 생성
     @Transactional
@@ -61,15 +96,22 @@ public class TaskService {
                 .description(request.getDescription())
                 .priority(request.getPriority())
                 .dueDate(request.getDueDate())
+                .rank(taskRankService.rankForAppend(project.getId(), parent != null ? parent.getId() : null))
                 .build();
 
         taskRepository.save(task);
+        taskHierarchyService.onCreated(task.getId(), parent != null ? parent.getId() : null);
+        taskStatsService.onCreated(project.getId(), task.getStatus(), task.getPriority());
+        eventPublisher.publishEvent(new TaskProgressChangedEvent(project.getId(), parent != null ? parent.getId() : null));
+        eventPublisher.publishEvent(new TaskChangedEvent(project.getId(), task.getId(), TaskChangeType.CREATED));
+        eventPublisher.publishEvent(TaskActivityEvent.of(project.getId(), task.getId(), userId, TaskActivityType.CREATED));
+        if (task.getDueDate() != null) {
+            eventPublisher.publishEvent(new TaskScheduleChangedEvent(project.getId(), task.getId()));
+        }
 
         // 담당자 할당
         if (request.getAssigneeIds() != null && !request.getAssigneeIds().isEmpty()) {
-            for (Long assigneeId : request.getAssigneeIds()) {
-                assignUserToTask(task, assigneeId);
-            }
+            this.assignUsers(task, request.getAssigneeIds());
         }
 
         return task.getId();
@@ -81,17 +123,61 @@ public class TaskService {
         // 프로젝트 접근 권한 확인
         this.validateProjectMember(projectId, userId);
 
-        List<Task> rootTasks = taskRepository.findRootTasksByProjectId(projectId);
-        
-        // 프로젝트 내 모든 담당자 조회 후 Map으로 그룹화
-        List<TaskAssignee> allAssignees = taskAssigneeRepository.findAllByTask_ProjectId(projectId);
-        Map<Long, List<TaskAssignee>> assigneeMap = allAssignees.stream()
-                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
-        
-        // Root Task 목록 스트림으로 순회하며 Map 전달
-        return rootTasks.stream()
-            .map(task -> TaskResponse.from(task, assigneeMap))
-            .collect(Collectors.toList());
+        // 전체 태스크를 한 번에 조회한 뒤 메모리에서 트리 조립
+        return taskTreeLoader.load(projectId).getRoots();
+    }
+
+    // 프로젝트별 태스크 트리 조회 (depth 지정 시 해당 깊이까지만, 접힌 노드는 childCount로 표시)
+    public List<?> getTaskTree(Long userId, Long projectId, TaskView view, Integer depth) {
+        this.validateProjectMember(projectId, userId);
+
+        if (depth != null && depth < 0) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "depth는 0 이상이어야 합니다.");
+        }
+        if (view == TaskView.SUMMARY) {
+            return depth != null ? taskTreeLoader.loadSummariesToDepth(projectId, depth) : taskTreeLoader.loadSummaries(projectId);
+        }
+        return depth != null ? taskTreeLoader.loadToDepth(projectId, depth) : taskTreeLoader.load(projectId).getRoots();
+    }
+
+    // 직계 하위 태스크 조회 (트리 펼치기용)
+    public List<?> getChildren(Long userId, Long taskId, TaskView view) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectMember(task.getProject().getId(), userId);
+
+        return view == TaskView.SUMMARY ? taskTreeLoader.loadChildSummaries(taskId) : taskTreeLoader.loadChildren(taskId);
+    }
+
+    // 프로젝트별 태스크 목록 조회 (평면, 필터 + 키셋 페이지네이션)
+    public TaskSliceResponse<?> searchTasks(Long userId, TaskSearchCondition condition) {
+        this.validateProjectMember(condition.getProjectId(), userId);
+
+        int size = taskSliceAssembler.resolvePageSize(condition.getSize());
+        TaskCursor cursor = condition.getCursor() != null ? TaskCursor.decode(condition.getCursor()) : null;
+        Specification<Task> spec = TaskSpecifications.search(condition, cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        if (condition.getView() == TaskView.SUMMARY) {
+            return taskSliceAssembler.assembleSummaries(
+                    taskSummaryRepository.findAll(spec, condition.getSort(), size + 1), size, condition.getSort());
+        }
+
+        Sort sort = taskSliceAssembler.sortOf(condition.getSort());
+        List<Task> tasks = taskRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+
+        return taskSliceAssembler.assemble(tasks, size, condition.getSort());
+    }
+
+    // 태스크 단건 조회 ETag (엔티티를 로딩하지 않고 버전/변경 카운터만 조회)
+    public TaskETag getTaskETag(Long userId, Long taskId) {
+        List<Object[]> rows = taskRepository.findVersionAndRevisionById(taskId);
+        if (rows.isEmpty()) {
+            throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "태스크를 찾을 수 없습니다.");
+        }
+        Object[] row = rows.get(0);
+        Long projectId = (Long) row[1];
+        this.validateProjectMember(projectId, userId);
+        return new TaskETag(projectId, (Long) row[0], (Long) row[2]);
     }
 
     // 태스크 단건 조회
@@ -99,21 +185,28 @@ public class TaskService {
         Task task = this.getTaskById(taskId);
         Long projectId = task.getProject().getId();
         this.validateProjectMember(projectId, userId);
-        
-        // 프로젝트 내 모든 담당자 조회 후 Map으로 그룹화 (하위 작업 담당자 포함을 위해)
-        List<TaskAssignee> allAssignees = taskAssigneeRepository.findAllByTask_ProjectId(projectId);
-        Map<Long, List<TaskAssignee>> assigneeMap = allAssignees.stream()
-                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
 
-        return TaskResponse.from(task, assigneeMap);
+        // 하위 작업과 담당자를 포함하기 위해 해당 태스크의 서브트리만 조립
+        return taskTreeLoader.loadSubtree(taskId);
     }
 
     // 태스크 수정
     @Transactional
-    public void updateTask(Long userId, Long taskId, TaskUpdateRequest request) {
+    public void updateTask(Long userId, Long taskId, TaskUpdateRequest request, Long expectedVersion) {
         Task task = this.getTaskById(taskId);
         this.validateProjectMember(task.getProject().getId(), userId);
 
+        // If-Match로 전달된 버전과 다르면 다른 요청이 먼저 수정한 것
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new CustomException(ErrorCode.PRECONDITION_FAILED, "태스크가 다른 요청에 의해 수정되었습니다.");
+        }
+
+        String previousTitle = task.getTitle();
+        TaskStatus previousStatus = task.getStatus();
+        TaskPriority previousPriority = task.getPriority();
+        Double previousProgress = task.getProgress();
+        LocalDateTime previousDueDate = task.getDueDate();
+
         task.update(
                 request.getTitle() != null ? request.getTitle() : task.getTitle(),
                 request.getDescription() != null ? request.getDescription() : task.getDescription(),
@@ -122,6 +215,77 @@ public class TaskService {
                 request.getDueDate() != null ? request.getDueDate() : task.getDueDate(),
                 request.getProgress() != null ? request.getProgress() : task.getProgress()
         );
+
+        taskStatsService.onChanged(task.getProject().getId(), previousStatus, previousPriority,
+                task.getStatus(), task.getPriority());
+
+        // 상태나 진행률이 바뀐 경우에만 상위로 롤업
+        if (previousStatus != task.getStatus() || !Objects.equals(previousProgress, task.getProgress())) {
+            eventPublisher.publishEvent(new TaskProgressChangedEvent(task.getProject().getId(), this.getParentId(task)));
+        }
+        this.publishFieldChange(userId, task, TaskActivityField.TITLE, previousTitle, task.getTitle());
+        this.publishFieldChange(userId, task, TaskActivityField.STATUS, previousStatus, task.getStatus());
+        this.publishFieldChange(userId, task, TaskActivityField.PRIORITY, previousPriority, task.getPriority());
+        this.publishFieldChange(userId, task, TaskActivityField.DUE_DATE, previousDueDate, task.getDueDate());
+
+        // 마감 알림은 마감일이나 상태가 바뀐 경우에만 다시 예약
+        if (previousStatus != task.getStatus() || !Objects.equals(previousDueDate, task.getDueDate())) {
+            eventPublisher.publishEvent(new TaskScheduleChangedEvent(task.getProject().getId(), taskId));
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(task.getProject().getId(), taskId, TaskChangeType.UPDATED));
+    }
+
+    // 상위 태스크 변경
+    @Transactional
+    public void changeParent(Long userId, Long taskId, TaskParentUpdateRequest request) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectMember(task.getProject().getId(), userId);
+
+        Task newParent = this.getNewParent(task, request.getParentId());
+        Long previousParentId = this.getParentId(task);
+        Long newParentId = newParent != null ? newParent.getId() : null;
+        if (Objects.equals(previousParentId, newParentId)) {
+            task.changeParent(newParent);
+        } else {
+            // 새 상위 태스크의 맨 뒤로
+            task.moveTo(newParent, taskRankService.rankForAppend(task.getProject().getId(), newParentId));
+        }
+        this.publishMoved(userId, task, previousParentId);
+    }
+
+    // 순서 변경/상위 태스크 변경 (이동한 태스크 한 행의 순위만 갱신)
+    @Transactional
+    public void moveTask(Long userId, Long taskId, TaskMoveRequest request) {
+        Task task = this.getTaskById(taskId);
+        Long projectId = task.getProject().getId();
+        this.validateProjectMember(projectId, userId);
+
+        Task newParent = this.getNewParent(task, request.getParentId());
+        Long newParentId = newParent != null ? newParent.getId() : null;
+
+        if (request.getAfterId() != null) {
+            if (request.getAfterId().equals(taskId)) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "자기 자신 뒤로 이동할 수 없습니다.");
+            }
+            Task after = this.getTaskById(request.getAfterId());
+            if (!Objects.equals(this.getParentId(after), newParentId) || !after.getProject().getId().equals(projectId)) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "기준 태스크가 이동할 위치의 형제 태스크가 아닙니다.");
+            }
+        }
+
+        Long previousParentId = this.getParentId(task);
+        task.moveTo(newParent, taskRankService.rankAfter(projectId, newParentId, taskId, request.getAfterId()));
+        this.publishMoved(userId, task, previousParentId);
+    }
+
+    // 상위 태스크 경로 조회 (브레드크럼)
+    public List<TaskBreadcrumbResponse> getAncestors(Long userId, Long taskId) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectMember(task.getProject().getId(), userId);
+
+        return taskHierarchyService.getAncestors(taskId).stream()
+                .map(TaskBreadcrumbResponse::from)
+                .collect(Collectors.toList());
     }
 
     // 태스크 삭제
@@ -129,8 +293,23 @@ public class TaskService {
     public void deleteTask(Long userId, Long taskId) {
         Task task = this.getTaskById(taskId);
         this.validateProjectMember(task.getProject().getId(), userId);
-        
-        taskRepository.delete(task);
+
+        Long projectId = task.getProject().getId();
+        Long parentId = this.getParentId(task);
+
+        // 계층 인덱스가 지워지기 전에 서브트리 태스크 ID를 모아 두고 집계 차감
+        List<Long> deletedIds = new ArrayList<>();
+        deletedIds.add(taskId);
+        deletedIds.addAll(taskHierarchyService.getDescendantIds(taskId));
+        taskStatsService.onSubtreeDeleted(projectId, taskId);
+        // 하위 태스크를 로딩하지 않고 서브트리와 종속 행을 일괄 soft delete
+        taskSubtreeDeleter.delete(taskId);
+        taskHierarchyService.onDeleted(taskId);
+        eventPublisher.publishEvent(new TaskProgressChangedEvent(projectId, parentId));
+        // 하위 태스크도 검색 색인/인박스/알림/실시간 구독자에서 빠지도록 삭제된 ID 전체를 한 번에 알림
+        eventPublisher.publishEvent(new TaskChangedEvent(projectId, deletedIds, TaskChangeType.DELETED));
+        eventPublisher.publishEvent(new TaskScheduleChangedEvent(projectId, deletedIds));
+        eventPublisher.publishEvent(TaskActivityEvent.of(projectId, taskId, userId, TaskActivityType.DELETED));
     }
 
     // 담당자 추가
@@ -139,7 +318,57 @@ public class TaskService {
         Task task = this.getTaskById(taskId);
         this.validateProjectMember(task.getProject().getId(), userId);
 
-        assignUserToTask(task, assigneeId);
+        Set<Long> before = this.getAssigneeIds(taskId);
+        this.assignUsers(task, List.of(assigneeId));
+        Set<Long> after = new HashSet<>(before);
+        after.add(assigneeId);
+        this.publishAssigneesChanged(userId, task, before, after);
+    }
+
+    // 담당자 일괄 추가
+    @Transactional
+    public void addAssignees(Long userId, Long taskId, TaskAssigneesRequest request) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectMember(task.getProject().getId(), userId);
+
+        Set<Long> before = this.getAssigneeIds(taskId);
+        this.assignUsers(task, request.getAssigneeIds());
+        Set<Long> after = new HashSet<>(before);
+        after.addAll(request.getAssigneeIds());
+        this.publishAssigneesChanged(userId, task, before, after);
+    }
+
+    // 담당자 집합 교체 (목록에 없는 담당자는 해제)
+    @Transactional
+    public void replaceAssignees(Long userId, Long taskId, TaskAssigneesRequest request) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectMember(task.getProject().getId(), userId);
+
+        Set<Long> before = this.getAssigneeIds(taskId);
+        Set<Long> assigneeIds = new HashSet<>(request.getAssigneeIds());
+        if (assigneeIds.isEmpty()) {
+            taskAssigneeRepository.deleteAllByTaskId(taskId);
+        } else {
+            this.validateAssignees(task.getProject().getId(), assigneeIds);
+            taskAssigneeRepository.deleteByTaskIdAndUserIdNotIn(taskId, assigneeIds);
+            taskAssigneeRepository.insertIgnoringDuplicates(taskId, task.getProject().getId(), assigneeIds, LocalDateTime.now());
+        }
+        this.publishAssigneesChanged(userId, task, before, assigneeIds);
+    }
+
+    // 담당자 일괄 삭제
+    @Transactional
+    public void removeAssignees(Long userId, Long taskId, List<Long> assigneeIds) {
+        Task task = this.getTaskById(taskId);
+        this.validateProjectMember(task.getProject().getId(), userId);
+
+        if (!assigneeIds.isEmpty()) {
+            Set<Long> before = this.getAssigneeIds(taskId);
+            taskAssigneeRepository.deleteByTaskIdAndUserIdIn(taskId, new HashSet<>(assigneeIds));
+            Set<Long> after = new HashSet<>(before);
+            after.removeAll(assigneeIds);
+            this.publishAssigneesChanged(userId, task, before, after);
+        }
     }
 
     // 담당자 삭제
@@ -150,20 +379,93 @@ public class TaskService {
 
         User assignee = this.getUser(assigneeId);
         
+        Set<Long> before = this.getAssigneeIds(taskId);
         taskAssigneeRepository.deleteByTaskAndUser(task, assignee);
+        Set<Long> after = new HashSet<>(before);
+        after.remove(assigneeId);
+        this.publishAssigneesChanged(userId, task, before, after);
     }
 
-    private void assignUserToTask(Task task, Long assigneeId) {
-        User assignee = this.getUser(assigneeId);
-        // 담당자도 프로젝트 멤버여야 함
-        this.validateProjectMember(task.getProject().getId(), assigneeId);
+    // 멤버 검증 1회 + INSERT ... ON CONFLICT DO NOTHING 1회로 할당
+    private void assignUsers(Task task, Collection<Long> assigneeIds) {
+        Set<Long> ids = new HashSet<>(assigneeIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Long projectId = task.getProject().getId();
+
+        this.validateAssignees(projectId, ids);
+        taskAssigneeRepository.insertIgnoringDuplicates(task.getId(), projectId, ids, LocalDateTime.now());
+    }
+
+    // 담당자도 모두 프로젝트 멤버여야 함
+    private void validateAssignees(Long projectId, Set<Long> assigneeIds) {
+        if (projectMemberRepository.findMemberUserIds(projectId, assigneeIds).size() != assigneeIds.size()) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닌 담당자가 포함되어 있습니다.");
+        }
+    }
+
+    private void publishAssigneesChanged(Long userId, Task task, Set<Long> before, Set<Long> after) {
+        eventPublisher.publishEvent(new TaskChangedEvent(task.getProject().getId(), task.getId(), TaskChangeType.UPDATED));
+        if (!before.equals(after)) {
+            eventPublisher.publishEvent(TaskActivityEvent.changed(task.getProject().getId(), task.getId(), userId,
+                    TaskActivityField.ASSIGNEES, this.joinSorted(before), this.joinSorted(after)));
+        }
+    }
+
+    // 값이 바뀐 필드만 이력으로 남김
+    private void publishFieldChange(Long userId, Task task, TaskActivityField field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            eventPublisher.publishEvent(TaskActivityEvent.changed(task.getProject().getId(), task.getId(), userId,
+                    field, before, after));
+        }
+    }
+
+    private Set<Long> getAssigneeIds(Long taskId) {
+        return new HashSet<>(taskAssigneeRepository.findUserIdsByTaskId(taskId));
+    }
+
+    private String joinSorted(Set<Long> ids) {
+        return ids.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    // 이동할 상위 태스크 검증 (같은 프로젝트, 자기 자신/하위 태스크 아래 금지), null이면 최상위
+    private Task getNewParent(Task task, Long parentId) {
+        if (parentId == null) {
+            return null;
+        }
+        Task newParent = taskRepository.findById(parentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "상위 태스크를 찾을 수 없습니다."));
+
+        if (!newParent.getProject().getId().equals(task.getProject().getId())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "상위 태스크가 다른 프로젝트에 속해 있습니다.");
+        }
 
-        if (!taskAssigneeRepository.existsByTaskAndUser(task, assignee)) {
-            taskAssigneeRepository.save(TaskAssignee.builder()
-                    .task(task)
-                    .user(assignee)
-                    .build());
+        // 같은 프로젝트의 상위 태스크 변경을 직렬화해야 동시에 서로의 아래로 옮기는 두 요청이 순환을 만들지 않음
+        projectRepository.findByIdForUpdate(task.getProject().getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND, "프로젝트를 찾을 수 없습니다."));
+        // 자기 자신이나 하위 태스크 아래로는 이동 불가
+        if (taskHierarchyService.wouldCreateCycle(task.getId(), newParent.getId())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "자기 자신 또는 하위 태스크 아래로 이동할 수 없습니다.");
         }
+        return newParent;
+    }
+
+    // 상위 태스크가 바뀌었으면 계층 인덱스 갱신 후 이전 위치와 새 위치 모두 롤업
+    private void publishMoved(Long userId, Task task, Long previousParentId) {
+        Long projectId = task.getProject().getId();
+        Long parentId = this.getParentId(task);
+        if (!Objects.equals(previousParentId, parentId)) {
+            taskHierarchyService.onMoved(task.getId(), parentId);
+            eventPublisher.publishEvent(new TaskProgressChangedEvent(projectId, previousParentId));
+            eventPublisher.publishEvent(new TaskProgressChangedEvent(projectId, parentId));
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(projectId, task.getId(), TaskChangeType.UPDATED));
+        eventPublisher.publishEvent(TaskActivityEvent.moved(projectId, task.getId(), userId, previousParentId, parentId));
+    }
+
+    private Long getParentId(Task task) {
+        return task.getParent() != null ? task.getParent().getId() : null;
     }
 
     private User getUser(Long userId) {
@@ -0,0 +1,103 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.task.dto.TaskCursor;
+import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSortKey;
+import jbnu.jbnupms.domain.task.dto.TaskSummaryResponse;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋 페이지네이션 목록 응답 조립
+ * 조회는 size + 1개로 하고, 초과분으로 다음 페이지 존재 여부를 판단한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSliceAssembler {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TaskAssigneeRepository taskAssigneeRepository;
+    private final TaskSummaryRepository taskSummaryRepository;
+
+    public int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_QUERY_PARAM, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    public Sort sortOf(TaskSortKey sortKey) {
+        return sortKey == TaskSortKey.DUE_DATE
+                ? Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id"))
+                : Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"));
+    }
+
+    public TaskSliceResponse<TaskResponse> assemble(List<Task> fetched, int size, TaskSortKey sortKey) {
+        boolean hasNext = fetched.size() > size;
+        List<Task> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        Map<Long, List<TaskAssignee>> assigneeMap = page.isEmpty()
+                ? Collections.emptyMap()
+                : taskAssigneeRepository.findAllWithUserByTaskIdIn(page.stream().map(Task::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(sortKey == TaskSortKey.DUE_DATE ? last.getDueDate() : last.getUpdatedAt(),
+                    last.getId()).encode();
+        }
+
+        return TaskSliceResponse.<TaskResponse>builder()
+                .items(page.stream()
+                        .map(task -> TaskResponse.flat(task, assigneeMap.getOrDefault(task.getId(), Collections.emptyList())))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public TaskSliceResponse<TaskSummaryResponse> assembleSummaries(List<TaskSummaryResponse> fetched, int size, TaskSortKey sortKey) {
+        boolean hasNext = fetched.size() > size;
+        List<TaskSummaryResponse> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        Map<Long, TaskSummaryResponse> byId = new HashMap<>();
+        page.forEach(summary -> byId.put(summary.getId(), summary));
+        for (Object[] row : taskSummaryRepository.findAssigneeIdsByTaskIdIn(byId.keySet())) {
+            byId.get((Long) row[0]).addAssigneeId((Long) row[1]);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(sortKey == TaskSortKey.DUE_DATE ? last.getDueDate() : last.getUpdatedAt(),
+                    last.getId()).encode();
+        }
+
+        return TaskSliceResponse.<TaskSummaryResponse>builder()
+                .items(new ArrayList<>(page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
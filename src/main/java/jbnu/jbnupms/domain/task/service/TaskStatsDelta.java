@@ -0,0 +1,27 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+
+/**
+ * 프로젝트 태스크 집계 증감분
+ * (상태, 우선순위) 조합별 증감을 모아 두었다가 한 번에 반영한다.
+ */
+public class TaskStatsDelta {
+
+    private final long[][] counts = new long[TaskStatus.values().length][TaskPriority.values().length];
+
+    public TaskStatsDelta add(TaskStatus status, TaskPriority priority, long delta) {
+        counts[status.ordinal()][priority.ordinal()] += delta;
+        return this;
+    }
+
+    public TaskStatsDelta change(TaskStatus fromStatus, TaskPriority fromPriority, TaskStatus toStatus, TaskPriority toPriority) {
+        add(fromStatus, fromPriority, -1);
+        return add(toStatus, toPriority, 1);
+    }
+
+    long get(int status, int priority) {
+        return counts[status][priority];
+    }
+}
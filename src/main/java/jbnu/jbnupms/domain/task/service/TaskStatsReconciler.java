@@ -0,0 +1,52 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.repository.ProjectTaskStatRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 태스크 집계 주기 보정
+ * 증감 반영 누락(직접 수정된 데이터, 동시성 경합 등)으로 생긴 오차를 프로젝트 단위 트랜잭션으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatsReconciler {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectTaskStatRepository projectTaskStatRepository;
+    private final TaskRepository taskRepository;
+    private final TaskStatsService taskStatsService;
+
+    /**
+     * 집계 도입 이전 데이터 백필 (집계가 비어 있고 태스크가 존재할 때만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (projectTaskStatRepository.count() > 0 || taskRepository.count() == 0) {
+            return;
+        }
+        this.reconcileAll();
+    }
+
+    @Scheduled(cron = "${task.stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcileAll() {
+        int projects = 0;
+        int fixed = 0;
+        for (Long projectId : projectRepository.findAllIds()) {
+            try {
+                fixed += taskStatsService.reconcile(projectId);
+                projects++;
+            } catch (Exception e) {
+                log.error("태스크 집계 보정 실패: projectId={}", projectId, e);
+            }
+        }
+        log.info("태스크 집계 보정 완료: projects={}, fixedRows={}", projects, fixed);
+    }
+}
@@ -0,0 +1,144 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.task.dto.ProjectTaskStatsResponse;
+import jbnu.jbnupms.domain.task.entity.ProjectTaskStat;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.repository.ProjectTaskStatRepository;
+import jbnu.jbnupms.domain.task.repository.TaskClosureRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트별 상태/우선순위 태스크 수 집계
+ * 태스크 생성/수정/삭제 트랜잭션 안에서 증감분만 반영하므로, 조회는 태스크 수와 관계없이 최대 9행만 읽는다.
+ * 증감은 항상 (상태, 우선순위) 순서로 적용해 동시 트랜잭션 간 교착을 피한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskStatsService {
+
+    private final ProjectTaskStatRepository projectTaskStatRepository;
+    private final TaskRepository taskRepository;
+    private final TaskClosureRepository taskClosureRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    public ProjectTaskStatsResponse getStats(Long userId, Long projectId) {
+        if (!projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "프로젝트 멤버가 아닙니다.");
+        }
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        long total = 0;
+        for (ProjectTaskStat stat : projectTaskStatRepository.findAllByProjectId(projectId)) {
+            long count = stat.getTaskCount();
+            byStatus.merge(stat.getId().getStatus(), count, Long::sum);
+            byPriority.merge(stat.getId().getPriority(), count, Long::sum);
+            total += count;
+        }
+
+        return ProjectTaskStatsResponse.builder()
+                .projectId(projectId)
+                .total(total)
+                .byStatus(byStatus)
+                .byPriority(byPriority)
+                .build();
+    }
+
+    /**
+     * 태스크 생성 반영
+     */
+    @Transactional
+    public void onCreated(Long projectId, TaskStatus status, TaskPriority priority) {
+        this.apply(projectId, new TaskStatsDelta().add(status, priority, 1));
+    }
+
+    /**
+     * 상태/우선순위 변경 반영 (변경이 없으면 무시)
+     */
+    @Transactional
+    public void onChanged(Long projectId, TaskStatus fromStatus, TaskPriority fromPriority,
+                          TaskStatus toStatus, TaskPriority toPriority) {
+        if (fromStatus == toStatus && fromPriority == toPriority) {
+            return;
+        }
+        this.apply(projectId, new TaskStatsDelta().change(fromStatus, fromPriority, toStatus, toPriority));
+    }
+
+    /**
+     * 서브트리 삭제 반영 (계층 인덱스와 태스크가 삭제되기 전에 호출해야 함)
+     */
+    @Transactional
+    public void onSubtreeDeleted(Long projectId, Long taskId) {
+        TaskStatsDelta delta = new TaskStatsDelta();
+        for (Object[] row : taskClosureRepository.countSubtreeByStatusAndPriority(taskId)) {
+            delta.add((TaskStatus) row[0], (TaskPriority) row[1], -(Long) row[2]);
+        }
+        this.apply(projectId, delta);
+    }
+
+    @Transactional
+    public void apply(Long projectId, TaskStatsDelta delta) {
+        for (int s = 0; s < TaskStatus.values().length; s++) {
+            for (int p = 0; p < TaskPriority.values().length; p++) {
+                long value = delta.get(s, p);
+                if (value != 0) {
+                    projectTaskStatRepository.addCount(projectId, s, p, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * 실제 태스크 수와 비교해 어긋난 집계를 보정
+     * 집계 행을 먼저 잠가 보정 도중 커밋되는 증감이 덮어써지지 않도록 한다.
+     *
+     * @return 보정한 행 수
+     */
+    @Transactional
+    public int reconcile(Long projectId) {
+        long[][] stored = new long[TaskStatus.values().length][TaskPriority.values().length];
+        for (ProjectTaskStat stat : projectTaskStatRepository.findAllByProjectIdForUpdate(projectId)) {
+            stored[stat.getId().getStatus().ordinal()][stat.getId().getPriority().ordinal()] = stat.getTaskCount();
+        }
+
+        long[][] actual = new long[TaskStatus.values().length][TaskPriority.values().length];
+        for (Object[] row : taskRepository.countByStatusAndPriority(projectId)) {
+            actual[((TaskStatus) row[0]).ordinal()][((TaskPriority) row[1]).ordinal()] = (Long) row[2];
+        }
+
+        int fixed = 0;
+        for (int s = 0; s < actual.length; s++) {
+            for (int p = 0; p < actual[s].length; p++) {
+                if (stored[s][p] != actual[s][p]) {
+                    projectTaskStatRepository.setCount(projectId, s, p, actual[s][p]);
+                    fixed++;
+                }
+            }
+        }
+        if (fixed > 0) {
+            log.warn("태스크 집계 보정: projectId={}, rows={}", projectId, fixed);
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,50 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.comment.repository.CommentRepository;
+import jbnu.jbnupms.domain.file.repository.ProjectFileRepository;
+import jbnu.jbnupms.domain.file.repository.TaskFileRepository;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태스크 서브트리 일괄 soft delete
+ * 엔티티 cascade 삭제는 하위 태스크를 모두 로딩해 행마다 UPDATE를 보내므로,
+ * parent_id 재귀 CTE로 서브트리를 구해 테이블마다 UPDATE 한 번씩만 실행한다.
+ * 종속 행(담당자/댓글/파일)은 서브트리 태스크가 아직 살아 있을 때 구해야 하므로 태스크보다 먼저 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSubtreeDeleter {
+
+    private final TaskRepository taskRepository;
+    private final TaskAssigneeRepository taskAssigneeRepository;
+    private final CommentRepository commentRepository;
+    private final TaskFileRepository taskFileRepository;
+    private final ProjectFileRepository projectFileRepository;
+
+    /**
+     * 서브트리(자기 자신 포함) 삭제 후 삭제된 태스크 수 반환
+     * 호출 후 영속성 컨텍스트가 비워지므로 이전에 조회한 엔티티는 준영속 상태가 된다.
+     */
+    @Transactional
+    public int delete(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        int assignees = taskAssigneeRepository.softDeleteBySubtree(taskId, now);
+        int comments = commentRepository.softDeleteByTaskSubtree(taskId, now);
+        projectFileRepository.softDeleteByTaskSubtree(taskId);
+        int files = taskFileRepository.softDeleteByTaskSubtree(taskId);
+        int tasks = taskRepository.softDeleteSubtree(taskId, now);
+
+        log.debug("태스크 서브트리 삭제: taskId={}, tasks={}, assignees={}, comments={}, files={}",
+                taskId, tasks, assignees, comments, files);
+        return tasks;
+    }
+}
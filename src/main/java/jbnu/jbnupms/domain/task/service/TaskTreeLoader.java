@@ -0,0 +1,197 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSummaryResponse;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.task.repository.TaskSummaryRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 태스크 트리 로더
+ * 태스크(+작성자)와 담당자(+사용자)를 각각 한 번씩만 조회한 뒤 parent_id 기준으로 메모리에서 트리를 조립한다.
+ * 트리의 깊이나 너비와 관계없이 쿼리 수는 2회로 고정된다.
+ * 깊이 제한 조회는 계층 인덱스로 대상 태스크를 거르고, 접힌 노드의 하위 태스크 수는 집계 쿼리 1회로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskTreeLoader {
+
+    private final TaskRepository taskRepository;
+    private final TaskAssigneeRepository taskAssigneeRepository;
+    private final TaskSummaryRepository taskSummaryRepository;
+
+    public TaskTree load(Long projectId) {
+        List<Task> tasks = taskRepository.findAllWithCreatorByProjectId(projectId);
+        List<TaskAssignee> assignees = taskAssigneeRepository.findAllWithUserByProjectId(projectId);
+        return link(tasks, assignees);
+    }
+
+    /**
+     * 태스크 하나와 그 서브트리 (계층 인덱스로 서브트리만 조회, 쿼리 2회)
+     * 요청한 태스크의 상위 태스크는 조회 대상이 아니므로 노드 맵에서 직접 꺼낸다.
+     */
+    public TaskResponse loadSubtree(Long taskId) {
+        List<Task> tasks = taskRepository.findAllWithCreatorInSubtree(taskId);
+        List<TaskAssignee> assignees = taskAssigneeRepository.findAllWithUserInSubtree(taskId);
+        return link(tasks, assignees).find(taskId);
+    }
+
+    /**
+     * depth(루트 = 0)까지만 조립하고, 모든 노드에 childCount를 채운다.
+     */
+    public List<TaskResponse> loadToDepth(Long projectId, int depth) {
+        List<Task> tasks = taskRepository.findAllWithCreatorByProjectIdToDepth(projectId, depth);
+        List<TaskAssignee> assignees = taskAssigneeRepository.findAllWithUserByProjectIdToDepth(projectId, depth);
+        TaskTree tree = link(tasks, assignees);
+
+        Map<Long, Long> collapsed = toCountMap(taskRepository.countChildrenAtDepth(projectId, depth + 1));
+        tree.getNodes().values().forEach(node ->
+                node.updateChildCount(collapsed.getOrDefault(node.getId(), (long) node.getChildren().size()).intValue()));
+        return tree.getRoots();
+    }
+
+    /**
+     * 직계 하위 태스크 (펼치기용, 각 노드의 childCount 포함)
+     */
+    public List<TaskResponse> loadChildren(Long parentId) {
+        Map<Long, List<TaskAssignee>> assigneeMap = taskAssigneeRepository.findAllWithUserByTaskParentId(parentId).stream()
+                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
+        Map<Long, Long> counts = toCountMap(taskRepository.countGrandchildrenByParentId(parentId));
+
+        List<TaskResponse> children = new ArrayList<>();
+        for (Task task : taskRepository.findAllWithCreatorByParentId(parentId)) {
+            TaskResponse node = TaskResponse.flat(task, assigneeMap.getOrDefault(task.getId(), Collections.emptyList()));
+            node.updateChildCount(counts.getOrDefault(task.getId(), 0L).intValue());
+            children.add(node);
+        }
+        return children;
+    }
+
+    /**
+     * 요약 트리 (view=summary): 필요한 컬럼만 DTO로 조회해 같은 방식으로 조립
+     */
+    public List<TaskSummaryResponse> loadSummaries(Long projectId) {
+        return linkSummaries(taskSummaryRepository.findAllByProjectId(projectId),
+                taskSummaryRepository.findAssigneeIdsByProjectId(projectId)).getRoots();
+    }
+
+    public List<TaskSummaryResponse> loadSummariesToDepth(Long projectId, int depth) {
+        SummaryTree tree = linkSummaries(taskSummaryRepository.findAllByProjectIdToDepth(projectId, depth),
+                taskSummaryRepository.findAssigneeIdsByProjectIdToDepth(projectId, depth));
+
+        Map<Long, Long> collapsed = toCountMap(taskRepository.countChildrenAtDepth(projectId, depth + 1));
+        tree.getNodes().values().forEach(node -> {
+            long loaded = node.getChildren() != null ? node.getChildren().size() : 0;
+            node.updateChildCount(collapsed.getOrDefault(node.getId(), loaded).intValue());
+        });
+        return tree.getRoots();
+    }
+
+    public List<TaskSummaryResponse> loadChildSummaries(Long parentId) {
+        List<TaskSummaryResponse> children = taskSummaryRepository.findAllByParentId(parentId);
+        Map<Long, TaskSummaryResponse> byId = new HashMap<>();
+        children.forEach(child -> byId.put(child.getId(), child));
+        for (Object[] row : taskSummaryRepository.findAssigneeIdsByParentId(parentId)) {
+            TaskSummaryResponse child = byId.get((Long) row[0]);
+            if (child != null) {
+                child.addAssigneeId((Long) row[1]);
+            }
+        }
+
+        Map<Long, Long> counts = toCountMap(taskRepository.countGrandchildrenByParentId(parentId));
+        children.forEach(child -> child.updateChildCount(counts.getOrDefault(child.getId(), 0L).intValue()));
+        return children;
+    }
+
+    private TaskTree link(List<Task> tasks, List<TaskAssignee> assignees) {
+        Map<Long, List<TaskAssignee>> assigneeMap = assignees.stream()
+                .collect(Collectors.groupingBy(ta -> ta.getTask().getId()));
+
+        // 1차: 모든 노드 생성
+        Map<Long, TaskResponse> nodes = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            nodes.put(task.getId(), TaskResponse.node(task, assigneeMap.getOrDefault(task.getId(), Collections.emptyList())));
+        }
+
+        // 2차: parent_id로 연결
+        List<TaskResponse> roots = new ArrayList<>();
+        for (TaskResponse node : nodes.values()) {
+            if (node.getParentId() == null) {
+                roots.add(node);
+                continue;
+            }
+            TaskResponse parent = nodes.get(node.getParentId());
+            // 상위 태스크가 삭제된 경우 기존 조회와 동일하게 트리에서 제외
+            if (parent != null) {
+                parent.addChild(node);
+            }
+        }
+
+        return new TaskTree(roots, nodes);
+    }
+
+    private SummaryTree linkSummaries(List<TaskSummaryResponse> summaries, List<Object[]> assigneeIds) {
+        Map<Long, TaskSummaryResponse> nodes = new LinkedHashMap<>();
+        for (TaskSummaryResponse summary : summaries) {
+            nodes.put(summary.getId(), summary);
+        }
+        for (Object[] row : assigneeIds) {
+            TaskSummaryResponse node = nodes.get((Long) row[0]);
+            if (node != null) {
+                node.addAssigneeId((Long) row[1]);
+            }
+        }
+
+        List<TaskSummaryResponse> roots = new ArrayList<>();
+        for (TaskSummaryResponse node : nodes.values()) {
+            if (node.getParentId() == null) {
+                roots.add(node);
+                continue;
+            }
+            TaskSummaryResponse parent = nodes.get(node.getParentId());
+            if (parent != null) {
+                parent.addChild(node);
+            }
+        }
+        return new SummaryTree(roots, nodes);
+    }
+
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TaskTree {
+        private final List<TaskResponse> roots;
+        private final Map<Long, TaskResponse> nodes;
+
+        public TaskResponse find(Long taskId) {
+            return nodes.get(taskId);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class SummaryTree {
+        private final List<TaskSummaryResponse> roots;
+        private final Map<Long, TaskSummaryResponse> nodes;
+    }
+}
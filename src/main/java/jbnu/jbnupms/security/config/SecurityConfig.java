@@ -1,5 +1,6 @@
 package jbnu.jbnupms.security.config;
 
+import jakarta.servlet.DispatcherType;
 import jbnu.jbnupms.security.jwt.JwtAuthenticationEntryPoint;
 import jbnu.jbnupms.security.jwt.JwtAuthenticationFilter;
 import jbnu.jbnupms.security.oauth.CustomOAuth2UserService;
@@ -49,6 +50,8 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍/SSE 응답의 비동기 디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/login/oauth2/code/**").permitAll()
                         .requestMatchers("/oauth2/**").permitAll()
@@ -0,0 +1,218 @@
+package jbnu.jbnupms.domain.comment.service;
+
+import jbnu.jbnupms.domain.comment.dto.CommentCreateRequest;
+import jbnu.jbnupms.domain.comment.dto.CommentResponse;
+import jbnu.jbnupms.domain.comment.dto.CommentSliceResponse;
+import jbnu.jbnupms.domain.comment.dto.CommentUpdateRequest;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("comment@example.com");
+        project = fixture.memberProject(user);
+
+        task = fixture.task(project, user, "Test Task");
+    }
+
+    @Test
+    @DisplayName("댓글 스레드는 작성자까지 한 쿼리로 읽어 부모는 최신순, 대댓글은 작성 순으로 묶는다")
+    void getCommentsByTask_ShouldLoadThreadInSingleQuery() {
+        // Given
+        User other = fixture.user("reply@example.com");
+        fixture.member(project, other);
+        LocalDateTime now = LocalDateTime.now();
+        Long first = createComment("First", null);
+        Long second = createComment("Second", null);
+        Long reply = commentService.createComment(new CommentCreateRequest(task.getId(), first, "Reply"), other.getId()).getId();
+        Long laterReply = createComment("Later reply", first);
+        backdate(first, now.minusMinutes(5), now.minusMinutes(5));
+        backdate(second, now.minusMinutes(4), now.minusMinutes(4));
+        backdate(reply, now.minusMinutes(3), now.minusMinutes(3));
+        backdate(laterReply, now.minusMinutes(2), now.minusMinutes(2));
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<CommentResponse> thread = commentService.getCommentsByTask(task.getId(), user.getId());
+
+        // Then
+        // 작성자나 부모 댓글을 댓글마다 지연 로딩하지 않음
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(thread).extracting(CommentResponse::getId).containsExactly(second, first);
+        assertThat(thread.get(1).getReplies()).extracting(CommentResponse::getId).containsExactly(reply, laterReply);
+        assertThat(thread.get(1).getReplies()).extracting(CommentResponse::getUserEmail)
+                .containsExactly("reply@example.com", "comment@example.com");
+    }
+
+    @Test
+    @DisplayName("부모 댓글을 최신순 키셋으로 나눠 조회하고 대댓글은 부모와 함께 반환한다")
+    void getCommentSlice_ShouldPageParentsByKeyset() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Long oldest = createComment("Oldest", null);
+        Long middle = createComment("Middle", null);
+        Long newest = createComment("Newest", null);
+        Long reply = createComment("Reply", newest);
+        backdate(oldest, now.minusMinutes(3), now.minusMinutes(3));
+        backdate(middle, now.minusMinutes(2), now.minusMinutes(2));
+        backdate(newest, now.minusMinutes(1), now.minusMinutes(1));
+
+        // When
+        CommentSliceResponse first = commentService.getCommentSlice(task.getId(), user.getId(), null, null, 2);
+        CommentSliceResponse second = commentService.getCommentSlice(task.getId(), user.getId(), first.getNextCursor(), null, 2);
+
+        // Then
+        assertThat(first.getItems()).extracting(CommentResponse::getId).containsExactly(newest, middle);
+        assertThat(first.getItems().get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(reply);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        assertThat(second.getItems()).extracting(CommentResponse::getId).containsExactly(oldest);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("변경 커서 이후 수정된 댓글만 반환하고, 최근 몇 초 안의 변경은 다음 폴링으로 미룬다")
+    void getCommentSlice_ShouldReturnChangesSinceCursorOutsideSafetyWindow() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Long edited = createComment("Before edit", null);
+        Long untouched = createComment("Untouched", null);
+        backdate(edited, now.minusMinutes(1), now.minusMinutes(1));
+        backdate(untouched, now.minusMinutes(1), now.minusMinutes(1));
+        String syncCursor = commentService.getCommentSlice(task.getId(), user.getId(), null, null, 20).getSyncCursor();
+
+        commentService.updateComment(edited, new CommentUpdateRequest("After edit"), user.getId());
+        backdate(edited, now.minusMinutes(1), now.minusSeconds(20));
+        // 방금 생성된 댓글은 아직 커밋되지 않은 변경과 구분할 수 없으므로 이번 폴링에서는 빠짐
+        Long fresh = createComment("Fresh", null);
+
+        // When
+        CommentSliceResponse changes = commentService.getCommentSlice(task.getId(), user.getId(), null, syncCursor, 20);
+
+        // Then
+        assertThat(changes.getItems()).extracting(CommentResponse::getId).containsExactly(edited);
+        assertThat(changes.getItems().get(0).getContent()).isEqualTo("After edit");
+        assertThat(changes.isHasNext()).isFalse();
+
+        backdate(fresh, now.minusSeconds(10), now.minusSeconds(10));
+        CommentSliceResponse next = commentService.getCommentSlice(task.getId(), user.getId(), null, changes.getSyncCursor(), 20);
+        assertThat(next.getItems()).extracting(CommentResponse::getId).containsExactly(fresh);
+    }
+
+    @Test
+    @DisplayName("변경분에서 삭제된 댓글은 내용과 작성자 없이 삭제 표시만 반환한다")
+    void getCommentSlice_ShouldReturnDeletedCommentWithoutContent() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Long deleted = createComment("To be deleted", null);
+        backdate(deleted, now.minusMinutes(1), now.minusMinutes(1));
+        String syncCursor = commentService.getCommentSlice(task.getId(), user.getId(), null, null, 20).getSyncCursor();
+
+        commentService.deleteComment(deleted, user.getId());
+        backdate(deleted, now.minusMinutes(1), now.minusSeconds(20));
+
+        // When
+        CommentSliceResponse changes = commentService.getCommentSlice(task.getId(), user.getId(), null, syncCursor, 20);
+        CommentSliceResponse thread = commentService.getCommentSlice(task.getId(), user.getId(), null, null, 20);
+
+        // Then
+        assertThat(changes.getItems()).hasSize(1);
+        CommentResponse change = changes.getItems().get(0);
+        assertThat(change.getId()).isEqualTo(deleted);
+        assertThat(change.isDeleted()).isTrue();
+        assertThat(change.getContent()).isNull();
+        assertThat(change.getUserId()).isNull();
+        assertThat(thread.getItems()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("댓글을 생성/삭제하면 태스크 댓글 수가 증감하고 태스크 변경 이벤트가 발행된다")
+    void createAndDeleteComment_ShouldAdjustTaskCommentCount() {
+        // Given
+        Long first = createComment("First", null);
+        createComment("Second", null);
+        em.flush();
+        em.clear();
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getCommentCount()).isEqualTo(2);
+
+        // When
+        commentService.deleteComment(first, user.getId());
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+        assertThat(events.stream(TaskChangedEvent.class))
+                .hasSize(3)
+                .allSatisfy(event -> {
+                    assertThat(event.getTaskId()).isEqualTo(task.getId());
+                    assertThat(event.getType()).isEqualTo(TaskChangeType.UPDATED);
+                });
+    }
+
+    private Long createComment(String content, Long parentId) {
+        return commentService.createComment(new CommentCreateRequest(task.getId(), parentId, content), user.getId()).getId();
+    }
+
+    // 생성/수정 시각은 엔티티 콜백이 현재 시각으로 정하므로 직접 과거로 옮김
+    private void backdate(Long commentId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        em.flush();
+        em.createNativeQuery("UPDATE comments SET created_at = :createdAt, updated_at = :updatedAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", commentId)
+                .executeUpdate();
+        em.clear();
+    }
+}
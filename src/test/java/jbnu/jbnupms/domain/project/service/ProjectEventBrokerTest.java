@@ -0,0 +1,195 @@
+package jbnu.jbnupms.domain.project.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.dto.ProjectEventResponse;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.event.ProjectMemberChangedEvent;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@Import(TestFixture.class)
+// 전송 스레드가 응답에 쓰는 중에 결과를 출력하지 않도록 출력을 끔
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@Transactional
+@ActiveProfiles("test")
+class ProjectEventBrokerTest {
+
+    private static final long WAIT_MS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectEventBroker projectEventBroker;
+
+    @Autowired
+    private TestFixture fixture;
+
+    private User member;
+    private User outsider;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        member = fixture.user("member@example.com");
+        outsider = fixture.user("outsider@example.com");
+        project = fixture.memberProject(member);
+    }
+
+    @Test
+    @DisplayName("구독자는 발행된 변경을 발행 순서대로 증가하는 ID와 함께 받는다")
+    void subscribe_ShouldStreamPublishedChangesWithIds() throws Exception {
+        // Given
+        MvcResult result = subscribe(member, null);
+
+        // When
+        publish(101L);
+        publish(102L);
+
+        // Then
+        String body = awaitBody(result, content -> content.contains("\"taskId\":102"));
+        assertThat(body).contains("event:change");
+        assertThat(body.indexOf("\"taskId\":101")).isLessThan(body.indexOf("\"taskId\":102"));
+        List<String> ids = eventIds(body);
+        assertThat(ids).hasSize(2);
+        assertThat(ids.get(0)).isNotEqualTo(ids.get(1));
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버가 아니면 구독할 수 없다")
+    void subscribe_ShouldRejectNonMember() {
+        // When & Then
+        assertThatThrownBy(() -> projectEventBroker.subscribe(outsider.getId(), project.getId(), null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("멤버에서 빠지면 그 사용자의 연결을 바로 끊는다")
+    void onMemberChanged_ShouldCloseRemovedMembersConnection() throws Exception {
+        // Given
+        MvcResult result = subscribe(member, null);
+
+        // When
+        projectEventBroker.onMemberChanged(new ProjectMemberChangedEvent(project.getId(), member.getId(), true));
+
+        // Then
+        // SSE 연결이 완료되면 비동기 결과는 null
+        assertThat(result.getAsyncResult(WAIT_MS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 다시 연결하면 그 이후 이벤트만 이어서 받는다")
+    void subscribe_ShouldReplayEventsAfterLastEventId() throws Exception {
+        // Given
+        MvcResult first = subscribe(member, null);
+        publish(101L);
+        publish(102L);
+        publish(103L);
+        List<String> ids = eventIds(awaitBody(first, content -> content.contains("\"taskId\":103")));
+
+        // When
+        MvcResult reconnected = subscribe(member, ids.get(0));
+
+        // Then
+        String body = awaitBody(reconnected, content -> content.contains("\"taskId\":103"));
+        assertThat(body).doesNotContain("\"taskId\":101").contains("\"taskId\":102");
+        assertThat(eventIds(body)).containsExactly(ids.get(1), ids.get(2));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 Last-Event-ID로 연결하면 전체 재조회를 요청하는 reset 이벤트를 받는다")
+    void subscribe_ShouldSendResetForMalformedLastEventId() throws Exception {
+        // When
+        MvcResult result = subscribe(member, "not-an-id");
+
+        // Then
+        assertThat(awaitBody(result, content -> content.contains("event:reset"))).doesNotContain("event:change");
+    }
+
+    @Test
+    @DisplayName("링 버퍼보다 오래된 Last-Event-ID는 다시 읽을 수 없으므로 reset 이벤트를 받는다")
+    void subscribe_ShouldSendResetWhenLastEventIdIsTooOld() throws Exception {
+        // Given
+        MvcResult first = subscribe(member, null);
+        publish(101L);
+        awaitBody(first, content -> content.contains("\"taskId\":101"));
+
+        // When
+        // local 버스는 이벤트를 보관하지 않으므로 링 버퍼에 없는 ID는 다시 읽지 못함
+        MvcResult reconnected = subscribe(member, "1-0");
+
+        // Then
+        assertThat(awaitBody(reconnected, content -> content.contains("event:reset"))).doesNotContain("\"taskId\":101");
+    }
+
+    private MvcResult subscribe(User user, String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/projects/{projectId}/events", project.getId())
+                .with(user(String.valueOf(user.getId())));
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void publish(Long taskId) {
+        projectEventBroker.publish(project.getId(), ProjectEventResponse.builder()
+                .target(ProjectEventResponse.Target.TASK)
+                .type(TaskChangeType.UPDATED)
+                .taskId(taskId)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 전송 스레드가 응답에 쓰므로 조건을 만족할 때까지 기다림
+    private String awaitBody(MvcResult result, Predicate<String> condition) throws UnsupportedEncodingException, InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        String body = result.getResponse().getContentAsString();
+        while (!condition.test(body) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(condition.test(body)).as("SSE 응답: %s", body).isTrue();
+        return body;
+    }
+
+    private List<String> eventIds(String body) {
+        List<String> ids = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (line.startsWith("id:")) {
+                ids.add(line.substring(3).trim());
+            }
+        }
+        return ids;
+    }
+}
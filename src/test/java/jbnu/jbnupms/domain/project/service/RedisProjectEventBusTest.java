@@ -0,0 +1,116 @@
+package jbnu.jbnupms.domain.project.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis Streams 이벤트 버스 통합 테스트 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisProjectEventBusTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisProjectEventBus eventBus;
+    private final BlockingQueue<ProjectEventBus.Event> received = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        // 테스트끼리 같은 스트림을 쓰지만 참여 시점 이후 이벤트만 받으므로 비우지 않음
+        eventBus = new RedisProjectEventBus(new StringRedisTemplate(connectionFactory), 100, 1000, 100, 1000);
+        eventBus.setHandler((projectId, eventId, data) -> received.add(new ProjectEventBus.Event(eventId, data)));
+        eventBus.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        eventBus.stop();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("참여한 뒤 발행한 이벤트는 스트림 레코드 ID를 이벤트 ID로 해서 발행 순서대로 전달된다")
+    void publish_ShouldDeliverEventsWithStreamIds() throws InterruptedException {
+        // Given
+        eventBus.join(PROJECT_ID);
+
+        // When
+        eventBus.publish(PROJECT_ID, "first");
+        eventBus.publish(PROJECT_ID, "second");
+
+        // Then
+        List<ProjectEventBus.Event> events = awaitEvents(2);
+        assertThat(events).extracting(ProjectEventBus.Event::getData).containsExactly("first", "second");
+        assertThat(events.get(0).getId()).matches("\\d+-\\d+");
+        assertThat(events.get(0).getId()).isNotEqualTo(events.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("afterId 다음 이벤트부터 스트림에서 다시 읽는다")
+    void replay_ShouldReturnEventsAfterGivenId() throws InterruptedException {
+        // Given
+        eventBus.join(PROJECT_ID);
+        eventBus.publish(PROJECT_ID, "first");
+        eventBus.publish(PROJECT_ID, "second");
+        eventBus.publish(PROJECT_ID, "third");
+        List<ProjectEventBus.Event> events = awaitEvents(3);
+
+        // When
+        List<ProjectEventBus.Event> replayed = eventBus.replay(PROJECT_ID, events.get(0).getId(), 10);
+
+        // Then
+        assertThat(replayed).extracting(ProjectEventBus.Event::getId)
+                .containsExactly(events.get(1).getId(), events.get(2).getId());
+        assertThat(replayed).extracting(ProjectEventBus.Event::getData).containsExactly("second", "third");
+        assertThat(eventBus.replay(PROJECT_ID, events.get(2).getId(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트림에 없는 ID, 형식이 맞지 않는 ID, limit보다 많이 밀린 경우에는 null을 반환한다")
+    void replay_ShouldReturnNullWhenEventsCannotBeReplayed() throws InterruptedException {
+        // Given
+        eventBus.join(PROJECT_ID);
+        eventBus.publish(PROJECT_ID, "first");
+        eventBus.publish(PROJECT_ID, "second");
+        eventBus.publish(PROJECT_ID, "third");
+        List<ProjectEventBus.Event> events = awaitEvents(3);
+
+        // When & Then
+        // 잘려 나갔거나 다른 스트림의 ID
+        assertThat(eventBus.replay(PROJECT_ID, "1-0", 10)).isNull();
+        assertThat(eventBus.replay(PROJECT_ID, "not-an-id", 10)).isNull();
+        assertThat(eventBus.replay(PROJECT_ID, events.get(0).getId(), 1)).isNull();
+    }
+
+    private List<ProjectEventBus.Event> awaitEvents(int count) throws InterruptedException {
+        List<ProjectEventBus.Event> events = new ArrayList<>();
+        while (events.size() < count) {
+            ProjectEventBus.Event event = received.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("%d번째 이벤트", events.size() + 1).isNotNull();
+            events.add(event);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,61 @@
+package jbnu.jbnupms.domain.search.dto;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("점수와 ID를 URL-safe 문자열로 인코딩하고 같은 값으로 되돌린다")
+    void encode_ShouldRoundTripScoreAndId() {
+        // Given
+        SearchCursor cursor = new SearchCursor(new BigDecimal("0.123450"), 42L);
+
+        // When
+        String encoded = cursor.encode();
+        SearchCursor decoded = SearchCursor.decode(encoded);
+
+        // Then
+        assertThat(encoded).doesNotContain("+", "/", "=");
+        // 소수 자릿수까지 그대로 왕복 (DB의 반올림된 점수와 같은 값으로 비교)
+        assertThat(decoded.getScore()).isEqualTo(new BigDecimal("0.123450"));
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 커서는 어떤 점수와 ID보다도 크다")
+    void first_ShouldBeGreaterThanAnyRow() {
+        // When & Then
+        assertThat(SearchCursor.FIRST.getScore()).isGreaterThan(new BigDecimal("999999.999999"));
+        assertThat(SearchCursor.FIRST.getId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 커서는 거부한다")
+    void decode_ShouldRejectMalformedCursor() {
+        // Given
+        String notBase64 = "!!!";
+        String noDelimiter = encode("0.5");
+        String badScore = encode("high|1");
+        String badId = encode("0.5|abc");
+
+        // When & Then
+        for (String cursor : new String[]{notBase64, noDelimiter, badScore, badId}) {
+            assertThatThrownBy(() -> SearchCursor.decode(cursor))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_QUERY_PARAM);
+        }
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes());
+    }
+}
@@ -0,0 +1,197 @@
+package jbnu.jbnupms.domain.search.service;
+
+import jbnu.jbnupms.domain.comment.entity.Comment;
+import jbnu.jbnupms.domain.comment.repository.CommentRepository;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.search.dto.SearchDocumentType;
+import jbnu.jbnupms.domain.search.dto.SearchResultResponse;
+import jbnu.jbnupms.domain.search.dto.SearchSliceResponse;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL 전문 검색 통합 테스트 (Docker가 없으면 건너뜀)
+ */
+@SpringBootTest(properties = {
+        "search.backend=postgres",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class FullTextSearchServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private FullTextSearchService fullTextSearchService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+    private Project otherProject;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("search@example.com");
+        Space space = fixture.space(user);
+        project = fixture.project(space, "Test Project");
+        otherProject = fixture.project(space, "Other Project");
+        fixture.member(project, user);
+    }
+
+    @Test
+    @DisplayName("단어가 일치하는 태스크를 하이라이트와 함께 반환하고, 멤버가 아닌 프로젝트는 제외한다")
+    void search_ShouldHighlightMatchesWithinMemberProjects() {
+        // Given
+        Task task = saveTask(project, "Release checklist", "Verify the release notes before deploy");
+        saveTask(otherProject, "Release plan", "Not visible to the user");
+        em.flush();
+
+        // When
+        SearchSliceResponse result = fullTextSearchService.search(user.getId(), "release", SearchDocumentType.TASK, null, 10);
+
+        // Then
+        assertThat(result.getItems()).extracting(SearchResultResponse::getTaskId).containsExactly(task.getId());
+        assertThat(result.getItems().get(0).getSnippet()).contains("<mark>release</mark>");
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 제목의 trigram 유사도로 찾는다")
+    void search_ShouldMatchTyposByTrigramSimilarity() {
+        // Given
+        Task task = saveTask(project, "Deployment checklist", null);
+        em.flush();
+
+        // When
+        SearchSliceResponse result = fullTextSearchService.search(user.getId(), "deploymnt", SearchDocumentType.TASK, null, 10);
+
+        // Then
+        assertThat(result.getItems()).extracting(SearchResultResponse::getTaskId).containsExactly(task.getId());
+    }
+
+    @Test
+    @DisplayName("키셋 커서로 모든 결과를 중복 없이 순회한다")
+    void search_ShouldPageThroughAllResultsWithCursor() {
+        // Given
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(saveTask(project, "Weekly report " + i, i % 2 == 0 ? "report draft" : null).getId());
+        }
+        em.flush();
+
+        // When
+        List<Long> found = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            SearchSliceResponse page = fullTextSearchService.search(user.getId(), "report", SearchDocumentType.TASK, cursor, 2);
+            page.getItems().forEach(item -> found.add(item.getTaskId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(found).hasSize(5).doesNotHaveDuplicates();
+        assertThat(new HashSet<>(found)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("댓글 검색은 삭제된 댓글을 제외한다")
+    void search_ShouldExcludeDeletedComments() {
+        // Given
+        Task task = saveTask(project, "Design review", null);
+        Comment visible = commentRepository.save(Comment.builder().task(task).user(user).content("Looks good, merge the hotfix").build());
+        Comment deleted = commentRepository.save(Comment.builder().task(task).user(user).content("Revert the hotfix").build());
+        deleted.softDelete();
+        em.flush();
+
+        // When
+        SearchSliceResponse result = fullTextSearchService.search(user.getId(), "hotfix", SearchDocumentType.COMMENT, null, 10);
+
+        // Then
+        assertThat(result.getItems()).extracting(SearchResultResponse::getCommentId).containsExactly(visible.getId());
+        assertThat(result.getItems().get(0).getTitle()).isEqualTo("Design review");
+    }
+
+    @Test
+    @DisplayName("발췌문은 본문을 이스케이프하고 일치 구간만 <mark>로 감싼다")
+    void search_ShouldEscapeSnippetOutsideHighlights() {
+        // Given
+        saveTask(project, "Script review", "<script>alert('xss')</script> payload review");
+        em.flush();
+
+        // When
+        SearchSliceResponse result = fullTextSearchService.search(user.getId(), "payload", SearchDocumentType.TASK, null, 10);
+
+        // Then
+        String snippet = result.getItems().get(0).getSnippet();
+        assertThat(snippet).contains("<mark>payload</mark>").doesNotContain("<script>");
+        assertThat(snippet).contains("&lt;script&gt;");
+    }
+
+    @Test
+    @DisplayName("제목만 일치하면 설명 대신 제목에서 발췌한다")
+    void search_ShouldTakeSnippetFromTitleWhenOnlyTitleMatches() {
+        // Given
+        saveTask(project, "Quarterly budget", "Numbers for finance team");
+        em.flush();
+
+        // When
+        SearchSliceResponse result = fullTextSearchService.search(user.getId(), "budget", SearchDocumentType.TASK, null, 10);
+
+        // Then
+        assertThat(result.getItems().get(0).getSnippet()).contains("<mark>budget</mark>");
+    }
+
+    private Task saveTask(Project target, String title, String description) {
+        return taskRepository.save(Task.builder()
+                .project(target)
+                .creator(user)
+                .title(title)
+                .description(description)
+                .priority(TaskPriority.MEDIUM)
+                .build());
+    }
+}
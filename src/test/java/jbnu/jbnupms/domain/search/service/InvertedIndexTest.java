@@ -0,0 +1,95 @@
+package jbnu.jbnupms.domain.search.service;
+
+import jbnu.jbnupms.domain.search.dto.SearchDocumentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private static final long PROJECT = 1L;
+    private static final long OTHER_PROJECT = 2L;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    @DisplayName("검색어가 자주 나오고 문서가 짧을수록 BM25 점수가 높다")
+    void search_ShouldRankByBm25() {
+        // Given
+        add(SearchDocumentType.TASK, 1, PROJECT, "deploy release notes for the mobile app");
+        add(SearchDocumentType.TASK, 2, PROJECT, "deploy deploy");
+        add(SearchDocumentType.COMMENT, 3, PROJECT, "deploy");
+        add(SearchDocumentType.TASK, 4, PROJECT, "unrelated");
+
+        // When
+        InvertedIndex.SearchResult result = index.search(SearchTokenizer.queryTerms("deploy"), new long[]{PROJECT}, 10);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getHits()).extracting(InvertedIndex.Hit::getId).containsExactly(2L, 3L, 1L);
+        assertThat(result.getHits()).extracting(InvertedIndex.Hit::getType)
+                .containsExactly(SearchDocumentType.TASK, SearchDocumentType.COMMENT, SearchDocumentType.TASK);
+        assertThat(result.getHits().get(0).getScore()).isGreaterThan(result.getHits().get(2).getScore());
+    }
+
+    @Test
+    @DisplayName("검색 가능한 프로젝트의 문서만 반환하고 limit개까지만 자른다")
+    void search_ShouldFilterByProjectAndLimit() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            add(SearchDocumentType.TASK, id, PROJECT, "회의록 정리 " + id);
+        }
+        add(SearchDocumentType.TASK, 6, OTHER_PROJECT, "회의록 정리");
+
+        // When
+        InvertedIndex.SearchResult result = index.search(SearchTokenizer.queryTerms("회의록"), new long[]{PROJECT}, 3);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getHits()).hasSize(3).allMatch(hit -> hit.getProjectId() == PROJECT);
+        assertThat(index.search(SearchTokenizer.queryTerms("회의록"), new long[0], 3).getHits()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 두 글자 이상 단어 안의 음절과 일치한다")
+    void search_ShouldMatchSingleHangulSyllable() {
+        // Given
+        add(SearchDocumentType.TASK, 1, PROJECT, "주간회의록");
+
+        // When & Then
+        assertThat(index.search(SearchTokenizer.queryTerms("회"), new long[]{PROJECT}, 10).getHits())
+                .extracting(InvertedIndex.Hit::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("교체된 문서는 새 내용으로만, 삭제된 문서는 더 이상 검색되지 않는다")
+    void upsertAndRemove_ShouldReplaceAndDropDocuments() {
+        // Given
+        add(SearchDocumentType.TASK, 1, PROJECT, "draft proposal");
+        add(SearchDocumentType.COMMENT, 1, PROJECT, "draft comment");
+
+        // When
+        add(SearchDocumentType.TASK, 1, PROJECT, "final proposal");
+        index.remove(SearchDocumentType.COMMENT, 1);
+
+        // Then
+        assertThat(search("draft")).isEmpty();
+        assertThat(search("final")).extracting(InvertedIndex.Hit::getId).containsExactly(1L);
+        assertThat(index.getLiveCount()).isEqualTo(1);
+    }
+
+    private void add(SearchDocumentType type, long id, long projectId, String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = SearchTokenizer.addTermFrequencies(text, 1, frequencies);
+        index.upsert(type, id, projectId, frequencies, length);
+    }
+
+    private List<InvertedIndex.Hit> search(String query) {
+        return index.search(SearchTokenizer.queryTerms(query), new long[]{PROJECT}, 10).getHits();
+    }
+}
@@ -0,0 +1,46 @@
+package jbnu.jbnupms.domain.search.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("한글 구간은 2-gram, 영문/숫자 구간은 소문자 단어로 나눈다")
+    void tokenize_ShouldSplitHangulIntoBigramsAndWordsIntoLowercase() {
+        // When & Then
+        assertThat(SearchTokenizer.tokenize("주간회의록 Release-v2 정리"))
+                .containsExactly("주간", "간회", "회의", "의록", "release", "v2", "정리");
+        assertThat(SearchTokenizer.tokenize("회 API회의")).containsExactly("회", "api", "회의");
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 순서를 유지하며 중복을 제거한다")
+    void queryTerms_ShouldRemoveDuplicates() {
+        // When & Then
+        assertThat(SearchTokenizer.queryTerms("회의 회의록 Deploy deploy"))
+                .containsExactly("회의", "의록", "deploy");
+    }
+
+    @Test
+    @DisplayName("문서 색인 시 빈도는 가중치만큼 누적하고 한글 음절 1-gram은 문서 길이에 포함하지 않는다")
+    void addTermFrequencies_ShouldWeightTermsAndAddHangulUnigrams() {
+        // Given
+        Map<String, Integer> frequencies = new HashMap<>();
+
+        // When
+        int length = SearchTokenizer.addTermFrequencies("회의 deploy", 3, frequencies);
+        length += SearchTokenizer.addTermFrequencies("deploy", 1, frequencies);
+
+        // Then
+        assertThat(length).isEqualTo(2 * 3 + 1);
+        assertThat(frequencies).containsEntry("회의", 3).containsEntry("deploy", 4)
+                .containsEntry("회", 3).containsEntry("의", 3);
+    }
+}
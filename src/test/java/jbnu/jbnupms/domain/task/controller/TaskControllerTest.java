@@ -0,0 +1,217 @@
+package jbnu.jbnupms.domain.task.controller;
+
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 태스크 API 테스트 (ETag 조건부 요청, 요약 조회, 댓글/첨부 파일 수)
+ */
+@SpringBootTest
+@Import(TestFixture.class)
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class TaskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("etag@example.com");
+        project = fixture.memberProject(user);
+        task = fixture.task(project, user, "Task");
+        em.flush();
+        // 단건 조회는 계층 인덱스로 서브트리를 조립하므로 자기 자신 행을 등록
+        // (TaskHierarchyService.onCreated의 INSERT ... SELECT는 H2에서 파라미터 타입을 추론하지 못함)
+        em.createNativeQuery("INSERT INTO task_closure (ancestor_id, descendant_id, depth) VALUES (:id, :id, 0)")
+                .setParameter("id", task.getId())
+                .executeUpdate();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환한다")
+    void getTask_ShouldReturnNotModifiedForMatchingETag() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/tasks/{taskId}", task.getId()).with(auth()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("Task"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        assertThat(eTag).matches("\"\\d+-\\d+\"");
+        mockMvc.perform(get("/tasks/{taskId}", task.getId()).with(auth())
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/tasks/{taskId}", task.getId()).with(auth())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"999-999\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("If-Match가 현재 버전이면 수정하고 새 ETag를 반환하며, 이전 ETag로 다시 수정하면 412를 반환한다")
+    void updateTask_ShouldRejectStaleIfMatch() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/tasks/{taskId}", task.getId()).with(auth()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        String updatedETag = mockMvc.perform(put("/tasks/{taskId}", task.getId()).with(auth())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(updatedETag).isNotNull().isNotEqualTo(eTag);
+        mockMvc.perform(put("/tasks/{taskId}", task.getId()).with(auth())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Lost update\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/tasks/{taskId}", task.getId()).with(auth())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, updatedETag))
+                .andExpect(jsonPath("$.data.title").value("Renamed"));
+    }
+
+    @Test
+    @DisplayName("If-Match가 없으면 버전 검사 없이 수정한다")
+    void updateTask_ShouldUpdateWithoutIfMatch() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/tasks/{taskId}", task.getId()).with(auth())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("view=summary 트리는 엔티티를 로딩하지 않고 목록 컬럼과 담당자 ID만 반환한다")
+    void getTasks_ShouldReturnSummaryTreeWithoutLoadingEntities() throws Exception {
+        // Given
+        Task child = fixture.task(project, user, task, "Child");
+        assign(child);
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When & Then
+        mockMvc.perform(get("/tasks").with(auth())
+                        .param("projectId", String.valueOf(project.getId()))
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].title").value("Task"))
+                .andExpect(jsonPath("$.data[0].description").doesNotExist())
+                .andExpect(jsonPath("$.data[0].creator").doesNotExist())
+                .andExpect(jsonPath("$.data[0].children[0].title").value("Child"))
+                .andExpect(jsonPath("$.data[0].children[0].parentId").value(task.getId()))
+                .andExpect(jsonPath("$.data[0].children[0].assigneeIds[0]").value(user.getId()));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록과 내 태스크도 view=summary면 요약 항목으로 반환한다")
+    void searchTasks_ShouldReturnSummaryItems() throws Exception {
+        // Given
+        assign(task);
+        em.flush();
+
+        // When & Then
+        mockMvc.perform(get("/tasks/list").with(auth())
+                        .param("projectId", String.valueOf(project.getId()))
+                        .param("view", "SUMMARY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].title").value("Task"))
+                .andExpect(jsonPath("$.data.items[0].assigneeIds[0]").value(user.getId()))
+                .andExpect(jsonPath("$.data.items[0].creator").doesNotExist());
+        mockMvc.perform(get("/tasks/me").with(auth())
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].title").value("Task"))
+                .andExpect(jsonPath("$.data.items[0].projectId").value(project.getId()))
+                .andExpect(jsonPath("$.data.items[0].creator").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("목록과 내 태스크 요약 항목에 태스크에 저장된 댓글 수와 첨부 파일 수를 포함한다")
+    void searchTasks_ShouldIncludeCommentAndFileCountsInSummary() throws Exception {
+        // Given
+        assign(task);
+        em.flush();
+        taskRepository.addCommentCount(task.getId(), 3);
+        taskRepository.addFileCount(task.getId(), 2);
+        em.clear();
+
+        // When & Then
+        mockMvc.perform(get("/tasks/list").with(auth())
+                        .param("projectId", String.valueOf(project.getId()))
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].commentCount").value(3))
+                .andExpect(jsonPath("$.data.items[0].fileCount").value(2));
+        mockMvc.perform(get("/tasks/me").with(auth())
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].commentCount").value(3))
+                .andExpect(jsonPath("$.data.items[0].fileCount").value(2));
+    }
+
+    private void assign(Task task) {
+        taskAssigneeRepository.save(TaskAssignee.builder().task(task).user(user).build());
+    }
+
+    private RequestPostProcessor auth() {
+        return user(String.valueOf(user.getId()));
+    }
+}
@@ -0,0 +1,104 @@
+package jbnu.jbnupms.domain.task.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    // 100ms x 10칸, 1초 x 10칸, 10초 x 10칸 (최대 100초)
+    private static final int[] WHEEL_SIZES = {10, 10, 10};
+
+    @Test
+    @DisplayName("상위 단계에 등록된 항목은 시간이 되면 아래 단계로 내려와 정확한 칸에서 만료된다")
+    void advance_ShouldCascadeAndExpireOnTime() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, WHEEL_SIZES, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.add(new HierarchicalTimingWheel.Entry<>("near", 300), expired);
+        wheel.add(new HierarchicalTimingWheel.Entry<>("middle", 1_500), expired);
+        wheel.add(new HierarchicalTimingWheel.Entry<>("far", 55_000), expired);
+
+        // When & Then
+        wheel.advance(200, expired);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(300, expired);
+        assertThat(expired).containsExactly("near");
+
+        wheel.advance(1_499, expired);
+        assertThat(expired).containsExactly("near");
+
+        wheel.advance(1_500, expired);
+        assertThat(expired).containsExactly("near", "middle");
+
+        wheel.advance(54_999, expired);
+        assertThat(expired).containsExactly("near", "middle");
+
+        wheel.advance(55_000, expired);
+        assertThat(expired).containsExactly("near", "middle", "far");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않는다")
+    void remove_ShouldCancelEntry() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, WHEEL_SIZES, 0);
+        List<String> expired = new ArrayList<>();
+        HierarchicalTimingWheel.Entry<String> cancelled = new HierarchicalTimingWheel.Entry<>("cancelled", 2_000);
+        wheel.add(cancelled, expired);
+        wheel.add(new HierarchicalTimingWheel.Entry<>("kept", 2_000), expired);
+
+        // When
+        wheel.remove(cancelled);
+        wheel.advance(3_000, expired);
+
+        // Then
+        assertThat(expired).containsExactly("kept");
+        assertThat(cancelled.isScheduled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행 시각을 바꿔 다시 등록하면 새 시각에 한 번만 만료된다")
+    void add_ShouldRescheduleRegisteredEntry() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, WHEEL_SIZES, 0);
+        List<String> expired = new ArrayList<>();
+        HierarchicalTimingWheel.Entry<String> entry = new HierarchicalTimingWheel.Entry<>("moved", 500);
+        wheel.add(entry, expired);
+
+        // When
+        entry.setFireAt(5_000);
+        wheel.add(entry, expired);
+        wheel.advance(1_000, expired);
+
+        // Then
+        assertThat(expired).isEmpty();
+        wheel.advance(5_000, expired);
+        assertThat(expired).containsExactly("moved");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 항목은 바로 만료되고, 최상위 범위를 넘는 항목은 받지 않는다")
+    void add_ShouldExpirePastEntriesAndRejectBeyondHorizon() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, WHEEL_SIZES, 10_000);
+        List<String> expired = new ArrayList<>();
+
+        // When
+        boolean past = wheel.add(new HierarchicalTimingWheel.Entry<>("past", 9_000), expired);
+        boolean beyond = wheel.add(new HierarchicalTimingWheel.Entry<>("beyond", wheel.horizon()), expired);
+
+        // Then
+        assertThat(past).isTrue();
+        assertThat(beyond).isFalse();
+        assertThat(expired).containsExactly("past");
+        assertThat(wheel.size()).isZero();
+    }
+}
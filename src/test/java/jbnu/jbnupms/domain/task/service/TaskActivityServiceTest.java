@@ -0,0 +1,106 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskActivityResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskActivityField;
+import jbnu.jbnupms.domain.task.entity.TaskActivityType;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskActivityEvent;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 태스크 변경 이력 조회 테스트
+ * 기록기는 커밋 후 별도 스레드에서 쓰므로, 이력은 같은 트랜잭션에서 리포지토리로 직접 기록한다.
+ */
+@SpringBootTest
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+class TaskActivityServiceTest {
+
+    @Autowired
+    private TaskActivityService taskActivityService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskJdbcRepository taskJdbcRepository;
+
+    private User user;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("activity@example.com");
+        project = fixture.memberProject(user);
+        task = fixture.task(project, user, "Task");
+    }
+
+    @Test
+    @DisplayName("이력을 최신순으로 작성자와 함께 나눠 조회하고 다른 태스크의 이력은 섞이지 않는다")
+    void getActivities_ShouldPageNewestFirst() {
+        // Given
+        Task other = fixture.task(project, user, "Other");
+        taskJdbcRepository.insertActivities(List.of(
+                TaskActivityEvent.of(project.getId(), task.getId(), user.getId(), TaskActivityType.CREATED),
+                TaskActivityEvent.changed(project.getId(), task.getId(), user.getId(), TaskActivityField.TITLE, "Draft", "Task"),
+                TaskActivityEvent.of(project.getId(), other.getId(), user.getId(), TaskActivityType.CREATED),
+                TaskActivityEvent.changed(project.getId(), task.getId(), user.getId(), TaskActivityField.STATUS,
+                        TaskStatus.NOT_STARTED, TaskStatus.DONE)));
+
+        // When
+        List<TaskActivityResponse> activities = new ArrayList<>();
+        Long cursor = null;
+        TaskSliceResponse<TaskActivityResponse> slice;
+        do {
+            slice = taskActivityService.getActivities(user.getId(), task.getId(), cursor, 2);
+            activities.addAll(slice.getItems());
+            cursor = slice.getNextCursor() != null ? Long.valueOf(slice.getNextCursor()) : null;
+        } while (slice.isHasNext());
+
+        // Then
+        assertThat(activities).extracting(TaskActivityResponse::getField)
+                .containsExactly(TaskActivityField.STATUS, TaskActivityField.TITLE, null);
+        assertThat(activities.get(0).getOldValue()).isEqualTo("NOT_STARTED");
+        assertThat(activities.get(0).getNewValue()).isEqualTo("DONE");
+        assertThat(activities.get(2).getType()).isEqualTo(TaskActivityType.CREATED);
+        assertThat(activities).allMatch(activity -> activity.getActor().getEmail().equals("activity@example.com"));
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버가 아니거나 페이지 크기가 범위를 벗어나면 거부한다")
+    void getActivities_ShouldRejectNonMemberAndInvalidSize() {
+        // Given
+        User outsider = fixture.user("outsider@example.com");
+
+        // When & Then
+        assertThatThrownBy(() -> taskActivityService.getActivities(outsider.getId(), task.getId(), null, null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+        assertThatThrownBy(() -> taskActivityService.getActivities(user.getId(), task.getId(), null, 101))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_QUERY_PARAM);
+    }
+}
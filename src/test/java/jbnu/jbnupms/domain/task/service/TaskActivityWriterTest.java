@@ -0,0 +1,103 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.entity.TaskActivityType;
+import jbnu.jbnupms.domain.task.event.TaskActivityEvent;
+import jbnu.jbnupms.domain.task.repository.TaskJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskActivityWriterTest {
+
+    private static final Long PROJECT_ID = 1L;
+    private static final Long ACTOR_ID = 1L;
+    private static final long FLUSH_INTERVAL_MS = 100;
+    // 기록에 실패하는 행의 태스크 ID
+    private static final Long BROKEN_TASK_ID = -1L;
+
+    // DB 대신 기록된 배치를 모아 두는 리포지토리
+    private final RecordingRepository repository = new RecordingRepository();
+
+    @Test
+    @DisplayName("이력을 batch-size 단위로 묶어 기록하고 멈출 때 남은 이력까지 모두 기록한다")
+    void onActivity_ShouldWriteInBatchesAndFlushOnStop() throws InterruptedException {
+        // Given
+        // 시작 전에 모두 큐에 넣었으므로 flush 주기와 관계없이 batch-size로만 나뉨
+        TaskActivityWriter writer = new TaskActivityWriter(repository, 3, FLUSH_INTERVAL_MS, 100);
+        for (long taskId = 1; taskId <= 7; taskId++) {
+            writer.onActivity(event(taskId));
+        }
+
+        // When
+        writer.start();
+        writer.stop();
+
+        // Then
+        assertThat(repository.batches).extracting(List::size).containsExactly(3, 3, 1);
+        assertThat(repository.writtenTaskIds()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    @DisplayName("일괄 기록이 실패하면 행마다 다시 기록해 실패한 행만 버린다")
+    void onActivity_ShouldRetryRowByRowWhenBatchFails() throws InterruptedException {
+        // Given
+        TaskActivityWriter writer = new TaskActivityWriter(repository, 10, FLUSH_INTERVAL_MS, 100);
+        writer.onActivity(event(1L));
+        writer.onActivity(event(BROKEN_TASK_ID));
+        writer.onActivity(event(2L));
+
+        // When
+        writer.start();
+        writer.stop();
+
+        // Then
+        assertThat(repository.writtenTaskIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 요청 스레드를 막지 않고 이력을 버린다")
+    void onActivity_ShouldDropWhenQueueIsFull() throws InterruptedException {
+        // Given
+        TaskActivityWriter writer = new TaskActivityWriter(repository, 10, FLUSH_INTERVAL_MS, 2);
+
+        // When
+        writer.onActivity(event(1L));
+        writer.onActivity(event(2L));
+        writer.onActivity(event(3L));
+        writer.start();
+        writer.stop();
+
+        // Then
+        assertThat(repository.writtenTaskIds()).containsExactly(1L, 2L);
+    }
+
+    private TaskActivityEvent event(Long taskId) {
+        return TaskActivityEvent.of(PROJECT_ID, taskId, ACTOR_ID, TaskActivityType.CREATED);
+    }
+
+    private static class RecordingRepository extends TaskJdbcRepository {
+
+        private final List<List<TaskActivityEvent>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insertActivities(List<TaskActivityEvent> events) {
+            if (events.stream().anyMatch(event -> BROKEN_TASK_ID.equals(event.getTaskId()))) {
+                throw new IllegalStateException("broken row");
+            }
+            batches.add(List.copyOf(events));
+        }
+
+        List<Long> writtenTaskIds() {
+            return batches.stream().flatMap(List::stream).map(TaskActivityEvent::getTaskId).toList();
+        }
+    }
+}
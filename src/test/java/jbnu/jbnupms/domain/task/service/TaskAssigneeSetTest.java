@@ -0,0 +1,150 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskAssigneesRequest;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 담당자 집합 할당 통합 테스트 (INSERT ... ON CONFLICT를 쓰므로 PostgreSQL, Docker가 없으면 건너뜀)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class TaskAssigneeSetTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private User alice;
+    private User bob;
+    private User outsider;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("owner@example.com");
+        alice = fixture.user("alice@example.com");
+        bob = fixture.user("bob@example.com");
+        outsider = fixture.user("outsider@example.com");
+        Project project = fixture.memberProject(user);
+        fixture.member(project, alice);
+        fixture.member(project, bob);
+        task = fixture.task(project, user, "Task");
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("담당자 추가는 중복 ID와 이미 할당된 사용자를 무시하고 집합으로 할당한다")
+    void addAssignees_ShouldIgnoreDuplicatesAndExistingAssignees() {
+        // Given
+        taskService.addAssignee(user.getId(), task.getId(), alice.getId());
+
+        // When
+        taskService.addAssignees(user.getId(), task.getId(), request(alice.getId(), bob.getId(), bob.getId()));
+        taskService.addAssignees(user.getId(), task.getId(), request(bob.getId()));
+
+        // Then
+        assertThat(assigneeIds()).containsExactlyInAnyOrder(alice.getId(), bob.getId());
+    }
+
+    @Test
+    @DisplayName("담당자 교체는 요청에 없는 담당자만 해제하고 빈 목록이면 모두 해제한다")
+    void replaceAssignees_ShouldReplaceTheWholeSet() {
+        // Given
+        taskService.addAssignees(user.getId(), task.getId(), request(user.getId(), alice.getId()));
+
+        // When
+        taskService.replaceAssignees(user.getId(), task.getId(), request(alice.getId(), bob.getId()));
+
+        // Then
+        assertThat(assigneeIds()).containsExactlyInAnyOrder(alice.getId(), bob.getId());
+
+        // When
+        taskService.replaceAssignees(user.getId(), task.getId(), request());
+
+        // Then
+        assertThat(assigneeIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("담당자 일괄 해제는 할당되지 않은 사용자를 무시한다")
+    void removeAssignees_ShouldRemoveOnlyGivenAssignees() {
+        // Given
+        taskService.addAssignees(user.getId(), task.getId(), request(user.getId(), alice.getId(), bob.getId()));
+
+        // When
+        taskService.removeAssignees(user.getId(), task.getId(), List.of(alice.getId(), outsider.getId()));
+
+        // Then
+        assertThat(assigneeIds()).containsExactlyInAnyOrder(user.getId(), bob.getId());
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버가 아닌 사용자가 하나라도 있으면 아무도 할당하지 않고 거부한다")
+    void addAssignees_ShouldRejectNonMembers() {
+        // When & Then
+        assertThatThrownBy(() -> taskService.addAssignees(user.getId(), task.getId(), request(alice.getId(), outsider.getId())))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+        assertThatThrownBy(() -> taskService.replaceAssignees(user.getId(), task.getId(), request(outsider.getId())))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+        assertThat(assigneeIds()).isEmpty();
+    }
+
+    private TaskAssigneesRequest request(Long... assigneeIds) {
+        TaskAssigneesRequest request = new TaskAssigneesRequest();
+        request.setAssigneeIds(List.of(assigneeIds));
+        return request;
+    }
+
+    private List<Long> assigneeIds() {
+        em.flush();
+        em.clear();
+        return taskAssigneeRepository.findByTaskId(task.getId()).stream()
+                .map(assignee -> assignee.getUser().getId())
+                .toList();
+    }
+}
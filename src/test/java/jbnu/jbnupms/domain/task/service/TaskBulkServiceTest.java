@@ -0,0 +1,268 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.task.dto.TaskBulkCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskBulkUpdateRequest;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskClosureRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 태스크 일괄 생성/수정 통합 테스트 (Docker가 없으면 건너뜀)
+ * 배치 경계를 지나도록 배치 크기를 2로 줄인다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false",
+        "task.bulk.batch-size=2"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class TaskBulkServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2026, 5, 1, 9, 0);
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private TaskClosureRepository taskClosureRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private User outsider;
+    private Project project;
+    private Project otherProject;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("bulk@example.com");
+        outsider = fixture.user("outsider@example.com");
+        Space space = fixture.space(user);
+        project = fixture.project(space, "Test Project");
+        otherProject = fixture.project(space, "Other Project");
+        fixture.member(project, user);
+        fixture.member(otherProject, user);
+    }
+
+    @Test
+    @DisplayName("같은 요청 안의 상위 태스크를 key로 참조하면 뒤에 나와도 상위 태스크부터 생성하고 요청 순서대로 ID를 반환한다")
+    void createTasks_ShouldResolveInBatchParentsByKey() {
+        // Given
+        Task existing = fixture.task(project, user, "Existing");
+        taskHierarchyService.onCreated(existing.getId(), null);
+        // 하위 태스크를 상위 태스크보다 먼저 적음
+        TaskBulkCreateRequest request = createRequest(project,
+                item(null, "epic", null, "Story"),
+                item("epic", null, null, "Epic"),
+                item(null, "epic", null, "Bug"),
+                item(null, null, existing.getId(), "Under existing"));
+        request.getTasks().get(1).setPriority(TaskPriority.HIGH);
+        request.getTasks().get(1).setDueDate(DUE_DATE);
+        request.getTasks().get(1).setAssigneeIds(List.of(user.getId(), user.getId()));
+        em.flush();
+
+        // When
+        List<Long> ids = taskBulkService.createTasks(user.getId(), request);
+        em.clear();
+
+        // Then
+        assertThat(ids).hasSize(4);
+        List<Task> created = ids.stream().map(id -> taskRepository.findById(id).orElseThrow()).toList();
+        assertThat(created).extracting(Task::getTitle).containsExactly("Story", "Epic", "Bug", "Under existing");
+
+        Task epic = created.get(1);
+        assertThat(epic.getParent()).isNull();
+        assertThat(epic.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(epic.getDueDate()).isEqualTo(DUE_DATE);
+        assertThat(epic.getStatus()).isEqualTo(TaskStatus.NOT_STARTED);
+        assertThat(created.get(0).getParent().getId()).isEqualTo(epic.getId());
+        assertThat(created.get(2).getParent().getId()).isEqualTo(epic.getId());
+        assertThat(created.get(3).getParent().getId()).isEqualTo(existing.getId());
+
+        // 중복된 담당자는 한 번만 등록
+        assertThat(taskAssigneeRepository.findByTaskId(epic.getId()))
+                .extracting(assignee -> assignee.getUser().getId())
+                .containsExactly(user.getId());
+
+        // 계층 인덱스도 함께 생성
+        assertThat(taskClosureRepository.findAncestorIds(created.get(0).getId())).contains(epic.getId());
+        assertThat(taskClosureRepository.findAncestorIds(created.get(3).getId())).contains(existing.getId());
+    }
+
+    @Test
+    @DisplayName("key 참조에 순환이 있거나 없는 key를 참조하면 아무것도 생성하지 않고 거부한다")
+    void createTasks_ShouldRejectInvalidKeyReferences() {
+        // Given
+        TaskBulkCreateRequest cycle = createRequest(project,
+                item("a", "b", null, "A"),
+                item("b", "a", null, "B"));
+        TaskBulkCreateRequest missing = createRequest(project,
+                item("a", "nope", null, "A"));
+
+        // When & Then
+        assertThatThrownBy(() -> taskBulkService.createTasks(user.getId(), cycle))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> taskBulkService.createTasks(user.getId(), missing))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThat(taskRepository.findByProjectId(project.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 프로젝트의 상위 태스크, 멤버가 아닌 담당자, 멤버가 아닌 요청자는 거부한다")
+    void createTasks_ShouldRejectForeignParentAndNonMembers() {
+        // Given
+        Task foreign = fixture.task(otherProject, user, "Foreign");
+        TaskBulkCreateRequest foreignParent = createRequest(project, item(null, null, foreign.getId(), "Child"));
+        TaskBulkCreateRequest outsiderAssignee = createRequest(project, item(null, null, null, "Task"));
+        outsiderAssignee.getTasks().get(0).setAssigneeIds(List.of(outsider.getId()));
+        TaskBulkCreateRequest plain = createRequest(project, item(null, null, null, "Task"));
+
+        // When & Then
+        assertThatThrownBy(() -> taskBulkService.createTasks(user.getId(), foreignParent))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> taskBulkService.createTasks(user.getId(), outsiderAssignee))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+        assertThatThrownBy(() -> taskBulkService.createTasks(outsider.getId(), plain))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("일괄 수정은 요청에 있는 필드만 바꾸고 나머지는 기존 값을 유지한다")
+    void updateTasks_ShouldOnlyOverwriteGivenFields() {
+        // Given
+        Task first = fixture.task(project, user, "First");
+        Task second = fixture.task(project, user, "Second");
+        Task third = fixture.task(project, user, "Third");
+        em.flush();
+
+        TaskBulkUpdateRequest request = updateRequest(project,
+                updateItem(first.getId(), "First renamed", null, null),
+                updateItem(second.getId(), null, TaskStatus.IN_PROGRESS, null),
+                updateItem(third.getId(), null, null, TaskPriority.LOW));
+
+        // When
+        taskBulkService.updateTasks(user.getId(), request);
+        em.clear();
+
+        // Then
+        Task updatedFirst = taskRepository.findById(first.getId()).orElseThrow();
+        assertThat(updatedFirst.getTitle()).isEqualTo("First renamed");
+        assertThat(updatedFirst.getStatus()).isEqualTo(TaskStatus.NOT_STARTED);
+        assertThat(updatedFirst.getPriority()).isEqualTo(TaskPriority.MEDIUM);
+
+        Task updatedSecond = taskRepository.findById(second.getId()).orElseThrow();
+        assertThat(updatedSecond.getTitle()).isEqualTo("Second");
+        assertThat(updatedSecond.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+
+        Task updatedThird = taskRepository.findById(third.getId()).orElseThrow();
+        assertThat(updatedThird.getTitle()).isEqualTo("Third");
+        assertThat(updatedThird.getPriority()).isEqualTo(TaskPriority.LOW);
+    }
+
+    @Test
+    @DisplayName("다른 프로젝트의 태스크나 중복된 태스크가 있으면 일괄 수정을 거부한다")
+    void updateTasks_ShouldRejectForeignOrDuplicateTasks() {
+        // Given
+        Task task = fixture.task(project, user, "Task");
+        Task foreign = fixture.task(otherProject, user, "Foreign");
+        TaskBulkUpdateRequest withForeign = updateRequest(project,
+                updateItem(task.getId(), "Renamed", null, null),
+                updateItem(foreign.getId(), "Renamed", null, null));
+        TaskBulkUpdateRequest duplicated = updateRequest(project,
+                updateItem(task.getId(), "Renamed", null, null),
+                updateItem(task.getId(), "Renamed again", null, null));
+
+        // When & Then
+        assertThatThrownBy(() -> taskBulkService.updateTasks(user.getId(), withForeign))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.RESOURCE_NOT_FOUND);
+        assertThatThrownBy(() -> taskBulkService.updateTasks(user.getId(), duplicated))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private TaskBulkCreateRequest createRequest(Project project, TaskBulkCreateRequest.Item... items) {
+        TaskBulkCreateRequest request = new TaskBulkCreateRequest();
+        request.setProjectId(project.getId());
+        request.setTasks(List.of(items));
+        return request;
+    }
+
+    private TaskBulkCreateRequest.Item item(String key, String parentKey, Long parentId, String title) {
+        TaskBulkCreateRequest.Item item = new TaskBulkCreateRequest.Item();
+        item.setKey(key);
+        item.setParentKey(parentKey);
+        item.setParentId(parentId);
+        item.setTitle(title);
+        return item;
+    }
+
+    private TaskBulkUpdateRequest updateRequest(Project project, TaskBulkUpdateRequest.Item... items) {
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest();
+        request.setProjectId(project.getId());
+        request.setTasks(List.of(items));
+        return request;
+    }
+
+    private TaskBulkUpdateRequest.Item updateItem(Long id, String title, TaskStatus status, TaskPriority priority) {
+        TaskBulkUpdateRequest.Item item = new TaskBulkUpdateRequest.Item();
+        item.setId(id);
+        item.setTitle(title);
+        item.setStatus(status);
+        item.setPriority(priority);
+        return item;
+    }
+}
@@ -0,0 +1,113 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.comment.entity.Comment;
+import jbnu.jbnupms.domain.comment.repository.CommentRepository;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+class TaskCounterRepairerTest {
+
+    @Autowired
+    private TaskCounterRepairer taskCounterRepairer;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("repair@example.com");
+        project = fixture.project(fixture.space(user), "Test Project");
+    }
+
+    @Test
+    @DisplayName("어긋난 댓글 수만 실제 댓글 수로 고치고 프로젝트 태스크 버전을 올린다")
+    void repairAll_ShouldFixDriftedCommentCounts() {
+        // Given
+        Task drifted = saveTask("Drifted");
+        Task correct = saveTask("Correct");
+        saveComment(drifted, false);
+        saveComment(drifted, false);
+        saveComment(drifted, true);
+        em.flush();
+        // 증감 쿼리 없이 저장했으므로 drifted는 0(실제 2), correct는 0(실제 0)
+        long revision = this.revision();
+
+        // When
+        taskCounterRepairer.repairAll();
+        em.clear();
+
+        // Then
+        assertThat(taskRepository.findById(drifted.getId()).orElseThrow().getCommentCount()).isEqualTo(2);
+        assertThat(taskRepository.findById(correct.getId()).orElseThrow().getCommentCount()).isZero();
+        assertThat(this.revision()).isEqualTo(revision + 1);
+    }
+
+    @Test
+    @DisplayName("어긋난 행이 없으면 프로젝트 태스크 버전을 올리지 않는다")
+    void repairAll_ShouldNotBumpRevisionWhenNothingDrifted() {
+        // Given
+        saveTask("Correct");
+        em.flush();
+        long revision = this.revision();
+
+        // When
+        taskCounterRepairer.repairAll();
+        em.clear();
+
+        // Then
+        assertThat(this.revision()).isEqualTo(revision);
+    }
+
+    private Task saveTask(String title) {
+        return fixture.task(project, user, title);
+    }
+
+    private void saveComment(Task task, boolean deleted) {
+        Comment comment = commentRepository.save(Comment.builder()
+                .task(task)
+                .user(user)
+                .content("Comment")
+                .build());
+        if (deleted) {
+            comment.softDelete();
+        }
+    }
+
+    private long revision() {
+        em.clear();
+        return projectRepository.findById(project.getId()).orElseThrow().getTaskRevision();
+    }
+}
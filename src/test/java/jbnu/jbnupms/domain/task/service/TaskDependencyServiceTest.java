@@ -0,0 +1,186 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskDependencyRequest;
+import jbnu.jbnupms.domain.task.dto.TaskScheduleResponse;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+class TaskDependencyServiceTest {
+
+    @Autowired
+    private TaskDependencyService taskDependencyService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("dependency@example.com");
+        project = fixture.memberProject(user);
+    }
+
+    @Test
+    @DisplayName("선행 관계가 순환을 만들면 추가를 거부한다")
+    void addDependency_ShouldRejectCycle() {
+        // Given
+        Task first = saveTask("First", null);
+        Task second = saveTask("Second", null);
+        Task third = saveTask("Third", null);
+        addDependency(first, second);
+        addDependency(second, third);
+
+        // When & Then
+        assertThatThrownBy(() -> addDependency(third, first))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> addDependency(first, first))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThat(taskDependencyService.getDependencies(user.getId(), first.getId()).getBlockers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 등록된 선행 관계는 다시 추가할 수 없다")
+    void addDependency_ShouldRejectDuplicate() {
+        // Given
+        Task first = saveTask("First", null);
+        Task second = saveTask("Second", null);
+        addDependency(first, second);
+
+        // When & Then
+        assertThatThrownBy(() -> addDependency(first, second))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_RESOURCE);
+    }
+
+    @Test
+    @DisplayName("가장 긴 선행 사슬이 주경로가 되고, 나머지 태스크는 늦출 수 있는 일수만큼 여유를 가진다")
+    void getSchedule_ShouldComputeCriticalPathAndSlack() {
+        // Given
+        // design -> build -> release 가 3일로 가장 길고, review(-> release)는 하루, docs는 독립
+        Task design = saveTask("Design", null);
+        Task build = saveTask("Build", null);
+        Task release = saveTask("Release", null);
+        Task review = saveTask("Review", null);
+        Task docs = saveTask("Docs", null);
+        addDependency(design, build);
+        addDependency(build, release);
+        addDependency(review, release);
+        LocalDate today = LocalDate.now();
+
+        // When
+        TaskScheduleResponse schedule = taskDependencyService.getSchedule(user.getId(), project.getId());
+
+        // Then
+        assertThat(schedule.getDurationDays()).isEqualTo(3);
+        assertThat(schedule.getEndDate()).isEqualTo(today.plusDays(2));
+        assertThat(schedule.getCriticalPath()).containsExactly(design.getId(), build.getId(), release.getId());
+        assertThat(item(schedule, release).getEarliestStart()).isEqualTo(today.plusDays(2));
+        assertThat(item(schedule, review).getSlackDays()).isEqualTo(1);
+        assertThat(item(schedule, review).isCritical()).isFalse();
+        assertThat(item(schedule, docs).getSlackDays()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("완료된 태스크는 기간 0으로 계산해 후행 태스크를 막지 않고 주경로에서 빠진다")
+    void getSchedule_ShouldTreatDoneTasksAsZeroLength() {
+        // Given
+        Task design = saveTask("Design", null);
+        Task build = saveTask("Build", null);
+        Task release = saveTask("Release", null);
+        addDependency(design, build);
+        addDependency(build, release);
+        complete(design);
+
+        // When
+        TaskScheduleResponse schedule = taskDependencyService.getSchedule(user.getId(), project.getId());
+
+        // Then
+        assertThat(schedule.getDurationDays()).isEqualTo(2);
+        assertThat(schedule.getCriticalPath()).containsExactly(build.getId(), release.getId());
+        assertThat(item(schedule, design).isCompleted()).isTrue();
+        assertThat(item(schedule, design).isCritical()).isFalse();
+        assertThat(item(schedule, build).getEarliestStart()).isEqualTo(LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("마감일이 빠듯하면 여유가 음수가 된다")
+    void getSchedule_ShouldReportNegativeSlackForTightDeadline() {
+        // Given
+        Task design = saveTask("Design", null);
+        Task build = saveTask("Build", null);
+        Task release = saveTask("Release", LocalDate.now().atTime(18, 0));
+        addDependency(design, build);
+        addDependency(build, release);
+
+        // When
+        TaskScheduleResponse schedule = taskDependencyService.getSchedule(user.getId(), project.getId());
+
+        // Then
+        // 오늘 마감인데 앞선 두 태스크 때문에 빨라야 모레 시작
+        assertThat(item(schedule, release).getSlackDays()).isEqualTo(-2);
+        assertThat(item(schedule, release).isCritical()).isTrue();
+    }
+
+    private Task saveTask(String title, LocalDateTime dueDate) {
+        return taskRepository.save(Task.builder()
+                .project(project)
+                .creator(user)
+                .title(title)
+                .priority(TaskPriority.MEDIUM)
+                .dueDate(dueDate)
+                .build());
+    }
+
+    private void addDependency(Task blocker, Task blocked) {
+        TaskDependencyRequest request = new TaskDependencyRequest();
+        request.setBlockerId(blocker.getId());
+        taskDependencyService.addDependency(user.getId(), blocked.getId(), request);
+    }
+
+    private void complete(Task task) {
+        task.update(task.getTitle(), task.getDescription(), TaskStatus.DONE, task.getPriority(), task.getDueDate(), 100.0);
+        em.flush();
+    }
+
+    private TaskScheduleResponse.Item item(TaskScheduleResponse schedule, Task task) {
+        return schedule.getTasks().stream()
+                .filter(item -> item.getTaskId().equals(task.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,187 @@
+package jbnu.jbnupms.domain.task.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskExportFormat;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 프로젝트 태스크 내보내기 통합 테스트 (담당자 목록을 string_agg로 모으므로 PostgreSQL, Docker가 없으면 건너뜀)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false",
+        "task.export.fetch-size=1",
+        "task.export.max-concurrent=1"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class TaskExportServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+    private Task parent;
+    private Task child;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("export@example.com");
+        User other = fixture.user("another@example.com");
+        project = fixture.memberProject(user);
+        fixture.member(project, other);
+
+        // 하위 태스크의 순위가 더 앞서도 상위 태스크부터 내보내는지 확인
+        parent = taskRepository.save(Task.builder()
+                .project(project)
+                .creator(user)
+                .title("Plan, \"v2\"")
+                .description("=SUM(A1)")
+                .priority(TaskPriority.HIGH)
+                .rank("m")
+                .build());
+        child = taskRepository.save(Task.builder()
+                .project(project)
+                .creator(user)
+                .parent(parent)
+                .title("-5")
+                .description("line1\nline2")
+                .rank("a")
+                .build());
+        taskAssigneeRepository.save(TaskAssignee.builder().task(parent).user(other).build());
+        taskAssigneeRepository.save(TaskAssignee.builder().task(parent).user(user).build());
+        em.flush();
+        this.insertClosure(parent, null);
+        this.insertClosure(child, parent);
+    }
+
+    @Test
+    @DisplayName("CSV는 BOM과 헤더 뒤에 상위 태스크부터 내보내고, 인용과 수식 이스케이프를 적용한다")
+    void export_ShouldWriteCsvInHierarchyOrderWithQuotingAndFormulaEscape() throws IOException {
+        // When
+        String csv = this.export(TaskExportFormat.CSV);
+
+        // Then
+        assertThat(csv).startsWith("\uFEFFid,parentId,title,description,status,priority,progress,dueDate,rank,");
+        String[] lines = csv.substring(1).split("\r\n", -1);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[1]).startsWith(parent.getId() + ",,\"Plan, \"\"v2\"\"\",'=SUM(A1),NOT_STARTED,HIGH,0.0,,m,")
+                .contains(",export,export@example.com,another@example.com;export@example.com,");
+        // 숫자로만 된 값은 수식이 아니므로 그대로 두고, 줄바꿈이 있으면 인용
+        assertThat(lines[2]).startsWith(child.getId() + "," + parent.getId() + ",-5,\"line1\nline2\",NOT_STARTED,MEDIUM,");
+        assertThat(lines[3]).isEmpty();
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 태스크 하나씩 작성자와 담당자 목록을 포함해 내보낸다")
+    void export_ShouldWriteNdjsonLinePerTask() throws IOException {
+        // When
+        List<String> lines = this.export(TaskExportFormat.NDJSON).lines().toList();
+
+        // Then
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(parent.getId());
+        assertThat(first.get("parentId").isNull()).isTrue();
+        assertThat(first.get("title").asText()).isEqualTo("Plan, \"v2\"");
+        assertThat(first.get("creator").get("email").asText()).isEqualTo("export@example.com");
+        assertThat(first.get("assigneeEmails")).extracting(JsonNode::asText)
+                .containsExactly("another@example.com", "export@example.com");
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(second.get("parentId").asLong()).isEqualTo(parent.getId());
+        assertThat(second.get("assigneeEmails")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버가 아니면 거부하고, 동시 내보내기 수를 넘으면 스트림을 끝낼 때까지 거부한다")
+    void export_ShouldRejectNonMemberAndTooManyConcurrentExports() throws IOException {
+        // Given
+        User outsider = fixture.user("outsider@example.com");
+
+        // When & Then
+        assertThatThrownBy(() -> taskExportService.export(outsider.getId(), project.getId(), TaskExportFormat.CSV))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+
+        StreamingResponseBody running = taskExportService.export(user.getId(), project.getId(), TaskExportFormat.CSV);
+        assertThatThrownBy(() -> taskExportService.export(user.getId(), project.getId(), TaskExportFormat.CSV))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+        running.writeTo(new ByteArrayOutputStream());
+        assertThat(this.export(TaskExportFormat.NDJSON)).isNotEmpty();
+    }
+
+    private String export(TaskExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.export(user.getId(), project.getId(), format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    // 계층 인덱스 행 등록 (자기 자신 + 상위 태스크의 조상들)
+    private void insertClosure(Task task, Task parent) {
+        em.createNativeQuery("INSERT INTO task_closure (ancestor_id, descendant_id, depth) VALUES (:id, :id, 0)")
+                .setParameter("id", task.getId())
+                .executeUpdate();
+        if (parent != null) {
+            em.createNativeQuery("INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+                            "SELECT c.ancestor_id, :id, c.depth + 1 FROM task_closure c WHERE c.descendant_id = :parentId")
+                    .setParameter("id", task.getId())
+                    .setParameter("parentId", parent.getId())
+                    .executeUpdate();
+        }
+    }
+}
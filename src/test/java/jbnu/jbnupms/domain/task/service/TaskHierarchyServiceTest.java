@@ -0,0 +1,146 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskParentUpdateRequest;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 태스크 계층 인덱스(클로저 테이블) 통합 테스트 (Docker가 없으면 건너뜀)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class TaskHierarchyServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("hierarchy@example.com");
+        project = fixture.memberProject(user);
+    }
+
+    @Test
+    @DisplayName("하위 태스크를 만들면 모든 조상과의 경로가 등록된다")
+    void createTask_ShouldRegisterPathsToAllAncestors() {
+        // Given
+        Long root = createTask("Root", null);
+        Long child = createTask("Child", root);
+
+        // When
+        Long grandChild = createTask("Grandchild", child);
+
+        // Then
+        assertThat(taskHierarchyService.getAncestorIds(grandChild)).containsExactly(root, child);
+        assertThat(taskHierarchyService.getDescendantIds(root)).containsExactlyInAnyOrder(child, grandChild);
+        assertThat(taskHierarchyService.getDepth(grandChild)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상위 태스크를 바꾸면 서브트리 전체가 새 위치로 옮겨진다")
+    void changeParent_ShouldMoveWholeSubtree() {
+        // Given
+        Long root = createTask("Root", null);
+        Long other = createTask("Other", null);
+        Long child = createTask("Child", root);
+        Long grandChild = createTask("Grandchild", child);
+
+        // When
+        taskService.changeParent(user.getId(), child, parentRequest(other));
+
+        // Then
+        assertThat(taskHierarchyService.getDescendantIds(root)).isEmpty();
+        assertThat(taskHierarchyService.getDescendantIds(other)).containsExactlyInAnyOrder(child, grandChild);
+        assertThat(taskHierarchyService.getAncestorIds(grandChild)).containsExactly(other, child);
+        assertThat(taskHierarchyService.getDepth(grandChild)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최상위로 옮기면 기존 조상과의 경로만 지워지고 서브트리 내부 경로는 유지된다")
+    void changeParent_ShouldKeepInnerPathsWhenMovedToRoot() {
+        // Given
+        Long root = createTask("Root", null);
+        Long child = createTask("Child", root);
+        Long grandChild = createTask("Grandchild", child);
+
+        // When
+        taskService.changeParent(user.getId(), child, parentRequest(null));
+
+        // Then
+        assertThat(taskHierarchyService.getDescendantIds(root)).isEmpty();
+        assertThat(taskHierarchyService.getDescendantIds(child)).containsExactly(grandChild);
+        assertThat(taskHierarchyService.getAncestorIds(grandChild)).containsExactly(child);
+        assertThat(taskHierarchyService.getDepth(child)).isZero();
+    }
+
+    @Test
+    @DisplayName("자기 자신이나 하위 태스크 아래로 옮기면 거부하고 계층을 그대로 둔다")
+    void changeParent_ShouldRejectCycle() {
+        // Given
+        Long root = createTask("Root", null);
+        Long child = createTask("Child", root);
+        Long grandChild = createTask("Grandchild", child);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.changeParent(user.getId(), root, parentRequest(grandChild)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> taskService.changeParent(user.getId(), child, parentRequest(child)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        assertThat(taskHierarchyService.getAncestorIds(grandChild)).containsExactly(root, child);
+    }
+
+    private Long createTask(String title, Long parentId) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setProjectId(project.getId());
+        request.setParentId(parentId);
+        request.setTitle(title);
+        return taskService.createTask(user.getId(), request);
+    }
+
+    private TaskParentUpdateRequest parentRequest(Long parentId) {
+        TaskParentUpdateRequest request = new TaskParentUpdateRequest();
+        request.setParentId(parentId);
+        return request;
+    }
+}
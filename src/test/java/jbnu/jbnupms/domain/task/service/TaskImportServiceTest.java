@@ -0,0 +1,217 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskExportFormat;
+import jbnu.jbnupms.domain.task.dto.TaskImportResponse;
+import jbnu.jbnupms.domain.task.dto.TaskMoveRequest;
+import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.entity.TaskImportStatus;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.user.dto.UserResponse;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내보내기 -> 가져오기 왕복 통합 테스트 (Docker가 없으면 건너뜀)
+ * fetch/배치 경계를 지나도록 내보내기 fetch 크기와 가져오기 배치 크기를 2로 줄인다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false",
+        "task.export.fetch-size=2",
+        "task.import.batch-size=2"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@Testcontainers(disabledWithoutDocker = true)
+class TaskImportServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2026, 5, 1, 9, 0);
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project source;
+    private Project target;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("import@example.com");
+        Space space = fixture.space(user);
+        source = fixture.project(space, "Source Project");
+        target = fixture.project(space, "Target Project");
+        fixture.member(source, user);
+        fixture.member(target, user);
+
+        // Plan(Design(Mockups), Build), Release
+        Long plan = createTask("Plan", "Scope, risks\nand \"milestones\"", TaskPriority.HIGH, DUE_DATE, null, null);
+        Long design = createTask("Design", null, null, null, plan, List.of(user.getId()));
+        createTask("=Mockups", null, TaskPriority.LOW, null, design, null);
+        createTask("Build", null, null, null, plan, null);
+        createTask("Release", null, null, null, null, null);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("NDJSON으로 내보낸 파일을 그대로 가져오면 계층, 순서, 필드, 담당자가 같은 트리가 만들어진다")
+    void importTasks_ShouldRoundTripNdjsonExport() throws IOException {
+        // Given
+        byte[] exported = export(TaskExportFormat.NDJSON);
+
+        // When
+        TaskImportResponse response = taskImportService.importTasks(user.getId(), target.getId(), TaskExportFormat.NDJSON, null,
+                new ByteArrayInputStream(exported));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(TaskImportStatus.COMPLETED);
+        assertThat(response.getProcessedRows()).isEqualTo(5);
+        assertSameTree(roots(target));
+    }
+
+    @Test
+    @DisplayName("CSV로 내보낸 파일도 따옴표/줄바꿈/수식 방지 문자를 되돌려 같은 트리로 가져온다")
+    void importTasks_ShouldRoundTripCsvExport() throws IOException {
+        // Given
+        byte[] exported = export(TaskExportFormat.CSV);
+
+        // When
+        TaskImportResponse response = taskImportService.importTasks(user.getId(), target.getId(), TaskExportFormat.CSV, null,
+                new ByteArrayInputStream(exported));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(TaskImportStatus.COMPLETED);
+        assertSameTree(roots(target));
+    }
+
+    @Test
+    @DisplayName("나중에 만든 태스크 아래로 옮긴 태스크도 상위 태스크가 먼저 내보내져 그대로 가져온다")
+    void importTasks_ShouldRoundTripTaskMovedUnderLaterTask() throws IOException {
+        // Given
+        Long plan = roots(source).get(0).getId();
+        Long archive = createTask("Archive", null, null, null, null, null);
+        TaskMoveRequest move = new TaskMoveRequest();
+        move.setParentId(archive);
+        taskService.moveTask(user.getId(), plan, move);
+        em.flush();
+        byte[] exported = export(TaskExportFormat.NDJSON);
+
+        // When
+        TaskImportResponse response = taskImportService.importTasks(user.getId(), target.getId(), TaskExportFormat.NDJSON, null,
+                new ByteArrayInputStream(exported));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(TaskImportStatus.COMPLETED);
+        List<TaskResponse> roots = roots(target);
+        assertThat(roots).extracting(TaskResponse::getTitle).containsExactly("Release", "Archive");
+        assertThat(roots.get(1).getChildren()).extracting(TaskResponse::getTitle).containsExactly("Plan");
+        assertThat(roots.get(1).getChildren().get(0).getChildren()).extracting(TaskResponse::getTitle)
+                .containsExactly("Design", "Build");
+    }
+
+    @Test
+    @DisplayName("가져오기는 태스크마다가 아니라 배치마다 한 번씩 변경 이벤트를 발행한다")
+    void importTasks_ShouldPublishOneChangeEventPerBatch() throws IOException {
+        // Given
+        byte[] exported = export(TaskExportFormat.NDJSON);
+
+        // When
+        taskImportService.importTasks(user.getId(), target.getId(), TaskExportFormat.NDJSON, null, new ByteArrayInputStream(exported));
+
+        // Then
+        List<TaskChangedEvent> created = events.stream(TaskChangedEvent.class)
+                .filter(event -> event.getProjectId().equals(target.getId()) && event.getType() == TaskChangeType.CREATED)
+                .collect(Collectors.toList());
+        // 5행을 2행씩 -> 3배치
+        assertThat(created).extracting(event -> event.getTaskIds().size()).containsExactly(2, 2, 1);
+    }
+
+    private void assertSameTree(List<TaskResponse> roots) {
+        assertThat(roots).extracting(TaskResponse::getTitle).containsExactly("Plan", "Release");
+
+        TaskResponse plan = roots.get(0);
+        assertThat(plan.getDescription()).isEqualTo("Scope, risks\nand \"milestones\"");
+        assertThat(plan.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(plan.getDueDate()).isEqualTo(DUE_DATE);
+        assertThat(plan.getChildren()).extracting(TaskResponse::getTitle).containsExactly("Design", "Build");
+
+        TaskResponse design = plan.getChildren().get(0);
+        assertThat(design.getAssignees()).extracting(UserResponse::getEmail).containsExactly(user.getEmail());
+        assertThat(design.getChildren()).extracting(TaskResponse::getTitle).containsExactly("=Mockups");
+        assertThat(design.getChildren().get(0).getPriority()).isEqualTo(TaskPriority.LOW);
+    }
+
+    private List<TaskResponse> roots(Project project) {
+        em.flush();
+        em.clear();
+        return taskService.getTasks(user.getId(), project.getId());
+    }
+
+    private byte[] export(TaskExportFormat format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        taskExportService.export(user.getId(), source.getId(), format).writeTo(output);
+        return output.toByteArray();
+    }
+
+    private Long createTask(String title, String description, TaskPriority priority, LocalDateTime dueDate, Long parentId,
+                            List<Long> assigneeIds) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setProjectId(source.getId());
+        request.setParentId(parentId);
+        request.setTitle(title);
+        request.setDescription(description);
+        request.setPriority(priority);
+        request.setDueDate(dueDate);
+        request.setAssigneeIds(assigneeIds);
+        return taskService.createTask(user.getId(), request);
+    }
+}
@@ -0,0 +1,192 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.event.ProjectMemberChangedEvent;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.task.dto.TaskInboxCondition;
+import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSortKey;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내 태스크 조회 테스트
+ * 캐시 무효화 리스너는 커밋 후에 호출되므로 (테스트 트랜잭션은 롤백) 직접 호출한다.
+ */
+@SpringBootTest
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+class TaskInboxServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Autowired
+    private TaskInboxService taskInboxService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private User other;
+    private Project first;
+    private Project second;
+    private Project notJoined;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("inbox@example.com");
+        other = fixture.user("other@example.com");
+        Space space = fixture.space(user);
+        first = fixture.project(space, "First Project");
+        second = fixture.project(space, "Second Project");
+        notJoined = fixture.project(space, "Not Joined");
+        fixture.member(first, user);
+        fixture.member(second, user);
+        fixture.member(first, other);
+        fixture.member(notJoined, other);
+    }
+
+    @Test
+    @DisplayName("멤버인 모든 프로젝트에서 나에게 할당된 태스크만 마감일 순으로 나눠 조회한다")
+    void getMyTasks_ShouldPageAssignedTasksAcrossProjects() {
+        // Given
+        assign(saveTask(first, "First A", NOW.plusDays(1), TaskStatus.NOT_STARTED), user);
+        assign(saveTask(second, "Second A", NOW.plusDays(2), TaskStatus.NOT_STARTED), user);
+        assign(saveTask(first, "First B", NOW.plusDays(3), TaskStatus.NOT_STARTED), user);
+        assign(saveTask(second, "Second B", NOW.plusDays(4), TaskStatus.NOT_STARTED), user);
+        // 다른 사람 담당, 담당자 없음, 멤버가 아닌 프로젝트의 태스크
+        assign(saveTask(first, "Someone else's", NOW.plusDays(1), TaskStatus.NOT_STARTED), other);
+        saveTask(second, "Unassigned", NOW.plusDays(1), TaskStatus.NOT_STARTED);
+        assign(saveTask(notJoined, "Not joined", NOW.plusDays(1), TaskStatus.NOT_STARTED), user);
+        em.flush();
+
+        // When
+        List<String> titles = new ArrayList<>();
+        TaskInboxCondition condition = condition(TaskSortKey.DUE_DATE, 3);
+        TaskSliceResponse<?> slice;
+        do {
+            slice = taskInboxService.getMyTasks(user.getId(), condition);
+            slice.getItems().forEach(item -> titles.add(((TaskResponse) item).getTitle()));
+            condition.setCursor(slice.getNextCursor());
+        } while (slice.isHasNext());
+
+        // Then
+        assertThat(titles).containsExactly("First A", "Second A", "First B", "Second B");
+    }
+
+    @Test
+    @DisplayName("상태 조건을 주면 해당 상태의 담당 태스크만 조회한다")
+    void getMyTasks_ShouldFilterByStatus() {
+        // Given
+        assign(saveTask(first, "Todo", NOW.plusDays(1), TaskStatus.NOT_STARTED), user);
+        assign(saveTask(second, "Doing", NOW.plusDays(2), TaskStatus.IN_PROGRESS), user);
+        em.flush();
+        TaskInboxCondition condition = condition(TaskSortKey.DUE_DATE, 10);
+        condition.setStatus(TaskStatus.IN_PROGRESS);
+
+        // When
+        TaskSliceResponse<?> slice = taskInboxService.getMyTasks(user.getId(), condition);
+
+        // Then
+        assertThat(slice.getItems()).extracting("title").containsExactly("Doing");
+    }
+
+    @Test
+    @DisplayName("같은 조건은 캐시에서 응답하고 멤버인 프로젝트의 태스크가 바뀌면 다시 조회한다")
+    void getMyTasks_ShouldServeFromCacheUntilProjectChanges() {
+        // Given
+        assign(saveTask(first, "Cached", NOW.plusDays(1), TaskStatus.NOT_STARTED), user);
+        em.flush();
+        TaskSliceResponse<?> cached = taskInboxService.getMyTasks(user.getId(), condition(TaskSortKey.DUE_DATE, 10));
+        Task added = saveTask(second, "Added", NOW.plusDays(2), TaskStatus.NOT_STARTED);
+        assign(added, user);
+        em.flush();
+
+        // When
+        TaskSliceResponse<?> beforeEviction = taskInboxService.getMyTasks(user.getId(), condition(TaskSortKey.DUE_DATE, 10));
+        // 멤버가 아닌 프로젝트의 변경은 무시
+        taskInboxService.onTaskChanged(new TaskChangedEvent(notJoined.getId(), added.getId(), TaskChangeType.UPDATED));
+        TaskSliceResponse<?> afterUnrelated = taskInboxService.getMyTasks(user.getId(), condition(TaskSortKey.DUE_DATE, 10));
+        taskInboxService.onTaskChanged(new TaskChangedEvent(second.getId(), added.getId(), TaskChangeType.CREATED));
+        TaskSliceResponse<?> afterEviction = taskInboxService.getMyTasks(user.getId(), condition(TaskSortKey.DUE_DATE, 10));
+
+        // Then
+        assertThat(beforeEviction).isSameAs(cached);
+        assertThat(afterUnrelated).isSameAs(cached);
+        assertThat(afterEviction.getItems()).extracting("title").containsExactly("Cached", "Added");
+    }
+
+    @Test
+    @DisplayName("프로젝트에 참여하면 그 사용자의 캐시를 비워 새 프로젝트의 담당 태스크도 조회한다")
+    void onMemberChanged_ShouldEvictJoinedUsersCache() {
+        // Given
+        assign(saveTask(first, "Existing", NOW.plusDays(1), TaskStatus.NOT_STARTED), user);
+        assign(saveTask(notJoined, "Joined later", NOW.plusDays(2), TaskStatus.NOT_STARTED), user);
+        em.flush();
+        taskInboxService.getMyTasks(user.getId(), condition(TaskSortKey.DUE_DATE, 10));
+        fixture.member(notJoined, user);
+        em.flush();
+
+        // When
+        taskInboxService.onMemberChanged(new ProjectMemberChangedEvent(notJoined.getId(), user.getId(), false));
+        TaskSliceResponse<?> slice = taskInboxService.getMyTasks(user.getId(), condition(TaskSortKey.DUE_DATE, 10));
+
+        // Then
+        assertThat(slice.getItems()).extracting("title").containsExactly("Existing", "Joined later");
+    }
+
+    private TaskInboxCondition condition(TaskSortKey sort, int size) {
+        TaskInboxCondition condition = new TaskInboxCondition();
+        condition.setSort(sort);
+        condition.setSize(size);
+        return condition;
+    }
+
+    private Task saveTask(Project project, String title, LocalDateTime dueDate, TaskStatus status) {
+        Task task = taskRepository.save(Task.builder()
+                .project(project)
+                .creator(user)
+                .title(title)
+                .dueDate(dueDate)
+                .build());
+        task.update(title, null, status, TaskPriority.MEDIUM, dueDate, 0.0);
+        return task;
+    }
+
+    private void assign(Task task, User assignee) {
+        taskAssigneeRepository.save(TaskAssignee.builder().task(task).user(assignee).build());
+    }
+}
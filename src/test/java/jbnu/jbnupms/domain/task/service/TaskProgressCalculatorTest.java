@@ -0,0 +1,150 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskUpdateRequest;
+import jbnu.jbnupms.domain.task.entity.TaskProgressPending;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.repository.TaskProgressPendingRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 진행률 롤업 통합 테스트 (Docker가 없으면 건너뜀)
+ * 대기 행은 커밋 직전에 기록되므로 테스트에서는 직접 넣고 재계산을 호출한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class TaskProgressCalculatorTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskProgressCalculator taskProgressCalculator;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskProgressPendingRepository taskProgressPendingRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("progress@example.com");
+        project = fixture.memberProject(user);
+    }
+
+    @Test
+    @DisplayName("상위 태스크 진행률은 하위 태스크 진행률을 서브트리 크기로 가중한 평균이며, 완료 상태는 100으로 계산한다")
+    void recalculatePending_ShouldWeightChildrenBySubtreeSize() {
+        // Given
+        Long root = createTask("Root", null);
+        Long leaf = createTask("Leaf", root);
+        Long branch = createTask("Branch", root);
+        Long done = createTask("Done", branch);
+        Long half = createTask("Half", branch);
+        Long started = createTask("Started", branch);
+        updateTask(leaf, null, 20.0);
+        updateTask(done, TaskStatus.DONE, null);
+        updateTask(half, null, 40.0);
+        updateTask(started, null, 10.0);
+        savePending(branch);
+        em.flush();
+
+        // When
+        taskProgressCalculator.recalculatePending(project.getId());
+        em.flush();
+        em.clear();
+
+        // Then
+        // Branch = (100 + 40 + 10) / 3 = 50, Root = (20 * 1 + 50 * 4) / 5 = 44
+        assertThat(taskRepository.findById(branch).orElseThrow().getProgress()).isEqualTo(50.0);
+        assertThat(taskRepository.findById(root).orElseThrow().getProgress()).isEqualTo(44.0);
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getProgress()).isEqualTo(44.0);
+        assertThat(taskProgressPendingRepository.findByProjectId(project.getId(), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최상위 태스크 변경은 프로젝트 진행률만 다시 계산한다")
+    void recalculatePending_ShouldUpdateProjectProgressForRootChanges() {
+        // Given
+        Long first = createTask("First", null);
+        Long second = createTask("Second", null);
+        updateTask(first, null, 80.0);
+        updateTask(second, null, 20.0);
+        savePending(null);
+        em.flush();
+
+        // When
+        taskProgressCalculator.recalculatePending(project.getId());
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getProgress()).isEqualTo(50.0);
+        assertThat(taskRepository.findById(first).orElseThrow().getProgress()).isEqualTo(80.0);
+    }
+
+    private Long createTask(String title, Long parentId) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setProjectId(project.getId());
+        request.setParentId(parentId);
+        request.setTitle(title);
+        return taskService.createTask(user.getId(), request);
+    }
+
+    private void updateTask(Long taskId, TaskStatus status, Double progress) {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setStatus(status);
+        request.setProgress(progress);
+        taskService.updateTask(user.getId(), taskId, request, null);
+    }
+
+    private void savePending(Long parentId) {
+        taskProgressPendingRepository.save(TaskProgressPending.builder()
+                .projectId(project.getId())
+                .parentId(parentId)
+                .build());
+    }
+}
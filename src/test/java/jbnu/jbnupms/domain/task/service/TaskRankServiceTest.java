@@ -0,0 +1,169 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskMoveRequest;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 태스크 순위 이동/재배치 통합 테스트 (Docker가 없으면 건너뜀)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class TaskRankServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRankService taskRankService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("rank@example.com");
+        project = fixture.memberProject(user);
+    }
+
+    @Test
+    @DisplayName("새 태스크는 형제의 맨 뒤에 추가된다")
+    void createTask_ShouldAppendToSiblings() {
+        // When
+        Long first = createTask("First", null);
+        Long second = createTask("Second", null);
+        Long third = createTask("Third", null);
+
+        // Then
+        assertThat(taskRepository.findRootIdsOrderByRank(project.getId())).containsExactly(first, second, third);
+    }
+
+    @Test
+    @DisplayName("기준 형제 바로 뒤나 맨 앞으로 이동하면 그 자리에 놓인다")
+    void moveTask_ShouldPlaceAfterGivenSibling() {
+        // Given
+        Long first = createTask("First", null);
+        Long second = createTask("Second", null);
+        Long third = createTask("Third", null);
+
+        // When
+        taskService.moveTask(user.getId(), third, moveRequest(null, null));
+        taskService.moveTask(user.getId(), first, moveRequest(null, second));
+
+        // Then
+        assertThat(taskRepository.findRootIdsOrderByRank(project.getId())).containsExactly(third, second, first);
+    }
+
+    @Test
+    @DisplayName("다른 상위 태스크 아래로 이동하면 그 형제들 사이의 지정한 위치에 놓인다")
+    void moveTask_ShouldReparentIntoPosition() {
+        // Given
+        Long parent = createTask("Parent", null);
+        Long firstChild = createTask("First child", parent);
+        Long secondChild = createTask("Second child", parent);
+        Long moved = createTask("Moved", null);
+
+        // When
+        taskService.moveTask(user.getId(), moved, moveRequest(parent, firstChild));
+
+        // Then
+        assertThat(taskRepository.findChildIdsOrderByRank(parent)).containsExactly(firstChild, moved, secondChild);
+        assertThat(taskRepository.findRootIdsOrderByRank(project.getId())).containsExactly(parent);
+    }
+
+    @Test
+    @DisplayName("재배치는 현재 순서를 유지한 채 순위를 짧게 줄이고 태스크 버전은 올리지 않는다")
+    void rebalance_ShouldKeepOrderWithoutBumpingVersions() {
+        // Given
+        Long parent = createTask("Parent", null);
+        Long head = createTask("Head", parent);
+        createTask("Tail", parent);
+        // 같은 자리에 반복해서 끼워 넣어 순위를 늘림
+        for (int i = 0; i < 30; i++) {
+            Long inserted = createTask("Inserted " + i, parent);
+            taskService.moveTask(user.getId(), inserted, moveRequest(parent, head));
+        }
+        em.flush();
+        em.clear();
+        List<Long> before = taskRepository.findChildIdsOrderByRank(parent);
+        Map<Long, Long> versions = versionsOf(before);
+
+        // When
+        int updated = taskRankService.rebalance(project.getId(), parent);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(updated).isEqualTo(before.size());
+        assertThat(taskRepository.findChildIdsOrderByRank(parent)).containsExactlyElementsOf(before);
+        assertThat(taskRepository.findAllById(before))
+                .allSatisfy(task -> assertThat(task.getRank().length()).isLessThanOrEqualTo(TaskRank.DEFAULT_WIDTH));
+        assertThat(versionsOf(before)).isEqualTo(versions);
+    }
+
+    private Long createTask(String title, Long parentId) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setProjectId(project.getId());
+        request.setParentId(parentId);
+        request.setTitle(title);
+        return taskService.createTask(user.getId(), request);
+    }
+
+    private TaskMoveRequest moveRequest(Long parentId, Long afterId) {
+        TaskMoveRequest request = new TaskMoveRequest();
+        request.setParentId(parentId);
+        request.setAfterId(afterId);
+        return request;
+    }
+
+    private Map<Long, Long> versionsOf(List<Long> taskIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (Task task : taskRepository.findAllById(new ArrayList<>(taskIds))) {
+            versions.put(task.getId(), task.getVersion());
+        }
+        return versions;
+    }
+}
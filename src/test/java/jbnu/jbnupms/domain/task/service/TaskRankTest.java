@@ -0,0 +1,70 @@
+package jbnu.jbnupms.domain.task.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskRankTest {
+
+    @Test
+    @DisplayName("맨 앞/맨 뒤 순위는 이웃한 순위보다 앞/뒤에 온다")
+    void between_ShouldPlaceBeforeFirstAndAfterLast() {
+        // Given
+        String first = TaskRank.between(null, null);
+
+        // When
+        String before = TaskRank.between(null, first);
+        String after = TaskRank.between(first, null);
+
+        // Then
+        assertThat(before).isLessThan(first);
+        assertThat(after).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("같은 자리에 반복해서 끼워 넣어도 항상 두 순위 사이 값을 만든다")
+    void between_ShouldAlwaysFitBetweenNeighbours() {
+        // Given
+        String low = TaskRank.between(null, null);
+        String high = TaskRank.between(low, null);
+
+        // When & Then
+        for (int i = 0; i < 100; i++) {
+            String middle = TaskRank.between(low, high);
+            assertThat(middle).isGreaterThan(low).isLessThan(high).doesNotEndWith("0");
+            high = middle;
+        }
+    }
+
+    @Test
+    @DisplayName("인접한 두 순위 사이는 한 자리 늘려서 나눈다")
+    void between_ShouldExtendWidthForAdjacentRanks() {
+        // When
+        String middle = TaskRank.between("000001", "000002");
+
+        // Then
+        assertThat(middle).hasSize(TaskRank.DEFAULT_WIDTH + 1).isGreaterThan("000001").isLessThan("000002");
+    }
+
+    @Test
+    @DisplayName("앞 순위가 뒤 순위보다 크거나 같으면 예외가 발생한다")
+    void between_ShouldRejectUnorderedBounds() {
+        assertThatThrownBy(() -> TaskRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskRank.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("재배치 순위는 오름차순이고 기본 자릿수를 넘지 않는다")
+    void spread_ShouldReturnShortIncreasingRanks() {
+        // When
+        String[] ranks = TaskRank.spread(500);
+
+        // Then
+        assertThat(ranks).hasSize(500).isSorted().doesNotHaveDuplicates();
+        assertThat(Arrays.stream(ranks).mapToInt(String::length).max().orElse(0)).isLessThanOrEqualTo(TaskRank.DEFAULT_WIDTH);
+    }
+}
@@ -0,0 +1,75 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.task.dto.TaskScheduleResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskScheduleCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    @DisplayName("계산하는 동안 무효화된 프로젝트의 결과는 저장하지 않는다")
+    void put_ShouldDropResultComputedBeforeEviction() {
+        // Given
+        TaskScheduleCache cache = new TaskScheduleCache(10);
+        long generation = cache.generation(1L);
+
+        // When
+        cache.evict(1L);
+        cache.put(1L, TODAY, schedule(1L), generation);
+
+        // Then
+        assertThat(cache.get(1L, TODAY)).isNull();
+
+        long next = cache.generation(1L);
+        cache.put(1L, TODAY, schedule(1L), next);
+        assertThat(cache.get(1L, TODAY)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("최대 프로젝트 수를 넘으면 가장 오래 조회되지 않은 프로젝트부터 내보낸다")
+    void put_ShouldEvictLeastRecentlyUsedProject() {
+        // Given
+        TaskScheduleCache cache = new TaskScheduleCache(2);
+        cache.put(1L, TODAY, schedule(1L), cache.generation(1L));
+        cache.put(2L, TODAY, schedule(2L), cache.generation(2L));
+        cache.get(1L, TODAY);
+
+        // When
+        cache.put(3L, TODAY, schedule(3L), cache.generation(3L));
+
+        // Then
+        assertThat(cache.get(1L, TODAY)).isNotNull();
+        assertThat(cache.get(2L, TODAY)).isNull();
+        assertThat(cache.get(3L, TODAY)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 전날 기준 일정은 모두 버리고, 전날 시작한 계산 결과도 저장하지 않는다")
+    void get_ShouldDropEntriesOnDayRollover() {
+        // Given
+        TaskScheduleCache cache = new TaskScheduleCache(10);
+        long generation = cache.generation(1L);
+        cache.put(1L, TODAY, schedule(1L), generation);
+
+        // When
+        TaskScheduleResponse next = cache.get(1L, TODAY.plusDays(1));
+        cache.put(2L, TODAY, schedule(2L), cache.generation(2L));
+
+        // Then
+        assertThat(next).isNull();
+        assertThat(cache.get(2L, TODAY.plusDays(1))).isNull();
+    }
+
+    private TaskScheduleResponse schedule(Long projectId) {
+        return TaskScheduleResponse.builder()
+                .projectId(projectId)
+                .startDate(TODAY)
+                .build();
+    }
+}
@@ -0,0 +1,215 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSearchCondition;
+import jbnu.jbnupms.domain.task.dto.TaskSliceResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSortKey;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 태스크 목록 필터 + 키셋 페이지네이션 테스트
+ */
+@SpringBootTest
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+class TaskSpecificationsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("list@example.com");
+        project = fixture.memberProject(user);
+    }
+
+    @Test
+    @DisplayName("마감일 정렬은 (due_date, id) 키셋으로 중복/누락 없이 나눠 조회하고 마감일 없는 태스크는 제외한다")
+    void searchTasks_ShouldPageByDueDateKeyset() {
+        // Given
+        Task first = saveTask("First", NOW.plusDays(1));
+        Task sameDayA = saveTask("Same day A", NOW.plusDays(2));
+        Task sameDayB = saveTask("Same day B", NOW.plusDays(2));
+        Task last = saveTask("Last", NOW.plusDays(3));
+        saveTask("No due date", null);
+        em.flush();
+
+        // When
+        List<String> titles = collectTitles(TaskSortKey.DUE_DATE, 2);
+
+        // Then
+        assertThat(titles).containsExactly(first.getTitle(), sameDayA.getTitle(), sameDayB.getTitle(), last.getTitle());
+    }
+
+    @Test
+    @DisplayName("기본 정렬은 최근 수정순이며 같은 수정 시각은 id 역순으로 이어서 조회한다")
+    void searchTasks_ShouldPageByUpdatedAtKeyset() {
+        // Given
+        Task oldest = saveTask("Oldest", null);
+        Task tieLow = saveTask("Tie low", null);
+        Task tieHigh = saveTask("Tie high", null);
+        Task newest = saveTask("Newest", null);
+        touch(oldest, NOW.minusHours(3));
+        touch(tieLow, NOW.minusHours(2));
+        touch(tieHigh, NOW.minusHours(2));
+        touch(newest, NOW.minusHours(1));
+
+        // When
+        List<String> titles = collectTitles(TaskSortKey.UPDATED_AT, 3);
+
+        // Then
+        assertThat(titles).containsExactly("Newest", "Tie high", "Tie low", "Oldest");
+    }
+
+    @Test
+    @DisplayName("상태, 우선순위, 담당자, 상위 태스크, 마감일 범위 필터를 함께 적용한다")
+    void searchTasks_ShouldApplyFilters() {
+        // Given
+        Task parent = saveTask("Parent", null);
+        Task match = saveTask("Match", parent, NOW.plusDays(1), TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        assign(match);
+        Task otherStatus = saveTask("Other status", parent, NOW.plusDays(1), TaskStatus.DONE, TaskPriority.HIGH);
+        assign(otherStatus);
+        Task otherPriority = saveTask("Other priority", parent, NOW.plusDays(1), TaskStatus.IN_PROGRESS, TaskPriority.LOW);
+        assign(otherPriority);
+        saveTask("Not assigned", parent, NOW.plusDays(1), TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        Task dueLater = saveTask("Due later", parent, NOW.plusDays(10), TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        assign(dueLater);
+        Task otherParent = saveTask("Other parent", null, NOW.plusDays(1), TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        assign(otherParent);
+        em.flush();
+
+        TaskSearchCondition condition = condition(TaskSortKey.UPDATED_AT, 10);
+        condition.setStatus(TaskStatus.IN_PROGRESS);
+        condition.setPriority(TaskPriority.HIGH);
+        condition.setAssigneeId(user.getId());
+        condition.setParentId(parent.getId());
+        condition.setDueFrom(NOW);
+        condition.setDueTo(NOW.plusDays(5));
+
+        // When
+        TaskSliceResponse<?> slice = taskService.searchTasks(user.getId(), condition);
+
+        // Then
+        assertThat(slice.getItems()).extracting("title").containsExactly("Match");
+        assertThat(slice.isHasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서와 허용 범위를 벗어난 페이지 크기는 거부한다")
+    void searchTasks_ShouldRejectInvalidCursorAndSize() {
+        // Given
+        TaskSearchCondition badCursor = condition(TaskSortKey.UPDATED_AT, 10);
+        badCursor.setCursor("not-a-cursor");
+        TaskSearchCondition badSize = condition(TaskSortKey.UPDATED_AT, 0);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.searchTasks(user.getId(), badCursor))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_QUERY_PARAM);
+        assertThatThrownBy(() -> taskService.searchTasks(user.getId(), badSize))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_QUERY_PARAM);
+    }
+
+    // nextCursor를 따라 마지막 페이지까지 조회한 제목 목록
+    private List<String> collectTitles(TaskSortKey sort, int size) {
+        List<String> titles = new ArrayList<>();
+        TaskSearchCondition condition = condition(sort, size);
+        TaskSliceResponse<?> slice;
+        do {
+            slice = taskService.searchTasks(user.getId(), condition);
+            assertThat(slice.getItems().size()).isLessThanOrEqualTo(size);
+            slice.getItems().forEach(item -> titles.add(((TaskResponse) item).getTitle()));
+            condition.setCursor(slice.getNextCursor());
+        } while (slice.isHasNext());
+        return titles;
+    }
+
+    private TaskSearchCondition condition(TaskSortKey sort, int size) {
+        TaskSearchCondition condition = new TaskSearchCondition();
+        condition.setProjectId(project.getId());
+        condition.setSort(sort);
+        condition.setSize(size);
+        return condition;
+    }
+
+    private Task saveTask(String title, LocalDateTime dueDate) {
+        return taskRepository.save(Task.builder()
+                .project(project)
+                .creator(user)
+                .title(title)
+                .dueDate(dueDate)
+                .build());
+    }
+
+    private Task saveTask(String title, Task parent, LocalDateTime dueDate, TaskStatus status, TaskPriority priority) {
+        Task task = taskRepository.save(Task.builder()
+                .project(project)
+                .creator(user)
+                .parent(parent)
+                .title(title)
+                .dueDate(dueDate)
+                .build());
+        task.update(title, null, status, priority, dueDate, 0.0);
+        return task;
+    }
+
+    private void assign(Task task) {
+        taskAssigneeRepository.save(TaskAssignee.builder().task(task).user(user).build());
+    }
+
+    // 수정 시각은 엔티티 콜백이 현재 시각으로 정하므로 직접 지정
+    private void touch(Task task, LocalDateTime updatedAt) {
+        em.flush();
+        em.createNativeQuery("UPDATE tasks SET updated_at = :updatedAt WHERE id = :id")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", task.getId())
+                .executeUpdate();
+        em.clear();
+    }
+}
@@ -0,0 +1,159 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.ProjectTaskStatsResponse;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.dto.TaskUpdateRequest;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.entity.TaskStatus;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 프로젝트 태스크 집계 통합 테스트 (INSERT ... ON CONFLICT를 쓰므로 PostgreSQL, Docker가 없으면 건너뜀)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class TaskStatsServiceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("stats@example.com");
+        project = fixture.memberProject(user);
+    }
+
+    @Test
+    @DisplayName("태스크 생성, 상태/우선순위 변경, 서브트리 삭제가 집계에 바로 반영된다")
+    void getStats_ShouldReflectCreateChangeAndDelete() {
+        // Given
+        Long parent = createTask("Parent", null, TaskPriority.HIGH);
+        createTask("Child", parent, TaskPriority.LOW);
+        Long other = createTask("Other", null, null);
+
+        // When
+        updateTask(other, TaskStatus.DONE, TaskPriority.HIGH);
+
+        // Then
+        ProjectTaskStatsResponse stats = taskStatsService.getStats(user.getId(), project.getId());
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.NOT_STARTED, 2L).containsEntry(TaskStatus.DONE, 1L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L);
+        assertThat(stats.getByPriority()).containsEntry(TaskPriority.HIGH, 2L).containsEntry(TaskPriority.LOW, 1L)
+                .containsEntry(TaskPriority.MEDIUM, 0L);
+
+        // When
+        taskService.deleteTask(user.getId(), parent);
+
+        // Then
+        stats = taskStatsService.getStats(user.getId(), project.getId());
+        assertThat(stats.getTotal()).isEqualTo(1);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.NOT_STARTED, 0L).containsEntry(TaskStatus.DONE, 1L);
+        assertThat(stats.getByPriority()).containsEntry(TaskPriority.HIGH, 1L).containsEntry(TaskPriority.LOW, 0L);
+    }
+
+    @Test
+    @DisplayName("보정은 실제 태스크 수와 어긋난 집계 행만 고친다")
+    void reconcile_ShouldFixOnlyDriftedRows() {
+        // Given
+        createTask("First", null, TaskPriority.HIGH);
+        createTask("Second", null, TaskPriority.HIGH);
+        createTask("Third", null, TaskPriority.LOW);
+        em.flush();
+        // (NOT_STARTED, HIGH) 행을 어긋나게 만들고 실제로는 없는 (DONE, LOW) 행을 추가
+        em.createNativeQuery("UPDATE project_task_stats SET task_count = 7 " +
+                        "WHERE project_id = :projectId AND status = :status AND priority = :priority")
+                .setParameter("projectId", project.getId())
+                .setParameter("status", TaskStatus.NOT_STARTED.ordinal())
+                .setParameter("priority", TaskPriority.HIGH.ordinal())
+                .executeUpdate();
+        em.createNativeQuery("INSERT INTO project_task_stats (project_id, status, priority, task_count) " +
+                        "VALUES (:projectId, :status, :priority, 4)")
+                .setParameter("projectId", project.getId())
+                .setParameter("status", TaskStatus.DONE.ordinal())
+                .setParameter("priority", TaskPriority.LOW.ordinal())
+                .executeUpdate();
+        em.clear();
+
+        // When
+        int fixed = taskStatsService.reconcile(project.getId());
+
+        // Then
+        assertThat(fixed).isEqualTo(2);
+        ProjectTaskStatsResponse stats = taskStatsService.getStats(user.getId(), project.getId());
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.NOT_STARTED, 3L).containsEntry(TaskStatus.DONE, 0L);
+        assertThat(stats.getByPriority()).containsEntry(TaskPriority.HIGH, 2L).containsEntry(TaskPriority.LOW, 1L);
+        assertThat(taskStatsService.reconcile(project.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버가 아니면 집계를 조회할 수 없다")
+    void getStats_ShouldRejectNonMember() {
+        // Given
+        User outsider = fixture.user("outsider@example.com");
+
+        // When & Then
+        assertThatThrownBy(() -> taskStatsService.getStats(outsider.getId(), project.getId()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+    }
+
+    private Long createTask(String title, Long parentId, TaskPriority priority) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setProjectId(project.getId());
+        request.setParentId(parentId);
+        request.setTitle(title);
+        request.setPriority(priority);
+        return taskService.createTask(user.getId(), request);
+    }
+
+    private void updateTask(Long taskId, TaskStatus status, TaskPriority priority) {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setStatus(status);
+        request.setPriority(priority);
+        taskService.updateTask(user.getId(), taskId, request, null);
+    }
+}
@@ -0,0 +1,138 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.domain.comment.entity.Comment;
+import jbnu.jbnupms.domain.comment.repository.CommentRepository;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskCreateRequest;
+import jbnu.jbnupms.domain.task.event.TaskChangeType;
+import jbnu.jbnupms.domain.task.event.TaskChangedEvent;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 태스크 서브트리 일괄 삭제 통합 테스트 (Docker가 없으면 건너뜀)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.show-sql=false"
+})
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@Testcontainers(disabledWithoutDocker = true)
+class TaskSubtreeDeleterTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("delete@example.com");
+        project = fixture.memberProject(user);
+    }
+
+    @Test
+    @DisplayName("태스크를 삭제하면 하위 태스크와 댓글까지 함께 soft delete되고 형제 태스크는 남는다")
+    void deleteTask_ShouldSoftDeleteWholeSubtree() {
+        // Given
+        Long root = createTask("Root", null);
+        Long branch = createTask("Branch", root);
+        Long child = createTask("Child", branch);
+        Long grandChild = createTask("Grandchild", child);
+        Long sibling = createTask("Sibling", root);
+        Comment comment = commentRepository.save(Comment.builder()
+                .task(taskRepository.findById(grandChild).orElseThrow())
+                .user(user)
+                .content("Deleted with the subtree")
+                .build());
+        em.flush();
+
+        // When
+        taskService.deleteTask(user.getId(), branch);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(taskRepository.findById(branch)).isEmpty();
+        assertThat(taskRepository.findById(child)).isEmpty();
+        assertThat(taskRepository.findById(grandChild)).isEmpty();
+        assertThat(taskRepository.findById(sibling)).isPresent();
+        assertThat(commentRepository.findById(comment.getId()).orElseThrow().getIsDeleted()).isTrue();
+        assertThat(taskHierarchyService.getDescendantIds(root)).containsExactly(sibling);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트는 하위 태스크를 포함한 삭제된 태스크 ID 전체를 한 번에 담는다")
+    void deleteTask_ShouldPublishAllRemovedIdsInOneEvent() {
+        // Given
+        Long root = createTask("Root", null);
+        Long child = createTask("Child", root);
+        Long grandChild = createTask("Grandchild", child);
+
+        // When
+        taskService.deleteTask(user.getId(), root);
+
+        // Then
+        List<TaskChangedEvent> deleted = events.stream(TaskChangedEvent.class)
+                .filter(event -> event.getType() == TaskChangeType.DELETED)
+                .collect(Collectors.toList());
+        assertThat(deleted).hasSize(1);
+        assertThat(deleted.get(0).getProjectId()).isEqualTo(project.getId());
+        assertThat(deleted.get(0).getTaskIds()).containsExactlyInAnyOrder(root, child, grandChild);
+    }
+
+    private Long createTask(String title, Long parentId) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setProjectId(project.getId());
+        request.setParentId(parentId);
+        request.setTitle(title);
+        return taskService.createTask(user.getId(), request);
+    }
+}
@@ -0,0 +1,227 @@
+package jbnu.jbnupms.domain.task.service;
+
+import jbnu.jbnupms.common.exception.CustomException;
+import jbnu.jbnupms.common.exception.ErrorCode;
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.task.dto.TaskResponse;
+import jbnu.jbnupms.domain.task.dto.TaskSummaryResponse;
+import jbnu.jbnupms.domain.task.dto.TaskView;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskAssignee;
+import jbnu.jbnupms.domain.task.repository.TaskAssigneeRepository;
+import jbnu.jbnupms.domain.user.dto.UserResponse;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.support.QueryCounter;
+import jbnu.jbnupms.support.TestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import(TestFixture.class)
+@Transactional
+@ActiveProfiles("test")
+class TaskTreeLoaderTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixture fixture;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private jakarta.persistence.EntityManager em;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.user("tree@example.com");
+        project = fixture.memberProject(user);
+    }
+
+    @Test
+    @DisplayName("프로젝트 태스크를 작성자, 담당자와 함께 parent_id 기준 트리로 조립한다")
+    void getTasks_ShouldAssembleTreeWithCreatorsAndAssignees() {
+        // Given
+        User other = fixture.user("other@example.com");
+        fixture.member(project, other);
+        Task epic = fixture.task(project, user, "Epic");
+        Task story = fixture.task(project, other, epic, "Story");
+        fixture.task(project, user, story, "Subtask");
+        fixture.task(project, user, "Chore");
+        assign(story, user);
+        assign(story, other);
+        em.flush();
+        em.clear();
+
+        // When
+        List<TaskResponse> roots = taskService.getTasks(user.getId(), project.getId());
+
+        // Then
+        assertThat(roots).extracting(TaskResponse::getTitle).containsExactly("Epic", "Chore");
+        TaskResponse storyNode = roots.get(0).getChildren().get(0);
+        assertThat(storyNode.getTitle()).isEqualTo("Story");
+        assertThat(storyNode.getCreator().getEmail()).isEqualTo("other@example.com");
+        assertThat(storyNode.getAssignees()).extracting(UserResponse::getEmail)
+                .containsExactlyInAnyOrder("tree@example.com", "other@example.com");
+        assertThat(storyNode.getChildren()).extracting(TaskResponse::getTitle).containsExactly("Subtask");
+        assertThat(roots.get(1).getChildren()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트리가 깊어지거나 넓어져도 조회 쿼리 수는 같다")
+    void getTasks_ShouldUseConstantQueryCount() {
+        // Given
+        Task root = fixture.task(project, user, "Root");
+        assign(fixture.task(project, user, root, "Child"), user);
+        long small = countQueries();
+
+        User other = fixture.user("other@example.com");
+        fixture.member(project, other);
+        Task parent = root;
+        for (int depth = 0; depth < 5; depth++) {
+            parent = fixture.task(project, depth % 2 == 0 ? other : user, parent, "Level " + depth);
+            assign(parent, other);
+            for (int i = 0; i < 3; i++) {
+                fixture.task(project, other, parent, "Leaf " + depth + "-" + i);
+            }
+        }
+
+        // When
+        long large = countQueries();
+
+        // Then
+        // 멤버 확인 1회 + 태스크(작성자) 1회 + 담당자(사용자) 1회
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("depth까지만 조립하고 접힌 노드에도 직계 하위 태스크 수를 채운다")
+    void getTaskTree_ShouldLimitDepthAndCountCollapsedChildren() {
+        // Given
+        // Epic(Story(Subtask(Detail), Spike)), Chore
+        Task epic = node(null, "Epic");
+        Task story = node(epic, "Story");
+        Task subtask = node(story, "Subtask");
+        node(subtask, "Detail");
+        node(story, "Spike");
+        node(null, "Chore");
+        em.flush();
+        em.clear();
+
+        // When
+        List<?> full = taskService.getTaskTree(user.getId(), project.getId(), TaskView.FULL, 1);
+        List<?> summaries = taskService.getTaskTree(user.getId(), project.getId(), TaskView.SUMMARY, 1);
+
+        // Then
+        List<TaskResponse> roots = full.stream().map(TaskResponse.class::cast).toList();
+        assertThat(roots).extracting(TaskResponse::getTitle).containsExactly("Epic", "Chore");
+        assertThat(roots).extracting(TaskResponse::getChildCount).containsExactly(1, 0);
+        TaskResponse storyNode = roots.get(0).getChildren().get(0);
+        assertThat(storyNode.getTitle()).isEqualTo("Story");
+        assertThat(storyNode.getChildren()).isEmpty();
+        assertThat(storyNode.getChildCount()).isEqualTo(2);
+
+        List<TaskSummaryResponse> summaryRoots = summaries.stream().map(TaskSummaryResponse.class::cast).toList();
+        assertThat(summaryRoots).extracting(TaskSummaryResponse::getTitle).containsExactly("Epic", "Chore");
+        assertThat(summaryRoots).extracting(TaskSummaryResponse::getChildCount).containsExactly(1, 0);
+        TaskSummaryResponse storySummary = summaryRoots.get(0).getChildren().get(0);
+        assertThat(storySummary.getChildren()).isNull();
+        assertThat(storySummary.getChildCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("하위 태스크 펼치기는 직계 하위 태스크만 각자의 하위 태스크 수와 함께 반환한다")
+    void getChildren_ShouldReturnDirectChildrenWithChildCount() {
+        // Given
+        Task story = node(null, "Story");
+        Task subtask = node(story, "Subtask");
+        node(subtask, "Detail");
+        node(subtask, "Review");
+        Task spike = node(story, "Spike");
+        assign(spike, user);
+        em.flush();
+        em.clear();
+
+        // When
+        List<?> full = taskService.getChildren(user.getId(), story.getId(), TaskView.FULL);
+        List<?> summaries = taskService.getChildren(user.getId(), story.getId(), TaskView.SUMMARY);
+
+        // Then
+        List<TaskResponse> children = full.stream().map(TaskResponse.class::cast).toList();
+        assertThat(children).extracting(TaskResponse::getTitle).containsExactly("Subtask", "Spike");
+        assertThat(children).extracting(TaskResponse::getChildCount).containsExactly(2, 0);
+        assertThat(children.get(1).getAssignees()).extracting(UserResponse::getEmail).containsExactly("tree@example.com");
+
+        List<TaskSummaryResponse> childSummaries = summaries.stream().map(TaskSummaryResponse.class::cast).toList();
+        assertThat(childSummaries).extracting(TaskSummaryResponse::getTitle).containsExactly("Subtask", "Spike");
+        assertThat(childSummaries).extracting(TaskSummaryResponse::getChildCount).containsExactly(2, 0);
+        assertThat(childSummaries.get(1).getAssigneeIds()).containsExactly(user.getId());
+    }
+
+    @Test
+    @DisplayName("depth가 음수면 거부한다")
+    void getTaskTree_ShouldRejectNegativeDepth() {
+        // When & Then
+        assertThatThrownBy(() -> taskService.getTaskTree(user.getId(), project.getId(), TaskView.FULL, -1))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_QUERY_PARAM);
+    }
+
+    private void assign(Task task, User assignee) {
+        taskAssigneeRepository.save(TaskAssignee.builder()
+                .task(task)
+                .user(assignee)
+                .build());
+    }
+
+    // 계층 인덱스까지 등록한 태스크
+    // (TaskHierarchyService.onCreated의 INSERT ... SELECT는 H2에서 파라미터 타입을 추론하지 못하므로 직접 등록)
+    private Task node(Task parent, String title) {
+        Task task = fixture.task(project, user, parent, title);
+        em.flush();
+        em.createNativeQuery("INSERT INTO task_closure (ancestor_id, descendant_id, depth) VALUES (:id, :id, 0)")
+                .setParameter("id", task.getId())
+                .executeUpdate();
+        if (parent != null) {
+            em.createNativeQuery("INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+                            "SELECT c.ancestor_id, t.id, c.depth + 1 FROM task_closure c JOIN tasks t ON t.id = :id " +
+                            "WHERE c.descendant_id = :parentId")
+                    .setParameter("id", task.getId())
+                    .setParameter("parentId", parent.getId())
+                    .executeUpdate();
+        }
+        return task;
+    }
+
+    private long countQueries() {
+        em.flush();
+        em.clear();
+        return QueryCounter.count(() -> {
+            List<TaskResponse> roots = taskService.getTasks(user.getId(), project.getId());
+            // 응답 전체를 순회해 지연 로딩이 남아 있지 않은지 확인
+            roots.forEach(this::visit);
+        });
+    }
+
+    private void visit(TaskResponse node) {
+        node.getCreator().getName();
+        node.getAssignees().forEach(UserResponse::getName);
+        node.getChildren().forEach(this::visit);
+    }
+}
@@ -0,0 +1,28 @@
+package jbnu.jbnupms.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트용 SQL 문 카운터 (test 프로필의 hibernate.session_factory.statement_inspector로 등록)
+ * Hibernate가 준비하는 SQL 문을 스레드별로 세므로, 진행률 롤업 같은 스케줄 작업이 다른 스레드에서
+ * 쿼리를 실행해도 전역 통계(Statistics)와 달리 측정값에 섞이지 않는다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 action이 실행한 SQL 문 수
+     */
+    public static long count(Runnable action) {
+        long before = COUNT.get()[0];
+        action.run();
+        return COUNT.get()[0] - before;
+    }
+}
@@ -0,0 +1,97 @@
+package jbnu.jbnupms.support;
+
+import jbnu.jbnupms.domain.project.entity.Project;
+import jbnu.jbnupms.domain.project.entity.ProjectMember;
+import jbnu.jbnupms.domain.project.entity.ProjectRole;
+import jbnu.jbnupms.domain.project.repository.ProjectMemberRepository;
+import jbnu.jbnupms.domain.project.repository.ProjectRepository;
+import jbnu.jbnupms.domain.space.entity.Space;
+import jbnu.jbnupms.domain.space.repository.SpaceRepository;
+import jbnu.jbnupms.domain.task.entity.Task;
+import jbnu.jbnupms.domain.task.entity.TaskPriority;
+import jbnu.jbnupms.domain.task.repository.TaskRepository;
+import jbnu.jbnupms.domain.user.entity.User;
+import jbnu.jbnupms.domain.user.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * 통합 테스트 공통 데이터 (사용자, 스페이스, 프로젝트, 멤버, 태스크)
+ * 테스트 클래스에 @Import(TestFixture.class)로 등록해서 사용한다.
+ * 태스크는 리포지토리로 바로 저장하므로 서비스의 생성 후처리(계층 인덱스, 통계 등)는 거치지 않는다.
+ */
+@TestComponent
+public class TestFixture {
+
+    private final UserRepository userRepository;
+    private final SpaceRepository spaceRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+
+    public TestFixture(UserRepository userRepository,
+                       SpaceRepository spaceRepository,
+                       ProjectRepository projectRepository,
+                       ProjectMemberRepository projectMemberRepository,
+                       TaskRepository taskRepository) {
+        this.userRepository = userRepository;
+        this.spaceRepository = spaceRepository;
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    // 이메일 앞부분을 이름으로 사용
+    public User user(String email) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name(email.substring(0, email.indexOf('@')))
+                .provider("EMAIL")
+                .build());
+    }
+
+    public Space space(User owner) {
+        return spaceRepository.save(Space.builder()
+                .name("Test Space")
+                .description("Description")
+                .owner(owner)
+                .build());
+    }
+
+    public Project project(Space space, String name) {
+        return projectRepository.save(Project.builder()
+                .space(space)
+                .name(name)
+                .description("Description")
+                .build());
+    }
+
+    public ProjectMember member(Project project, User user) {
+        return projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .build());
+    }
+
+    // user가 소유한 스페이스에 프로젝트를 만들고 user를 멤버로 등록
+    public Project memberProject(User user) {
+        Project project = this.project(this.space(user), "Test Project");
+        this.member(project, user);
+        return project;
+    }
+
+    public Task task(Project project, User creator, String title) {
+        return this.task(project, creator, null, title);
+    }
+
+    public Task task(Project project, User creator, Task parent, String title) {
+        return taskRepository.save(Task.builder()
+                .project(project)
+                .creator(creator)
+                .parent(parent)
+                .title(title)
+                .priority(TaskPriority.MEDIUM)
+                .build());
+    }
+}